@@ -0,0 +1,125 @@
+package com.github.yun531.climate.admin.presentation;
+
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
+import com.github.yun531.climate.shared.cache.CacheInvalidationBus;
+import com.github.yun531.climate.shared.cache.KeyCache;
+import com.github.yun531.climate.shared.cache.ManagedCache;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 상태 조회 및 무효화/워밍업을 위한 내부 API.
+ * 대상은 ManagedCache 를 구현한 모든 빈이며, 캐시 이름(KeyCache name)으로 구분한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/cache")
+@ConditionalOnProperty(prefix = "notification.internal-api", name = "enabled", havingValue = "true")
+public class CacheAdminController {
+
+    private final List<ManagedCache> managedCaches;
+    private final CacheInvalidationBus invalidationBus;
+    private final Clock clock;
+
+    @GetMapping
+    public List<KeyCache.CacheStats> stats() {
+        return managedCaches.stream().map(ManagedCache::cacheStats).toList();
+    }
+
+    /** 캐시 키별 anchor 와 현재 시각 기준 경과 분 */
+    @GetMapping("/{name}/entries")
+    public ResponseEntity<Map<String, Object>> entries(@PathVariable String name) {
+        ManagedCache cache = byName().get(name);
+        if (cache == null) return notFound(name);
+
+        LocalDateTime now = TimeUtil.truncateToMinutes(LocalDateTime.now(clock));
+        List<Map<String, Object>> entries = new ArrayList<>();
+        cache.cacheAnchors().forEach((key, anchor) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("key", key);
+            row.put("anchor", anchor);
+            row.put("ageMinutes", (anchor == null) ? null : Duration.between(anchor, now).toMinutes());
+            entries.add(row);
+        });
+
+        return ResponseEntity.ok(Map.of("name", name, "size", entries.size(), "entries", entries));
+    }
+
+    /**
+     * 모든 캐시에서 지역 엔트리 제거 (잘못 적재된 데이터 교체용).
+     * 무효화 버스를 통해 다른 인스턴스에도 전파되며, 응답의 removed 는 이 인스턴스 기준이다.
+     * kind(SnapKind 이름 / WARNING), announceTime 지정 시 해당 발표분만 제거
+     */
+    @DeleteMapping("/regions/{regionId}")
+    public Map<String, Object> invalidateRegion(
+            @PathVariable String regionId,
+            @RequestParam(required = false) String kind,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime announceTime
+    ) {
+        Map<String, Integer> removed = invalidationBus.publish(new CacheInvalidation(regionId, kind, announceTime));
+
+        log.info("[CACHE-ADMIN] invalidate regionId={} kind={} announceTime={} removed={}",
+                regionId, kind, announceTime, removed);
+        return Map.of("ok", true, "regionId", regionId, "removed", removed);
+    }
+
+    /** name 지정 시 해당 캐시만, 없으면 전체 flush */
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> flush(@RequestParam(required = false) String name) {
+        Map<String, ManagedCache> caches = byName();
+        if (name != null && !caches.containsKey(name)) return notFound(name);
+
+        Map<String, Integer> removed = new LinkedHashMap<>();
+        caches.forEach((cacheName, cache) -> {
+            if (name == null || name.equals(cacheName)) removed.put(cacheName, cache.flush());
+        });
+
+        log.info("[CACHE-ADMIN] flush removed={}", removed);
+        return ResponseEntity.ok(Map.of("ok", true, "removed", removed));
+    }
+
+    @PostMapping("/warm-up")
+    public ResponseEntity<Map<String, Object>> warmUp(@RequestParam List<String> regionIds) {
+        if (regionIds.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "ok", false, "error", "regionIds must not be empty"));
+        }
+
+        Map<String, Integer> loaded = new LinkedHashMap<>();
+        byName().forEach((name, cache) -> {
+            try {
+                loaded.put(name, cache.warmUp(regionIds));
+            } catch (Exception e) {
+                log.error("[CACHE-ADMIN] warm-up fail cache={} regionIds={}", name, regionIds, e);
+                loaded.put(name, -1);
+            }
+        });
+
+        log.info("[CACHE-ADMIN] warm-up regions={} loaded={}", regionIds.size(), loaded);
+        return ResponseEntity.ok(Map.of("ok", true, "regions", regionIds.size(), "loaded", loaded));
+    }
+
+    private Map<String, ManagedCache> byName() {
+        Map<String, ManagedCache> out = new LinkedHashMap<>();
+        for (ManagedCache cache : managedCaches) out.put(cache.cacheStats().name(), cache);
+        return out;
+    }
+
+    private static ResponseEntity<Map<String, Object>> notFound(String name) {
+        return ResponseEntity.status(404).body(Map.of("ok", false, "error", "unknown cache: " + name));
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.yun531.climate.fcm.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 푸시 결과.
+ * - failedTopics: 실패한 메시지의 토픽 (재시도/로그용)
+ */
+public record BatchPushResult(
+        int successCount,
+        int failureCount,
+        List<String> failedTopics
+) {
+    public BatchPushResult {
+        failedTopics = (failedTopics == null) ? List.of() : List.copyOf(failedTopics);
+    }
+
+    public static BatchPushResult empty() {
+        return new BatchPushResult(0, 0, List.of());
+    }
+
+    public static BatchPushResult failed(List<TopicPushMessage> messages) {
+        return new BatchPushResult(0, messages.size(), messages.stream().map(TopicPushMessage::topic).toList());
+    }
+
+    public BatchPushResult merge(BatchPushResult other) {
+        if (other == null) return this;
+
+        List<String> topics = new ArrayList<>(failedTopics.size() + other.failedTopics.size());
+        topics.addAll(failedTopics);
+        topics.addAll(other.failedTopics);
+        return new BatchPushResult(
+                successCount + other.successCount, failureCount + other.failureCount, topics);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.yun531.climate.fcm.domain;
+
+/**
+ * 영속 푸시 아웃박스 계약.
+ * - enqueue 후 전송은 별도 디스패처가 재시도/만료(ttlMillis)를 포함해 비동기로 수행한다.
+ * - 같은 idempotencyKey 는 한 번만 적재된다.
+ */
+public interface PushOutbox {
+
+    /** 적재되면 true, 이미 같은 키가 있으면 false */
+    boolean enqueue(TopicPushMessage message, String idempotencyKey, boolean dryRun);
+}
@@ -2,11 +2,47 @@ package com.github.yun531.climate.fcm.domain;
 
 import com.github.yun531.climate.fcm.domain.TopicPushMessage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 토픽 푸시 전송 계약.
  * - PushFailedException(unchecked)으로 실패를 전파.
+ * - pushAll 은 메시지별 실패를 예외 대신 BatchPushResult 로 집계한다.
+ * - *Async 는 전송 완료를 기다리지 않는다. 실패는 PushFailedException 으로 완료된 future 로 전달.
+ *   기본 구현은 동기 메서드를 감싼 것이며, 비동기 전송이 가능한 구현체가 재정의한다.
  */
 public interface TopicPushSender {
 
     String push(TopicPushMessage message, boolean dryRun);
+
+    /** 기본 구현은 push 반복. 일괄 전송이 가능한 구현체가 재정의한다 */
+    default BatchPushResult pushAll(List<TopicPushMessage> messages, boolean dryRun) {
+        if (messages == null || messages.isEmpty()) return BatchPushResult.empty();
+
+        int success = 0;
+        List<String> failedTopics = new ArrayList<>();
+        for (TopicPushMessage message : messages) {
+            try {
+                push(message, dryRun);
+                success++;
+            } catch (PushFailedException e) {
+                failedTopics.add(message.topic());
+            }
+        }
+        return new BatchPushResult(success, failedTopics.size(), failedTopics);
+    }
+
+    default CompletableFuture<String> pushAsync(TopicPushMessage message, boolean dryRun) {
+        try {
+            return CompletableFuture.completedFuture(push(message, dryRun));
+        } catch (PushFailedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    default CompletableFuture<BatchPushResult> pushAllAsync(List<TopicPushMessage> messages, boolean dryRun) {
+        return CompletableFuture.completedFuture(pushAll(messages, dryRun));
+    }
 }
@@ -0,0 +1,27 @@
+package com.github.yun531.climate.fcm.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일괄 전송(sendEach) 설정.
+ * - chunkSize: sendEach 1회당 메시지 수 (FCM 한도 500)
+ * - maxParallelBatches: 동시에 전송하는 chunk 수
+ * - maxMessagesPerSecond: 초당 전송 메시지 상한 (0 이하: 제한 없음)
+ * - maxInFlight: 응답 대기 중인 단건 비동기 전송(pushAsync) 상한. 초과분은 대기열에서 순서대로 전송
+ */
+@ConfigurationProperties(prefix = "fcm.batch")
+public record FcmBatchProperties(
+        int chunkSize,
+        int maxParallelBatches,
+        int maxMessagesPerSecond,
+        int maxInFlight
+) {
+    public static final int FCM_MAX_BATCH = 500;
+
+    public FcmBatchProperties {
+        if (chunkSize <= 0 || chunkSize > FCM_MAX_BATCH) chunkSize = FCM_MAX_BATCH;
+        if (maxParallelBatches <= 0) maxParallelBatches = 4;
+        if (maxMessagesPerSecond < 0) maxMessagesPerSecond = 0;
+        if (maxInFlight <= 0) maxInFlight = 64;
+    }
+}
@@ -5,6 +5,7 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -15,6 +16,7 @@ import java.util.List;
 @Configuration
 @RequiredArgsConstructor
 @Profile("!test")
+@ConditionalOnProperty(prefix = "fcm", name = "sender", havingValue = "firebase", matchIfMissing = true)
 public class FirebaseAdminConfig {
 
     private final FirebaseProperties props;
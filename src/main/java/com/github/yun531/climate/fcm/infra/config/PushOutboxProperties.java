@@ -0,0 +1,33 @@
+package com.github.yun531.climate.fcm.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 푸시 아웃박스 설정.
+ * - enabled: true 면 트리거 푸시를 직접 보내지 않고 아웃박스에 적재
+ * - batchSize / pollIntervalMs: 디스패처 1회 처리량 / 주기
+ * - 재시도 간격은 initialBackoffSeconds 부터 2배씩, maxBackoffSeconds 상한. maxAttempts 초과 시 FAILED
+ */
+@ConfigurationProperties(prefix = "fcm.outbox")
+public record PushOutboxProperties(
+        boolean enabled,
+        int batchSize,
+        long pollIntervalMs,
+        int initialBackoffSeconds,
+        int maxBackoffSeconds,
+        int maxAttempts
+) {
+    public PushOutboxProperties {
+        if (batchSize <= 0) batchSize = 100;
+        if (pollIntervalMs <= 0) pollIntervalMs = 5_000;
+        if (initialBackoffSeconds <= 0) initialBackoffSeconds = 5;
+        if (maxBackoffSeconds < initialBackoffSeconds) maxBackoffSeconds = Math.max(300, initialBackoffSeconds);
+        if (maxAttempts <= 0) maxAttempts = 8;
+    }
+
+    /** attempts 회 실패 후 다음 시도까지의 지연(초) */
+    public long backoffSeconds(int attempts) {
+        int shift = Math.min(Math.max(0, attempts - 1), 20);
+        return Math.min((long) maxBackoffSeconds, (long) initialBackoffSeconds << shift);
+    }
+}
@@ -1,34 +1,234 @@
 package com.github.yun531.climate.fcm.infra.firebase;
 
+import com.github.yun531.climate.fcm.domain.BatchPushResult;
 import com.github.yun531.climate.fcm.domain.PushFailedException;
 import com.github.yun531.climate.fcm.domain.TopicPushMessage;
 import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.fcm.infra.config.FcmBatchProperties;
+import com.github.yun531.climate.shared.resilience.AsyncPermits;
+import com.github.yun531.climate.shared.resilience.RateLimiter;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
-import lombok.RequiredArgsConstructor;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Firebase Admin SDK를 사용한 TopicPushSender 구현.
  *
  * FirebaseMessagingException -> PushFailedException 으로 변환하여
  * 소비자가 Firebase SDK에 의존하지 않게 한다.
+ * 비동기 전송은 sendAsync / sendEachAsync 를 사용해 응답 대기 중 스레드를 점유하지 않는다.
+ * pushAsync / pushAllAsync 는 호출 스레드를 막지 않고 즉시 future 를 반환하며, 백프레셔는 future 로 전달된다.
+ * - pushAsync: 응답 대기 중인 요청 수를 maxInFlight 로 제한 (초과분은 앞선 응답이 올 때 이어서 전송)
+ * - pushAll(Async): chunkSize(최대 500) 단위 sendEachAsync 를 maxParallelBatches 개까지 동시에 보내고,
+ *   초당 메시지 수는 RateLimiter 로 제한한다 (대기는 sleep 대신 지연 실행).
+ * 발송 지연은 fcm.send(outcome=success|failure), fcm.send.batch 타이머로 노출한다.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class FirebaseTopicPushSender implements TopicPushSender {
+@ConditionalOnProperty(prefix = "fcm", name = "sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseTopicPushSender implements TopicPushSender, MeterBinder, DisposableBean {
 
     private final FirebaseMessaging messaging;
     private final FirebaseMessageMapper mapper;
+    private final FcmBatchProperties batchProps;
+
+    private final RateLimiter rateLimiter;
+    private final ExecutorService dispatcher;    // permit 반환 후 대기 작업 시작 / rate limit 지연 실행용
+    private final AsyncPermits inFlight;
+    private final AsyncPermits batchesInFlight;
+
+    private volatile Timer successTimer;        // 바인딩 전에는 null (측정 안 함)
+    private volatile Timer failureTimer;
+    private volatile Timer batchTimer;
+
+    public FirebaseTopicPushSender(
+            FirebaseMessaging messaging,
+            FirebaseMessageMapper mapper,
+            FcmBatchProperties batchProps
+    ) {
+        this.messaging = messaging;
+        this.mapper = mapper;
+        this.batchProps = batchProps;
+        this.rateLimiter = new RateLimiter(batchProps.maxMessagesPerSecond());
+        this.dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "fcm-dispatch");
+            t.setDaemon(true);
+            return t;
+        });
+        this.inFlight = new AsyncPermits(batchProps.maxInFlight(), dispatcher);
+        this.batchesInFlight = new AsyncPermits(batchProps.maxParallelBatches(), dispatcher);
+    }
 
     @Override
     public String push(TopicPushMessage message, boolean dryRun) {
+        Timer.Sample sample = (successTimer == null) ? null : Timer.start();
         try {
             var firebaseMessage = mapper.toFirebaseMessage(message);
-            return messaging.send(firebaseMessage, dryRun);
+            String messageId = messaging.send(firebaseMessage, dryRun);
+            if (sample != null) sample.stop(successTimer);
+            return messageId;
         } catch (FirebaseMessagingException e) {
+            if (sample != null) sample.stop(failureTimer);
             throw new PushFailedException(
                     "FCM push failed: topic=" + message.topic(), e);
         }
     }
+
+    @Override
+    public CompletableFuture<String> pushAsync(TopicPushMessage message, boolean dryRun) {
+        return inFlight.submit(() -> sendAsync(message, dryRun));
+    }
+
+    private CompletableFuture<String> sendAsync(TopicPushMessage message, boolean dryRun) {
+        Timer.Sample sample = (successTimer == null) ? null : Timer.start();
+        ApiFuture<String> sent;
+        try {
+            sent = messaging.sendAsync(mapper.toFirebaseMessage(message), dryRun);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(
+                    new PushFailedException("FCM push failed: topic=" + message.topic(), e));
+        }
+
+        return toCompletable(sent).handle((messageId, error) -> {
+            if (error == null) {
+                if (sample != null) sample.stop(successTimer);
+                return messageId;
+            }
+            if (sample != null) sample.stop(failureTimer);
+            throw new PushFailedException("FCM push failed: topic=" + message.topic(), error);
+        });
+    }
+
+    @Override
+    public BatchPushResult pushAll(List<TopicPushMessage> messages, boolean dryRun) {
+        return pushAllAsync(messages, dryRun).join();
+    }
+
+    @Override
+    public CompletableFuture<BatchPushResult> pushAllAsync(List<TopicPushMessage> messages, boolean dryRun) {
+        if (messages == null || messages.isEmpty()) return CompletableFuture.completedFuture(BatchPushResult.empty());
+
+        List<CompletableFuture<BatchPushResult>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += batchProps.chunkSize()) {
+            List<TopicPushMessage> chunk =
+                    messages.subList(from, Math.min(messages.size(), from + batchProps.chunkSize()));
+            futures.add(batchesInFlight.submit(() -> sendChunkAsync(chunk, dryRun)));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    BatchPushResult total = BatchPushResult.empty();
+                    for (CompletableFuture<BatchPushResult> future : futures) total = total.merge(future.join());
+                    return total;
+                });
+    }
+
+    /** 배치 permit 을 쥔 상태에서 호출된다. rate limit 대기가 필요하면 그만큼 지연 후 전송 */
+    private CompletableFuture<BatchPushResult> sendChunkAsync(List<TopicPushMessage> chunk, boolean dryRun) {
+        long waitNanos = rateLimiter.reserve(chunk.size());
+        if (waitNanos <= 0) return sendChunk(chunk, dryRun);
+
+        return CompletableFuture.supplyAsync(
+                () -> sendChunk(chunk, dryRun),
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, this::dispatch)
+        ).thenCompose(sent -> sent);
+    }
+
+    /** 종료 후에는 호출 스레드에서 실행해 future 가 완료되지 않은 채 남지 않게 한다 */
+    private void dispatch(Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    /** chunk 1개 = sendEachAsync 1회. 호출 자체가 실패하면 chunk 전체를 실패로 집계 */
+    private CompletableFuture<BatchPushResult> sendChunk(List<TopicPushMessage> chunk, boolean dryRun) {
+        ApiFuture<BatchResponse> sent;
+        Timer.Sample sample;
+        try {
+            List<Message> firebaseMessages = chunk.stream().map(mapper::toFirebaseMessage).toList();
+            sample = (batchTimer == null) ? null : Timer.start();
+            sent = messaging.sendEachAsync(firebaseMessages, dryRun);
+        } catch (RuntimeException e) {
+            log.warn("[FCM] sendEachAsync failed. size={} firstTopic={}", chunk.size(), chunk.get(0).topic(), e);
+            return CompletableFuture.completedFuture(BatchPushResult.failed(chunk));
+        }
+
+        return toCompletable(sent).handle((response, error) -> {
+            if (sample != null) sample.stop(batchTimer);
+            if (error == null) return toResult(chunk, response);
+
+            log.warn("[FCM] sendEach failed. size={} firstTopic={}", chunk.size(), chunk.get(0).topic(), error);
+            return BatchPushResult.failed(chunk);
+        });
+    }
+
+    private static BatchPushResult toResult(List<TopicPushMessage> chunk, BatchResponse response) {
+        List<SendResponse> responses = response.getResponses();
+        List<String> failedTopics = new ArrayList<>();
+        for (int i = 0; i < responses.size() && i < chunk.size(); i++) {
+            if (!responses.get(i).isSuccessful()) failedTopics.add(chunk.get(i).topic());
+        }
+        return new BatchPushResult(response.getSuccessCount(), response.getFailureCount(), failedTopics);
+    }
+
+    /** ApiFuture -> CompletableFuture. 콜백은 SDK 완료 스레드에서 바로 실행 */
+    private static <T> CompletableFuture<T> toCompletable(ApiFuture<T> future) {
+        CompletableFuture<T> out = new CompletableFuture<>();
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(T result) {
+                out.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                out.completeExceptionally(t);
+            }
+        }, Runnable::run);
+        return out;
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.failureTimer = sendTimer(registry, "failure");
+        this.successTimer = sendTimer(registry, "success");
+        this.batchTimer = Timer.builder("fcm.send.batch")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer sendTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("fcm.send")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 }
@@ -0,0 +1,62 @@
+package com.github.yun531.climate.fcm.infra.local;
+
+import com.github.yun531.climate.fcm.domain.PushFailedException;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Firebase 없이 동작하는 로컬/테스트용 TopicPushSender (fcm.sender=local).
+ * 전송 대신 메모리에 기록하고, failTopic 으로 지정한 토픽은 PushFailedException 으로 실패시킨다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "fcm", name = "sender", havingValue = "local")
+public class InMemoryTopicPushSender implements TopicPushSender {
+
+    private final List<Sent> sent = new CopyOnWriteArrayList<>();
+    private final Set<String> failingTopics = ConcurrentHashMap.newKeySet();
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public String push(TopicPushMessage message, boolean dryRun) {
+        if (failingTopics.contains(message.topic())) {
+            throw new PushFailedException("local push failed: topic=" + message.topic());
+        }
+
+        String messageId = "local-" + seq.incrementAndGet();
+        sent.add(new Sent(message, dryRun, messageId));
+        log.debug("[FCM-LOCAL] push topic={} dryRun={} messageId={}", message.topic(), dryRun, messageId);
+        return messageId;
+    }
+
+    /** 실제 비동기 전송처럼 호출 스레드와 분리해 완료한다 */
+    @Override
+    public CompletableFuture<String> pushAsync(TopicPushMessage message, boolean dryRun) {
+        return CompletableFuture.supplyAsync(() -> push(message, dryRun));
+    }
+
+    public List<Sent> sent() {
+        return List.copyOf(sent);
+    }
+
+    public void failTopic(String topic) {
+        failingTopics.add(topic);
+    }
+
+    public void clear() {
+        sent.clear();
+        failingTopics.clear();
+    }
+
+    public record Sent(TopicPushMessage message, boolean dryRun, String messageId) {}
+}
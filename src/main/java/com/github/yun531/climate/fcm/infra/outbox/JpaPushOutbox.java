@@ -0,0 +1,84 @@
+package com.github.yun531.climate.fcm.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yun531.climate.fcm.domain.PushOutbox;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxEntity;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxStatus;
+import com.github.yun531.climate.fcm.infra.persistence.repository.PushOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * push_outbox 테이블 기반 PushOutbox.
+ * idempotencyKey 는 data.pushId 로도 실어 보내 클라이언트 측 중복 제거에 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "fcm.outbox", name = "enabled", havingValue = "true")
+public class JpaPushOutbox implements PushOutbox {
+
+    static final String PUSH_ID_KEY = "pushId";
+
+    private final PushOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public JpaPushOutbox(PushOutboxRepository repository, ObjectMapper objectMapper, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean enqueue(TopicPushMessage message, String idempotencyKey, boolean dryRun) {
+        if (message == null) throw new IllegalArgumentException("message must not be null");
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("idempotencyKey must not be blank");
+        }
+        if (repository.existsByIdempotencyKey(idempotencyKey)) return false;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, String> data = new HashMap<>(message.data());
+        data.put(PUSH_ID_KEY, idempotencyKey);
+
+        PushOutboxEntity entity = PushOutboxEntity.builder()
+                .idempotencyKey(idempotencyKey)
+                .topic(message.topic())
+                .dataJson(toJson(data))
+                .ttlMillis(message.ttlMillis())
+                .dryRun(dryRun)
+                .status(PushOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .expiresAt(now.plus(message.ttlMillis(), ChronoUnit.MILLIS))
+                .build();
+
+        try {
+            repository.save(entity);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시 적재 경합: unique 제약으로 한 건만 남는다
+            log.debug("[OUTBOX] duplicate enqueue. key={}", idempotencyKey);
+            return false;
+        }
+    }
+
+    private String toJson(Map<String, String> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox data serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.yun531.climate.fcm.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.fcm.infra.config.PushOutboxProperties;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxEntity;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxStatus;
+import com.github.yun531.climate.fcm.infra.persistence.repository.PushOutboxRepository;
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * push_outbox 의 대기 건을 주기적으로 전송한다.
+ * - 만료(expiresAt 경과) -> EXPIRED, 남은 TTL 만큼만 FCM TTL 로 전달
+ * - 실패 -> 지수 백오프로 nextAttemptAt 갱신, maxAttempts 초과 시 FAILED
+ * - 메시지로 만들 수 없는 행(JSON 파싱 실패, 빈 토픽 등) -> 재시도 없이 FAILED
+ * 한 행의 예외(저장 실패 포함)는 기록만 하고 나머지 행은 계속 처리한다.
+ * 다중 인스턴스에서는 SchedulerLock(fcm.outbox) 을 잡은 노드만 drain 한다.
+ * 잠금은 drain 1회 소요 상한(LOCK_HOLD) 동안 잡고, drain 이 끝나면 바로 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "fcm.outbox", name = "enabled", havingValue = "true")
+public class PushOutboxDispatcher {
+
+    private static final TypeReference<Map<String, String>> DATA_TYPE = new TypeReference<>() {};
+    private static final int MAX_ERROR_LENGTH = 512;
+    private static final String LOCK_NAME = "fcm.outbox";
+    private static final Duration LOCK_HOLD = Duration.ofMinutes(5);
+
+    private final PushOutboxRepository repository;
+    private final TopicPushSender pushSender;
+    private final PushOutboxProperties props;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final SchedulerLock schedulerLock;
+
+    public PushOutboxDispatcher(
+            PushOutboxRepository repository,
+            TopicPushSender pushSender,
+            PushOutboxProperties props,
+            ObjectMapper objectMapper,
+            Clock clock,
+            SchedulerLock schedulerLock
+    ) {
+        this.repository = repository;
+        this.pushSender = pushSender;
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.schedulerLock = schedulerLock;
+    }
+
+    @Scheduled(
+            initialDelayString = "${fcm.outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${fcm.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        if (!schedulerLock.tryAcquire(LOCK_NAME, LOCK_HOLD)) return;
+
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("[OUTBOX] drain failed", e);
+        } finally {
+            schedulerLock.release(LOCK_NAME);
+        }
+    }
+
+    /** 대기 건을 batchSize 만큼 처리하고, 전송 성공 건수를 반환 */
+    public int drain() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<PushOutboxEntity> due = repository.findByStatusAndNextAttemptAtLessThanEqualOrderByOutboxIdAsc(
+                PushOutboxStatus.PENDING, now, PageRequest.of(0, props.batchSize()));
+
+        int sent = 0;
+        for (PushOutboxEntity row : due) {
+            try {
+                if (dispatch(row, now)) sent++;
+                repository.save(row);
+            } catch (RuntimeException e) {
+                log.error("[OUTBOX] row failed. key={} attempts={}", row.getIdempotencyKey(), row.getAttempts(), e);
+            }
+        }
+
+        if (!due.isEmpty()) log.info("[OUTBOX] drained. due={} sent={}", due.size(), sent);
+        return sent;
+    }
+
+    private boolean dispatch(PushOutboxEntity row, LocalDateTime now) {
+        long remainingTtl = ChronoUnit.MILLIS.between(now, row.getExpiresAt());
+        if (remainingTtl <= 0) {
+            row.setStatus(PushOutboxStatus.EXPIRED);
+            log.warn("[OUTBOX] expired. key={} attempts={}", row.getIdempotencyKey(), row.getAttempts());
+            return false;
+        }
+
+        row.setAttempts(row.getAttempts() + 1);
+
+        TopicPushMessage message;
+        try {
+            message = new TopicPushMessage(
+                    row.getTopic(), objectMapper.readValue(row.getDataJson(), DATA_TYPE), remainingTtl);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            giveUp(row, e);
+            return false;
+        }
+
+        try {
+            String messageId = pushSender.push(message, row.isDryRun());
+
+            row.setStatus(PushOutboxStatus.SENT);
+            row.setMessageId(messageId);
+            row.setLastError(null);
+            return true;
+        } catch (RuntimeException e) {
+            onFailure(row, now, e);
+            return false;
+        }
+    }
+
+    /** 재시도해도 같은 결과인 행: 시도/오류만 남기고 FAILED */
+    private void giveUp(PushOutboxEntity row, Exception e) {
+        row.setLastError(truncate(e.getMessage()));
+        row.setStatus(PushOutboxStatus.FAILED);
+        log.error("[OUTBOX] invalid payload. key={} attempts={}", row.getIdempotencyKey(), row.getAttempts(), e);
+    }
+
+    private void onFailure(PushOutboxEntity row, LocalDateTime now, Exception e) {
+        row.setLastError(truncate(e.getMessage()));
+
+        if (row.getAttempts() >= props.maxAttempts()) {
+            row.setStatus(PushOutboxStatus.FAILED);
+            log.error("[OUTBOX] give up. key={} attempts={}", row.getIdempotencyKey(), row.getAttempts(), e);
+            return;
+        }
+
+        row.setNextAttemptAt(now.plusSeconds(props.backoffSeconds(row.getAttempts())));
+        log.warn("[OUTBOX] retry scheduled. key={} attempts={} nextAttemptAt={}",
+                row.getIdempotencyKey(), row.getAttempts(), row.getNextAttemptAt());
+    }
+
+    private static String truncate(String message) {
+        if (message == null) return null;
+        return (message.length() <= MAX_ERROR_LENGTH) ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.yun531.climate.fcm.infra.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "push_outbox")
+public class PushOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;                          // PK
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 128)
+    private String idempotencyKey;                  // 중복 적재 방지 키 (data.pushId 로도 전달)
+
+    @Column(name = "topic", nullable = false, length = 128)
+    private String topic;
+
+    @Column(name = "data_json", nullable = false, length = 4000)
+    private String dataJson;                        // Map<String, String> JSON
+
+    @Column(name = "ttl_millis", nullable = false)
+    private long ttlMillis;
+
+    @Column(name = "dry_run", nullable = false)
+    private boolean dryRun;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private PushOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;                // createdAt + ttlMillis
+
+    @Column(name = "message_id", length = 256)
+    private String messageId;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+}
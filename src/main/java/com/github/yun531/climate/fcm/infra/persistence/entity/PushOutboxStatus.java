@@ -0,0 +1,8 @@
+package com.github.yun531.climate.fcm.infra.persistence.entity;
+
+public enum PushOutboxStatus {
+    PENDING,    // 전송 대기 (재시도 포함)
+    SENT,       // 전송 완료
+    FAILED,     // 최대 시도 횟수 초과
+    EXPIRED     // TTL 경과로 폐기
+}
@@ -0,0 +1,18 @@
+package com.github.yun531.climate.fcm.infra.persistence.repository;
+
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxEntity;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutboxEntity, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    /** 전송 시각이 된 대기 건을 적재 순으로 */
+    List<PushOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByOutboxIdAsc(
+            PushOutboxStatus status, LocalDateTime now, Pageable pageable);
+}
@@ -23,8 +23,9 @@ public class ForecastApplicationConfig {
     public ForecastService forecastService(
             ForecastViewReader viewReader,
             ForecastWindowAdjuster windowAdjuster,
-            Clock clock
+            Clock clock,
+            @Value("${forecast.batch.max-regions:20}") int maxBatchRegions
     ) {
-        return new ForecastService(viewReader, windowAdjuster, clock);
+        return new ForecastService(viewReader, windowAdjuster, clock, maxBatchRegions);
     }
 }
\ No newline at end of file
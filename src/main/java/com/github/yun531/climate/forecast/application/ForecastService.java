@@ -1,32 +1,56 @@
 package com.github.yun531.climate.forecast.application;
 
 import com.github.yun531.climate.forecast.domain.adjust.ForecastWindowAdjuster;
+import com.github.yun531.climate.forecast.domain.adjust.ForecastWindowAdjuster.ShiftedWindows;
 import com.github.yun531.climate.forecast.domain.reader.ForecastViewReader;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastRevision;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
+import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.KeyCache;
 import com.github.yun531.climate.shared.time.TimeUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * 일기예보 조회 서비스.
  * - ForecastViewReader(포트)에서 로드 -> WindowAdjuster 적용
+ * - 시간대별 윈도우는 (지역, 원본 시계열) 단위로 시프트 0..max 변형을 미리 만들어 두고 공유 인스턴스를 반환
+ *   같은 발표시각이라도 원본 값이 정정되면 다시 만든다
+ * - HTTP 캐시 검증용 버전(ETag, max-age)은 뷰 생성 없이 계산 (ETag 는 스냅샷 내용 revision 포함)
+ * - 다중 지역 일괄 조회: 최대 maxBatchRegions 개까지, 입력 순서 유지
  */
-public class ForecastService {
+public class ForecastService implements MeterBinder {
 
     private final ForecastViewReader viewReader;
     private final ForecastWindowAdjuster windowAdjuster;
     private final Clock clock;
+    private final int maxBatchRegions;
+
+    /** regionId -> 시프트별 윈도우 (anchor = 발표시각) */
+    private final KeyCache<Windows> windowCache = new KeyCache<>("forecast.window");
 
     public ForecastService(
             ForecastViewReader viewReader,
             ForecastWindowAdjuster windowAdjuster,
-            Clock clock
+            Clock clock,
+            int maxBatchRegions
     ) {
         this.viewReader = viewReader;
         this.windowAdjuster = windowAdjuster;
         this.clock = clock;
+        this.maxBatchRegions = Math.max(0, maxBatchRegions);
     }
 
     // ======================= Hourly =======================
@@ -35,13 +59,12 @@ public class ForecastService {
         return getHourlyForecast(regionId, now());
     }
 
+    /** 원본 시계열이 캐시와 같으면 미리 만든 윈도우 반환 */
     public ForecastHourlyView getHourlyForecast(String regionId, LocalDateTime now) {
-        LocalDateTime effectiveNow = normalizeNow(now);
-
         ForecastHourlyView base = viewReader.loadHourly(regionId);
         if (base == null) return null;
 
-        return windowAdjuster.adjust(base, effectiveNow);
+        return windowFor(base, normalizeNow(now));
     }
 
     // ======================= Daily =======================
@@ -50,6 +73,144 @@ public class ForecastService {
         return viewReader.loadDaily(regionId);
     }
 
+    // ======================= Hourly + Daily =======================
+
+    /** 스냅샷 1회 로드로 시간대별(윈도우 적용) + 일자별 예보를 함께 반환 */
+    public ForecastView getForecast(String regionId) {
+        LocalDateTime now = now();
+
+        ForecastView base = viewReader.loadForecast(regionId);
+        if (base == null) return null;
+
+        ForecastHourlyView hourly = windowFor(base.hourly(), now);
+        return new ForecastView(base.regionId(), base.reportTime(), hourly, base.daily());
+    }
+
+    // ======================= Batch =======================
+
+    /** 여러 지역 시간대별 예보. 데이터 없는 지역은 제외 */
+    public List<ForecastHourlyView> getHourlyForecasts(List<String> regionIds) {
+        List<String> ids = normalizeRegionIds(regionIds);
+        if (ids.isEmpty()) return List.of();
+
+        LocalDateTime now = now();
+        Map<String, ForecastHourlyView> bases = viewReader.loadHourlyAll(ids);
+
+        List<ForecastHourlyView> out = new ArrayList<>(bases.size());
+        for (String id : ids) {
+            ForecastHourlyView base = bases.get(id);
+            if (base != null) out.add(windowFor(base, now));
+        }
+        return out;
+    }
+
+    /** 여러 지역 일자별 예보. 데이터 없는 지역은 제외 */
+    public List<ForecastDailyView> getDailyForecasts(List<String> regionIds) {
+        List<String> ids = normalizeRegionIds(regionIds);
+        if (ids.isEmpty()) return List.of();
+
+        Map<String, ForecastDailyView> views = viewReader.loadDailyAll(ids);
+        return ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // ======================= 시프트 윈도우 캐시 =======================
+
+    /**
+     * base 의 발표시각 기준 시프트 변형을 캐시에서 꺼내거나 새로 만든다.
+     * 발표시각이 같아도 원본 시계열이 다르면(정정) 다시 만들어 교체한다.
+     * 캐시가 더 최신 발표시각을 갖고 있으면(역전) 캐시를 건드리지 않고 즉시 계산.
+     */
+    private ForecastHourlyView windowFor(ForecastHourlyView base, LocalDateTime now) {
+        LocalDateTime reportTime = base.reportTime();
+        if (base.regionId() == null || reportTime == null) return windowAdjuster.adjust(base, now);
+
+        CacheEntry<Windows> entry = windowCache.getOrRecompute(
+                base.regionId(), reportTime, 0,
+                cached -> !reportTime.equals(cached.anchor())
+                        || (cached.value() != null && cached.value().builtFrom(base)),
+                old -> new CacheEntry<>(Windows.of(base, windowAdjuster.precompute(base)), reportTime));
+
+        if (entry == null || entry.value() == null || !reportTime.equals(entry.anchor())) {
+            return windowAdjuster.adjust(base, now);
+        }
+        return entry.value().shifted().at(windowAdjuster.shiftHours(reportTime, now));
+    }
+
+    /** trim + 중복 제거 + 최대 maxBatchRegions 개 */
+    private List<String> normalizeRegionIds(List<String> regionIds) {
+        if (regionIds == null || regionIds.isEmpty() || maxBatchRegions == 0) return List.of();
+
+        LinkedHashSet<String> set = new LinkedHashSet<>();
+        for (String id : regionIds) {
+            if (id == null || id.isBlank()) continue;
+            set.add(id.trim());
+            if (set.size() == maxBatchRegions) break;
+        }
+        return List.copyOf(set);
+    }
+
+    // ======================= 캐시 검증 버전 =======================
+
+    /** 시간대별 예보 버전. 데이터가 없으면 null */
+    public ForecastVersion getHourlyVersion(String regionId) {
+        LocalDateTime exactNow = LocalDateTime.now(clock);
+        LocalDateTime now = TimeUtil.truncateToMinutes(exactNow);
+
+        ForecastRevision revision = viewReader.loadRevision(regionId, now);
+        if (revision == null) return null;
+
+        LocalDateTime reportTime = revision.reportTime();
+        int shiftHours = windowAdjuster.shiftHours(reportTime, now);
+        LocalDateTime expiresAt = earliest(revision.nextReportAt(), windowAdjuster.nextShiftAt(reportTime, now));
+
+        return ForecastVersion.hourly(regionId, reportTime, revision.contentRevision(), shiftHours,
+                secondsUntil(exactNow, expiresAt));
+    }
+
+    /** 일자별 예보 버전. 데이터가 없으면 null */
+    public ForecastVersion getDailyVersion(String regionId) {
+        LocalDateTime exactNow = LocalDateTime.now(clock);
+        LocalDateTime now = TimeUtil.truncateToMinutes(exactNow);
+
+        ForecastRevision revision = viewReader.loadRevision(regionId, now);
+        if (revision == null) return null;
+
+        return ForecastVersion.daily(regionId, revision.reportTime(), revision.contentRevision(),
+                secondsUntil(exactNow, revision.nextReportAt()));
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static long secondsUntil(LocalDateTime now, LocalDateTime expiresAt) {
+        if (expiresAt == null) return 0;
+        return Math.max(0, Duration.between(now, expiresAt).toSeconds());
+    }
+
+    /** 시프트 윈도우 캐시 메트릭 */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        windowCache.bindTo(registry);
+    }
+
+    /** 시프트별 윈도우 + 만들 때 사용한 원본 포인트 (정정 여부 비교용) */
+    private record Windows(List<ForecastHourlyPoint> source, ShiftedWindows shifted) {
+
+        static Windows of(ForecastHourlyView base, ShiftedWindows shifted) {
+            return (shifted == null) ? null : new Windows(base.hourlyPoints(), shifted);
+        }
+
+        boolean builtFrom(ForecastHourlyView base) {
+            return source == base.hourlyPoints() || source.equals(base.hourlyPoints());
+        }
+    }
+
     // ======================= 시간 헬퍼 =======================
 
     private LocalDateTime normalizeNow(LocalDateTime now) {
@@ -0,0 +1,35 @@
+package com.github.yun531.climate.forecast.application;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 예보 응답의 HTTP 캐시 검증 정보.
+ * - etag          : (regionId, reportTime, 내용 revision, shiftHours) 기반 strong ETag (따옴표 포함)
+ *                   같은 발표시각의 정정본은 revision 이 달라 이전 ETag 와 일치하지 않는다
+ * - maxAgeSeconds : 다음 시프트/발표 경계까지 남은 초
+ */
+public record ForecastVersion(
+        String etag,
+        long maxAgeSeconds
+) {
+    private static final DateTimeFormatter ETAG_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    public static ForecastVersion hourly(
+            String regionId, LocalDateTime reportTime, long revision, int shiftHours, long maxAgeSeconds
+    ) {
+        return new ForecastVersion(
+                "\"" + base(regionId, reportTime, revision) + "-h" + shiftHours + "\"",
+                maxAgeSeconds);
+    }
+
+    public static ForecastVersion daily(String regionId, LocalDateTime reportTime, long revision, long maxAgeSeconds) {
+        return new ForecastVersion(
+                "\"" + base(regionId, reportTime, revision) + "-d\"",
+                maxAgeSeconds);
+    }
+
+    private static String base(String regionId, LocalDateTime reportTime, long revision) {
+        return regionId + "-" + ETAG_TIME.format(reportTime) + "-" + Long.toHexString(revision);
+    }
+}
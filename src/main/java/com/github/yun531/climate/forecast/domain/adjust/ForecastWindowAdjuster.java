@@ -5,6 +5,7 @@ import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
 import com.github.yun531.climate.shared.time.TimeShiftUtil;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -16,6 +17,8 @@ import java.util.Objects;
  * - effectiveTime > shiftedAnnounceTime인 포인트만 최대 windowSize 개로 절단
  * 전제: 스냅샷 hourly 크기(26) = windowSize(24) + maxShiftHours(2).
  * maxShiftHours 범위 내에서 항상 windowSize 개의 데이터가 보장된다.
+ * 한 발표 주기 안에서 결과는 시프트 0..maxShiftHours 별로만 달라지므로
+ * precompute 로 모든 변형을 미리 만들어 재사용할 수 있다.
  */
 public final class ForecastWindowAdjuster {
 
@@ -51,6 +54,40 @@ public final class ForecastWindowAdjuster {
         return new ForecastHourlyView(base.regionId(), shiftedTime, window);
     }
 
+    /** 시프트 0..maxShiftHours 별 윈도우를 한 번에 생성 (정렬 1회) */
+    public ShiftedWindows precompute(ForecastHourlyView base) {
+        if (base == null) return null;
+
+        List<ForecastHourlyPoint> sorted = sortByValidAt(base.hourlyPoints());
+        LocalDateTime announceTime = base.reportTime();
+
+        if (announceTime == null || sorted.isEmpty()) {
+            ForecastHourlyView same = new ForecastHourlyView(base.regionId(), announceTime, sorted);
+            return new ShiftedWindows(announceTime, List.of(same));
+        }
+
+        List<ForecastHourlyView> byShift = new ArrayList<>(maxShiftHours + 1);
+        LocalDateTime baseHour = announceTime.truncatedTo(ChronoUnit.HOURS);
+        for (int shift = 0; shift <= maxShiftHours; shift++) {
+            LocalDateTime shiftedTime = (shift == 0) ? announceTime : baseHour.plusHours(shift);
+            byShift.add(new ForecastHourlyView(base.regionId(), shiftedTime, filterByWindow(sorted, shiftedTime)));
+        }
+        return new ShiftedWindows(announceTime, List.copyOf(byShift));
+    }
+
+    /** now 기준 시프트 시간 수 (0..maxShiftHours) */
+    public int shiftHours(LocalDateTime announceTime, LocalDateTime now) {
+        return TimeShiftUtil.shiftHourly(announceTime, now, maxShiftHours).shiftHours();
+    }
+
+    /** 다음 시프트로 윈도우가 바뀌는 시각. 이미 maxShiftHours 만큼 시프트됐으면 null */
+    public LocalDateTime nextShiftAt(LocalDateTime announceTime, LocalDateTime now) {
+        if (announceTime == null || now == null) return null;
+        if (shiftHours(announceTime, now) >= maxShiftHours) return null;
+
+        return now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+    }
+
     /** shiftedTime 초과(>) 포인트만 남기고, 최대 windowSize 개로 절단 */
     private List<ForecastHourlyPoint> filterByWindow(
             List<ForecastHourlyPoint> sorted, LocalDateTime shiftedTime
@@ -68,12 +105,36 @@ public final class ForecastWindowAdjuster {
         return out.isEmpty() ? List.of() : List.copyOf(out);
     }
 
-    /** effectiveTime 기준 정렬 + null 제거 */
+    /** effectiveTime 기준 정렬 + null 제거. 이미 정렬돼 있으면 그대로 반환 */
     private List<ForecastHourlyPoint> sortByValidAt(List<ForecastHourlyPoint> src) {
         if (src == null || src.isEmpty()) return List.of();
+        if (isSortedWithoutNulls(src)) return src;
         return src.stream()
                 .filter(Objects::nonNull)
                 .sorted(BY_VALID_AT)
                 .toList();
     }
-}
\ No newline at end of file
+
+    private boolean isSortedWithoutNulls(List<ForecastHourlyPoint> src) {
+        ForecastHourlyPoint prev = null;
+        for (ForecastHourlyPoint p : src) {
+            if (p == null) return false;
+            if (prev != null && BY_VALID_AT.compare(prev, p) > 0) return false;
+            prev = p;
+        }
+        return true;
+    }
+
+    /**
+     * 발표시각 하나에 대한 시프트별 윈도우.
+     * - byShift.get(n) : n 시간 시프트 결과 (불변, 요청 간 공유)
+     */
+    public record ShiftedWindows(LocalDateTime reportTime, List<ForecastHourlyView> byShift) {
+
+        /** shiftHours 에 해당하는 윈도우. 범위를 넘으면 마지막 변형 */
+        public ForecastHourlyView at(int shiftHours) {
+            int idx = Math.max(0, Math.min(shiftHours, byShift.size() - 1));
+            return byShift.get(idx);
+        }
+    }
+}
@@ -2,8 +2,14 @@ package com.github.yun531.climate.forecast.domain.reader;
 
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastRevision;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
 import org.springframework.lang.Nullable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 public interface ForecastViewReader {
 
     @Nullable
@@ -11,4 +17,18 @@ public interface ForecastViewReader {
 
     @Nullable
     ForecastDailyView loadDaily(String regionId);
+
+    /** 시간대별 + 일자별을 스냅샷 1회 조회로 로드 */
+    @Nullable
+    ForecastView loadForecast(String regionId);
+
+    /** 여러 지역 일괄 로드. regionId -> view (입력 순서 유지, 데이터 없는 지역 제외) */
+    Map<String, ForecastHourlyView> loadHourlyAll(List<String> regionIds);
+
+    /** 여러 지역 일괄 로드. regionId -> view (입력 순서 유지, 데이터 없는 지역 제외) */
+    Map<String, ForecastDailyView> loadDailyAll(List<String> regionIds);
+
+    /** HTTP 캐시 검증용 버전 정보. 뷰를 만들지 않는다 */
+    @Nullable
+    ForecastRevision loadRevision(String regionId, LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.github.yun531.climate.forecast.domain.readmodel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예보 데이터 버전 정보 (뷰 생성 없이 조회)
+ * - reportTime   : 현재 제공 중인 발표시각
+ * - nextReportAt : 다음 발표 데이터가 반영될 수 있는 시각
+ * - contentRevision : 스냅샷 내용 revision. 같은 발표시각의 정정본이면 달라진다
+ */
+public record ForecastRevision(
+        String regionId,
+        LocalDateTime reportTime,
+        LocalDateTime nextReportAt,
+        long contentRevision
+) {}
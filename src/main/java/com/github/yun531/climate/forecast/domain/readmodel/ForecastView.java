@@ -0,0 +1,20 @@
+package com.github.yun531.climate.forecast.domain.readmodel;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 시간대별 + 일자별 통합 예보 DTO
+ * - 같은 스냅샷(reportTime)에서 만든 두 뷰를 함께 담는다.
+ */
+public record ForecastView(
+        String regionId,
+        LocalDateTime reportTime,
+        ForecastHourlyView hourly,
+        ForecastDailyView daily
+) {
+    public ForecastView {
+        Objects.requireNonNull(hourly, "hourly must not be null");
+        Objects.requireNonNull(daily, "daily must not be null");
+    }
+}
@@ -4,6 +4,7 @@ import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
 import com.github.yun531.climate.snapshot.domain.readmodel.DailyPoint;
 import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
@@ -33,6 +34,13 @@ public class ForecastViewMapper {
         return new ForecastDailyView(snap.regionId(), snap.announceTime(), points);
     }
 
+    /** 스냅샷 1건에서 시간대별/일자별 뷰를 함께 만든다 */
+    public ForecastView toForecastView(WeatherSnapshot snap) {
+        if (snap == null) return null;
+
+        return new ForecastView(snap.regionId(), snap.announceTime(), toHourlyView(snap), toDailyView(snap));
+    }
+
 
     /**  도메인 중립 포인트를 HourlyPoint 모델로 변환 후 effectiveTime 기준 정렬 */
     private List<ForecastHourlyPoint> mapHourlyPoints(List<HourlyPoint> hourlyPoints) {
@@ -3,11 +3,20 @@ package com.github.yun531.climate.forecast.infra;
 import com.github.yun531.climate.forecast.domain.reader.ForecastViewReader;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastRevision;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
 import com.github.yun531.climate.snapshot.domain.reader.SnapshotReader;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * ForecastViewReader 구현체.
  * - SnapshotReader 에서 데이터를 로드하고, ForecastViewMapper로 forecast 자체 타입으로 변환.
@@ -18,6 +27,7 @@ public class SnapshotForecastViewReader implements ForecastViewReader {
 
     private final SnapshotReader snapshotReader;
     private final ForecastViewMapper mapper;
+    private final PublishSchedulePolicy publishSchedule;
 
     /** 시간대별 온도+POP 예보  */
     @Override
@@ -32,4 +42,49 @@ public class SnapshotForecastViewReader implements ForecastViewReader {
         WeatherSnapshot snap = snapshotReader.loadCurrent(regionId);
         return mapper.toDailyView(snap);
     }
-}
\ No newline at end of file
+
+    /** 시간대별 + 일자별 예보 (스냅샷 1회 조회) */
+    @Override
+    public ForecastView loadForecast(String regionId) {
+        WeatherSnapshot snap = snapshotReader.loadCurrent(regionId);
+        return mapper.toForecastView(snap);
+    }
+
+    /** 시간대별 예보 일괄 로드 (SnapshotReader 일괄 조회 경로) */
+    @Override
+    public Map<String, ForecastHourlyView> loadHourlyAll(List<String> regionIds) {
+        return mapAll(regionIds, mapper::toHourlyView);
+    }
+
+    /** 일자별 예보 일괄 로드 (SnapshotReader 일괄 조회 경로) */
+    @Override
+    public Map<String, ForecastDailyView> loadDailyAll(List<String> regionIds) {
+        return mapAll(regionIds, mapper::toDailyView);
+    }
+
+    private <V> Map<String, V> mapAll(List<String> regionIds, Function<WeatherSnapshot, V> toView) {
+        Map<String, V> out = new LinkedHashMap<>();
+        snapshotReader.loadCurrentAll(regionIds).forEach((regionId, snap) -> {
+            V view = toView.apply(snap);
+            if (view != null) out.put(regionId, view);
+        });
+        return out;
+    }
+
+    /**
+     * 발표시각 + 다음 발표 반영 시각 + 내용 revision.
+     * 최신 발표가 아닌 스냅샷(stale 제공 중)이면 곧 바뀔 수 있으므로 nextReportAt = now
+     */
+    @Override
+    public ForecastRevision loadRevision(String regionId, LocalDateTime now) {
+        WeatherSnapshot snap = snapshotReader.loadCurrent(regionId);
+        if (snap == null || snap.announceTime() == null || now == null) return null;
+
+        LocalDateTime latest = publishSchedule.latestAvailableAnnounceTime(now);
+        LocalDateTime nextReportAt = snap.announceTime().isBefore(latest)
+                ? now
+                : publishSchedule.nextAvailableTime(now);
+
+        return new ForecastRevision(snap.regionId(), snap.announceTime(), nextReportAt, snap.revision());
+    }
+}
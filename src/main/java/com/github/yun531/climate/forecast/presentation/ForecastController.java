@@ -1,33 +1,62 @@
 package com.github.yun531.climate.forecast.presentation;
 
 import com.github.yun531.climate.forecast.application.ForecastService;
+import com.github.yun531.climate.forecast.application.ForecastVersion;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
+import com.github.yun531.climate.shared.http.ResponseBodyCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 예보 조회 API.
+ * - 응답에 ETag(regionId, 발표시각, 시프트) + Cache-Control(max-age: 다음 시프트/발표 경계까지) 부여
+ *   gzip 으로 내려주는 응답은 별도 ETag("...-gz") + Vary: Accept-Encoding
+ * - If-None-Match 일치 시 뷰를 만들지 않고 304 반환
+ * - 응답 본문은 ETag 버전 단위로 직렬화 바이트를 캐싱(ResponseBodyCache)해 그대로 내려준다
+ */
 @RestController
 @RequestMapping("/forecast")
 @RequiredArgsConstructor
 public class ForecastController {
 
     private final ForecastService forecastService;
+    private final ResponseBodyCache responseBodyCache;
 
     @GetMapping("/hourly")
     @Operation(
             summary = "시간대별 예보 조회",
             description = "시간대별(1-24시간) 예보 조회, 3시간 마다 갱신."
     )
-    public ResponseEntity<ForecastHourlyView> getHourlyForecast(@RequestParam String regionId) {
-        ForecastHourlyView view = forecastService.getHourlyForecast(regionId);
-        return (view == null)
-                ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(view);
+    @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ForecastHourlyView.class)))
+    public ResponseEntity<byte[]> getHourlyForecast(
+            @RequestParam String regionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return conditional(
+                "forecast:hourly:" + regionId,
+                forecastService.getHourlyVersion(regionId), ifNoneMatch, acceptEncoding,
+                () -> forecastService.getHourlyForecast(regionId));
     }
 
     @GetMapping("/daily")
@@ -35,10 +64,102 @@ public class ForecastController {
             summary = "일자별 AM/PM 예보 조회",
             description = "일자별(0-6일차) AM/PM 예보 조회"
     )
-    public ResponseEntity<ForecastDailyView> getDailyForecast(@RequestParam String regionId) {
-        ForecastDailyView view = forecastService.getDailyForecast(regionId);
-        return (view == null)
-                ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(view);
+    @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ForecastDailyView.class)))
+    public ResponseEntity<byte[]> getDailyForecast(
+            @RequestParam String regionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return conditional(
+                "forecast:daily:" + regionId,
+                forecastService.getDailyVersion(regionId), ifNoneMatch, acceptEncoding,
+                () -> forecastService.getDailyForecast(regionId));
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "시간대별 + 일자별 통합 예보 조회",
+            description = "하나의 스냅샷으로 시간대별(1-24시간) 예보와 일자별(0-6일차) AM/PM 예보를 함께 조회"
+    )
+    @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ForecastView.class)))
+    public ResponseEntity<byte[]> getForecast(
+            @RequestParam String regionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // 시간대별 버전(reportTime + 시프트)이 통합 응답의 변경 기준과 같다
+        return conditional(
+                "forecast:all:" + regionId,
+                forecastService.getHourlyVersion(regionId), ifNoneMatch, acceptEncoding,
+                () -> forecastService.getForecast(regionId));
+    }
+
+    @GetMapping("/hourly:batch")
+    @Operation(
+            summary = "다중 지역 시간대별 예보 일괄 조회",
+            description = "regionIds 의 시간대별 예보를 한 번에 조회 (최대 개수 초과분은 무시, 데이터 없는 지역 제외)"
+    )
+    public ResponseEntity<List<ForecastHourlyView>> getHourlyForecasts(@RequestParam List<String> regionIds) {
+        return ResponseEntity.ok(forecastService.getHourlyForecasts(regionIds));
+    }
+
+    @GetMapping("/daily:batch")
+    @Operation(
+            summary = "다중 지역 일자별 예보 일괄 조회",
+            description = "regionIds 의 일자별 AM/PM 예보를 한 번에 조회 (최대 개수 초과분은 무시, 데이터 없는 지역 제외)"
+    )
+    public ResponseEntity<List<ForecastDailyView>> getDailyForecasts(@RequestParam List<String> regionIds) {
+        return ResponseEntity.ok(forecastService.getDailyForecasts(regionIds));
+    }
+
+    // ======================= 조건부 응답 =======================
+
+    /** version 이 없으면 캐시 헤더/본문 캐시 없이 응답 */
+    private ResponseEntity<byte[]> conditional(
+            String cacheKey, ForecastVersion version,
+            String ifNoneMatch, String acceptEncoding, Supplier<?> viewLoader
+    ) {
+        String matched = (version == null) ? null : matchedETag(ifNoneMatch, version.etag());
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matched)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .cacheControl(cacheControl(version))
+                    .build();
+        }
+
+        String etag = (version == null) ? null : version.etag();
+        ResponseBodyCache.CachedBody body = responseBodyCache.getOrSerialize(cacheKey, etag, viewLoader);
+        if (body == null) return ResponseEntity.noContent().build();
+        if (version == null) return body.write(ResponseEntity.ok(), acceptEncoding);
+
+        return body.write(ResponseEntity.ok().cacheControl(cacheControl(version)), acceptEncoding, etag);
+    }
+
+    private static CacheControl cacheControl(ForecastVersion version) {
+        return CacheControl.maxAge(Duration.ofSeconds(version.maxAgeSeconds()))
+                .cachePublic()
+                .mustRevalidate();
+    }
+
+    /**
+     * If-None-Match 는 weak 비교: W/ 접두사 무시, 목록/와일드카드 허용.
+     * 원본/압축(-gz) 표현 중 일치한 쪽의 ETag 를 반환하고, 불일치면 null.
+     */
+    private static String matchedETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return null;
+
+        String gzipETag = ResponseBodyCache.gzipETag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return etag;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag) || tag.equals(gzipETag)) return tag;
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,13 @@ package com.github.yun531.climate.notification.application.alert;
 import com.github.yun531.climate.warning.domain.reader.WarningStateReader;
 import com.github.yun531.climate.notification.domain.adjust.RainForecastAdjuster;
 import com.github.yun531.climate.notification.domain.adjust.RainOnsetAdjuster;
+import com.github.yun531.climate.notification.domain.detect.BatchRainDetector;
 import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
 import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
 import com.github.yun531.climate.notification.domain.detect.WarningIssuedDetector;
 import com.github.yun531.climate.notification.domain.readmodel.PopViewReader;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +26,9 @@ public class AlertApplicationConfig {
             WarningIssuedDetector warningIssuedDetector,
             RainOnsetAdjuster onsetAdjuster,
             RainForecastAdjuster forecastAdjuster,
+            TieredRainDetector tieredRainDetector,
+            ObjectProvider<PrecomputedAlertTable> precomputedAlertTable,
+            ObjectProvider<BatchRainDetector> batchRainDetector,
             @Value("${notification.max-region-count:3}") int maxRegionCount,
             @Value("${notification.warning.default-since-hours:2}") int defaultSinceHours
     ) {
@@ -35,7 +41,10 @@ public class AlertApplicationConfig {
                 onsetAdjuster,
                 forecastAdjuster,
                 maxRegionCount,
-                defaultSinceHours
+                defaultSinceHours,
+                precomputedAlertTable.getIfAvailable(),   // 사전 계산 비활성 시 null
+                batchRainDetector.getIfAvailable(),       // 배치 감지 비활성 시 지역별 감지
+                tieredRainDetector
         );
     }
 }
\ No newline at end of file
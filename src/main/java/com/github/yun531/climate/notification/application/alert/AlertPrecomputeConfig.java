@@ -0,0 +1,41 @@
+package com.github.yun531.climate.notification.application.alert;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+
+/**
+ * notification.precompute.enabled=true 이면 지역 알림을 발표/정시마다 미리 계산해
+ * /notification/alerts/* 가 테이블 조회 + 병합으로 응답한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notification.precompute", name = "enabled", havingValue = "true")
+public class AlertPrecomputeConfig {
+
+    @Bean
+    public PrecomputedAlertTable precomputedAlertTable() {
+        return new PrecomputedAlertTable();
+    }
+
+    @Bean
+    public AlertPrecomputeJob alertPrecomputeJob(
+            GenerateAlertsService service,
+            RegionCatalog regionCatalog,
+            PrecomputedAlertTable table,
+            PublishSchedulePolicy publishSchedule,
+            ObjectProvider<TaskScheduler> taskScheduler,
+            Clock clock,
+            @Value("${notification.precompute.parallelism:4}") int parallelism,
+            @Value("${notification.precompute.batch-size:256}") int batchSize
+    ) {
+        return new AlertPrecomputeJob(service, regionCatalog, table, publishSchedule,
+                taskScheduler.getIfAvailable(), clock, parallelism, batchSize);
+    }
+}
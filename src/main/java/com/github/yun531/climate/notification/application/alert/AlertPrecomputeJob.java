@@ -0,0 +1,170 @@
+package com.github.yun531.climate.notification.application.alert;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스냅샷 기반 알림(RAIN_ONSET / RAIN_FORECAST) 사전 계산 작업.
+ * - 실행 시점: 기동 직후, 이후 "다음 발표 접근 가능 시각(PublishSchedulePolicy)" 과 "다음 정시" 중 빠른 쪽
+ *   (결과는 발표시각과 nowHour 로만 바뀌므로 그 사이에는 다시 계산할 필요가 없다)
+ * - RegionCatalog 의 지역을 batchSize 개씩 묶어(precomputeAll: 배치 감지) parallelism 개 스레드로 계산하고,
+ *   완성된 테이블을 한 번에 교체한다
+ * - 묶음 계산이 실패하면 그 묶음만 지역별로 다시 계산하고, 지역 1곳의 실패는 해당 지역만 테이블에서 빠진다
+ *   (조회 시 직접 감지로 대체)
+ * - TaskScheduler 가 없으면 기동 시 경고를 남기고, 매분 @Scheduled tick 이 다음 실행 시각 도래 여부를 확인해 실행한다
+ */
+@Slf4j
+public class AlertPrecomputeJob implements DisposableBean {
+
+    private final GenerateAlertsService service;
+    private final RegionCatalog regionCatalog;
+    private final PrecomputedAlertTable table;
+    private final PublishSchedulePolicy publishSchedule;
+    @Nullable private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final ExecutorService workers;
+    private final int batchSize;
+
+    private volatile LocalDateTime nextRunAt;   // null = 아직 기동 전
+
+    public AlertPrecomputeJob(
+            GenerateAlertsService service,
+            RegionCatalog regionCatalog,
+            PrecomputedAlertTable table,
+            PublishSchedulePolicy publishSchedule,
+            @Nullable TaskScheduler taskScheduler,
+            Clock clock,
+            int parallelism,
+            int batchSize
+    ) {
+        this.service = service;
+        this.regionCatalog = regionCatalog;
+        this.table = table;
+        this.publishSchedule = publishSchedule;
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
+        this.batchSize = Math.max(1, batchSize);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "alert-precompute-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (taskScheduler == null) {
+            log.warn("[PRECOMPUTE] no TaskScheduler. falling back to per-minute @Scheduled check");
+        }
+        runAndReschedule();
+    }
+
+    /** TaskScheduler 가 없을 때의 대체 경로: 다음 실행 시각이 지났으면 실행 */
+    @Scheduled(cron = "${notification.precompute.fallback-cron:0 * * * * *}")
+    public void tick() {
+        if (taskScheduler != null) return;
+
+        LocalDateTime due = nextRunAt;
+        if (due == null || now().isBefore(due)) return;
+        runAndReschedule();
+    }
+
+    private synchronized void runAndReschedule() {
+        LocalDateTime now = now();
+        try {
+            refresh(now);
+        } catch (Exception e) {
+            log.error("[PRECOMPUTE] refresh failed. now={}", now, e);
+        }
+
+        LocalDateTime next = nextRunAt(now);
+        nextRunAt = next;
+        if (taskScheduler != null) {
+            taskScheduler.schedule(this::runAndReschedule, next.atZone(clock.getZone()).toInstant());
+        }
+    }
+
+    /** 모든 지역을 병렬 계산한 새 테이블을 publish 하고 반환 */
+    public PrecomputedAlertTable.Snapshot refresh(LocalDateTime now) {
+        List<String> regionIds = regionCatalog.regionIds();
+        long startedAt = System.nanoTime();
+
+        List<CompletableFuture<Map<String, RegionAlerts>>> futures = new ArrayList<>();
+        for (int from = 0; from < regionIds.size(); from += batchSize) {
+            List<String> chunk = regionIds.subList(from, Math.min(regionIds.size(), from + batchSize));
+            futures.add(CompletableFuture.supplyAsync(() -> computeChunk(chunk, now), workers));
+        }
+
+        Map<String, RegionAlerts> regions = new HashMap<>();
+        for (CompletableFuture<Map<String, RegionAlerts>> future : futures) regions.putAll(future.join());
+        int skipped = regionIds.size() - regions.size();
+
+        PrecomputedAlertTable.Snapshot snapshot =
+                new PrecomputedAlertTable.Snapshot(now.truncatedTo(ChronoUnit.HOURS), regions, now);
+        table.publish(snapshot);
+
+        log.info("[PRECOMPUTE] published. hour={} regions={}/{} skipped={} elapsedMs={}",
+                snapshot.hour(), regions.size(), regionIds.size(), skipped, (System.nanoTime() - startedAt) / 1_000_000);
+        return snapshot;
+    }
+
+    /** 묶음 단위 계산. 실패 시 지역별로 다시 계산해 실패 지역만 제외 */
+    private Map<String, RegionAlerts> computeChunk(List<String> chunk, LocalDateTime now) {
+        try {
+            return service.precomputeAll(chunk, now);
+        } catch (RuntimeException e) {
+            log.warn("[PRECOMPUTE] batch failed, retrying per region. size={} first={}", chunk.size(), chunk.get(0), e);
+        }
+
+        Map<String, RegionAlerts> out = new HashMap<>();
+        for (String regionId : chunk) {
+            try {
+                RegionAlerts alerts = service.precompute(regionId, now);
+                if (alerts != null) out.put(regionId, alerts);
+            } catch (RuntimeException e) {
+                log.warn("[PRECOMPUTE] region failed. regionId={}", regionId, e);
+            }
+        }
+        return out;
+    }
+
+    /** 다음 정시와 다음 발표 접근 가능 시각 중 빠른 쪽 */
+    LocalDateTime nextRunAt(LocalDateTime now) {
+        LocalDateTime nextHour = now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime nextAnnounce = publishSchedule.nextAvailableTime(now);
+        return (nextAnnounce != null && nextAnnounce.isAfter(now) && nextAnnounce.isBefore(nextHour))
+                ? nextAnnounce
+                : nextHour;
+    }
+
+    private LocalDateTime now() {
+        return TimeUtil.truncateToMinutes(LocalDateTime.now(clock));
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+}
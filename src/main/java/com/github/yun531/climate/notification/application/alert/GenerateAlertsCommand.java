@@ -2,6 +2,7 @@ package com.github.yun531.climate.notification.application.alert;
 
 import com.github.yun531.climate.warning.domain.model.WarningKind;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
 import org.springframework.lang.Nullable;
 
 import java.util.EnumSet;
@@ -13,7 +14,8 @@ public record GenerateAlertsCommand(
         @Nullable Integer sinceHours,             // 유효한 기상 특보(발효시간)의 ttl
         Set<AlertTypeEnum> enabledTypes,
         @Nullable Set<WarningKind> warningKinds,
-        @Nullable Integer withinHours
+        @Nullable Integer withinHours,
+        @Nullable RainTier tier                   // RAIN_ONSET / RAIN_FORECAST 판정 단계 (null 이면 기본 임계치)
 ) {
     public GenerateAlertsCommand {
         enabledTypes = (enabledTypes == null || enabledTypes.isEmpty())
@@ -21,6 +23,13 @@ public record GenerateAlertsCommand(
                 : EnumSet.copyOf(enabledTypes);
     }
 
+    public GenerateAlertsCommand(
+            List<String> regionIds, @Nullable Integer sinceHours, Set<AlertTypeEnum> enabledTypes,
+            @Nullable Set<WarningKind> warningKinds, @Nullable Integer withinHours
+    ) {
+        this(regionIds, sinceHours, enabledTypes, warningKinds, withinHours, null);
+    }
+
     public boolean hasNoTypes() {
         return enabledTypes.isEmpty();
     }
@@ -4,26 +4,47 @@ import com.github.yun531.climate.warning.domain.model.WarningKind;
 import com.github.yun531.climate.warning.domain.reader.WarningStateReader;
 import com.github.yun531.climate.notification.domain.adjust.RainForecastAdjuster;
 import com.github.yun531.climate.notification.domain.adjust.RainOnsetAdjuster;
+import com.github.yun531.climate.notification.domain.detect.BatchRainDetector;
+import com.github.yun531.climate.notification.domain.detect.PopMatrix;
 import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
 import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
 import com.github.yun531.climate.notification.domain.detect.WarningIssuedDetector;
 import com.github.yun531.climate.notification.domain.model.AlertEvent;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
 import com.github.yun531.climate.notification.domain.readmodel.PopView;
 import com.github.yun531.climate.notification.domain.readmodel.PopViewReader;
+import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.KeyCache;
 import com.github.yun531.climate.shared.time.TimeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.github.yun531.climate.shared.time.TimeUtil.nowTruncatedToMinute;
 
 /**
  * 알림 생성 서비스.
  * 흐름: 정규화 -> 타입별 분기 -> Port 로드 -> Detector 감지 -> Adjuster 보정 -> dedup/sort
+ * 사전 계산 테이블(PrecomputedAlertTable)이 있으면 RAIN_ONSET / RAIN_FORECAST 는
+ * 같은 시(hour) + 같은 PopView 발표시각으로 계산된 지역 결과를 조회만 하고, 없으면 직접 감지한다.
+ * 단계(tier)가 지정된 요청은 TieredRainDetector 의 지역별 분류 결과(발표시각 단위 캐시)에서 해당 단계만 꺼낸다.
+ * RAIN_ONSET 의 보정 전 감지 결과(onset 델타)는 (현재, 이전) 발표시각 쌍마다 한 번만 계산해 두고,
+ * 이후 요청은 RainOnsetAdjuster 의 시간 창 보정만 수행한다.
+ * 발표시각 단위로 재사용하는 결과(사전 계산, 단계 분류, onset 델타, 응답 버전)는 모두 PopView 내용 revision 도 함께 비교하므로
+ * 같은 발표시각의 스냅샷이 정정되어 다시 로드되면 자동으로 다시 계산된다.
+ * 메트릭: alert.detect / alert.adjust (type 태그) 지연 히스토그램, alert.precomputed (result=hit|miss)
  */
-public class GenerateAlertsService {
+public class GenerateAlertsService implements MeterBinder {
 
     private final PopViewReader popViewReader;
     private final WarningStateReader warningStateReader;
@@ -34,6 +55,17 @@ public class GenerateAlertsService {
     private final RainForecastAdjuster rainForecastAdjuster;
     private final int maxRegionCount;
     private final int defaultSinceHours;
+    @Nullable private final PrecomputedAlertTable precomputed;
+    @Nullable private final BatchRainDetector batchDetector;
+    @Nullable private final TieredRainDetector tieredDetector;
+    private final KeyCache<TieredRainDetector.Classified> tieredCache = new KeyCache<>("alert-tier");
+    private final KeyCache<OnsetDelta> onsetDeltaCache = new KeyCache<>("alert-onset-delta");
+
+    // MeterRegistry 바인딩 전에는 비어 있음 (측정 안 함)
+    private volatile Map<AlertTypeEnum, Timer> detectTimers = Map.of();
+    private volatile Map<AlertTypeEnum, Timer> adjustTimers = Map.of();
+    private volatile Counter precomputedHits;
+    private volatile Counter precomputedMisses;
 
     private static final Comparator<AlertEvent> EVENT_ORDER = Comparator
             .comparing(AlertEvent::type, Comparator.nullsLast(Comparator.comparingInt(Enum::ordinal)))
@@ -50,6 +82,24 @@ public class GenerateAlertsService {
             RainForecastAdjuster rainForecastAdjuster,
             int maxRegionCount,
             int defaultSinceHours
+    ) {
+        this(popViewReader, warningStateReader, rainOnsetDetector, rainForecastDetector, warningIssuedDetector,
+                rainOnsetAdjuster, rainForecastAdjuster, maxRegionCount, defaultSinceHours, null, null, null);
+    }
+
+    public GenerateAlertsService(
+            PopViewReader popViewReader,
+            WarningStateReader warningStateReader,
+            RainOnsetDetector rainOnsetDetector,
+            RainForecastDetector rainForecastDetector,
+            WarningIssuedDetector warningIssuedDetector,
+            RainOnsetAdjuster rainOnsetAdjuster,
+            RainForecastAdjuster rainForecastAdjuster,
+            int maxRegionCount,
+            int defaultSinceHours,
+            @Nullable PrecomputedAlertTable precomputed,
+            @Nullable BatchRainDetector batchDetector,
+            @Nullable TieredRainDetector tieredDetector
     ) {
         this.popViewReader = popViewReader;
         this.warningStateReader = warningStateReader;
@@ -60,6 +110,9 @@ public class GenerateAlertsService {
         this.rainForecastAdjuster = rainForecastAdjuster;
         this.maxRegionCount = Math.max(0, maxRegionCount);
         this.defaultSinceHours = Math.max(1, defaultSinceHours);
+        this.precomputed = precomputed;
+        this.batchDetector = batchDetector;
+        this.tieredDetector = tieredDetector;
     }
 
     public List<AlertEvent> generate(GenerateAlertsCommand command) {
@@ -85,6 +138,144 @@ public class GenerateAlertsService {
         return deduped;
     }
 
+    /**
+     * 변경분 전송 지문용: 윈도우 보정 전 감지 이벤트.
+     * RAIN_FORECAST 는 보정(구간 클리핑, 일자 시프트)이 payload 를 바꾸므로 현재 발표분으로 다시 감지한 원본을 돌려준다
+     * (payload 에 단계가 있으면 단계별 감지). RAIN_ONSET / WARNING_ISSUED 는 보정이 payload 를 바꾸지 않아 그대로 돌려준다.
+     * 다시 감지할 수 없으면 입력 그대로
+     */
+    public AlertEvent unadjusted(AlertEvent event, @Nullable LocalDateTime now) {
+        if (event == null || event.type() != AlertTypeEnum.RAIN_FORECAST || event.regionId() == null) return event;
+
+        LocalDateTime effectiveNow = normalizeNow(now);
+        String regionId = event.regionId();
+        RainTier tier = (event.payload() instanceof RainForecastPayload p) ? p.tier() : null;
+
+        AlertEvent raw;
+        if (tier != null && tieredDetector != null) {
+            TieredRainDetector.Classified classified = classifiedFor(regionId);
+            raw = (classified == null) ? null : tieredDetector.detectForecast(regionId, classified, tier, effectiveNow);
+        } else {
+            PopView view = popViewReader.loadCurrent(regionId);
+            raw = (view == null) ? null : rainForecastDetector.detect(regionId, view, effectiveNow);
+        }
+        return (raw == null) ? event : raw;
+    }
+
+    /**
+     * 응답 캐시 키용 지역 목록: generate 와 같은 정규화(trim, 중복 제거, 최대 개수) 후 정렬.
+     * 결과 이벤트는 지역 순서와 무관하게 정렬되므로 요청 순서만 다른 지역 목록은 같은 키가 된다
+     */
+    public List<String> responseKeyRegionIds(@Nullable List<String> regionIds) {
+        List<String> ids = new ArrayList<>(normalizeRegionIds(regionIds));
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * 스냅샷 기반 알림(RAIN_ONSET, RAIN_FORECAST)의 응답 버전.
+     * 결과는 (지역별 PopView 내용, nowHour)로만 결정되므로 버전이 같으면 응답도 같다.
+     * 특보(WARNING_ISSUED) 포함 또는 데이터 없음이면 null
+     */
+    @Nullable
+    public String responseVersion(GenerateAlertsCommand command) {
+        if (command == null || command.hasNoTypes()) return null;
+        if (command.isEnabled(AlertTypeEnum.WARNING_ISSUED)) return null;
+
+        List<String> regionIds = responseKeyRegionIds(command.regionIds());
+        if (regionIds.isEmpty()) return null;
+
+        StringBuilder sb = new StringBuilder(64)
+                .append(nowTruncatedToMinute().truncatedTo(ChronoUnit.HOURS));
+
+        for (String regionId : regionIds) {
+            PopView current = popViewReader.loadCurrent(regionId);
+            if (current == null) return null;
+            sb.append('|').append(regionId).append('@').append(current.reportTime())
+                    .append('#').append(Long.toHexString(current.revision()));
+
+            if (command.isEnabled(AlertTypeEnum.RAIN_ONSET)) {
+                PopView previous = popViewReader.loadPrevious(regionId);
+                if (previous == null) return null;
+                sb.append('/').append(previous.reportTime())
+                        .append('#').append(Long.toHexString(previous.revision()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 사전 계산 작업용: 지역 1곳의 RAIN_ONSET(horizon 전체) / RAIN_FORECAST 를 테이블 없이 직접 계산.
+     * 현재 PopView 가 없으면 null
+     */
+    @Nullable
+    public RegionAlerts precompute(String regionId, @Nullable LocalDateTime now) {
+        if (regionId == null || regionId.isBlank()) return null;
+
+        LocalDateTime effectiveNow = normalizeNow(now);
+        PopView current = popViewReader.loadCurrent(regionId);
+        if (current == null) return null;
+        PopView previous = popViewReader.loadPrevious(regionId);
+
+        return new RegionAlerts(
+                current.reportTime(),
+                (previous == null) ? null : previous.reportTime(),
+                current.revision(),
+                (previous == null) ? 0 : previous.revision(),
+                detectRainOnset(regionId, null, effectiveNow),
+                detectRainForecast(regionId, effectiveNow));
+    }
+
+    /**
+     * 여러 지역을 한 번에 사전 계산. BatchRainDetector 가 있으면 PopMatrix 1회 감지 후 지역별 보정만 수행하고,
+     * 배치로 처리할 수 없는 지역(시계열 불규칙)과 BatchRainDetector 미설정 시에는 precompute 로 지역별 계산한다.
+     * @return regionId -> 결과 (PopView 없는 지역은 제외)
+     */
+    public Map<String, RegionAlerts> precomputeAll(List<String> regionIds, @Nullable LocalDateTime now) {
+        if (regionIds == null || regionIds.isEmpty()) return Map.of();
+
+        LocalDateTime effectiveNow = normalizeNow(now);
+        Map<String, RegionAlerts> out = new HashMap<>(regionIds.size() * 2);
+        if (batchDetector == null) {
+            for (String regionId : regionIds) putIfPresent(out, regionId, precompute(regionId, effectiveNow));
+            return out;
+        }
+
+        List<PopView.Pair> pairs = new ArrayList<>(regionIds.size());
+        for (String regionId : regionIds) {
+            PopView current = popViewReader.loadCurrent(regionId);
+            pairs.add((current == null) ? null : new PopView.Pair(current, popViewReader.loadPrevious(regionId)));
+        }
+
+        PopMatrix matrix = PopMatrix.of(regionIds, pairs, batchDetector.hours());
+        Map<String, BatchRainDetector.Detected> detected = batchDetector.detect(matrix, effectiveNow);
+
+        for (int r = 0; r < matrix.rows(); r++) {
+            String regionId = matrix.regionId(r);
+            PopView.Pair pair = matrix.pair(r);
+            if (pair == null) continue;
+
+            BatchRainDetector.Detected d = detected.get(regionId);
+            if (d == null) {
+                putIfPresent(out, regionId, precompute(regionId, effectiveNow));
+                continue;
+            }
+            rememberOnsetDelta(regionId, pair, d.rainOnset());
+            out.put(regionId, new RegionAlerts(
+                    pair.current().reportTime(),
+                    (pair.previous() == null) ? null : pair.previous().reportTime(),
+                    pair.current().revision(),
+                    (pair.previous() == null) ? 0 : pair.previous().revision(),
+                    adjustRainOnset(d.rainOnset(), null, effectiveNow),
+                    adjustRainForecast(d.rainForecast(), effectiveNow)));
+        }
+        return out;
+    }
+
+    private static void putIfPresent(Map<String, RegionAlerts> out, String regionId, @Nullable RegionAlerts alerts) {
+        if (alerts != null) out.put(regionId, alerts);
+    }
+
     // =====================================================================
     //  타입별 분기 + 지역 순회
     // =====================================================================
@@ -95,12 +286,24 @@ public class GenerateAlertsService {
     ) {
         ArrayList<AlertEvent> out = new ArrayList<>(16);
 
+        RainTier tier = (tieredDetector == null) ? null : cmd.tier();
         for (String regionId : regionIds) {
-            if (cmd.isEnabled(AlertTypeEnum.RAIN_ONSET))
-                out.addAll(detectRainOnset(regionId, cmd.withinHours(), now));
-
-            if (cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST))
-                out.addAll(detectRainForecast(regionId, now));
+            RegionAlerts pre = (tier == null) ? precomputedFor(cmd, regionId, now) : null;
+            if (tier != null) {
+                out.addAll(detectTiered(cmd, regionId, tier, now));
+            } else if (pre != null) {
+                if (cmd.isEnabled(AlertTypeEnum.RAIN_ONSET))
+                    out.addAll(pre.rainOnsetWithin(now, cmd.withinHours()));
+
+                if (cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST))
+                    out.addAll(pre.rainForecast());
+            } else {
+                if (cmd.isEnabled(AlertTypeEnum.RAIN_ONSET))
+                    out.addAll(detectRainOnset(regionId, cmd.withinHours(), now));
+
+                if (cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST))
+                    out.addAll(detectRainForecast(regionId, now));
+            }
 
             if (cmd.isEnabled(AlertTypeEnum.WARNING_ISSUED))
                 out.addAll(detectWarningIssued(regionId, since, cmd.warningKinds()));
@@ -109,17 +312,77 @@ public class GenerateAlertsService {
         return out.isEmpty() ? List.of() : List.copyOf(out);
     }
 
-    /** load pair -> detect onset -> adjust(effectiveTime window) */
+    /**
+     * 사전 계산 결과가 지금 사용 가능한지 확인.
+     * 같은 시(hour)에 계산되었고, 계산에 쓴 PopView(발표시각 + 내용 revision)가 현재와 같을 때만 사용한다.
+     */
+    @Nullable
+    private RegionAlerts precomputedFor(GenerateAlertsCommand cmd, String regionId, LocalDateTime now) {
+        if (precomputed == null) return null;
+        boolean onset = cmd.isEnabled(AlertTypeEnum.RAIN_ONSET);
+        if (!onset && !cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST)) return null;
+
+        RegionAlerts pre = precomputed.lookup(regionId, now);
+        if (pre == null || !isCurrent(pre, regionId, onset)) {
+            count(precomputedMisses);
+            return null;
+        }
+        count(precomputedHits);
+        return pre;
+    }
+
+    private boolean isCurrent(RegionAlerts pre, String regionId, boolean checkPrevious) {
+        PopView current = popViewReader.loadCurrent(regionId);
+        if (current == null || !Objects.equals(current.reportTime(), pre.currentReportTime())
+                || current.revision() != pre.currentRevision()) return false;
+        if (!checkPrevious) return true;
+
+        PopView previous = popViewReader.loadPrevious(regionId);
+        return previous != null && Objects.equals(previous.reportTime(), pre.previousReportTime())
+                && previous.revision() == pre.previousRevision();
+    }
+
+    /** load pair -> onset 델타(발표 단위 캐시) -> adjust(effectiveTime window) */
     private List<AlertEvent> detectRainOnset(
             String regionId, @Nullable Integer withinHours, LocalDateTime now
     ) {
         PopView.Pair pair = popViewReader.loadCurrentPreviousPair(regionId);
         if (pair == null) return List.of();
 
-        List<AlertEvent> raw = rainOnsetDetector.detect(regionId, pair, now);
+        return adjustRainOnset(onsetDelta(regionId, pair, now), withinHours, now);
+    }
+
+    /** 같은 (현재, 이전) PopView 로 감지한 결과가 있으면 재사용, 없으면 1회 감지 후 교체 */
+    private List<AlertEvent> onsetDelta(String regionId, PopView.Pair pair, LocalDateTime now) {
+        LocalDateTime currentAt = (pair.current() == null) ? null : pair.current().reportTime();
+
+        CacheEntry<OnsetDelta> cached = onsetDeltaCache.getIfFresh(regionId, currentAt, 0);
+        if (cached != null && cached.value().matches(cached.anchor(), pair)) {
+            return cached.value().raw();
+        }
+
+        List<AlertEvent> raw = timed(detectTimers, AlertTypeEnum.RAIN_ONSET,
+                () -> rainOnsetDetector.detect(regionId, pair, now));
+        rememberOnsetDelta(regionId, pair, raw);
+        return raw;
+    }
+
+    /** 발표시각이 모두 있을 때만 저장 (없으면 감지 결과가 now 에 따라 달라질 수 있음) */
+    private void rememberOnsetDelta(String regionId, PopView.Pair pair, List<AlertEvent> raw) {
+        if (pair.current() == null || pair.previous() == null) return;
+        LocalDateTime currentAt = pair.current().reportTime();
+        LocalDateTime previousAt = pair.previous().reportTime();
+        if (currentAt == null || previousAt == null) return;
+
+        onsetDeltaCache.put(regionId, new CacheEntry<>(new OnsetDelta(
+                previousAt, pair.current().revision(), pair.previous().revision(), raw), currentAt));
+    }
+
+    private List<AlertEvent> adjustRainOnset(List<AlertEvent> raw, @Nullable Integer withinHours, LocalDateTime now) {
         if (raw.isEmpty()) return List.of();
 
-        return rainOnsetAdjuster.adjust(raw, now, withinHours);
+        return timed(adjustTimers, AlertTypeEnum.RAIN_ONSET,
+                () -> rainOnsetAdjuster.adjust(raw, now, withinHours));
     }
 
     /** load current -> detect forecast -> adjust (time shift + clipping) */
@@ -127,13 +390,55 @@ public class GenerateAlertsService {
         PopView view = popViewReader.loadCurrent(regionId);
         if (view == null) return List.of();
 
-        AlertEvent raw = rainForecastDetector.detect(regionId, view, now);
+        AlertEvent raw = timed(detectTimers, AlertTypeEnum.RAIN_FORECAST,
+                () -> rainForecastDetector.detect(regionId, view, now));
+        return adjustRainForecast(raw, now);
+    }
+
+    private List<AlertEvent> adjustRainForecast(@Nullable AlertEvent raw, LocalDateTime now) {
         if (raw == null) return List.of();
 
-        AlertEvent adjusted = rainForecastAdjuster.adjust(raw, raw.occurredAt(), now);
+        AlertEvent adjusted = timed(adjustTimers, AlertTypeEnum.RAIN_FORECAST,
+                () -> rainForecastAdjuster.adjust(raw, raw.occurredAt(), now));
         return (adjusted == null) ? List.of() : List.of(adjusted);
     }
 
+    /** 단계 지정 요청: 발표시각 단위로 캐시된 분류 결과 -> 단계별 이벤트 -> 기존 adjust */
+    private List<AlertEvent> detectTiered(GenerateAlertsCommand cmd, String regionId, RainTier tier, LocalDateTime now) {
+        if (!cmd.isEnabled(AlertTypeEnum.RAIN_ONSET) && !cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST)) return List.of();
+
+        TieredRainDetector.Classified classified = classifiedFor(regionId);
+        if (classified == null) return List.of();
+
+        List<AlertEvent> out = new ArrayList<>(8);
+        if (cmd.isEnabled(AlertTypeEnum.RAIN_ONSET)) {
+            List<AlertEvent> raw = timed(detectTimers, AlertTypeEnum.RAIN_ONSET,
+                    () -> tieredDetector.detectOnset(regionId, classified, tier, now));
+            out.addAll(adjustRainOnset(raw, cmd.withinHours(), now));
+        }
+        if (cmd.isEnabled(AlertTypeEnum.RAIN_FORECAST)) {
+            AlertEvent raw = timed(detectTimers, AlertTypeEnum.RAIN_FORECAST,
+                    () -> tieredDetector.detectForecast(regionId, classified, tier, now));
+            out.addAll(adjustRainForecast(raw, now));
+        }
+        return out;
+    }
+
+    /** 현재/이전 발표시각이 같으면 캐시된 분류 결과 재사용, 아니면 1회 분류 후 교체 */
+    @Nullable
+    private TieredRainDetector.Classified classifiedFor(String regionId) {
+        PopView current = popViewReader.loadCurrent(regionId);
+        if (current == null) return null;
+        PopView previous = popViewReader.loadPrevious(regionId);
+
+        CacheEntry<TieredRainDetector.Classified> cached = tieredCache.getIfFresh(regionId, current.reportTime(), 0);
+        if (cached != null && cached.value().matches(current, previous)) return cached.value();
+
+        TieredRainDetector.Classified classified = tieredDetector.classify(new PopView.Pair(current, previous));
+        if (classified != null) tieredCache.put(regionId, new CacheEntry<>(classified, current.reportTime()));
+        return classified;
+    }
+
     /** load states -> detect issued warnings */
     private List<AlertEvent> detectWarningIssued(
             String regionId, LocalDateTime since,
@@ -142,7 +447,40 @@ public class GenerateAlertsService {
         var warningsByKind = warningStateReader.loadLatestByKind(regionId);
         if (warningsByKind == null || warningsByKind.isEmpty()) return List.of();
 
-        return warningIssuedDetector.detect(regionId, warningsByKind, since, warningKinds);
+        return timed(detectTimers, AlertTypeEnum.WARNING_ISSUED,
+                () -> warningIssuedDetector.detect(regionId, warningsByKind, since, warningKinds));
+    }
+
+    // -- 메트릭 --
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.detectTimers = timersFor(registry, "alert.detect");
+        this.adjustTimers = timersFor(registry, "alert.adjust");
+        this.precomputedHits = Counter.builder("alert.precomputed").tag("result", "hit").register(registry);
+        this.precomputedMisses = Counter.builder("alert.precomputed").tag("result", "miss").register(registry);
+        tieredCache.bindTo(registry);
+        onsetDeltaCache.bindTo(registry);
+    }
+
+    private static void count(@Nullable Counter counter) {
+        if (counter != null) counter.increment();
+    }
+
+    private static Map<AlertTypeEnum, Timer> timersFor(MeterRegistry registry, String name) {
+        Map<AlertTypeEnum, Timer> timers = new EnumMap<>(AlertTypeEnum.class);
+        for (AlertTypeEnum type : AlertTypeEnum.values()) {
+            timers.put(type, Timer.builder(name)
+                    .tag("type", type.name())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        return timers;
+    }
+
+    private static <R> R timed(Map<AlertTypeEnum, Timer> timers, AlertTypeEnum type, Supplier<R> body) {
+        Timer timer = timers.get(type);
+        return (timer == null) ? body.get() : timer.record(body);
     }
 
     // -- 정규화 헬퍼 --
@@ -178,4 +516,22 @@ public class GenerateAlertsService {
         for (AlertEvent e : events) { if (e != null) set.add(e); }
         return new ArrayList<>(set);
     }
-}
\ No newline at end of file
+
+    /**
+     * 지역 1곳의 보정 전 RAIN_ONSET 감지 결과.
+     * anchor(현재 발표시각) + previousReportTime + 현재/이전 내용 revision 이 모두 같을 때만 유효
+     */
+    private record OnsetDelta(
+            LocalDateTime previousReportTime, long currentRevision, long previousRevision, List<AlertEvent> raw
+    ) {
+        boolean matches(LocalDateTime anchor, PopView.Pair pair) {
+            PopView current = pair.current();
+            PopView previous = pair.previous();
+            if (current == null || previous == null) return false;
+            return anchor.equals(current.reportTime())
+                    && previousReportTime.equals(previous.reportTime())
+                    && currentRevision == current.revision()
+                    && previousRevision == previous.revision();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.yun531.climate.notification.application.alert;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지역 -> 사전 계산 알림 테이블.
+ * 계산 작업이 새 Snapshot 을 통째로 만들어 publish 하면 참조만 원자적으로 교체되므로,
+ * 조회 쪽은 잠금 없이 항상 완결된 한 벌의 테이블을 본다.
+ */
+public class PrecomputedAlertTable {
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    public void publish(Snapshot snapshot) {
+        if (snapshot != null) current.set(snapshot);
+    }
+
+    public Snapshot current() {
+        return current.get();
+    }
+
+    /** now 와 같은 시(hour)에 계산된 지역 결과. 없거나 다른 시각에 계산되었으면 null */
+    @Nullable
+    public RegionAlerts lookup(String regionId, LocalDateTime now) {
+        Snapshot snapshot = current.get();
+        if (regionId == null || now == null || snapshot.hour() == null) return null;
+        if (!snapshot.hour().equals(now.truncatedTo(ChronoUnit.HOURS))) return null;
+        return snapshot.regions().get(regionId);
+    }
+
+    /** 불변 테이블 한 벌 */
+    public record Snapshot(
+            @Nullable LocalDateTime hour,
+            Map<String, RegionAlerts> regions,
+            @Nullable LocalDateTime computedAt
+    ) {
+        static final Snapshot EMPTY = new Snapshot(null, Map.of(), null);
+
+        public Snapshot {
+            regions = (regions == null) ? Map.of() : Map.copyOf(regions);
+        }
+    }
+}
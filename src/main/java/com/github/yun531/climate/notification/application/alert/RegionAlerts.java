@@ -0,0 +1,41 @@
+package com.github.yun531.climate.notification.application.alert;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 지역 1곳의 사전 계산된 스냅샷 기반 알림.
+ * - rainOnset: withinHours 미지정(horizon 전체) 기준으로 보정된 결과. 요청의 withinHours 는 조회 시 validAt 으로 좁힌다
+ * - currentReportTime / previousReportTime: 계산에 사용한 PopView 발표시각
+ * - currentRevision / previousRevision: 계산에 사용한 PopView 내용 revision (이전 없음 = 0)
+ *   조회 시 발표시각과 함께 비교해 같은 발표시각의 정정본이면 사용하지 않는다
+ */
+public record RegionAlerts(
+        LocalDateTime currentReportTime,
+        @Nullable LocalDateTime previousReportTime,
+        long currentRevision,
+        long previousRevision,
+        List<AlertEvent> rainOnset,
+        List<AlertEvent> rainForecast
+) {
+    public RegionAlerts {
+        rainOnset = (rainOnset == null) ? List.of() : List.copyOf(rainOnset);
+        rainForecast = (rainForecast == null) ? List.of() : List.copyOf(rainForecast);
+    }
+
+    /** RainOnsetAdjuster 의 윈도우 축소와 같은 결과: validAt <= nowHour + withinHours */
+    public List<AlertEvent> rainOnsetWithin(LocalDateTime now, @Nullable Integer withinHours) {
+        if (withinHours == null || rainOnset.isEmpty()) return rainOnset;
+
+        LocalDateTime windowEnd = now.truncatedTo(ChronoUnit.HOURS).plusHours(Math.max(0, withinHours));
+        return rainOnset.stream()
+                .filter(e -> e.payload() instanceof RainOnsetPayload p
+                        && p.validAt() != null && !p.validAt().isAfter(windowEnd))
+                .toList();
+    }
+}
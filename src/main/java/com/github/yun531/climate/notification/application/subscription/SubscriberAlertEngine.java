@@ -0,0 +1,141 @@
+package com.github.yun531.climate.notification.application.subscription;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.application.trigger.ChangeOnlyFilter;
+import com.github.yun531.climate.notification.application.trigger.FanOutResult;
+import com.github.yun531.climate.notification.application.trigger.TriggerPushSender;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.subscription.AlertRule;
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구독자별 알림 평가.
+ * 구독을 (지역, 규칙의 감지 부분) 으로 묶어 그룹마다 GenerateAlertsService 를 1회만 호출하고,
+ * 결과를 그룹의 구독자들에게 나눠 준다. 조용한 시간대는 구독자 단위로 전송에서만 제외한다.
+ * 조용한 시간대는 KST 벽시계 기준으로 판정한다 (now 는 clock 시간대의 시각으로 보고 KST 로 변환).
+ * 구독은 전체 목록 대신 hot 지역(구독자가 있는 지역)마다 findByRegion 으로 읽는다.
+ * 흐름: SubscriptionRegistry(hotRegions -> findByRegion) -> 그룹화 -> GenerateAlertsService(그룹 1개씩) -> [ChangeOnlyFilter] -> TriggerPushSender 구독자 토픽 전송
+ */
+@Slf4j
+public class SubscriberAlertEngine {
+
+    private final SubscriptionRegistry registry;
+    private final GenerateAlertsService alertsService;
+    private final TriggerPushSender sender;
+    @Nullable private final ChangeOnlyFilter changeOnly;
+    private final Clock clock;
+
+    public SubscriberAlertEngine(
+            SubscriptionRegistry registry,
+            GenerateAlertsService alertsService,
+            TriggerPushSender sender
+    ) {
+        this(registry, alertsService, sender, null, Clock.system(TimeUtil.KST));
+    }
+
+    public SubscriberAlertEngine(
+            SubscriptionRegistry registry,
+            GenerateAlertsService alertsService,
+            TriggerPushSender sender,
+            @Nullable ChangeOnlyFilter changeOnly,
+            Clock clock
+    ) {
+        this.registry = registry;
+        this.alertsService = alertsService;
+        this.sender = sender;
+        this.changeOnly = changeOnly;
+        this.clock = clock;
+    }
+
+    public FanOutResult pushSubscriberAlerts(LocalDateTime now, boolean dryRun) {
+        Evaluation evaluation = evaluate(now);
+        log.info("[SUBSCRIPTION] evaluated. subscriptions={} groups={} muted={} targets={}",
+                evaluation.subscriptions(), evaluation.groups(), evaluation.muted(),
+                evaluation.alertsBySubscriber().size());
+        if (evaluation.alertsBySubscriber().isEmpty()) return FanOutResult.empty();
+        if (changeOnly == null) return sender.sendSubscriberAlerts(evaluation.alertsBySubscriber(), now, dryRun);
+
+        ChangeOnlyFilter.Result changed = changeOnly.filter(
+                "subscriber", evaluation.alertsBySubscriber(), e -> alertsService.unadjusted(e, now));
+        if (changed.toSend().isEmpty()) return FanOutResult.empty();
+
+        FanOutResult result = sender.sendSubscriberAlerts(changed.toSend(), now, dryRun);
+        if (!dryRun) changeOnly.commit(changed, result);
+        return result;
+    }
+
+    /** 그룹 단위 실패는 해당 그룹의 구독자만 건너뛴다 */
+    public Evaluation evaluate(LocalDateTime now) {
+        int subscriptions = 0;
+        Map<GroupKey, List<Subscription>> groups = new LinkedHashMap<>();
+        for (String regionId : registry.hotRegions().stream().sorted().toList()) {
+            List<Subscription> inRegion = registry.findByRegion(regionId);
+            subscriptions += inRegion.size();
+            group(inRegion, groups);
+        }
+
+        LocalTime localTime = TimeUtil.toKst(now, clock.getZone()).toLocalTime();
+        Map<String, List<AlertEvent>> out = new LinkedHashMap<>();
+        int muted = 0;
+
+        for (Map.Entry<GroupKey, List<Subscription>> group : groups.entrySet()) {
+            List<AlertEvent> events = generate(group.getKey(), now);
+            if (events.isEmpty()) continue;
+
+            for (Subscription s : group.getValue()) {
+                if (s.rule().quietHours() != null && s.rule().quietHours().contains(localTime)) {
+                    muted++;
+                    continue;
+                }
+                out.computeIfAbsent(s.subscriberId(), k -> new ArrayList<>()).addAll(events);
+            }
+        }
+        return new Evaluation(subscriptions, groups.size(), muted, out);
+    }
+
+    private static void group(List<Subscription> subscriptions, Map<GroupKey, List<Subscription>> groups) {
+        for (Subscription s : subscriptions) {
+            groups.computeIfAbsent(new GroupKey(s.regionId(), s.rule().detectionKey()), k -> new ArrayList<>(2)).add(s);
+        }
+    }
+
+    private List<AlertEvent> generate(GroupKey key, LocalDateTime now) {
+        AlertRule rule = key.rule();
+        try {
+            return alertsService.generate(new GenerateAlertsCommand(
+                    List.of(key.regionId()), null, rule.types(), rule.warningKinds(), rule.withinHours(), rule.tier()
+            ), now);
+        } catch (RuntimeException e) {
+            log.warn("[SUBSCRIPTION] alert generation failed. regionId={} rule={}", key.regionId(), rule, e);
+            return List.of();
+        }
+    }
+
+    /** 같은 지역 + 같은 감지 규칙 = 같은 감지 결과 */
+    private record GroupKey(String regionId, AlertRule rule) {}
+
+    /**
+     * 평가 결과.
+     * - subscriptions / groups: 구독 수와 실제 감지를 수행한 그룹 수
+     * - muted: 알림이 있었지만 조용한 시간대라 제외된 구독 수
+     */
+    public record Evaluation(
+            int subscriptions,
+            int groups,
+            int muted,
+            Map<String, List<AlertEvent>> alertsBySubscriber
+    ) {}
+}
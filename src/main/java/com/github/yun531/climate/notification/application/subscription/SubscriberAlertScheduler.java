@@ -0,0 +1,42 @@
+package com.github.yun531.climate.notification.application.subscription;
+
+import com.github.yun531.climate.notification.application.trigger.FanOutResult;
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/** 구독자 알림을 정해진 주기로 평가/전송. 다중 인스턴스에서는 tick 당 한 노드만 실행 */
+@Slf4j
+public class SubscriberAlertScheduler {
+
+    private static final Duration LOCK_HOLD = Duration.ofMinutes(30);
+    private static final boolean DRY_RUN = false;
+
+    private final SubscriberAlertEngine engine;
+    private final SchedulerLock schedulerLock;
+
+    public SubscriberAlertScheduler(SubscriberAlertEngine engine, SchedulerLock schedulerLock) {
+        this.engine = engine;
+        this.schedulerLock = schedulerLock;
+    }
+
+    @Scheduled(cron = "${notification.subscriptions.cron:0 5 * * * *}")
+    public void run() {
+        var now = TimeUtil.nowTruncatedToMinute();
+        if (!schedulerLock.tryAcquire("trigger.subscriber", LOCK_HOLD)) {
+            log.info("[SUBSCRIPTION] skipped. lock held by another instance");
+            return;
+        }
+
+        try {
+            FanOutResult result = engine.pushSubscriberAlerts(now, DRY_RUN);
+            log.info("[SUBSCRIPTION] subscriber alerts sent. dryRun={} subscribers={} sent={} failed={}",
+                    DRY_RUN, result.regions(), result.sent(), result.failed());
+        } catch (Exception e) {
+            log.error("[SUBSCRIPTION] subscriber alerts failed. dryRun={}", DRY_RUN, e);
+        }
+    }
+}
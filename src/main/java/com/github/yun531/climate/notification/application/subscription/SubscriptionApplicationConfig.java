@@ -0,0 +1,35 @@
+package com.github.yun531.climate.notification.application.subscription;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.application.trigger.ChangeOnlyFilter;
+import com.github.yun531.climate.notification.application.trigger.TriggerPushSender;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/** notification.subscriptions.enabled=true 일 때만 구독자별 알림 평가/전송 활성화 */
+@Configuration
+@ConditionalOnProperty(prefix = "notification.subscriptions", name = "enabled", havingValue = "true")
+public class SubscriptionApplicationConfig {
+
+    @Bean
+    public SubscriberAlertEngine subscriberAlertEngine(
+            SubscriptionRegistry registry,
+            GenerateAlertsService alertsService,
+            TriggerPushSender sender,
+            ObjectProvider<ChangeOnlyFilter> changeOnly,
+            Clock clock
+    ) {
+        return new SubscriberAlertEngine(registry, alertsService, sender, changeOnly.getIfAvailable(), clock);
+    }
+
+    @Bean
+    public SubscriberAlertScheduler subscriberAlertScheduler(SubscriberAlertEngine engine, SchedulerLock schedulerLock) {
+        return new SubscriberAlertScheduler(engine, schedulerLock);
+    }
+}
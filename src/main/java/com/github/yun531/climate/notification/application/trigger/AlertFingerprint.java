@@ -0,0 +1,58 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.DailyRainFlags;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.RainInterval;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.payload.WarningIssuedPayload;
+import com.github.yun531.climate.shared.codec.ContentHash;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 알림 감지 내용의 64비트 지문.
+ * 이벤트마다 payload 필드를 ContentHash 로 명시 인코딩하고, 이벤트 지문을 정렬해 다시 누적한다 (순서 무관).
+ * occurredAt(발표/시프트 시각) 과 regionId 는 제외하므로, 발표가 바뀌어도 감지 내용이 같으면 같은 지문이다.
+ * 윈도우 보정이 payload 를 바꾸는 종류(RAIN_FORECAST)는 호출 측이 보정 전 원본을 넘긴다 (ChangeOnlyFilter 참고).
+ */
+public final class AlertFingerprint {
+
+    private AlertFingerprint() {}
+
+    public static long of(List<AlertEvent> events) {
+        if (events == null || events.isEmpty()) return ContentHash.start().value();
+
+        long[] parts = new long[events.size()];
+        for (int i = 0; i < parts.length; i++) parts[i] = of(events.get(i));
+        Arrays.sort(parts);
+
+        ContentHash hash = ContentHash.start().add(parts.length);
+        for (long part : parts) hash.add(part);
+        return hash.value();
+    }
+
+    static long of(AlertEvent event) {
+        if (event == null) return ContentHash.start().add((String) null).value();
+
+        ContentHash hash = ContentHash.start().add(event.type());
+        if (event.payload() instanceof RainOnsetPayload p) {
+            hash.add(p.validAt()).add(p.pop()).add(p.tier());
+        } else if (event.payload() instanceof RainForecastPayload p) {
+            hash.add(p.tier()).add(p.hourlyParts().size());
+            for (RainInterval r : p.hourlyParts()) {
+                hash.add(r == null ? null : r.start()).add(r == null ? null : r.end());
+            }
+            hash.add(p.dayParts().size());
+            for (DailyRainFlags d : p.dayParts()) {
+                hash.add(d == null ? -1 : (d.rainAm() ? 1 : 0) | (d.rainPm() ? 2 : 0));
+            }
+        } else if (event.payload() instanceof WarningIssuedPayload p) {
+            hash.add(p.kind()).add(p.level());
+        } else {
+            hash.add((String) null);
+        }
+        return hash.value();
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 변경분만 전송: (대상, 알림 종류) 별 지문이 마지막 전송과 같으면 해당 이벤트들을 뺀다.
+ * - 지문은 윈도우 보정 전 감지 내용으로 계산한다 (unadjusted 로 원본을 받는다). 보정된 payload 는 시각이
+ *   지나기만 해도 바뀌므로 그대로 쓰면 같은 감지를 매 tick 다시 보내게 된다
+ * - filter 결과를 전송하고, commit(result, 전송 결과) 으로 전송에 성공한 대상의 지문만 기록한다
+ *   (실패한 대상은 다음 tick 에 재전송)
+ * - notification.push.dedup{kind, result=changed|suppressed} 로 (대상, 종류) 건수를 집계한다
+ */
+public class ChangeOnlyFilter implements MeterBinder {
+
+    private final FingerprintStore store;
+
+    // 바인딩 전에는 null (집계 안 함)
+    private volatile MeterRegistry registry;
+
+    public ChangeOnlyFilter(FingerprintStore store) {
+        this.store = store;
+    }
+
+    /** 이벤트 자체를 지문 대상으로 사용 (보정이 payload 를 바꾸지 않는 경우) */
+    public Result filter(String kind, Map<String, List<AlertEvent>> alertsByTarget) {
+        return filter(kind, alertsByTarget, UnaryOperator.identity());
+    }
+
+    /**
+     * kind: region | subscriber (지문 키 접두사 + 메트릭 태그)
+     * unadjusted: 보정된 이벤트 -> 보정 전 감지 이벤트 (null 이면 보정된 이벤트 사용)
+     */
+    public Result filter(
+            String kind, Map<String, List<AlertEvent>> alertsByTarget, UnaryOperator<AlertEvent> unadjusted
+    ) {
+        Map<String, List<AlertEvent>> toSend = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> fingerprints = new HashMap<>();
+        int changed = 0;
+        int suppressed = 0;
+
+        for (Map.Entry<String, List<AlertEvent>> target : alertsByTarget.entrySet()) {
+            List<AlertEvent> kept = new ArrayList<>();
+            for (Map.Entry<AlertTypeEnum, List<AlertEvent>> byType : groupByType(target.getValue()).entrySet()) {
+                String key = kind + ":" + target.getKey() + ":" + byType.getKey().name();
+                long fingerprint = AlertFingerprint.of(unadjusted(byType.getValue(), unadjusted));
+
+                Long last = store.get(key);
+                if (last != null && last == fingerprint) {
+                    suppressed++;
+                    continue;
+                }
+                kept.addAll(byType.getValue());
+                fingerprints.computeIfAbsent(target.getKey(), k -> new HashMap<>()).put(key, fingerprint);
+                changed++;
+            }
+            if (!kept.isEmpty()) toSend.put(target.getKey(), kept);
+        }
+
+        count(kind, "changed", changed);
+        count(kind, "suppressed", suppressed);
+        return new Result(toSend, fingerprints, suppressed);
+    }
+
+    /** 전부 성공한 것으로 보고 기록 */
+    public void commit(Result result) {
+        result.fingerprints().values().forEach(byKey -> byKey.forEach(store::put));
+    }
+
+    /**
+     * 전송 결과에서 실패한 대상을 빼고 기록한다.
+     * 실패가 있는데 실패 대상을 모르면(failedTargets 비어 있음) 아무것도 기록하지 않는다
+     */
+    public void commit(Result result, FanOutResult sent) {
+        if (sent == null || (sent.failed() > 0 && sent.failedTargets().isEmpty())) return;
+
+        result.fingerprints().forEach((target, byKey) -> {
+            if (!sent.failedTargets().contains(target)) byKey.forEach(store::put);
+        });
+    }
+
+    private static List<AlertEvent> unadjusted(List<AlertEvent> events, UnaryOperator<AlertEvent> unadjusted) {
+        List<AlertEvent> out = new ArrayList<>(events.size());
+        for (AlertEvent e : events) {
+            AlertEvent raw = unadjusted.apply(e);
+            out.add(raw == null ? e : raw);
+        }
+        return out;
+    }
+
+    private static Map<AlertTypeEnum, List<AlertEvent>> groupByType(List<AlertEvent> events) {
+        Map<AlertTypeEnum, List<AlertEvent>> out = new EnumMap<>(AlertTypeEnum.class);
+        for (AlertEvent e : events) {
+            if (e == null || e.type() == null) continue;
+            out.computeIfAbsent(e.type(), k -> new ArrayList<>(2)).add(e);
+        }
+        return out;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private void count(String kind, String result, int amount) {
+        MeterRegistry r = registry;
+        if (r == null || amount == 0) return;
+        Counter.builder("notification.push.dedup")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(r)
+                .increment(amount);
+    }
+
+    /**
+     * - toSend: 지문이 바뀐 이벤트만 남긴 대상별 알림
+     * - fingerprints: 대상 -> 전송 성공 시 기록할 (키 -> 지문)
+     * - suppressed: 마지막 전송과 같아 뺀 (대상, 종류) 수
+     */
+    public record Result(
+            Map<String, List<AlertEvent>> toSend,
+            Map<String, Map<String, Long>> fingerprints,
+            int suppressed
+    ) {
+        /** 지문이 바뀌어 전송할 (대상, 종류) 수 */
+        public int changed() {
+            return fingerprints.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+}
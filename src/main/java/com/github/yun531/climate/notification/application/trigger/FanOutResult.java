@@ -0,0 +1,29 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import java.util.Set;
+
+/**
+ * 지역/구독자 토픽 fan-out 결과.
+ * - regions: 알림이 있어 메시지를 만든 지역 수 (구독자 전송이면 구독자 수)
+ * - sent / failed: 전송 성공/실패 메시지 수
+ * - failedTargets: 메시지가 하나라도 실패한 대상(지역/구독자) 키. 변경분 전송은 이 대상만 지문을 기록하지 않는다
+ *   (failed > 0 인데 비어 있으면 실패 대상을 모른다는 뜻)
+ */
+public record FanOutResult(
+        int regions,
+        int sent,
+        int failed,
+        Set<String> failedTargets
+) {
+    public FanOutResult {
+        failedTargets = (failedTargets == null) ? Set.of() : Set.copyOf(failedTargets);
+    }
+
+    public FanOutResult(int regions, int sent, int failed) {
+        this(regions, sent, failed, Set.of());
+    }
+
+    public static FanOutResult empty() {
+        return new FanOutResult(0, 0, 0);
+    }
+}
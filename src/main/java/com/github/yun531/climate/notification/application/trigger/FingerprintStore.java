@@ -0,0 +1,15 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 마지막으로 전송한 알림 지문 저장소. key = 대상(지역/구독자) + 알림 종류.
+ */
+public interface FingerprintStore {
+
+    /** 없거나 만료되었으면 null */
+    @Nullable
+    Long get(String key);
+
+    void put(String key, long fingerprint);
+}
@@ -0,0 +1,92 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서버 푸시 모드: 지역별 알림을 서버에서 계산해 지역 토픽으로 전송한다.
+ * 클라이언트는 트리거 수신 후 /notification/alerts/* 를 호출할 필요가 없다.
+ * 흐름: RegionCatalog 지역 순회 -> GenerateAlertsService(지역 1개씩) -> [ChangeOnlyFilter] -> TriggerPushSender 일괄 전송
+ * ChangeOnlyFilter 가 있으면 마지막 전송과 감지 내용(보정 전)이 같은 (지역, 종류) 는 보내지 않고,
+ * 전송에 성공한 지역만 지문을 기록한다.
+ */
+@Slf4j
+public class RegionAlertPushService {
+
+    private final GenerateAlertsService alertsService;
+    private final RegionCatalog regionCatalog;
+    private final TriggerPushSender sender;
+    private final Set<AlertTypeEnum> alertTypes;
+    @Nullable private final ChangeOnlyFilter changeOnly;
+
+    public RegionAlertPushService(
+            GenerateAlertsService alertsService,
+            RegionCatalog regionCatalog,
+            TriggerPushSender sender,
+            Set<AlertTypeEnum> alertTypes
+    ) {
+        this(alertsService, regionCatalog, sender, alertTypes, null);
+    }
+
+    public RegionAlertPushService(
+            GenerateAlertsService alertsService,
+            RegionCatalog regionCatalog,
+            TriggerPushSender sender,
+            Set<AlertTypeEnum> alertTypes,
+            @Nullable ChangeOnlyFilter changeOnly
+    ) {
+        this.alertsService = alertsService;
+        this.regionCatalog = regionCatalog;
+        this.sender = sender;
+        this.changeOnly = changeOnly;
+        this.alertTypes = (alertTypes == null || alertTypes.isEmpty())
+                ? EnumSet.of(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.RAIN_FORECAST)
+                : EnumSet.copyOf(alertTypes);
+    }
+
+    public FanOutResult pushRegionAlerts(LocalDateTime now, boolean dryRun) {
+        Map<String, List<AlertEvent>> alertsByRegion = collectAlerts(now);
+        if (alertsByRegion.isEmpty()) return FanOutResult.empty();
+        if (changeOnly == null) return sender.sendRegionAlerts(alertsByRegion, now, dryRun);
+
+        ChangeOnlyFilter.Result changed = changeOnly.filter(
+                "region", alertsByRegion, e -> alertsService.unadjusted(e, now));
+        if (changed.suppressed() > 0) {
+            log.info("[FANOUT] unchanged alerts suppressed. suppressed={} changed={}",
+                    changed.suppressed(), changed.changed());
+        }
+        if (changed.toSend().isEmpty()) return FanOutResult.empty();
+
+        FanOutResult result = sender.sendRegionAlerts(changed.toSend(), now, dryRun);
+        if (!dryRun) changeOnly.commit(changed, result);
+        return result;
+    }
+
+    /** 지역 단위 실패는 해당 지역만 건너뛴다 */
+    private Map<String, List<AlertEvent>> collectAlerts(LocalDateTime now) {
+        Map<String, List<AlertEvent>> out = new LinkedHashMap<>();
+
+        for (String regionId : regionCatalog.regionIds()) {
+            try {
+                List<AlertEvent> events = alertsService.generate(
+                        new GenerateAlertsCommand(List.of(regionId), null, alertTypes, null, null), now);
+                if (!events.isEmpty()) out.put(regionId, events);
+            } catch (RuntimeException e) {
+                log.warn("[FANOUT] alert generation failed. regionId={}", regionId, e);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class TriggerApplicationConfig {
+
+    /** notification.fanout.enabled=true 일 때만 서버 푸시 모드 활성화 */
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.fanout", name = "enabled", havingValue = "true")
+    public RegionAlertPushService regionAlertPushService(
+            GenerateAlertsService alertsService,
+            RegionCatalog regionCatalog,
+            TriggerPushSender sender,
+            @Value("${notification.fanout.alert-types:RAIN_ONSET,RAIN_FORECAST}") Set<AlertTypeEnum> alertTypes,
+            ObjectProvider<ChangeOnlyFilter> changeOnly
+    ) {
+        return new RegionAlertPushService(alertsService, regionCatalog, sender, alertTypes, changeOnly.getIfAvailable());
+    }
+
+    /** notification.push.change-only.enabled=true 면 내용이 바뀐 (대상, 종류) 만 전송 */
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.push.change-only", name = "enabled", havingValue = "true")
+    public ChangeOnlyFilter changeOnlyFilter(FingerprintStore fingerprintStore) {
+        return new ChangeOnlyFilter(fingerprintStore);
+    }
+}
@@ -1,6 +1,10 @@
 package com.github.yun531.climate.notification.application.trigger;
 
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 트리거 푸시 전송 계약.
@@ -11,4 +15,10 @@ public interface TriggerPushSender {
     String sendHourly(LocalDateTime firedAt, int hour, boolean dryRun);
 
     String sendDaily(LocalDateTime firedAt, int hour, boolean dryRun);
+
+    /** 지역별 알림을 지역 토픽으로 일괄 전송 (서버 푸시 모드) */
+    FanOutResult sendRegionAlerts(Map<String, List<AlertEvent>> alertsByRegion, LocalDateTime firedAt, boolean dryRun);
+
+    /** 구독자별 알림을 구독자 토픽으로 일괄 전송 (구독 규칙 기반 개인화 알림) */
+    FanOutResult sendSubscriberAlerts(Map<String, List<AlertEvent>> alertsBySubscriber, LocalDateTime firedAt, boolean dryRun);
 }
@@ -1,33 +1,59 @@
 package com.github.yun531.climate.notification.application.trigger;
 
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
 import com.github.yun531.climate.shared.time.TimeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class TriggerScheduler {
+public class TriggerScheduler implements MeterBinder {
 
     private final TriggerPushSender sender;
+    private final ObjectProvider<RegionAlertPushService> regionPush;    // 서버 푸시 모드에서만 존재
+    private final SchedulerLock schedulerLock;
+
+    // 다중 인스턴스에서 tick 당 한 노드만 발송. 가장 짧은 주기(1시간)보다 짧게 유지
+    private static final Duration LOCK_HOLD = Duration.ofMinutes(30);
+
+    // trigger.runs{kind, outcome} — 바인딩 전에는 null (집계 안 함)
+    private volatile MeterRegistry registry;
 
     // 개발/검증 중에는 true로 두면 실제 발송 없이 검증만 수행
     private static final boolean DRY_RUN = false;
 
     // 08~23시(3시간 간격)의 5분에만 hourly 전송
+    // 서버 푸시 모드면 범용 트리거 대신 지역 토픽으로 알림 자체를 전송
     @Scheduled(cron = "0 5 8-23/3 * * *")
     public void triggerHourly() {
         var now = TimeUtil.nowTruncatedToMinute();
         int hour = now.getHour();
+        if (!acquire("hourly")) return;
+
+        RegionAlertPushService regionPushService = regionPush.getIfAvailable();
+        if (regionPushService != null) {
+            triggerRegionAlerts(regionPushService, now, hour);
+            return;
+        }
 
         try {
             String messageId = sender.sendHourly(now, hour, DRY_RUN);
             log.info("[TRIGGER] hourly sent. hour={} dryRun={} messageId={}",
                     hour, DRY_RUN, messageId);
+            countRun("hourly", "success");
         } catch (Exception e) {
             log.error("[TRIGGER] hourly failed. hour={} dryRun={}", hour, DRY_RUN, e);
+            countRun("hourly", "failure");
         }
     }
 
@@ -36,13 +62,52 @@ public class TriggerScheduler {
     public void triggerDaily() {
         var now = TimeUtil.nowTruncatedToMinute();
         int hour = now.getHour();
+        if (!acquire("daily")) return;
 
         try {
             String messageId = sender.sendDaily(now, hour, DRY_RUN);
             log.info("[TRIGGER] daily sent. hour={} dryRun={} messageId={}",
                     hour, DRY_RUN, messageId);
+            countRun("daily", "success");
         } catch (Exception e) {
             log.error("[TRIGGER] daily failed. hour={} dryRun={}", hour, DRY_RUN, e);
+            countRun("daily", "failure");
         }
     }
+
+    private void triggerRegionAlerts(RegionAlertPushService service, LocalDateTime now, int hour) {
+        try {
+            FanOutResult result = service.pushRegionAlerts(now, DRY_RUN);
+            log.info("[TRIGGER] region alerts sent. hour={} dryRun={} regions={} sent={} failed={}",
+                    hour, DRY_RUN, result.regions(), result.sent(), result.failed());
+            countRun("region", result.failed() == 0 ? "success" : "partial");
+        } catch (Exception e) {
+            log.error("[TRIGGER] region alerts failed. hour={} dryRun={}", hour, DRY_RUN, e);
+            countRun("region", "failure");
+        }
+    }
+
+    /** 다른 인스턴스가 이미 이번 tick 을 가져갔으면 skipped 로 집계하고 false */
+    private boolean acquire(String kind) {
+        if (schedulerLock.tryAcquire("trigger." + kind, LOCK_HOLD)) return true;
+
+        log.info("[TRIGGER] {} skipped. lock held by another instance", kind);
+        countRun(kind, "skipped");
+        return false;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private void countRun(String kind, String outcome) {
+        MeterRegistry r = registry;
+        if (r == null) return;
+        Counter.builder("trigger.runs")
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .register(r)
+                .increment();
+    }
 }
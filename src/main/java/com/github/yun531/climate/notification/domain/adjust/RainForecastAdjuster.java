@@ -57,7 +57,7 @@ public class RainForecastAdjuster {
 
         List<DailyRainFlags> newDays = shiftDayParts(payload.dayParts(), shift.dayShift());
 
-        RainForecastPayload newPayload = new RainForecastPayload(payload.type(), clamped, newDays);
+        RainForecastPayload newPayload = new RainForecastPayload(payload.type(), clamped, newDays, payload.tier());
         return withShiftedTime(event, shift.shiftedBaseTime(), newPayload);
     }
 
@@ -0,0 +1,138 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.DailyRainFlags;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 지역의 RAIN_ONSET / RAIN_FORECAST 를 PopMatrix 한 번으로 감지.
+ * - 지역별로 시간 축을 long 비트맵(bit h = h 시간째)으로 만든다. 비교는 부호 비트 연산이라 분기가 없다
+ *   rain  = cur >= threshold
+ *   onset = rain & (prev < threshold)   (prev 없음(-1)도 "비 아님"으로 취급 -> RainOnsetDetector 와 동일)
+ * - 비 구간(RainInterval)은 rain 비트맵의 연속 1 구간 (RainMask.intervals)
+ * 결과는 RainOnsetDetector / RainForecastDetector 와 같으며, usable 이 아닌 지역은 결과에서 빠진다.
+ */
+public class BatchRainDetector {
+
+    private final int rainThreshold;
+    private final int hours;
+
+    public BatchRainDetector(int rainThreshold, int maxHourlyPoints) {
+        this.rainThreshold = rainThreshold;
+        this.hours = Math.min(Long.SIZE, Math.max(1, maxHourlyPoints));
+    }
+
+    /** PopMatrix.of 에 넘길 시간 축 길이 */
+    public int hours() {
+        return hours;
+    }
+
+    /** usable 지역 -> 감지 결과 */
+    public Map<String, Detected> detect(PopMatrix matrix, LocalDateTime now) {
+        long[] rain = rainBits(matrix);
+        long[] onset = onsetBits(matrix, rain);
+
+        Map<String, Detected> out = new HashMap<>(matrix.rows() * 2);
+        for (int r = 0; r < matrix.rows(); r++) {
+            if (!matrix.usable(r)) continue;
+            LocalDateTime[] times = matrix.times(r);
+
+            PopView current = matrix.pair(r).current();
+            LocalDateTime occurredAt = TimeUtil.truncateToMinutes(
+                    current.reportTime() != null ? current.reportTime() : now);
+            String regionId = matrix.regionId(r);
+
+            out.put(regionId, new Detected(
+                    onsetEvents(matrix, r, onset[r], times, regionId, occurredAt),
+                    forecastEvent(rain[r], times, regionId, occurredAt, current)));
+        }
+        return out;
+    }
+
+    /** 지역별 cur >= threshold 비트맵 */
+    public long[] rainBits(PopMatrix matrix) {
+        int[] cur = matrix.current();
+        int n = matrix.hours();
+        int below = rainThreshold - 1;
+        long[] bits = new long[matrix.rows()];
+
+        for (int r = 0, base = 0; r < bits.length; r++, base += n) {
+            long b = 0L;
+            for (int h = 0; h < n; h++) {
+                // cur >= threshold  <=>  (threshold - 1 - cur) < 0
+                b |= ((long) ((below - cur[base + h]) >>> 31)) << h;
+            }
+            bits[r] = b;
+        }
+        return bits;
+    }
+
+    /** 지역별 onset 비트맵. previous 가 없는 지역은 0 (RainOnsetDetector 도 빈 결과) */
+    public long[] onsetBits(PopMatrix matrix, long[] rainBits) {
+        int[] prev = matrix.previous();
+        int n = matrix.hours();
+        long[] bits = new long[matrix.rows()];
+
+        for (int r = 0, base = 0; r < bits.length; r++, base += n) {
+            if (!matrix.hasPrevious(r)) continue;
+
+            long notRainBefore = 0L;
+            for (int h = 0; h < n; h++) {
+                // prev < threshold  <=>  (prev - threshold) < 0. 없음(-1)도 포함
+                notRainBefore |= ((long) ((prev[base + h] - rainThreshold) >>> 31)) << h;
+            }
+            bits[r] = rainBits[r] & notRainBefore;
+        }
+        return bits;
+    }
+
+    private List<AlertEvent> onsetEvents(PopMatrix matrix, int row, long bits, LocalDateTime[] times,
+                                         String regionId, LocalDateTime occurredAt) {
+        if (bits == 0L) return List.of();
+
+        int[] cur = matrix.current();
+        int base = row * matrix.hours();
+
+        List<AlertEvent> events = new ArrayList<>(Long.bitCount(bits));
+        for (long b = bits; b != 0L; b &= b - 1) {
+            int h = Long.numberOfTrailingZeros(b);
+            events.add(new AlertEvent(AlertTypeEnum.RAIN_ONSET, regionId, occurredAt,
+                    new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, times[h], cur[base + h])));
+        }
+        return List.copyOf(events);
+    }
+
+    private AlertEvent forecastEvent(long bits, LocalDateTime[] times,
+                                     String regionId, LocalDateTime occurredAt, PopView current) {
+        RainForecastPayload payload = new RainForecastPayload(
+                AlertTypeEnum.RAIN_FORECAST, RainMask.intervals(bits, times), dayFlags(current));
+        return new AlertEvent(AlertTypeEnum.RAIN_FORECAST, regionId, occurredAt, payload);
+    }
+
+    private List<DailyRainFlags> dayFlags(PopView view) {
+        List<PopView.Daily.Pop> dailyPops = view.daily().pops();
+        if (dailyPops == null || dailyPops.isEmpty()) return List.of();
+
+        List<DailyRainFlags> flags = new ArrayList<>(dailyPops.size());
+        for (PopView.Daily.Pop d : dailyPops) {
+            flags.add(new DailyRainFlags(
+                    d.am() != null && d.am() >= rainThreshold,
+                    d.pm() != null && d.pm() >= rainThreshold));
+        }
+        return List.copyOf(flags);
+    }
+
+    /** 지역 1곳의 감지 결과 (보정 전) */
+    public record Detected(List<AlertEvent> rainOnset, @Nullable AlertEvent rainForecast) {}
+}
@@ -0,0 +1,170 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 지역 x 시간 POP 행렬 (배치 감지용).
+ * - current / previous: row * hours + col 위치에 POP, 값이 없으면 -1
+ * - col 은 baseTime(현재 예보의 첫 유효 validAt) + col 시간. previous 는 같은 validAt 칸에 정렬된다
+ * - 현재 예보의 유효 포인트가 1시간 간격으로 이어지지 않는 지역은 usable=false (지역별 감지로 대체)
+ * 대부분 지역은 같은 발표의 같은 시간 축을 가지므로, 칸 -> validAt 배열은 baseTime 이 같은 행끼리 공유한다.
+ */
+public final class PopMatrix {
+
+    public static final int MISSING = -1;
+    private static final long SECONDS_PER_HOUR = 3600L;
+
+    private final String[] regionIds;
+    private final PopView.Pair[] pairs;
+    private final LocalDateTime[][] axes;       // row -> 칸별 validAt (usable 이 아니면 null)
+    private final int[] current;
+    private final int[] previous;
+    private final int hours;
+
+    private PopMatrix(String[] regionIds, PopView.Pair[] pairs, LocalDateTime[][] axes,
+                      int[] current, int[] previous, int hours) {
+        this.regionIds = regionIds;
+        this.pairs = pairs;
+        this.axes = axes;
+        this.current = current;
+        this.previous = previous;
+        this.hours = hours;
+    }
+
+    /**
+     * @param pairs regionIds 와 같은 순서. current 가 없는 지역은 usable=false, previous 가 없으면 previous 행은 모두 -1
+     */
+    public static PopMatrix of(List<String> regionIds, List<PopView.Pair> pairs, int hours) {
+        if (regionIds.size() != pairs.size()) {
+            throw new IllegalArgumentException("regionIds and pairs must have the same size");
+        }
+        if (hours < 1 || hours > Long.SIZE) throw new IllegalArgumentException("hours must be 1.." + Long.SIZE);
+
+        int rows = regionIds.size();
+        int[] current = new int[rows * hours];
+        int[] previous = new int[rows * hours];
+        Arrays.fill(current, MISSING);
+        Arrays.fill(previous, MISSING);
+        LocalDateTime[][] axes = new LocalDateTime[rows][];
+        LocalDateTime[] lastAxis = null;
+
+        for (int r = 0; r < rows; r++) {
+            PopView.Pair pair = pairs.get(r);
+            if (pair == null || pair.current() == null) continue;
+
+            LocalDateTime base = firstValidAt(pair.current());
+            if (base == null) continue;
+            LocalDateTime[] axis = (lastAxis != null && lastAxis[0].equals(base)) ? lastAxis : axis(base, hours);
+            lastAxis = axis;
+
+            if (!fillCurrent(pair.current(), axis, current, r * hours)) continue;
+            axes[r] = axis;
+            if (pair.previous() != null) fillPrevious(pair.previous(), axis, previous, r * hours);
+        }
+
+        return new PopMatrix(regionIds.toArray(String[]::new), pairs.toArray(PopView.Pair[]::new),
+                axes, current, previous, hours);
+    }
+
+    @Nullable
+    private static LocalDateTime firstValidAt(PopView view) {
+        for (PopView.Hourly.Pop pop : view.hourly().pops()) {
+            if (pop != null && pop.validAt() != null) return pop.validAt();
+        }
+        return null;
+    }
+
+    private static LocalDateTime[] axis(LocalDateTime base, int hours) {
+        LocalDateTime[] axis = new LocalDateTime[hours];
+        for (int h = 0; h < hours; h++) axis[h] = base.plusHours(h);
+        return axis;
+    }
+
+    /** 유효 포인트(validAt 있음) 앞에서 hours 개를 채운다. 1시간 간격이 아니면 false */
+    private static boolean fillCurrent(PopView view, LocalDateTime[] axis, int[] out, int offset) {
+        int col = 0;
+        for (PopView.Hourly.Pop pop : view.hourly().pops()) {
+            if (col >= axis.length) break;
+            if (pop == null || pop.validAt() == null) continue;
+            if (!pop.validAt().equals(axis[col])) return false;
+
+            if (pop.pop() != null) out[offset + col] = pop.pop();
+            col++;
+        }
+        return true;
+    }
+
+    /** validAt 이 axis 에 있는 포인트만 해당 칸에 채운다. 직전 칸 + 1 을 먼저 확인하고, 아니면 시각 차이로 계산 */
+    private static void fillPrevious(PopView view, LocalDateTime[] axis, int[] out, int offset) {
+        long baseSec = Long.MIN_VALUE;
+        long col = Long.MIN_VALUE;
+        for (PopView.Hourly.Pop pop : view.hourly().pops()) {
+            if (pop == null || pop.validAt() == null) continue;
+
+            long next = col + 1;
+            if (next >= 0 && next < axis.length && pop.validAt().equals(axis[(int) next])) {
+                col = next;
+            } else {
+                if (baseSec == Long.MIN_VALUE) baseSec = epochSecond(axis[0]);
+                long diff = epochSecond(pop.validAt()) - baseSec;
+                col = (diff % SECONDS_PER_HOUR == 0) ? diff / SECONDS_PER_HOUR : Long.MIN_VALUE;
+            }
+
+            if (col >= 0 && col < axis.length && pop.pop() != null) out[offset + (int) col] = pop.pop();
+        }
+    }
+
+    /** 시간대 변환 없이 칸 계산용 (LocalDateTime 끼리의 차이만 사용) */
+    private static long epochSecond(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public int rows() {
+        return regionIds.length;
+    }
+
+    public int hours() {
+        return hours;
+    }
+
+    public String regionId(int row) {
+        return regionIds[row];
+    }
+
+    public PopView.Pair pair(int row) {
+        return pairs[row];
+    }
+
+    public boolean usable(int row) {
+        return axes[row] != null;
+    }
+
+    public boolean hasPrevious(int row) {
+        return pairs[row] != null && pairs[row].previous() != null;
+    }
+
+    @Nullable
+    public LocalDateTime baseTime(int row) {
+        return (axes[row] == null) ? null : axes[row][0];
+    }
+
+    /** 칸 -> validAt (행 사이 공유, 수정 금지) */
+    LocalDateTime[] times(int row) {
+        return axes[row];
+    }
+
+    /** row-major 원본 배열 (복사하지 않음, 읽기 전용으로만 사용) */
+    int[] current() {
+        return current;
+    }
+
+    int[] previous() {
+        return previous;
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.RainInterval;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 1시간 간격 시계열의 "비 여부"를 long 하나에 담은 값.
+ * - bit h = baseTime + h 시각의 POP >= threshold (값 없음은 0)
+ * - length: 유효 칸 수 (최대 64)
+ * onset 은 cur & ~prev, 비 구간은 연속 1 비트 구간으로 계산한다.
+ */
+public record RainMask(LocalDateTime baseTime, int length, long bits) {
+
+    public static final int MAX_LENGTH = Long.SIZE;
+
+    public RainMask {
+        if (baseTime == null) throw new IllegalArgumentException("baseTime must not be null");
+        if (length < 0 || length > MAX_LENGTH) throw new IllegalArgumentException("length must be 0.." + MAX_LENGTH);
+        bits &= lowBits(length);
+    }
+
+    /**
+     * validAt 이 있는 포인트 앞에서 maxPoints 개로 마스크 생성.
+     * 유효 포인트가 없거나, 1시간 간격으로 이어지지 않거나, 64칸을 넘으면 null (호출자가 순회 방식으로 처리)
+     */
+    @Nullable
+    public static RainMask of(List<PopView.Hourly.Pop> pops, int threshold, int maxPoints) {
+        if (pops == null || maxPoints <= 0) return null;
+
+        LocalDateTime base = null;
+        LocalDateTime last = null;
+        long bits = 0L;
+        int col = 0;
+        for (PopView.Hourly.Pop pop : pops) {
+            if (col >= maxPoints) break;
+            if (pop == null || pop.validAt() == null) continue;
+            if (col >= MAX_LENGTH) return null;
+
+            if (base == null) base = pop.validAt();
+            else if (!isNextHour(last, pop.validAt())) return null;
+            last = pop.validAt();
+
+            if (pop.pop() != null && pop.pop() >= threshold) bits |= 1L << col;
+            col++;
+        }
+        return (base == null) ? null : new RainMask(base, col, bits);
+    }
+
+    /** other 를 이 마스크의 시간 축으로 옮긴 비트. 겹치지 않는 칸과 정시 차이가 아닌 경우는 0 */
+    public long alignedBits(@Nullable RainMask other) {
+        if (other == null) return 0L;
+
+        long diff = epochSecond(baseTime) - epochSecond(other.baseTime);
+        if (diff % 3600L != 0) return 0L;
+
+        long shift = diff / 3600L;     // 양수: other 가 더 이른 시각부터 시작
+        if (shift >= MAX_LENGTH || shift <= -MAX_LENGTH) return 0L;
+
+        long moved = (shift >= 0) ? other.bits >>> shift : other.bits << -shift;
+        return moved & lowBits(length);
+    }
+
+    /** 이번에 비인데 previous 의 같은 시각은 비가 아닌 칸 (previous 값이 없는 칸 포함) */
+    public RainMask onsetOver(@Nullable RainMask previous) {
+        return new RainMask(baseTime, length, bits & ~alignedBits(previous));
+    }
+
+    /** 연속된 1 비트 구간 -> [start, end] 절대시각 구간 */
+    public List<RainInterval> intervals() {
+        if (bits == 0L) return List.of();
+
+        List<RainInterval> intervals = new ArrayList<>(4);
+        forEachRun(bits, (from, to) -> intervals.add(new RainInterval(baseTime.plusHours(from), baseTime.plusHours(to))));
+        return List.copyOf(intervals);
+    }
+
+    /** 연속된 1 비트 구간 -> [start, end] 절대시각 구간. times[h] = h 번째 칸의 validAt */
+    public static List<RainInterval> intervals(long bits, LocalDateTime[] times) {
+        if (bits == 0L) return List.of();
+
+        List<RainInterval> intervals = new ArrayList<>(4);
+        forEachRun(bits, (from, to) -> intervals.add(new RainInterval(times[from], times[to])));
+        return List.copyOf(intervals);
+    }
+
+    /** 연속 1 비트 구간마다 [from, to] 칸 번호로 호출 */
+    private static void forEachRun(long bits, RunConsumer consumer) {
+        int offset = 0;
+        long rest = bits;
+        while (rest != 0L) {
+            int skip = Long.numberOfTrailingZeros(rest);
+            rest >>>= skip;
+            offset += skip;
+
+            int run = Long.numberOfTrailingZeros(~rest);       // 연속 1 개수 (rest 가 전부 1 이면 64)
+            consumer.accept(offset, offset + run - 1);
+
+            rest = (run == Long.SIZE) ? 0L : rest >>> run;
+            offset += run;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int from, int to);
+    }
+
+    /** next == prev + 1시간 (필드 비교만 사용, 날짜가 바뀌는 경우에만 plusDays) */
+    private static boolean isNextHour(LocalDateTime prev, LocalDateTime next) {
+        if (next.getMinute() != prev.getMinute() || next.getSecond() != prev.getSecond()
+                || next.getNano() != prev.getNano()) return false;
+
+        if (prev.getHour() < 23) {
+            return next.getHour() == prev.getHour() + 1 && next.toLocalDate().equals(prev.toLocalDate());
+        }
+        return next.getHour() == 0 && next.toLocalDate().equals(prev.toLocalDate().plusDays(1));
+    }
+
+    private static long lowBits(int length) {
+        return (length >= MAX_LENGTH) ? -1L : (1L << length) - 1;
+    }
+
+    /** 시간대 변환 없이 칸 계산용 (LocalDateTime 끼리의 차이만 사용) */
+    private static long epochSecond(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC);
+    }
+}
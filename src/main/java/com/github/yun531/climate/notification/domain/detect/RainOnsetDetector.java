@@ -5,6 +5,7 @@ import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
 import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
 import com.github.yun531.climate.notification.domain.readmodel.PopView;
 import com.github.yun531.climate.shared.time.TimeUtil;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,6 +15,8 @@ import java.util.Map;
 
 /**
  * PopView.Pair(현재/이전 POP) -> "비 시작" AlertEvent 목록 계산.
+ * 두 시계열이 1시간 간격으로 이어져 있으면 RainMask(cur & ~prev)로 판정하고,
+ * 아니면 이전 예보를 validAt 맵으로 만들어 포인트별로 비교한다. 두 방식의 결과는 같다.
  */
 public class RainOnsetDetector {
 
@@ -36,6 +39,44 @@ public class RainOnsetDetector {
         PopView curView = pair.current();
         LocalDateTime computedAt = TimeUtil.truncateToMinutes(
                 curView.reportTime() != null ? curView.reportTime() : now);
+
+        List<AlertEvent> byMask = detectByMask(regionId, pair, computedAt);
+        return (byMask != null) ? byMask : detectByScan(regionId, pair, computedAt);
+    }
+
+    /** RainMask 로 판정. 시계열이 불규칙해 마스크를 만들 수 없으면 null */
+    @Nullable
+    List<AlertEvent> detectByMask(String regionId, PopView.Pair pair, LocalDateTime computedAt) {
+        List<PopView.Hourly.Pop> hourlyPops = pair.current().hourly().pops();
+        RainMask cur = RainMask.of(hourlyPops, rainThreshold, maxHourlyPoints);
+        if (cur == null) return null;
+
+        List<PopView.Hourly.Pop> prevPops = pair.previous().hourly().pops();
+        RainMask prev = RainMask.of(prevPops, rainThreshold, prevPops.size());
+        if (prev == null && hasValidAt(prevPops)) return null;
+
+        long onset = cur.onsetOver(prev).bits();
+        if (onset == 0L) return List.of();
+
+        // 마스크 칸 = validAt 있는 포인트의 순번
+        List<AlertEvent> rainOnsetAlerts = new ArrayList<>(Long.bitCount(onset));
+        int col = 0;
+        for (PopView.Hourly.Pop pop : hourlyPops) {
+            if (col >= cur.length()) break;
+            if (pop == null || pop.validAt() == null) continue;
+
+            if ((onset >>> col & 1L) != 0L) {
+                rainOnsetAlerts.add(new AlertEvent(AlertTypeEnum.RAIN_ONSET, regionId, computedAt,
+                        new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, pop.validAt(), pop.pop())));
+            }
+            col++;
+        }
+        return List.copyOf(rainOnsetAlerts);
+    }
+
+    /** 포인트 순회로 판정 (불규칙 시계열 포함 모든 입력 처리) */
+    List<AlertEvent> detectByScan(String regionId, PopView.Pair pair, LocalDateTime computedAt) {
+        PopView curView = pair.current();
         Map<LocalDateTime, Integer> prevPopMap = buildPrevPopMap(pair.previous());
 
         // cur 순회하면서 비 시작 감지
@@ -62,6 +103,13 @@ public class RainOnsetDetector {
         return rainOnsetAlerts.isEmpty() ? List.of() : List.copyOf(rainOnsetAlerts);
     }
 
+    private static boolean hasValidAt(List<PopView.Hourly.Pop> pops) {
+        for (PopView.Hourly.Pop p : pops) {
+            if (p != null && p.validAt() != null) return true;
+        }
+        return false;
+    }
+
     /** 이전에 비 아님 -> 현재 비 = onset. 비교 불가(prev 없음)면 현재 비 여부만 판단 */
     private boolean isOnset(int curPop, Integer prevPop) {
         if (prevPop != null) {
@@ -0,0 +1,29 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.RainTier;
+
+/**
+ * 단계별 POP 임계치. likelyPop < rainPop < heavyPop 이어야 한다.
+ * level(pop) = pop 이 넘은 임계치 수 (0 = 비 아님, 3 = HEAVY)
+ */
+public record RainTierPolicy(int likelyPop, int rainPop, int heavyPop) {
+
+    public RainTierPolicy {
+        if (!(likelyPop < rainPop && rainPop < heavyPop)) {
+            throw new IllegalArgumentException(
+                    "tier thresholds must be ascending: " + likelyPop + " < " + rainPop + " < " + heavyPop);
+        }
+    }
+
+    public int threshold(RainTier tier) {
+        return switch (tier) {
+            case LIKELY -> likelyPop;
+            case RAIN -> rainPop;
+            case HEAVY -> heavyPop;
+        };
+    }
+
+    public int level(int pop) {
+        return (pop >= likelyPop ? 1 : 0) + (pop >= rainPop ? 1 : 0) + (pop >= heavyPop ? 1 : 0);
+    }
+}
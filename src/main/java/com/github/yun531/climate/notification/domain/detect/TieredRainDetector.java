@@ -0,0 +1,201 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.DailyRainFlags;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.RainInterval;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import com.github.yun531.climate.shared.time.TimeUtil;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단계별(RainTier) RAIN_ONSET / RAIN_FORECAST 감지.
+ * classify 가 현재/이전 POP 을 한 번 순회해 포인트마다 단계(level)를 매겨 두면,
+ * 어느 단계를 요청하든 그 결과(Classified)만으로 이벤트를 만든다 (시계열 재순회 없음).
+ * 단계 t 의 결과는 임계치 policy.threshold(t) 로 만든 RainOnsetDetector / RainForecastDetector 와 같다.
+ */
+public class TieredRainDetector {
+
+    private final RainTierPolicy policy;
+    private final int maxHourlyPoints;
+
+    public TieredRainDetector(RainTierPolicy policy, int maxHourlyPoints) {
+        this.policy = policy;
+        this.maxHourlyPoints = Math.max(1, maxHourlyPoints);
+    }
+
+    public RainTierPolicy policy() {
+        return policy;
+    }
+
+    /** pair.current 가 없으면 null. previous 가 없으면 onset 은 항상 빈 결과 */
+    @Nullable
+    public Classified classify(PopView.Pair pair) {
+        if (pair == null || pair.current() == null) return null;
+
+        PopView current = pair.current();
+        PopView previous = pair.previous();
+        Map<LocalDateTime, Integer> prevPops = (previous == null) ? Map.of() : prevPopMap(previous);
+
+        List<PopView.Hourly.Pop> pops = current.hourly().pops();
+        int capacity = Math.min(pops.size(), maxHourlyPoints);
+        LocalDateTime[] validAt = new LocalDateTime[capacity];
+        int[] pop = new int[capacity];
+        byte[] level = new byte[capacity];
+        byte[] prevLevel = new byte[capacity];
+        boolean[] gapBefore = new boolean[capacity];
+
+        // maxHourlyPoints 는 validAt 이 있는 포인트 수 기준 (POP 값 없음도 포함)
+        int n = 0;
+        for (PopView.Hourly.Pop p : pops) {
+            if (n >= capacity) break;
+            if (p == null || p.validAt() == null) continue;
+
+            validAt[n] = p.validAt();
+            pop[n] = (p.pop() == null) ? -1 : p.pop();
+            level[n] = (byte) ((p.pop() == null) ? 0 : policy.level(p.pop()));
+
+            Integer before = prevPops.get(p.validAt());
+            prevLevel[n] = (byte) ((before == null) ? 0 : policy.level(before));
+            gapBefore[n] = n > 0 && !p.validAt().equals(validAt[n - 1].plusHours(1));
+            n++;
+        }
+
+        List<PopView.Daily.Pop> daily = current.daily().pops();
+        byte[] dayLevel = new byte[daily.size() * 2];
+        for (int d = 0; d < daily.size(); d++) {
+            PopView.Daily.Pop p = daily.get(d);
+            if (p == null) continue;
+            dayLevel[2 * d] = (byte) ((p.am() == null) ? 0 : policy.level(p.am()));
+            dayLevel[2 * d + 1] = (byte) ((p.pm() == null) ? 0 : policy.level(p.pm()));
+        }
+
+        return new Classified(current.reportTime(), current.revision(),
+                (previous == null) ? 0 : previous.revision(),
+                previous != null, n, validAt, pop, level, prevLevel, gapBefore, dayLevel);
+    }
+
+    /** 이전 단계 < tier <= 현재 단계 인 시각 */
+    public List<AlertEvent> detectOnset(String regionId, Classified c, RainTier tier, LocalDateTime now) {
+        if (regionId == null || regionId.isBlank() || c == null || tier == null || now == null) return List.of();
+        if (!c.hasPrevious) return List.of();
+
+        int t = tier.level();
+        LocalDateTime computedAt = occurredAt(c, now);
+        List<AlertEvent> events = new ArrayList<>(8);
+        for (int i = 0; i < c.size; i++) {
+            if (c.level[i] >= t && c.prevLevel[i] < t) {
+                events.add(new AlertEvent(AlertTypeEnum.RAIN_ONSET, regionId, computedAt,
+                        new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, c.validAt[i], c.pop[i], tier)));
+            }
+        }
+        return events.isEmpty() ? List.of() : List.copyOf(events);
+    }
+
+    /** 단계 >= tier 인 연속 구간 + 일별 오전/오후 플래그 */
+    @Nullable
+    public AlertEvent detectForecast(String regionId, Classified c, RainTier tier, LocalDateTime now) {
+        if (regionId == null || regionId.isBlank() || c == null || tier == null || now == null) return null;
+
+        RainForecastPayload payload = new RainForecastPayload(
+                AlertTypeEnum.RAIN_FORECAST, intervals(c, tier.level()), dayFlags(c, tier.level()), tier);
+        return new AlertEvent(AlertTypeEnum.RAIN_FORECAST, regionId, occurredAt(c, now), payload);
+    }
+
+    /** RainForecastDetector.toRainIntervals 와 같은 규칙: 1시간 초과 간격이면 구간을 끊는다 */
+    private static List<RainInterval> intervals(Classified c, int t) {
+        List<RainInterval> out = new ArrayList<>(4);
+        int segStart = -1;
+        for (int i = 0; i < c.size; i++) {
+            boolean rainy = c.level[i] >= t;
+            if (rainy) {
+                if (segStart < 0) {
+                    segStart = i;
+                } else if (c.gapBefore[i]) {
+                    out.add(new RainInterval(c.validAt[segStart], c.validAt[i - 1]));
+                    segStart = i;
+                }
+            } else if (segStart >= 0) {
+                out.add(new RainInterval(c.validAt[segStart], c.validAt[i - 1]));
+                segStart = -1;
+            }
+        }
+        if (segStart >= 0) out.add(new RainInterval(c.validAt[segStart], c.validAt[c.size - 1]));
+        return out.isEmpty() ? List.of() : List.copyOf(out);
+    }
+
+    private static List<DailyRainFlags> dayFlags(Classified c, int t) {
+        int days = c.dayLevel.length / 2;
+        if (days == 0) return List.of();
+
+        List<DailyRainFlags> flags = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            flags.add(new DailyRainFlags(c.dayLevel[2 * d] >= t, c.dayLevel[2 * d + 1] >= t));
+        }
+        return List.copyOf(flags);
+    }
+
+    private static LocalDateTime occurredAt(Classified c, LocalDateTime now) {
+        return TimeUtil.truncateToMinutes(c.reportTime != null ? c.reportTime : now);
+    }
+
+    private static Map<LocalDateTime, Integer> prevPopMap(PopView previous) {
+        Map<LocalDateTime, Integer> map = new HashMap<>(PopView.HOURLY_SIZE * 2);
+        for (PopView.Hourly.Pop p : previous.hourly().pops()) {
+            if (p == null || p.validAt() == null || p.pop() == null) continue;
+            map.put(p.validAt(), p.pop());
+        }
+        return map;
+    }
+
+    /**
+     * 지역 1곳의 단계 분류 결과 (불변, 단계 선택과 무관하게 재사용).
+     * 현재/이전 PopView 내용(revision)이 같으면 같은 결과이므로 발표 단위로 캐시한다.
+     */
+    public static final class Classified {
+        private final @Nullable LocalDateTime reportTime;
+        private final long revision;
+        private final long previousRevision;
+        private final boolean hasPrevious;
+        private final int size;
+        private final LocalDateTime[] validAt;
+        private final int[] pop;
+        private final byte[] level;
+        private final byte[] prevLevel;
+        private final boolean[] gapBefore;
+        private final byte[] dayLevel;     // 2*d = 오전, 2*d+1 = 오후
+
+        private Classified(@Nullable LocalDateTime reportTime, long revision, long previousRevision,
+                           boolean hasPrevious, int size, LocalDateTime[] validAt, int[] pop,
+                           byte[] level, byte[] prevLevel, boolean[] gapBefore, byte[] dayLevel) {
+            this.reportTime = reportTime;
+            this.revision = revision;
+            this.previousRevision = previousRevision;
+            this.hasPrevious = hasPrevious;
+            this.size = size;
+            this.validAt = validAt;
+            this.pop = pop;
+            this.level = level;
+            this.prevLevel = prevLevel;
+            this.gapBefore = gapBefore;
+            this.dayLevel = dayLevel;
+        }
+
+        /** 같은 현재/이전 PopView 로 분류한 결과인지 (내용 revision 비교: 같은 발표시각의 정정본도 구분) */
+        public boolean matches(@Nullable PopView current, @Nullable PopView previous) {
+            if (current == null) return false;
+            if (hasPrevious != (previous != null)) return false;
+            return revision == current.revision()
+                    && (previous == null || previousRevision == previous.revision());
+        }
+    }
+}
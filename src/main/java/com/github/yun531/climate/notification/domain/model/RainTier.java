@@ -0,0 +1,24 @@
+package com.github.yun531.climate.notification.domain.model;
+
+import lombok.Getter;
+
+/**
+ * 강수확률 단계. 선언 순서 = 임계치 오름차순 (RainTierPolicy 의 level 과 ordinal + 1 이 대응)
+ */
+@Getter
+public enum RainTier {
+    LIKELY("비 가능성"),
+    RAIN("비"),
+    HEAVY("많은 비");
+
+    private final String label;
+
+    RainTier(String label) {
+        this.label = label;
+    }
+
+    /** RainTierPolicy.level 값과 비교할 단계 번호 (1부터) */
+    public int level() {
+        return ordinal() + 1;
+    }
+}
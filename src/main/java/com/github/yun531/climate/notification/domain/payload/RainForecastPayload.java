@@ -2,16 +2,23 @@ package com.github.yun531.climate.notification.domain.payload;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 비 예보 요약 페이로드.
+ * - tier: 단계별 감지로 만들어진 경우 구간/플래그 판정 단계 (기본 임계치 감지는 null)
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record RainForecastPayload(
         AlertTypeEnum type,
         List<RainInterval> hourlyParts,
-        List<DailyRainFlags> dayParts
+        List<DailyRainFlags> dayParts,
+        @Nullable RainTier tier
 ) implements AlertPayload {
 
     /** 비 시간 구간 (절대 시각) */
@@ -36,11 +43,16 @@ public record RainForecastPayload(
         dayParts = (dayParts == null) ? List.of() : List.copyOf(dayParts);
     }
 
+    public RainForecastPayload(AlertTypeEnum type, List<RainInterval> hourlyParts, List<DailyRainFlags> dayParts) {
+        this(type, hourlyParts, dayParts, null);
+    }
+
     @Override
     public Map<String, String> toFcmData() {
-        return Map.of(
-                "_source", type == null ? "" : type.source(),
-                "hourlyPartsCount", String.valueOf(hourlyParts.size())
-        );
+        String source = type == null ? "" : type.source();
+        String count = String.valueOf(hourlyParts.size());
+        return (tier == null)
+                ? Map.of("_source", source, "hourlyPartsCount", count)
+                : Map.of("_source", source, "hourlyPartsCount", count, "tier", tier.name());
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.github.yun531.climate.notification.domain.payload;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -10,20 +12,27 @@ import java.util.Map;
  * 강수 이벤트 페이로드.
  * - effectiveTime: 비가 예보된 절대 시각
  * - pop: 해당 시각의 강수확률
+ * - tier: 단계별 감지로 만들어진 경우 판정 단계 (기본 임계치 감지는 null)
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record RainOnsetPayload(
         AlertTypeEnum type,
         LocalDateTime validAt,
-        int pop
+        int pop,
+        @Nullable RainTier tier
 ) implements AlertPayload {
 
+    public RainOnsetPayload(AlertTypeEnum type, LocalDateTime validAt, int pop) {
+        this(type, validAt, pop, null);
+    }
+
     @Override
     public Map<String, String> toFcmData() {
-        return Map.of(
-                "_source", type == null ? "" : type.source(),
-                "effectiveTime", validAt == null ? "" : validAt.toString(),
-                "pop", String.valueOf(pop)
-        );
+        String source = type == null ? "" : type.source();
+        String effectiveTime = validAt == null ? "" : validAt.toString();
+        return (tier == null)
+                ? Map.of("_source", source, "effectiveTime", effectiveTime, "pop", String.valueOf(pop))
+                : Map.of("_source", source, "effectiveTime", effectiveTime, "pop", String.valueOf(pop),
+                        "tier", tier.name());
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.github.yun531.climate.notification.domain.readmodel;
 
+import com.github.yun531.climate.shared.codec.ContentHash;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -21,6 +23,23 @@ public record PopView(
         Objects.requireNonNull(daily, "daily must not be null");
     }
 
+    /**
+     * 내용 revision. 같은 발표시각이라도 POP 값이 정정되면 달라진다.
+     * 발표시각 단위로 캐시한 파생 결과(단계 분류, onset 델타, 사전 계산, 응답 버전)의 유효성 확인용
+     */
+    public long revision() {
+        ContentHash h = ContentHash.start().add(reportTime);
+        for (Hourly.Pop p : hourly.pops()) {
+            if (p == null) h.add((LocalDateTime) null);
+            else h.add(p.validAt()).add(p.pop());
+        }
+        for (Daily.Pop p : daily.pops()) {
+            if (p == null) h.add((Integer) null);
+            else h.add(p.am()).add(p.pm());
+        }
+        return h.value();
+    }
+
     /** ======================= Pair ======================= */
     public record Pair(PopView current, PopView previous) {}
 
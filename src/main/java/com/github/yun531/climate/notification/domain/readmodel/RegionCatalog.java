@@ -0,0 +1,11 @@
+package com.github.yun531.climate.notification.domain.readmodel;
+
+import java.util.List;
+
+/**
+ * 서버 푸시(지역 토픽 fan-out) 대상 지역 목록.
+ */
+public interface RegionCatalog {
+
+    List<String> regionIds();
+}
@@ -0,0 +1,37 @@
+package com.github.yun531.climate.notification.domain.subscription;
+
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import org.springframework.lang.Nullable;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 구독자 1명의 알림 규칙.
+ * - types: 받을 알림 종류 (비어 있으면 RAIN_ONSET, RAIN_FORECAST)
+ * - tier: 비 판정 단계 (null 이면 기본 임계치)
+ * - warningKinds: 받을 특보 종류 (null 이면 전체)
+ * - quietHours: 전송만 막는다 (감지 결과에는 영향 없음)
+ */
+public record AlertRule(
+        Set<AlertTypeEnum> types,
+        @Nullable RainTier tier,
+        @Nullable Set<WarningKind> warningKinds,
+        @Nullable Integer withinHours,
+        @Nullable QuietHours quietHours
+) {
+    public AlertRule {
+        types = (types == null || types.isEmpty())
+                ? EnumSet.of(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.RAIN_FORECAST)
+                : EnumSet.copyOf(types);
+        warningKinds = (warningKinds == null || warningKinds.isEmpty()) ? null : EnumSet.copyOf(warningKinds);
+        if (withinHours != null && (withinHours < 1 || withinHours > 24)) withinHours = 24;
+    }
+
+    /** 감지 결과를 결정하는 부분만 남긴 규칙. 같은 지역 + 같은 detectionKey 면 감지 결과가 같다 */
+    public AlertRule detectionKey() {
+        return (quietHours == null) ? this : new AlertRule(types, tier, warningKinds, withinHours, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.yun531.climate.notification.domain.subscription;
+
+import java.time.LocalTime;
+
+/**
+ * 알림을 받지 않는 시간대 [start, end). start > end 이면 자정을 넘기는 구간 (예: 22:00 ~ 07:00).
+ * start == end 이면 빈 구간. 시각은 KST 벽시계 기준.
+ */
+public record QuietHours(LocalTime start, LocalTime end) {
+
+    public QuietHours {
+        if (start == null || end == null) throw new IllegalArgumentException("start and end must not be null");
+    }
+
+    public boolean contains(LocalTime time) {
+        if (time == null || start.equals(end)) return false;
+        if (start.isBefore(end)) return !time.isBefore(start) && time.isBefore(end);
+        return !time.isBefore(start) || time.isBefore(end);
+    }
+}
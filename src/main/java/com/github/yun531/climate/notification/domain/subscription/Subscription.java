@@ -0,0 +1,14 @@
+package com.github.yun531.climate.notification.domain.subscription;
+
+/** 구독자 x 지역 x 규칙 1건 */
+public record Subscription(
+        String subscriberId,
+        String regionId,
+        AlertRule rule
+) {
+    public Subscription {
+        if (subscriberId == null || subscriberId.isBlank()) throw new IllegalArgumentException("subscriberId must not be blank");
+        if (regionId == null || regionId.isBlank()) throw new IllegalArgumentException("regionId must not be blank");
+        if (rule == null) rule = new AlertRule(null, null, null, null, null);
+    }
+}
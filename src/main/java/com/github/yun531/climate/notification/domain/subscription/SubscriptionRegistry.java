@@ -0,0 +1,39 @@
+package com.github.yun531.climate.notification.domain.subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구독 저장소. 구독자 단위로 통째로 교체/삭제한다.
+ */
+public interface SubscriptionRegistry {
+
+    List<Subscription> findAll();
+
+    List<Subscription> findBySubscriber(String subscriberId);
+
+    /** subscriberId 의 기존 구독을 subscriptions 로 교체 (빈 목록이면 삭제와 같다) */
+    void replace(String subscriberId, List<Subscription> subscriptions);
+
+    /** 삭제된 구독 수 */
+    int remove(String subscriberId);
+
+    /** 구독자가 1명 이상인 지역. 사전 계산/캐시 워밍업/지역 푸시 대상을 좁히는 데 쓴다 */
+    Set<String> hotRegions();
+
+    /** regionId 를 구독한 구독자 id 목록 (구독자 토픽 대상) */
+    List<String> subscribersIn(String regionId);
+
+    /** regionId 의 구독 목록. 기본 구현은 subscribersIn 으로 구독자를 좁힌 뒤 구독자별로 조회한다 */
+    default List<Subscription> findByRegion(String regionId) {
+        if (regionId == null) return List.of();
+        List<Subscription> out = new ArrayList<>();
+        for (String subscriberId : subscribersIn(regionId)) {
+            for (Subscription s : findBySubscriber(subscriberId)) {
+                if (regionId.equals(s.regionId())) out.add(s);
+            }
+        }
+        return out;
+    }
+}
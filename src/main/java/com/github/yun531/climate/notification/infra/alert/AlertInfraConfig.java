@@ -2,16 +2,25 @@ package com.github.yun531.climate.notification.infra.alert;
 
 import com.github.yun531.climate.notification.domain.adjust.RainForecastAdjuster;
 import com.github.yun531.climate.notification.domain.adjust.RainOnsetAdjuster;
+import com.github.yun531.climate.notification.domain.detect.BatchRainDetector;
 import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
 import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.detect.RainTierPolicy;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
 import com.github.yun531.climate.notification.domain.detect.WarningIssuedDetector;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 public class AlertInfraConfig {
 
+    /** tiers.* 가 threshold-pop 과 맞지 않을 때 threshold-pop 기준으로 쓰는 간격 */
+    static final int TIER_GAP = 20;
+
     // ---- Detectors ----
 
     @Bean
@@ -30,6 +39,48 @@ public class AlertInfraConfig {
         return new RainForecastDetector(thresholdPop, maxHourlyPoints);
     }
 
+    /** 여러 지역 일괄 감지 (사전 계산 작업에서 사용) */
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.batch-detect", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public BatchRainDetector batchRainDetector(
+            @Value("${notification.threshold-pop:60}") int thresholdPop,
+            @Value("${notification.max-points:26}") int maxHourlyPoints
+    ) {
+        return new BatchRainDetector(thresholdPop, maxHourlyPoints);
+    }
+
+    /**
+     * 단계별 감지: LIKELY / RAIN(= threshold-pop) / HEAVY
+     * likely/heavy 가 threshold-pop 과 오름차순이 아니면 기동을 막지 않고 threshold-pop 기준으로 보정한다.
+     */
+    @Bean
+    public TieredRainDetector tieredRainDetector(
+            @Value("${notification.tiers.likely-pop:40}") int likelyPop,
+            @Value("${notification.threshold-pop:60}") int thresholdPop,
+            @Value("${notification.tiers.heavy-pop:80}") int heavyPop,
+            @Value("${notification.max-points:26}") int maxHourlyPoints
+    ) {
+        return new TieredRainDetector(tierPolicy(likelyPop, thresholdPop, heavyPop), maxHourlyPoints);
+    }
+
+    static RainTierPolicy tierPolicy(int likelyPop, int thresholdPop, int heavyPop) {
+        int likely = likelyPop;
+        int heavy = heavyPop;
+        if (likely >= thresholdPop) {
+            likely = Math.max(thresholdPop - TIER_GAP, 0);
+            if (likely >= thresholdPop) likely = thresholdPop - 1;
+        }
+        if (heavy <= thresholdPop) {
+            heavy = Math.min(thresholdPop + TIER_GAP, 100);
+            if (heavy <= thresholdPop) heavy = thresholdPop + 1;     // threshold-pop=100 -> HEAVY 도달 불가
+        }
+        if (likely != likelyPop || heavy != heavyPop) {
+            log.warn("[ALERT] rain tiers not ascending around threshold-pop={}: likely {} -> {}, heavy {} -> {}",
+                    thresholdPop, likelyPop, likely, heavyPop, heavy);
+        }
+        return new RainTierPolicy(likely, thresholdPop, heavy);
+    }
+
     @Bean
     public WarningIssuedDetector warningIssuedDetector() {
         return new WarningIssuedDetector();
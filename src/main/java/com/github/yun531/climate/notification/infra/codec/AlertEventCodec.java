@@ -0,0 +1,167 @@
+package com.github.yun531.climate.notification.infra.codec;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.AlertPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.payload.WarningIssuedPayload;
+import com.github.yun531.climate.shared.codec.BinaryReader;
+import com.github.yun531.climate.shared.codec.BinaryWriter;
+import com.github.yun531.climate.shared.codec.EnumCodes;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import com.github.yun531.climate.warning.domain.model.WarningLevel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AlertEvent 목록 <-> 바이트 변환.
+ * enum 은 고정 코드표(EnumCodes), 시각은 delta 로 기록한다.
+ * - occurredAt: 직전 이벤트 occurredAt 대비 (목록 첫 이벤트는 절대)
+ * - payload 내부 시각: 이벤트 occurredAt 또는 직전 구간 시각 대비
+ *
+ * 포맷 (version 1)
+ * - byte version, varint count
+ * - [type, string regionId, time occurredAt, byte payloadTag(0 = null), payload...]...
+ *   RAIN_ONSET:     type, time validAt, pop
+ *   RAIN_FORECAST:  type, varint n, [time start, time end]..., varint m, byte flags(bit0 am, bit1 pm)...
+ *   WARNING_ISSUED: type, kind, level
+ *   tier 가 있는 RAIN_ONSET / RAIN_FORECAST 는 별도 태그(4, 5)로 위 필드 뒤에 tier 를 덧붙인다 (기존 데이터 호환)
+ */
+public class AlertEventCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int TAG_NONE = 0;
+    private static final int TAG_RAIN_ONSET = 1;
+    private static final int TAG_RAIN_FORECAST = 2;
+    private static final int TAG_WARNING_ISSUED = 3;
+    private static final int TAG_RAIN_ONSET_TIERED = 4;
+    private static final int TAG_RAIN_FORECAST_TIERED = 5;
+
+    private static final EnumCodes<AlertTypeEnum> TYPES = new EnumCodes<>(AlertTypeEnum.class,
+            AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.RAIN_FORECAST, AlertTypeEnum.WARNING_ISSUED);
+    private static final EnumCodes<WarningKind> KINDS = new EnumCodes<>(WarningKind.class,
+            WarningKind.HEAT, WarningKind.COLDWAVE, WarningKind.HEAVY_SNOW, WarningKind.RAIN, WarningKind.DRY,
+            WarningKind.WIND, WarningKind.HIGH_WAVE, WarningKind.TYPHOON, WarningKind.TSUNAMI,
+            WarningKind.EARTHQUAKE_TSUNAMI);
+    private static final EnumCodes<RainTier> TIERS = new EnumCodes<>(RainTier.class,
+            RainTier.LIKELY, RainTier.RAIN, RainTier.HEAVY);
+    private static final EnumCodes<WarningLevel> LEVELS = new EnumCodes<>(WarningLevel.class,
+            WarningLevel.WATCH, WarningLevel.ADVISORY, WarningLevel.WARNING);
+
+    public byte[] encode(List<AlertEvent> events) {
+        List<AlertEvent> list = (events == null) ? List.of() : events;
+
+        BinaryWriter out = new BinaryWriter(8 + list.size() * 24);
+        out.writeByte(VERSION);
+        out.writeVarint(list.size());
+
+        LocalDateTime prev = null;
+        for (AlertEvent event : list) {
+            TYPES.write(out, event.type());
+            out.writeString(event.regionId());
+            out.writeTime(prev, event.occurredAt());
+            writePayload(out, event.payload(), event.occurredAt());
+            if (event.occurredAt() != null) prev = event.occurredAt();
+        }
+        return out.toByteArray();
+    }
+
+    /** 손상/미지원 버전이면 IllegalArgumentException */
+    public List<AlertEvent> decode(byte[] data) {
+        if (data == null || data.length == 0) throw new IllegalArgumentException("data must not be empty");
+
+        BinaryReader in = new BinaryReader(data);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("unsupported alert codec version: " + version);
+
+        int count = in.readCount();
+        List<AlertEvent> out = new ArrayList<>(count);
+        LocalDateTime prev = null;
+        for (int i = 0; i < count; i++) {
+            AlertTypeEnum type = TYPES.read(in);
+            String regionId = in.readString();
+            LocalDateTime occurredAt = in.readTime(prev);
+            out.add(new AlertEvent(type, regionId, occurredAt, readPayload(in, occurredAt)));
+            if (occurredAt != null) prev = occurredAt;
+        }
+        return out;
+    }
+
+    private static void writePayload(BinaryWriter out, AlertPayload payload, LocalDateTime base) {
+        if (payload == null) {
+            out.writeByte(TAG_NONE);
+            return;
+        }
+
+        if (payload instanceof RainOnsetPayload p) {
+            out.writeByte(p.tier() == null ? TAG_RAIN_ONSET : TAG_RAIN_ONSET_TIERED);
+            TYPES.write(out, p.type());
+            out.writeTime(base, p.validAt());
+            out.writePop(p.pop());
+            if (p.tier() != null) TIERS.write(out, p.tier());
+        } else if (payload instanceof RainForecastPayload p) {
+            out.writeByte(p.tier() == null ? TAG_RAIN_FORECAST : TAG_RAIN_FORECAST_TIERED);
+            TYPES.write(out, p.type());
+            out.writeVarint(p.hourlyParts().size());
+            LocalDateTime prev = base;
+            for (RainForecastPayload.RainInterval interval : p.hourlyParts()) {
+                out.writeTime(prev, interval.start());
+                if (interval.start() != null) prev = interval.start();
+                out.writeTime(prev, interval.end());
+                if (interval.end() != null) prev = interval.end();
+            }
+            out.writeVarint(p.dayParts().size());
+            for (RainForecastPayload.DailyRainFlags flags : p.dayParts()) {
+                out.writeByte((flags.rainAm() ? 1 : 0) | (flags.rainPm() ? 2 : 0));
+            }
+            if (p.tier() != null) TIERS.write(out, p.tier());
+        } else if (payload instanceof WarningIssuedPayload p) {
+            out.writeByte(TAG_WARNING_ISSUED);
+            TYPES.write(out, p.type());
+            KINDS.write(out, p.kind());
+            LEVELS.write(out, p.level());
+        }
+    }
+
+    private static AlertPayload readPayload(BinaryReader in, LocalDateTime base) {
+        int tag = in.readByte();
+        return switch (tag) {
+            case TAG_NONE -> null;
+            case TAG_RAIN_ONSET, TAG_RAIN_ONSET_TIERED -> {
+                AlertTypeEnum type = TYPES.read(in);
+                LocalDateTime validAt = in.readTime(base);
+                Integer pop = in.readPop();
+                RainTier tier = (tag == TAG_RAIN_ONSET_TIERED) ? TIERS.read(in) : null;
+                yield new RainOnsetPayload(type, validAt, (pop == null) ? 0 : pop, tier);
+            }
+            case TAG_RAIN_FORECAST, TAG_RAIN_FORECAST_TIERED -> {
+                AlertTypeEnum type = TYPES.read(in);
+                int n = in.readCount();
+                List<RainForecastPayload.RainInterval> hourlyParts = new ArrayList<>(n);
+                LocalDateTime prev = base;
+                for (int i = 0; i < n; i++) {
+                    LocalDateTime start = in.readTime(prev);
+                    if (start != null) prev = start;
+                    LocalDateTime end = in.readTime(prev);
+                    if (end != null) prev = end;
+                    hourlyParts.add(new RainForecastPayload.RainInterval(start, end));
+                }
+                int m = in.readCount();
+                List<RainForecastPayload.DailyRainFlags> dayParts = new ArrayList<>(m);
+                for (int i = 0; i < m; i++) {
+                    int flags = in.readByte();
+                    dayParts.add(new RainForecastPayload.DailyRainFlags((flags & 1) != 0, (flags & 2) != 0));
+                }
+                RainTier tier = (tag == TAG_RAIN_FORECAST_TIERED) ? TIERS.read(in) : null;
+                yield new RainForecastPayload(type, hourlyParts, dayParts, tier);
+            }
+            case TAG_WARNING_ISSUED -> new WarningIssuedPayload(TYPES.read(in), KINDS.read(in), LEVELS.read(in));
+            default -> throw new IllegalArgumentException("unknown payload tag: " + tag);
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.yun531.climate.notification.infra.codec;
+
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import com.github.yun531.climate.shared.codec.BinaryReader;
+import com.github.yun531.climate.shared.codec.BinaryWriter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PopView <-> 바이트 변환.
+ * 크기가 고정(26시간/7일)이라 개수는 기록하지 않는다.
+ *
+ * 포맷 (version 1)
+ * - byte version, time reportTime(절대)
+ * - 26 x [time validAt(직전 시각 또는 reportTime 대비), pop]
+ * - 7 x [pop am, pop pm]
+ * 정시 간격 시계열 기준 약 60바이트.
+ */
+public class PopViewCodec {
+
+    static final byte VERSION = 1;
+
+    public byte[] encode(PopView view) {
+        if (view == null) throw new IllegalArgumentException("view must not be null");
+
+        BinaryWriter out = new BinaryWriter(16 + PopView.HOURLY_SIZE * 2 + PopView.DAILY_SIZE * 2);
+        out.writeByte(VERSION);
+        out.writeTime(null, view.reportTime());
+
+        LocalDateTime prev = view.reportTime();
+        for (PopView.Hourly.Pop p : view.hourly().pops()) {
+            out.writeTime(prev, p.validAt());
+            out.writePop(p.pop());
+            if (p.validAt() != null) prev = p.validAt();
+        }
+        for (PopView.Daily.Pop p : view.daily().pops()) {
+            out.writePop(p.am());
+            out.writePop(p.pm());
+        }
+        return out.toByteArray();
+    }
+
+    /** 손상/미지원 버전이면 IllegalArgumentException */
+    public PopView decode(byte[] data) {
+        if (data == null || data.length == 0) throw new IllegalArgumentException("data must not be empty");
+
+        BinaryReader in = new BinaryReader(data);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("unsupported pop view codec version: " + version);
+
+        LocalDateTime reportTime = in.readTime(null);
+
+        List<PopView.Hourly.Pop> hourly = new ArrayList<>(PopView.HOURLY_SIZE);
+        LocalDateTime prev = reportTime;
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            LocalDateTime validAt = in.readTime(prev);
+            hourly.add(new PopView.Hourly.Pop(validAt, in.readPop()));
+            if (validAt != null) prev = validAt;
+        }
+
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int i = 0; i < PopView.DAILY_SIZE; i++) {
+            daily.add(new PopView.Daily.Pop(in.readPop(), in.readPop()));
+        }
+
+        return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), reportTime);
+    }
+}
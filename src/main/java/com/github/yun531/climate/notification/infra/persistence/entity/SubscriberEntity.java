@@ -0,0 +1,27 @@
+package com.github.yun531.climate.notification.infra.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "subscriber")
+public class SubscriberEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "subscriber_id")
+    private Integer subscriberId;                   // PK (역색인의 int id)
+
+    @Column(name = "subscriber_key", nullable = false, unique = true, length = 128)
+    private String subscriberKey;                   // 외부 구독자 식별자 (구독자 토픽 접미사)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,50 @@
+package com.github.yun531.climate.notification.infra.persistence.entity;
+
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "subscription", indexes = {
+        @Index(name = "idx_subscription_subscriber", columnList = "subscriber_id"),
+        @Index(name = "idx_subscription_region", columnList = "region_id")
+})
+public class SubscriptionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "subscription_id")
+    private Long subscriptionId;                    // PK
+
+    @Column(name = "subscriber_id", nullable = false)
+    private int subscriberId;                       // subscriber.subscriber_id
+
+    @Column(name = "region_id", nullable = false, length = 32)
+    private String regionId;
+
+    @Column(name = "alert_types", nullable = false, length = 128)
+    private String alertTypes;                      // AlertTypeEnum 이름, 콤마 구분
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rain_tier", length = 16)
+    private RainTier rainTier;
+
+    @Column(name = "warning_kinds", length = 256)
+    private String warningKinds;                    // WarningKind 이름, 콤마 구분 (null 이면 전체)
+
+    @Column(name = "within_hours")
+    private Integer withinHours;
+
+    @Column(name = "quiet_start")
+    private LocalTime quietStart;
+
+    @Column(name = "quiet_end")
+    private LocalTime quietEnd;
+}
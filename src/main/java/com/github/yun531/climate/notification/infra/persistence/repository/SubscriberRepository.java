@@ -0,0 +1,11 @@
+package com.github.yun531.climate.notification.infra.persistence.repository;
+
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriberEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SubscriberRepository extends JpaRepository<SubscriberEntity, Integer> {
+
+    Optional<SubscriberEntity> findBySubscriberKey(String subscriberKey);
+}
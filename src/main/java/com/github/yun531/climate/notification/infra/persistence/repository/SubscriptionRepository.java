@@ -0,0 +1,13 @@
+package com.github.yun531.climate.notification.infra.persistence.repository;
+
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriptionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SubscriptionRepository extends JpaRepository<SubscriptionEntity, Long> {
+
+    List<SubscriptionEntity> findBySubscriberId(int subscriberId);
+
+    List<SubscriptionEntity> findByRegionId(String regionId);
+}
@@ -0,0 +1,32 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구독자가 있는 지역만 남기는 RegionCatalog.
+ * 설정된 지역 목록이 있으면 그중 hot 지역만, 없으면 hot 지역 전체(정렬)를 대상으로 한다.
+ * 사전 계산 / 캐시 워밍업 / 지역 토픽 푸시가 모두 RegionCatalog 를 통해 대상 지역을 얻는다.
+ */
+public class HotRegionCatalog implements RegionCatalog {
+
+    private final RegionCatalog configured;
+    private final SubscriptionRegistry registry;
+
+    public HotRegionCatalog(RegionCatalog configured, SubscriptionRegistry registry) {
+        this.configured = configured;
+        this.registry = registry;
+    }
+
+    @Override
+    public List<String> regionIds() {
+        Set<String> hot = registry.hotRegions();
+        List<String> base = configured.regionIds();
+        if (base.isEmpty()) return hot.stream().sorted().toList();
+
+        return base.stream().filter(hot::contains).toList();
+    }
+}
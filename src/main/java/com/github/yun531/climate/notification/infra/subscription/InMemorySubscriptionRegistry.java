@@ -0,0 +1,90 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 프로세스 내 구독 저장소 (단일 인스턴스 / 테스트용). 구독자 int id 는 처음 등록될 때 순서대로 부여 */
+public class InMemorySubscriptionRegistry implements SubscriptionRegistry {
+
+    private final Map<String, List<Subscription>> bySubscriber = new ConcurrentHashMap<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final RegionSubscriberIndex index = new RegionSubscriberIndex();
+
+    @Override
+    public List<Subscription> findAll() {
+        List<Subscription> out = new ArrayList<>();
+        bySubscriber.values().forEach(out::addAll);
+        return out;
+    }
+
+    @Override
+    public List<Subscription> findBySubscriber(String subscriberId) {
+        if (subscriberId == null) return List.of();
+        return bySubscriber.getOrDefault(subscriberId, List.of());
+    }
+
+    @Override
+    public List<Subscription> findByRegion(String regionId) {
+        if (regionId == null) return List.of();
+        List<Subscription> out = new ArrayList<>();
+        for (String subscriberId : index.subscriberKeys(regionId)) {
+            for (Subscription s : bySubscriber.getOrDefault(subscriberId, List.of())) {
+                if (regionId.equals(s.regionId())) out.add(s);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public synchronized void replace(String subscriberId, List<Subscription> subscriptions) {
+        if (subscriberId == null) return;
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            remove(subscriberId);
+            return;
+        }
+
+        List<Subscription> interned = new ArrayList<>(subscriptions.size());
+        for (Subscription s : subscriptions) {
+            if (!subscriberId.equals(s.subscriberId())) {
+                throw new IllegalArgumentException("subscription belongs to another subscriber: " + s.subscriberId());
+            }
+            interned.add(new Subscription(subscriberId, index.intern(s.regionId()), s.rule()));
+        }
+
+        int id = ids.computeIfAbsent(subscriberId, k -> ids.size());
+        unindex(id, bySubscriber.put(subscriberId, List.copyOf(interned)));
+        for (Subscription s : interned) index.add(s.regionId(), id, subscriberId);
+    }
+
+    @Override
+    public synchronized int remove(String subscriberId) {
+        if (subscriberId == null) return 0;
+        List<Subscription> removed = bySubscriber.remove(subscriberId);
+        if (removed == null) return 0;
+
+        unindex(ids.get(subscriberId), removed);
+        return removed.size();
+    }
+
+    @Override
+    public Set<String> hotRegions() {
+        return index.hotRegions();
+    }
+
+    @Override
+    public List<String> subscribersIn(String regionId) {
+        return index.subscriberKeys(regionId);
+    }
+
+    private void unindex(Integer id, List<Subscription> old) {
+        if (id == null || old == null) return;
+        for (Subscription s : old) index.remove(s.regionId(), id);
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.subscription.AlertRule;
+import com.github.yun531.climate.notification.domain.subscription.QuietHours;
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriberEntity;
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriptionEntity;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriberRepository;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriptionRepository;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * subscriber / subscription 테이블 기반 구독 저장소.
+ * hotRegions / subscribersIn 은 메모리 역색인(RegionSubscriberIndex)에서 답한다.
+ * - 첫 조회 시 전체 적재, 이후 이 인스턴스의 변경은 트랜잭션 커밋 후(afterCommit) 반영 (롤백되면 반영 안 함)
+ * - 다른 인스턴스의 변경은 주기적 재적재(index-refresh-ms)로 반영 (새 색인을 만들어 교체)
+ * - 재적재 도중 커밋된 변경은 기록해 두었다가 새 색인에 다시 적용한 뒤 교체 (적재 시점 이전 상태로 되돌아가지 않게)
+ */
+@Slf4j
+public class JpaSubscriptionRegistry implements SubscriptionRegistry {
+
+    private final SubscriberRepository subscriberRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final Clock clock;
+
+    private final Object indexLock = new Object();
+    private volatile RegionSubscriberIndex index;       // 적재 전에는 null
+    private List<Consumer<RegionSubscriberIndex>> pendingDuringReload;     // 재적재 중에만 non-null (indexLock)
+
+    public JpaSubscriptionRegistry(
+            SubscriberRepository subscriberRepository,
+            SubscriptionRepository subscriptionRepository,
+            Clock clock
+    ) {
+        this.subscriberRepository = subscriberRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Subscription> findAll() {
+        RegionSubscriberIndex idx = index();
+        Map<Integer, String> keys = new HashMap<>();
+        subscriberRepository.findAll().forEach(e -> keys.put(e.getSubscriberId(), e.getSubscriberKey()));
+
+        List<Subscription> out = new ArrayList<>();
+        for (SubscriptionEntity row : subscriptionRepository.findAll()) {
+            String key = keys.get(row.getSubscriberId());
+            if (key != null) out.add(toDomain(key, idx.intern(row.getRegionId()), row));
+        }
+        return out;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Subscription> findBySubscriber(String subscriberId) {
+        if (subscriberId == null) return List.of();
+        return subscriberRepository.findBySubscriberKey(subscriberId)
+                .map(s -> subscriptionRepository.findBySubscriberId(s.getSubscriberId()).stream()
+                        .map(row -> toDomain(subscriberId, row.getRegionId(), row))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    @Override
+    @Transactional
+    public void replace(String subscriberId, List<Subscription> subscriptions) {
+        if (subscriberId == null) return;
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            remove(subscriberId);
+            return;
+        }
+        for (Subscription s : subscriptions) {
+            if (!subscriberId.equals(s.subscriberId())) {
+                throw new IllegalArgumentException("subscription belongs to another subscriber: " + s.subscriberId());
+            }
+        }
+
+        SubscriberEntity subscriber = subscriberRepository.findBySubscriberKey(subscriberId)
+                .orElseGet(() -> subscriberRepository.save(SubscriberEntity.builder()
+                        .subscriberKey(subscriberId)
+                        .createdAt(LocalDateTime.now(clock))
+                        .build()));
+        int id = subscriber.getSubscriberId();
+
+        List<SubscriptionEntity> old = subscriptionRepository.findBySubscriberId(id);
+        subscriptionRepository.deleteAllInBatch(old);
+        subscriptionRepository.saveAll(subscriptions.stream().map(s -> toEntity(id, s)).toList());
+
+        List<String> oldRegions = old.stream().map(SubscriptionEntity::getRegionId).toList();
+        List<String> newRegions = subscriptions.stream().map(Subscription::regionId).toList();
+        applyAfterCommit(idx -> {
+            oldRegions.forEach(r -> idx.remove(r, id));
+            newRegions.forEach(r -> idx.add(r, id, subscriberId));
+        });
+    }
+
+    @Override
+    @Transactional
+    public int remove(String subscriberId) {
+        if (subscriberId == null) return 0;
+        SubscriberEntity subscriber = subscriberRepository.findBySubscriberKey(subscriberId).orElse(null);
+        if (subscriber == null) return 0;
+
+        int id = subscriber.getSubscriberId();
+        List<SubscriptionEntity> old = subscriptionRepository.findBySubscriberId(id);
+        subscriptionRepository.deleteAllInBatch(old);
+
+        List<String> oldRegions = old.stream().map(SubscriptionEntity::getRegionId).toList();
+        applyAfterCommit(idx -> oldRegions.forEach(r -> idx.remove(r, id)));
+        return old.size();
+    }
+
+    /** 구독자 키는 역색인에서, 규칙은 region_id 로 조회. 색인에 없는(아직 반영 전) 구독자는 제외 */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Subscription> findByRegion(String regionId) {
+        if (regionId == null) return List.of();
+        RegionSubscriberIndex idx = index();
+        if (!idx.isHot(regionId)) return List.of();
+
+        String region = idx.intern(regionId);
+        List<Subscription> out = new ArrayList<>();
+        for (SubscriptionEntity row : subscriptionRepository.findByRegionId(regionId)) {
+            String key = idx.subscriberKey(row.getSubscriberId());
+            if (key != null) out.add(toDomain(key, region, row));
+        }
+        return out;
+    }
+
+    @Override
+    public Set<String> hotRegions() {
+        return index().hotRegions();
+    }
+
+    @Override
+    public List<String> subscribersIn(String regionId) {
+        return index().subscriberKeys(regionId);
+    }
+
+    /**
+     * 전체 재적재 후 색인 교체.
+     * 적재하는 동안 이 인스턴스에서 커밋된 변경은 새 색인에 다시 적용한 뒤 교체한다
+     * (변경은 "구독자의 이전 지역 제거 + 새 지역 추가" 라 이미 반영된 행에 다시 적용해도 결과가 같다).
+     */
+    @Scheduled(fixedDelayString = "${notification.subscriptions.index-refresh-ms:300000}",
+            initialDelayString = "${notification.subscriptions.index-refresh-ms:300000}")
+    public synchronized void reload() {
+        long startedAt = System.nanoTime();
+        synchronized (indexLock) {
+            pendingDuringReload = new ArrayList<>();
+        }
+
+        RegionSubscriberIndex fresh = new RegionSubscriberIndex();
+        try {
+            Map<Integer, String> keys = new HashMap<>();
+            subscriberRepository.findAll().forEach(e -> keys.put(e.getSubscriberId(), e.getSubscriberKey()));
+            for (SubscriptionEntity row : subscriptionRepository.findAll()) {
+                fresh.add(row.getRegionId(), row.getSubscriberId(), keys.get(row.getSubscriberId()));
+            }
+        } catch (RuntimeException e) {
+            synchronized (indexLock) {
+                pendingDuringReload = null;
+            }
+            throw e;
+        }
+
+        int replayed;
+        synchronized (indexLock) {
+            replayed = pendingDuringReload.size();
+            pendingDuringReload.forEach(change -> change.accept(fresh));
+            pendingDuringReload = null;
+            index = fresh;
+        }
+        log.info("[SUBSCRIPTION] index reloaded. entries={} hotRegions={} elapsedMs={}",
+                fresh.size(), fresh.hotRegions().size(), (System.nanoTime() - startedAt) / 1_000_000);
+        if (replayed > 0) log.info("[SUBSCRIPTION] replayed {} change(s) committed during reload", replayed);
+    }
+
+    /** 트랜잭션이 있으면 커밋 후, 없으면 즉시 색인에 반영 */
+    private void applyAfterCommit(Consumer<RegionSubscriberIndex> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    /** 적재 전이면 건너뛴다 (첫 적재가 커밋된 행을 읽는다). 재적재 중이면 새 색인에 다시 적용하도록 기록 */
+    private void apply(Consumer<RegionSubscriberIndex> change) {
+        synchronized (indexLock) {
+            RegionSubscriberIndex idx = index;
+            if (idx != null) change.accept(idx);
+            if (pendingDuringReload != null) pendingDuringReload.add(change);
+        }
+    }
+
+    private RegionSubscriberIndex index() {
+        RegionSubscriberIndex idx = index;
+        if (idx != null) return idx;
+
+        synchronized (this) {
+            if (index == null) reload();
+            return index;
+        }
+    }
+
+    private static Subscription toDomain(String subscriberId, String regionId, SubscriptionEntity row) {
+        QuietHours quiet = (row.getQuietStart() == null || row.getQuietEnd() == null)
+                ? null : new QuietHours(row.getQuietStart(), row.getQuietEnd());
+        return new Subscription(subscriberId, regionId, new AlertRule(
+                parse(row.getAlertTypes(), AlertTypeEnum.class), row.getRainTier(),
+                parse(row.getWarningKinds(), WarningKind.class), row.getWithinHours(), quiet));
+    }
+
+    private static SubscriptionEntity toEntity(int subscriberId, Subscription s) {
+        AlertRule rule = s.rule();
+        return SubscriptionEntity.builder()
+                .subscriberId(subscriberId)
+                .regionId(s.regionId())
+                .alertTypes(join(rule.types()))
+                .rainTier(rule.tier())
+                .warningKinds(rule.warningKinds() == null ? null : join(rule.warningKinds()))
+                .withinHours(rule.withinHours())
+                .quietStart(rule.quietHours() == null ? null : rule.quietHours().start())
+                .quietEnd(rule.quietHours() == null ? null : rule.quietHours().end())
+                .build();
+    }
+
+    private static String join(Set<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+    }
+
+    /** 알 수 없는 이름은 건너뛴다 (enum 축소 대비) */
+    private static <E extends Enum<E>> Set<E> parse(String csv, Class<E> type) {
+        if (csv == null || csv.isBlank()) return null;
+
+        Set<E> out = EnumSet.noneOf(type);
+        Arrays.stream(csv.split(",")).map(String::trim).forEach(name -> {
+            try {
+                out.add(Enum.valueOf(type, name));
+            } catch (IllegalArgumentException e) {
+                log.warn("[SUBSCRIPTION] unknown {} ignored. value={}", type.getSimpleName(), name);
+            }
+        });
+        return out;
+    }
+}
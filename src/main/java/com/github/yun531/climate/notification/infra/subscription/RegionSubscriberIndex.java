@@ -0,0 +1,122 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지역 -> 구독자 역색인 (수백만 건 기준으로 메모리를 아끼는 구조).
+ * - 구독자는 int id 로만 보관하고, 지역별로 정렬된 int[] 에 담는다 (boxing 없음)
+ * - regionId 문자열은 인스턴스 하나로 intern 해서 공유한다
+ * - id -> 구독자 키(토픽 접미사)는 id 를 인덱스로 하는 배열
+ * 변경/조회는 모두 이 인스턴스에서 동기화한다. hotRegions 는 변경이 없으면 같은 스냅샷을 돌려준다.
+ */
+public class RegionSubscriberIndex {
+
+    private final Map<String, String> regionPool = new HashMap<>();
+    private final Map<String, IntSet> byRegion = new HashMap<>();
+    private String[] keys = new String[64];
+    private long entries;
+    private Set<String> hotSnapshot;            // 변경 시 null (다음 조회에서 재생성)
+
+    /** 같은 regionId 는 같은 인스턴스로 */
+    public synchronized String intern(String regionId) {
+        if (regionId == null) return null;
+        String pooled = regionPool.putIfAbsent(regionId, regionId);
+        return (pooled == null) ? regionId : pooled;
+    }
+
+    public synchronized void add(String regionId, int subscriberId, String subscriberKey) {
+        if (regionId == null || subscriberId < 0) return;
+
+        putKey(subscriberId, subscriberKey);
+        String region = intern(regionId);
+        if (byRegion.computeIfAbsent(region, k -> new IntSet()).add(subscriberId)) {
+            entries++;
+            hotSnapshot = null;
+        }
+    }
+
+    public synchronized void remove(String regionId, int subscriberId) {
+        IntSet set = (regionId == null) ? null : byRegion.get(regionId);
+        if (set == null || !set.remove(subscriberId)) return;
+
+        entries--;
+        if (set.size == 0) byRegion.remove(regionId);
+        hotSnapshot = null;
+    }
+
+    /** 구독자가 1명 이상인 지역 */
+    public synchronized Set<String> hotRegions() {
+        if (hotSnapshot == null) hotSnapshot = Set.copyOf(byRegion.keySet());
+        return hotSnapshot;
+    }
+
+    public synchronized boolean isHot(String regionId) {
+        return regionId != null && byRegion.containsKey(regionId);
+    }
+
+    public synchronized int[] subscriberIds(String regionId) {
+        IntSet set = (regionId == null) ? null : byRegion.get(regionId);
+        return (set == null) ? new int[0] : Arrays.copyOf(set.values, set.size);
+    }
+
+    public synchronized List<String> subscriberKeys(String regionId) {
+        IntSet set = (regionId == null) ? null : byRegion.get(regionId);
+        if (set == null) return List.of();
+
+        List<String> out = new ArrayList<>(set.size);
+        for (int i = 0; i < set.size; i++) {
+            String key = subscriberKey(set.values[i]);
+            if (key != null) out.add(key);
+        }
+        return out;
+    }
+
+    public synchronized String subscriberKey(int subscriberId) {
+        return (subscriberId >= 0 && subscriberId < keys.length) ? keys[subscriberId] : null;
+    }
+
+    /** (지역, 구독자) 항목 수 */
+    public synchronized long size() {
+        return entries;
+    }
+
+    private void putKey(int subscriberId, String subscriberKey) {
+        if (subscriberId >= keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(subscriberId + 1, keys.length * 2));
+        }
+        if (subscriberKey != null) keys[subscriberId] = subscriberKey;
+    }
+
+    /** 정렬된 int 집합. 지역당 구독자 수가 많지 않아 삽입/삭제의 배열 이동 비용은 작다 */
+    private static final class IntSet {
+        private int[] values = new int[4];
+        private int size;
+
+        boolean add(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) return false;
+
+            int at = -pos - 1;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            System.arraycopy(values, at, values, at + 1, size - at);
+            values[at] = value;
+            size++;
+            return true;
+        }
+
+        boolean remove(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos < 0) return false;
+
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            if (size > 4 && size * 4 < values.length) values = Arrays.copyOf(values, values.length / 2);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriberRepository;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriptionRepository;
+import com.github.yun531.climate.notification.infra.trigger.ConfiguredRegionCatalog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+
+/**
+ * 구독 저장소 (notification.subscriptions.store = memory | jpa).
+ * hot-regions-only=true 면 RegionCatalog 를 구독자가 있는 지역으로 좁힌다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notification.subscriptions", name = "enabled", havingValue = "true")
+public class SubscriptionInfraConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.subscriptions", name = "store", havingValue = "memory", matchIfMissing = true)
+    public SubscriptionRegistry inMemorySubscriptionRegistry() {
+        return new InMemorySubscriptionRegistry();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.subscriptions", name = "store", havingValue = "jpa")
+    public SubscriptionRegistry jpaSubscriptionRegistry(
+            SubscriberRepository subscriberRepository,
+            SubscriptionRepository subscriptionRepository,
+            Clock clock
+    ) {
+        return new JpaSubscriptionRegistry(subscriberRepository, subscriptionRepository, clock);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "notification.subscriptions", name = "hot-regions-only", havingValue = "true")
+    public RegionCatalog hotRegionCatalog(ConfiguredRegionCatalog configured, SubscriptionRegistry registry) {
+        return new HotRegionCatalog(configured, registry);
+    }
+}
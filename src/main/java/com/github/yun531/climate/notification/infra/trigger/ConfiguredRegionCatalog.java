@@ -0,0 +1,29 @@
+package com.github.yun531.climate.notification.infra.trigger;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 설정(notification.fanout.region-ids)에 나열된 지역을 fan-out 대상으로 사용.
+ */
+@Component
+public class ConfiguredRegionCatalog implements RegionCatalog {
+
+    private final List<String> regionIds;
+
+    public ConfiguredRegionCatalog(@Value("${notification.fanout.region-ids:}") List<String> regionIds) {
+        this.regionIds = (regionIds == null) ? List.of() : regionIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public List<String> regionIds() {
+        return regionIds;
+    }
+}
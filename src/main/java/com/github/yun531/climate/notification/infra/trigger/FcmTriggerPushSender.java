@@ -1,34 +1,111 @@
 package com.github.yun531.climate.notification.infra.trigger;
 
+import com.github.yun531.climate.fcm.domain.BatchPushResult;
+import com.github.yun531.climate.fcm.domain.PushOutbox;
 import com.github.yun531.climate.fcm.domain.TopicPushMessage;
 import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.notification.application.trigger.FanOutResult;
 import com.github.yun531.climate.notification.application.trigger.TriggerPushSender;
-import lombok.RequiredArgsConstructor;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * TriggerPushSender -> TopicPushSender 어댑터.
  * - "notification이 요구하는 인터페이스"를 "fcm이 제공하는 인터페이스"로 변환
  * - topic 이름, 데이터 구조, TTL 등 전송 세부사항을 여기서 조립
+ * - 지역 알림은 이벤트 1건 = 지역 토픽 메시지 1건 (payload.toFcmData() + 공통 키)
+ * - 구독자 알림도 같은 형식으로 구독자 토픽에 보낸다
+ * - 단계 전송 모드(hourlyShards > 1): 0번 샤드는 즉시, 나머지는 shardSpreadSeconds 구간에
+ *   균등 간격으로 TaskScheduler 에 예약하고, data 에 shard/jitterSeconds 힌트를 싣는다
+ * - PushOutbox 가 있으면 트리거는 직접 보내지 않고 (type, topic, firedAt) 키로 아웃박스에 적재한다
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FcmTriggerPushSender implements TriggerPushSender {
 
     private final TopicPushSender pushSender;
     private final TriggerProperties props;
+    @Nullable private final TaskScheduler taskScheduler;
+    @Nullable private final PushOutbox outbox;
 
     private static final DateTimeFormatter ISO_LOCAL = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    @Autowired
+    public FcmTriggerPushSender(
+            TopicPushSender pushSender,
+            TriggerProperties props,
+            @Nullable TaskScheduler taskScheduler,
+            @Nullable PushOutbox outbox
+    ) {
+        this.pushSender = pushSender;
+        this.props = props;
+        this.taskScheduler = taskScheduler;
+        this.outbox = outbox;
+    }
+
+    public FcmTriggerPushSender(TopicPushSender pushSender, TriggerProperties props, @Nullable TaskScheduler taskScheduler) {
+        this(pushSender, props, taskScheduler, null);
+    }
+
+    /** 스케줄러 없이 사용: 단계 전송 모드면 모든 샤드를 즉시 전송 */
+    public FcmTriggerPushSender(TopicPushSender pushSender, TriggerProperties props) {
+        this(pushSender, props, null, null);
+    }
+
     @Override
     public String sendHourly(LocalDateTime firedAt, int hour, boolean dryRun) {
+        if (props.isStaged()) return sendHourlyStaged(firedAt, hour, dryRun);
+
         return send(props.hourlyTopic(), "HOURLY_TRIGGER", firedAt, hour, dryRun);
     }
 
+    /** 0번 샤드의 messageId 를 반환. 예약된 샤드의 실패는 로그로만 남긴다 */
+    private String sendHourlyStaged(LocalDateTime firedAt, int hour, boolean dryRun) {
+        String first = sendHourlyShard(0, firedAt, hour, dryRun);
+
+        Instant base = Instant.now();
+        for (int shard = 1; shard < props.hourlyShards(); shard++) {
+            int target = shard;
+            Runnable task = () -> {
+                try {
+                    sendHourlyShard(target, firedAt, hour, dryRun);
+                } catch (RuntimeException e) {
+                    log.error("[TRIGGER] staged hourly shard failed. shard={} hour={}", target, hour, e);
+                }
+            };
+
+            if (taskScheduler == null) task.run();
+            else taskScheduler.schedule(task, base.plusMillis(props.shardDelayMillis(shard)));
+        }
+
+        log.info("[TRIGGER] staged hourly scheduled. shards={} spreadSeconds={} jitterSeconds={}",
+                props.hourlyShards(), props.shardSpreadSeconds(), props.jitterHintSeconds());
+        return first;
+    }
+
+    private String sendHourlyShard(int shard, LocalDateTime firedAt, int hour, boolean dryRun) {
+        Map<String, String> data = triggerData("HOURLY_TRIGGER", firedAt, hour);
+        data.put("shard", String.valueOf(shard));
+        data.put("jitterSeconds", String.valueOf(props.jitterHintSeconds()));
+        return deliver(new TopicPushMessage(props.hourlyShardTopic(shard), data, props.ttlMillis()), firedAt, dryRun);
+    }
+
     @Override
     public String sendDaily(LocalDateTime firedAt, int hour, boolean dryRun) {
         if (hour < 0 || hour > 23) throw new IllegalArgumentException("hour must be 0..23");
@@ -36,13 +113,80 @@ public class FcmTriggerPushSender implements TriggerPushSender {
         return send(props.dailyTopic(hour), "DAILY_TRIGGER", firedAt, hour, dryRun);
     }
 
+    @Override
+    public FanOutResult sendRegionAlerts(
+            Map<String, List<AlertEvent>> alertsByRegion, LocalDateTime firedAt, boolean dryRun
+    ) {
+        return sendAlerts("region", alertsByRegion, props::regionTopic, firedAt, dryRun);
+    }
+
+    @Override
+    public FanOutResult sendSubscriberAlerts(
+            Map<String, List<AlertEvent>> alertsBySubscriber, LocalDateTime firedAt, boolean dryRun
+    ) {
+        return sendAlerts("subscriber", alertsBySubscriber, props::subscriberTopic, firedAt, dryRun);
+    }
+
+    /** 대상(지역/구독자) 키 -> 토픽. 이벤트 1건 = 메시지 1건. 실패한 토픽은 대상 키로 되돌려 돌려준다 */
+    private FanOutResult sendAlerts(
+            String kind, Map<String, List<AlertEvent>> alertsByTarget, UnaryOperator<String> topicOf,
+            LocalDateTime firedAt, boolean dryRun
+    ) {
+        if (alertsByTarget == null || alertsByTarget.isEmpty()) return FanOutResult.empty();
+
+        List<TopicPushMessage> messages = new ArrayList<>();
+        Map<String, String> targetOfTopic = new HashMap<>();
+        alertsByTarget.forEach((target, events) -> {
+            String topic = topicOf.apply(target);
+            targetOfTopic.put(topic, target);
+            for (AlertEvent event : events) {
+                messages.add(new TopicPushMessage(topic, alertData(event, firedAt), props.ttlMillis()));
+            }
+        });
+
+        BatchPushResult result = pushSender.pushAll(messages, dryRun);
+        if (result.failureCount() > 0) {
+            log.warn("[TRIGGER] {} alerts partially failed. failed={} topics={}",
+                    kind, result.failureCount(), result.failedTopics());
+        }
+        Set<String> failedTargets = new HashSet<>();
+        for (String topic : result.failedTopics()) {
+            String target = targetOfTopic.get(topic);
+            if (target != null) failedTargets.add(target);
+        }
+        return new FanOutResult(alertsByTarget.size(), result.successCount(), result.failureCount(), failedTargets);
+    }
+
+    private static Map<String, String> alertData(AlertEvent event, LocalDateTime firedAt) {
+        Map<String, String> data = (event.payload() == null)
+                ? new HashMap<>()
+                : new HashMap<>(event.payload().toFcmData());
+        data.put("type", event.type().name());
+        data.put("regionId", event.regionId());
+        data.put("occurredAt", event.occurredAt() == null ? "" : event.occurredAt().format(ISO_LOCAL));
+        data.put("triggerAtLocal", firedAt.format(ISO_LOCAL));
+        return data;
+    }
+
     private String send(String topic, String type, LocalDateTime firedAt, int hour, boolean dryRun) {
-        Map<String, String> data = Map.of(
-                "type", type,
-                "triggerAtLocal", firedAt.format(ISO_LOCAL),
-                "hour", String.valueOf(hour)
-        );
-        TopicPushMessage message = new TopicPushMessage(topic, data, props.ttlMillis());
-        return pushSender.push(message, dryRun);
+        TopicPushMessage message = new TopicPushMessage(topic, triggerData(type, firedAt, hour), props.ttlMillis());
+        return deliver(message, firedAt, dryRun);
+    }
+
+    /** 아웃박스가 있으면 적재 후 "queued:{key}" (중복이면 "duplicate:{key}"), 없으면 직접 전송한 messageId */
+    private String deliver(TopicPushMessage message, LocalDateTime firedAt, boolean dryRun) {
+        if (outbox == null) return pushSender.push(message, dryRun);
+
+        String key = message.data().get("type") + ":" + message.topic() + ":"
+                + firedAt.truncatedTo(ChronoUnit.MINUTES).format(ISO_LOCAL);
+        return (outbox.enqueue(message, key, dryRun) ? "queued:" : "duplicate:") + key;
+    }
+
+    private static Map<String, String> triggerData(String type, LocalDateTime firedAt, int hour) {
+        Map<String, String> data = new HashMap<>();
+        data.put("type", type);
+        data.put("triggerAtLocal", firedAt.format(ISO_LOCAL));
+        data.put("hour", String.valueOf(hour));
+        return data;
     }
 }
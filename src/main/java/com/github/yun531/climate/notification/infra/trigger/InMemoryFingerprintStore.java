@@ -0,0 +1,42 @@
+package com.github.yun531.climate.notification.infra.trigger;
+
+import com.github.yun531.climate.notification.application.trigger.FingerprintStore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 프로세스 내 지문 저장소. ttl 이 지나면 없는 것으로 본다 (같은 내용도 주기적으로 한 번은 재전송) */
+public class InMemoryFingerprintStore implements FingerprintStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    public InMemoryFingerprintStore(Clock clock, Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Long get(String key) {
+        if (key == null) return null;
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.fingerprint();
+    }
+
+    @Override
+    public void put(String key, long fingerprint) {
+        if (key == null) return;
+        entries.put(key, new Entry(fingerprint, clock.instant().plus(ttl)));
+    }
+
+    private record Entry(long fingerprint, Instant expiresAt) {}
+}
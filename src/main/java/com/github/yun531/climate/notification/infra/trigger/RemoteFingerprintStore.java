@@ -0,0 +1,37 @@
+package com.github.yun531.climate.notification.infra.trigger;
+
+import com.github.yun531.climate.notification.application.trigger.FingerprintStore;
+import com.github.yun531.climate.shared.cache.RemoteCache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * RemoteCache(L2) 기반 지문 저장소. 인스턴스가 바뀌어도 마지막 전송 지문을 공유한다.
+ * 값은 8바이트 long. 원격 장애 시 RemoteCache 가 miss 로 처리하므로 그때는 전송 쪽으로 기운다.
+ */
+public class RemoteFingerprintStore implements FingerprintStore {
+
+    private static final String PREFIX = "push-fp:";
+
+    private final RemoteCache remote;
+    private final Duration ttl;
+
+    public RemoteFingerprintStore(RemoteCache remote, Duration ttl) {
+        this.remote = remote;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Long get(String key) {
+        if (key == null) return null;
+        byte[] value = remote.get(PREFIX + key);
+        return (value == null || value.length != Long.BYTES) ? null : ByteBuffer.wrap(value).getLong();
+    }
+
+    @Override
+    public void put(String key, long fingerprint) {
+        if (key == null) return;
+        remote.put(PREFIX + key, ByteBuffer.allocate(Long.BYTES).putLong(fingerprint).array(), ttl);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.yun531.climate.notification.infra.trigger;
+
+import com.github.yun531.climate.notification.application.trigger.FingerprintStore;
+import com.github.yun531.climate.shared.cache.RemoteCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class TriggerInfraConfig {
+
+    /** 변경분만 전송용 지문 저장소. RemoteCache 가 있으면 인스턴스 간 공유, 없으면 프로세스 내 */
+    @Bean
+    @ConditionalOnProperty(prefix = "notification.push.change-only", name = "enabled", havingValue = "true")
+    public FingerprintStore fingerprintStore(
+            ObjectProvider<RemoteCache> remoteCache,
+            Clock clock,
+            @Value("${notification.push.change-only.ttl-hours:24}") long ttlHours
+    ) {
+        Duration ttl = Duration.ofHours(Math.max(1, ttlHours));
+        RemoteCache remote = remoteCache.getIfAvailable();
+        return (remote != null) ? new RemoteFingerprintStore(remote, ttl) : new InMemoryFingerprintStore(clock, ttl);
+    }
+}
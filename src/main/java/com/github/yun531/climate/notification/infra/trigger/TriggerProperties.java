@@ -1,24 +1,73 @@
 package com.github.yun531.climate.notification.infra.trigger;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 /**
  * 트리거 전송에 필요한 설정.
+ * - regionTopicPrefix: 서버 푸시 모드의 지역 토픽 접두사 (예: "region_" + regionId)
+ * - subscriberTopicPrefix: 구독자별 알림 토픽 접두사 (예: "user_" + subscriberId)
+ * - hourlyShards: 1 보다 크면 단계 전송 모드. 구독자를 hourlyTopic-0..N-1 로 나눠 받는다
+ * - shardSpreadSeconds: 전체 샤드를 균등 간격으로 흩뿌리는 구간
+ * - jitterHintSeconds: 클라이언트가 수신 후 무작위 지연할 상한 (0 이면 샤드 간격)
  */
 @ConfigurationProperties(prefix = "notification.trigger")
 public record TriggerProperties(
         String hourlyTopic,
         String dailyTopicPrefix,
-        long ttlSeconds
+        long ttlSeconds,
+        String regionTopicPrefix,
+        int hourlyShards,
+        int shardSpreadSeconds,
+        int jitterHintSeconds,
+        String subscriberTopicPrefix
 ) {
+    @ConstructorBinding
     public TriggerProperties {
         if (ttlSeconds <= 0) ttlSeconds = 600;    // 기본 10분
+        if (regionTopicPrefix == null || regionTopicPrefix.isBlank()) regionTopicPrefix = "region_";
+        if (hourlyShards <= 0) hourlyShards = 1;
+        if (shardSpreadSeconds <= 0) shardSpreadSeconds = 600;
+        if (jitterHintSeconds <= 0) jitterHintSeconds = shardSpreadSeconds / hourlyShards;
+        if (subscriberTopicPrefix == null || subscriberTopicPrefix.isBlank()) subscriberTopicPrefix = "user_";
+    }
+
+    public TriggerProperties(String hourlyTopic, String dailyTopicPrefix, long ttlSeconds, String regionTopicPrefix,
+                             int hourlyShards, int shardSpreadSeconds, int jitterHintSeconds) {
+        this(hourlyTopic, dailyTopicPrefix, ttlSeconds, regionTopicPrefix,
+                hourlyShards, shardSpreadSeconds, jitterHintSeconds, null);
+    }
+
+    /** 단계 전송 비활성 기본 정책 */
+    public TriggerProperties(String hourlyTopic, String dailyTopicPrefix, long ttlSeconds) {
+        this(hourlyTopic, dailyTopicPrefix, ttlSeconds, null, 1, 0, 0, null);
+    }
+
+    public boolean isStaged() {
+        return hourlyShards > 1;
+    }
+
+    public String hourlyShardTopic(int shard) {
+        return hourlyTopic + "-" + shard;
+    }
+
+    /** shard 번째 샤드의 전송 지연(ms). 0번은 즉시 */
+    public long shardDelayMillis(int shard) {
+        return (long) shardSpreadSeconds * 1000L * shard / hourlyShards;
     }
 
     public String dailyTopic(int hour) {
         return dailyTopicPrefix + String.format("%02d", hour);
     }
 
+    public String regionTopic(String regionId) {
+        return regionTopicPrefix + regionId;
+    }
+
+    public String subscriberTopic(String subscriberId) {
+        return subscriberTopicPrefix + subscriberId;
+    }
+
     public long ttlMillis() {
         return Math.multiplyExact(ttlSeconds, 1000L);
     }
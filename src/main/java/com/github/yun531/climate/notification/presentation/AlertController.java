@@ -4,9 +4,16 @@ import com.github.yun531.climate.notification.application.alert.GenerateAlertsSe
 import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
 import com.github.yun531.climate.notification.domain.model.AlertEvent;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
 import com.github.yun531.climate.warning.domain.model.WarningKind;
+import com.github.yun531.climate.shared.http.ResponseBodyCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,36 +27,49 @@ import java.util.Set;
 public class AlertController {
 
     private final GenerateAlertsService service;
+    private final ResponseBodyCache responseBodyCache;
 
     @GetMapping("/rain-onset")
     @Operation(
             summary = "일기예보 변동사항 알림",
-            description = "3시간 마다 발표되는 24시간이내의 일기예보의 변동사항에 대한 알림"
+            description = "3시간 마다 발표되는 24시간이내의 일기예보의 변동사항에 대한 알림. "
+                    + "tier: LIKELY / RAIN / HEAVY 단계 기준으로 판정 (미지정 시 기본 임계치)"
     )
-    public ResponseEntity<List<AlertEvent>> get3HourIntervalForecast(
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = AlertEvent.class))))
+    public ResponseEntity<byte[]> get3HourIntervalForecast(
             @RequestParam List<String> regionIds,
-            @RequestParam(value = "withinHours", required = false) Integer withinHours
+            @RequestParam(value = "withinHours", required = false) Integer withinHours,
+            @RequestParam(value = "tier", required = false) RainTier tier,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         if (withinHours != null && (withinHours < 1 || withinHours > 24)) withinHours = 24;
 
         var cmd = new GenerateAlertsCommand(
-                regionIds, null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, withinHours
+                regionIds, null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, withinHours, tier
         );
-        return ResponseEntity.ok(service.generate(cmd));
+        return cachedBody("alerts:rain-onset:" + service.responseKeyRegionIds(regionIds) + ":" + withinHours + ":" + tier,
+                cmd, acceptEncoding);
     }
 
     @GetMapping("/rain-forecast")
     @Operation(
             summary = "일기예보 요약 알림",
-            description = "24시간 이내의 비오는 시간대와, 7일이내의 오전/오후 일기예보 알림"
+            description = "24시간 이내의 비오는 시간대와, 7일이내의 오전/오후 일기예보 알림. "
+                    + "tier: LIKELY / RAIN / HEAVY 단계 기준으로 판정 (미지정 시 기본 임계치)"
     )
-    public ResponseEntity<List<AlertEvent>> getDayForecast(
-            @RequestParam List<String> regionIds
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = AlertEvent.class))))
+    public ResponseEntity<byte[]> getDayForecast(
+            @RequestParam List<String> regionIds,
+            @RequestParam(value = "tier", required = false) RainTier tier,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         var cmd = new GenerateAlertsCommand(
-                regionIds, null, EnumSet.of(AlertTypeEnum.RAIN_FORECAST), null, null
+                regionIds, null, EnumSet.of(AlertTypeEnum.RAIN_FORECAST), null, null, tier
         );
-        return ResponseEntity.ok(service.generate(cmd));
+        return cachedBody("alerts:rain-forecast:" + service.responseKeyRegionIds(regionIds) + ":" + tier,
+                cmd, acceptEncoding);
     }
 
     @GetMapping("/warning-issued")
@@ -78,18 +98,30 @@ public class AlertController {
             @RequestParam List<String> regionIds,
             @RequestParam(value = "withinHours", required = false) Integer withinHours,
             @RequestParam(value = "sinceHours", required = false) Integer sinceHours,
-            @RequestParam(value = "warningKinds", required = false) List<WarningKind> warningKinds
+            @RequestParam(value = "warningKinds", required = false) List<WarningKind> warningKinds,
+            @RequestParam(value = "tier", required = false) RainTier tier
     ) {
         if (withinHours != null && (withinHours < 1 || withinHours > 24)) withinHours = 24;
 
         var cmd = new GenerateAlertsCommand(
                 regionIds, sinceHours,
                 EnumSet.of(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.WARNING_ISSUED),
-                toEnumSet(warningKinds), withinHours
+                toEnumSet(warningKinds), withinHours, tier
         );
         return ResponseEntity.ok(service.generate(cmd));
     }
 
+    /**
+     * 스냅샷 기반 알림: (지역별 PopView 내용, nowHour) 버전 단위로 직렬화 바이트 재사용.
+     * 키는 정규화·정렬된 지역 목록으로 만들어 순서/공백만 다른 요청도 같은 엔트리를 쓴다
+     */
+    private ResponseEntity<byte[]> cachedBody(
+            String cacheKey, GenerateAlertsCommand cmd, String acceptEncoding
+    ) {
+        return responseBodyCache.getOrSerialize(cacheKey, service.responseVersion(cmd), () -> service.generate(cmd))
+                .write(ResponseEntity.ok(), acceptEncoding);
+    }
+
     private static Set<WarningKind> toEnumSet(List<WarningKind> kinds) {
         if (kinds == null || kinds.isEmpty()) return null;
         return EnumSet.copyOf(kinds);
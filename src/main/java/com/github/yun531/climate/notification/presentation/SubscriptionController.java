@@ -0,0 +1,105 @@
+package com.github.yun531.climate.notification.presentation;
+
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.subscription.AlertRule;
+import com.github.yun531.climate.notification.domain.subscription.QuietHours;
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 구독자별 알림 규칙 등록/조회/삭제.
+ * 구독자 단위로 통째로 교체한다 (지역마다 규칙 1개, 같은 지역이 두 번 오면 400).
+ * subscriberId 는 구독자 토픽 이름에 그대로 쓰이므로 [a-zA-Z0-9-_.~%] 문자만 허용한다 (그 외 400).
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/notification/subscriptions")
+@ConditionalOnProperty(prefix = "notification.subscriptions", name = "enabled", havingValue = "true")
+public class SubscriptionController {
+
+    private static final Pattern SUBSCRIBER_ID = Pattern.compile("[a-zA-Z0-9\\-_.~%]+");
+
+    private final SubscriptionRegistry registry;
+
+    @GetMapping("/{subscriberId}")
+    @Operation(summary = "구독 조회")
+    public ResponseEntity<List<Subscription>> get(@PathVariable String subscriberId) {
+        if (!isValidSubscriberId(subscriberId)) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(registry.findBySubscriber(subscriberId));
+    }
+
+    @PutMapping("/{subscriberId}")
+    @Operation(
+            summary = "구독 교체",
+            description = "지역별 알림 규칙. tier: LIKELY / RAIN / HEAVY, quietStart ~ quietEnd 동안은 전송하지 않음"
+    )
+    public ResponseEntity<List<Subscription>> replace(
+            @PathVariable String subscriberId,
+            @RequestBody List<SubscriptionRequest> requests
+    ) {
+        if (!isValidSubscriberId(subscriberId)) return ResponseEntity.badRequest().build();
+        if (requests != null && requests.contains(null)) return ResponseEntity.badRequest().build();
+
+        List<Subscription> subscriptions;
+        try {
+            subscriptions = (requests == null) ? List.of()
+                    : requests.stream().map(r -> r.toSubscription(subscriberId)).toList();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (hasDuplicateRegion(subscriptions)) return ResponseEntity.badRequest().build();
+
+        registry.replace(subscriberId, subscriptions);
+        return ResponseEntity.ok(subscriptions);
+    }
+
+    @DeleteMapping("/{subscriberId}")
+    @Operation(summary = "구독 삭제")
+    public ResponseEntity<Void> remove(@PathVariable String subscriberId) {
+        if (!isValidSubscriberId(subscriberId)) return ResponseEntity.badRequest().build();
+        return (registry.remove(subscriberId) > 0)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private static boolean isValidSubscriberId(String subscriberId) {
+        return subscriberId != null && SUBSCRIBER_ID.matcher(subscriberId).matches();
+    }
+
+    private static boolean hasDuplicateRegion(List<Subscription> subscriptions) {
+        Set<String> seen = new HashSet<>();
+        for (Subscription s : subscriptions) {
+            if (!seen.add(s.regionId())) return true;
+        }
+        return false;
+    }
+
+    public record SubscriptionRequest(
+            String regionId,
+            Set<AlertTypeEnum> types,
+            RainTier tier,
+            Set<WarningKind> warningKinds,
+            Integer withinHours,
+            LocalTime quietStart,
+            LocalTime quietEnd
+    ) {
+        Subscription toSubscription(String subscriberId) {
+            QuietHours quiet = (quietStart == null || quietEnd == null) ? null : new QuietHours(quietStart, quietEnd);
+            return new Subscription(subscriberId, regionId,
+                    new AlertRule(types, tier, warningKinds, withinHours, quiet));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.yun531.climate.shared.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 전체에 전파되는 캐시 무효화 요청.
+ * - kind: 캐시 소유자가 해석하는 구분값 (예: SnapKind 이름, "WARNING"). null 이면 지역 전체
+ * - announceTime: 지정 시 해당 발표시각 이하의 데이터를 담은 엔트리만 제거 (더 최신 엔트리는 유지)
+ */
+public record CacheInvalidation(
+        String regionId,
+        @Nullable String kind,
+        @Nullable LocalDateTime announceTime
+) {
+    public CacheInvalidation {
+        if (regionId == null || regionId.isBlank()) throw new IllegalArgumentException("regionId must not be blank");
+        if (kind != null && kind.isBlank()) kind = null;
+    }
+
+    public static CacheInvalidation region(String regionId) {
+        return new CacheInvalidation(regionId, null, null);
+    }
+
+    public boolean targets(String candidateKind) {
+        return kind == null || kind.equalsIgnoreCase(candidateKind);
+    }
+}
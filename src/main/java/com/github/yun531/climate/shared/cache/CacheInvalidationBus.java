@@ -0,0 +1,13 @@
+package com.github.yun531.climate.shared.cache;
+
+import java.util.Map;
+
+/**
+ * 캐시 무효화 전파 채널.
+ * publish 는 로컬 캐시에 즉시 반영하고, 구현에 따라 다른 인스턴스에도 전달한다.
+ */
+public interface CacheInvalidationBus {
+
+    /** 반환: 로컬 캐시 이름 -> 제거된 엔트리 수 */
+    Map<String, Integer> publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,39 @@
+package com.github.yun531.climate.shared.cache;
+
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    /**
+     * cache.invalidation.mode
+     * - local(기본): 현재 인스턴스에만 반영
+     * - jdbc: cache_invalidation 테이블 폴링으로 모든 인스턴스에 전파
+     *   lookback-seconds: 늦게 커밋된 행을 다시 확인하는 창, retention 정리는 SchedulerLock 으로 한 노드만
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            List<ManagedCache> caches,
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            SchedulerLock schedulerLock,
+            @Value("${cache.invalidation.mode:local}") String mode,
+            @Value("${cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${cache.invalidation.lookback-seconds:60}") int lookbackSeconds,
+            @Value("${cache.invalidation.retention-hours:24}") int retentionHours
+    ) {
+        LocalCacheInvalidationBus local = new LocalCacheInvalidationBus(caches);
+        if (!"jdbc".equalsIgnoreCase(mode)) return local;
+
+        return new JdbcCacheInvalidationBus(jdbcTemplate, local, clock, batchSize,
+                Duration.ofSeconds(lookbackSeconds), Duration.ofHours(retentionHours), schedulerLock);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.yun531.climate.shared.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 RemoteCache 스텁 (로컬 실행/테스트용).
+ * 프로세스 밖으로 공유되지 않으므로 운영 다중 인스턴스의 L2 역할은 하지 못한다.
+ * 운영용 L2 는 같은 RemoteCache 계약의 네트워크 저장소 구현으로 교체해야 한다.
+ * 같은 인스턴스를 여러 reader 가 공유하면 "다른 인스턴스가 채운 L2" 를 그대로 재현한다.
+ * 만료는 조회 시점에 판정하며, 값은 복사본으로 보관/반환한다.
+ */
+public class InMemoryRemoteCache implements RemoteCache {
+
+    private final Map<String, Stored> store = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemoryRemoteCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String key) {
+        if (key == null) return null;
+
+        Stored stored = store.get(key);
+        if (stored == null) return null;
+        if (!clock.instant().isBefore(stored.expiresAt())) {
+            store.remove(key, stored);
+            return null;
+        }
+        return stored.value().clone();
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        if (key == null || value == null || ttl == null || ttl.isZero() || ttl.isNegative()) return;
+        store.put(key, new Stored(value.clone(), clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public void evict(String key) {
+        if (key != null) store.remove(key);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private record Stored(byte[] value, Instant expiresAt) {}
+}
@@ -0,0 +1,151 @@
+package com.github.yun531.climate.shared.cache;
+
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * cache_invalidation 테이블을 통한 무효화 전파 (외부 브로커 불필요).
+ * - publish: 행 INSERT + 로컬 즉시 반영
+ * - poll: created_at 이 lookback 창 안인 행을 모든 인스턴스가 각자 읽어, 아직 반영하지 않은 id 만 로컬에 반영
+ *   auto-increment id 는 커밋 순서와 다를 수 있어(늦게 커밋된 작은 id) "마지막 id 이후" 대신 창 + 반영 id 집합으로 추적한다
+ *   (자기 자신이 발행한 행도 다시 반영되지만 무효화는 멱등이라 무해)
+ * - 첫 poll 도 창 안의 행을 반영 (기동 중 캐시 적재와 겹친 무효화를 놓치지 않음)
+ * - lookback 은 발행 트랜잭션의 커밋 지연 + 인스턴스 간 시계 오차보다 커야 한다
+ * - retention 이 지난 행 정리는 별도 주기(purge)로, SchedulerLock 을 잡은 한 노드만 수행
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cache_invalidation (region_id, kind, announce_time, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT invalidation_id, region_id, kind, announce_time, created_at
+              FROM cache_invalidation
+             WHERE created_at >= ? AND invalidation_id > ?
+             ORDER BY invalidation_id
+             LIMIT ?
+            """;
+
+    private static final String PURGE_SQL = "DELETE FROM cache_invalidation WHERE created_at < ?";
+    private static final String PURGE_LOCK = "cache.invalidation.purge";
+    private static final Duration PURGE_LOCK_HOLD = Duration.ofMinutes(10);
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, i) -> {
+        Timestamp announceTime = rs.getTimestamp("announce_time");
+        return new Row(
+                rs.getLong("invalidation_id"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                new CacheInvalidation(
+                        rs.getString("region_id"),
+                        rs.getString("kind"),
+                        (announceTime == null) ? null : announceTime.toLocalDateTime()));
+    };
+
+    private final JdbcTemplate jdbc;
+    private final LocalCacheInvalidationBus local;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration lookback;
+    private final Duration retention;
+    private final SchedulerLock schedulerLock;
+
+    /** lookback 창 안에서 이미 반영한 id -> created_at. drain(synchronized) 전용 */
+    private final Map<Long, LocalDateTime> appliedIds = new HashMap<>();
+
+    public JdbcCacheInvalidationBus(
+            JdbcTemplate jdbc,
+            LocalCacheInvalidationBus local,
+            Clock clock,
+            int batchSize,
+            Duration lookback,
+            Duration retention,
+            SchedulerLock schedulerLock
+    ) {
+        this.jdbc = jdbc;
+        this.local = local;
+        this.clock = clock;
+        this.batchSize = (batchSize <= 0) ? 500 : batchSize;
+        this.lookback = (lookback == null || lookback.isNegative() || lookback.isZero())
+                ? Duration.ofSeconds(60) : lookback;
+        this.retention = retention;
+        this.schedulerLock = schedulerLock;
+    }
+
+    @Override
+    public Map<String, Integer> publish(CacheInvalidation invalidation) {
+        jdbc.update(INSERT_SQL,
+                invalidation.regionId(),
+                invalidation.kind(),
+                invalidation.announceTime(),
+                LocalDateTime.now(clock));
+        return local.apply(invalidation);
+    }
+
+    @Scheduled(
+            initialDelayString = "${cache.invalidation.poll-interval-ms:2000}",
+            fixedDelayString = "${cache.invalidation.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("[CACHE-INVALIDATION] poll failed. tracked={}", trackedCount(), e);
+        }
+    }
+
+    /** lookback 창 안의 아직 반영하지 않은 무효화 행을 로컬에 반영하고 반영 건수를 반환 */
+    public synchronized int drain() {
+        LocalDateTime windowStart = LocalDateTime.now(clock).minus(lookback);
+
+        int applied = 0;
+        long cursor = 0;
+        List<Row> rows;
+        do {
+            rows = jdbc.query(SELECT_SQL, ROW_MAPPER, windowStart, cursor, batchSize);
+            for (Row row : rows) {
+                cursor = row.id();
+                if (appliedIds.putIfAbsent(row.id(), row.createdAt()) != null) continue;
+                local.apply(row.invalidation());
+                applied++;
+            }
+        } while (rows.size() == batchSize);
+
+        appliedIds.values().removeIf(createdAt -> createdAt.isBefore(windowStart));
+
+        if (applied > 0) log.info("[CACHE-INVALIDATION] applied={} tracked={}", applied, appliedIds.size());
+        return applied;
+    }
+
+    /** retention 이 지난 행 정리. 잠금을 잡은 한 노드만 수행하고 삭제 건수를 반환 (건너뛰면 0) */
+    @Scheduled(
+            initialDelayString = "${cache.invalidation.purge-interval-ms:3600000}",
+            fixedDelayString = "${cache.invalidation.purge-interval-ms:3600000}")
+    public int purge() {
+        if (retention == null || retention.isZero() || retention.isNegative()) return 0;
+        if (!schedulerLock.tryAcquire(PURGE_LOCK, PURGE_LOCK_HOLD)) return 0;
+
+        Duration keep = (retention.compareTo(lookback) < 0) ? lookback : retention;
+        int purged = jdbc.update(PURGE_SQL, LocalDateTime.now(clock).minus(keep));
+        if (purged > 0) log.info("[CACHE-INVALIDATION] purged={}", purged);
+        return purged;
+    }
+
+    private synchronized int trackedCount() {
+        return appliedIds.size();
+    }
+
+    private record Row(long id, LocalDateTime createdAt, CacheInvalidation invalidation) {}
+}
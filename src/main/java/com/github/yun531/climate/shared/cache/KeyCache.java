@@ -1,18 +1,45 @@
 package com.github.yun531.climate.shared.cache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * String key 기반 in-memory 캐시.
  * stale 판정은 {@link CacheEntry#isStale}에 위임한다.
+ * 히트/미스/stale 재계산 횟수를 집계하고, MeterRegistry 에 바인딩되면
+ * cache.gets / cache.refresh.stale / cache.size / cache.load(지연 히스토그램)를 cache=name 태그로 노출한다.
  */
-public class KeyCache<T> {
+public class KeyCache<T> implements MeterBinder {
 
+    private final String name;
     private final Map<String, CacheEntry<T>> entries = new ConcurrentHashMap<>();
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleRefreshes = new LongAdder();
+    private volatile Timer loadTimer;           // 바인딩 전에는 null (측정 안 함)
+
+    public KeyCache() {
+        this("default");
+    }
+
+    public KeyCache(String name) {
+        this.name = name;
+    }
+
     /**
      * 캐시 히트 시 기존 값 반환, stale 이면 loader로 재계산.
      * stale 판정은 {@link CacheEntry#isStale}에 위임한다.
@@ -24,13 +51,147 @@ public class KeyCache<T> {
             Supplier<CacheEntry<T>> loader
     ) {
         if (loader == null) throw new IllegalArgumentException("loader must not be null");
+        return getOrRecompute(key, referenceTime, toleranceMinutes, old -> loader.get());
+    }
+
+    /**
+     * getOrCompute 와 같지만, reloader 가 기존(stale) 엔트리를 받아 재계산 여부/결과를 결정한다.
+     * - reloader 가 old 를 그대로 반환하면 기존 엔트리 유지
+     * - null 반환 시 엔트리 제거
+     */
+    public CacheEntry<T> getOrRecompute(
+            String key,
+            LocalDateTime referenceTime,
+            int toleranceMinutes,
+            UnaryOperator<CacheEntry<T>> reloader
+    ) {
+        return getOrRecompute(key, referenceTime, toleranceMinutes, entry -> true, reloader);
+    }
+
+    /**
+     * getOrRecompute 와 같지만, stale 이 아니어도 valid 를 만족하지 않는 엔트리(같은 기준시각의 정정본 등)는 재계산한다.
+     */
+    public CacheEntry<T> getOrRecompute(
+            String key,
+            LocalDateTime referenceTime,
+            int toleranceMinutes,
+            Predicate<CacheEntry<T>> valid,
+            UnaryOperator<CacheEntry<T>> reloader
+    ) {
+        if (reloader == null) throw new IllegalArgumentException("loader must not be null");
+        if (valid == null) throw new IllegalArgumentException("valid must not be null");
 
         // read-compute-write 전체 과정의 atomic 보장
         return entries.compute(key, (k, old) -> {
-            if (old == null || old.isStale(referenceTime, toleranceMinutes)) {
-                return loader.get();
+            if (old == null) {
+                misses.increment();
+                return load(reloader, null);
             }
+            if (old.isStale(referenceTime, toleranceMinutes) || !valid.test(old)) {
+                staleRefreshes.increment();
+                return load(reloader, old);
+            }
+            hits.increment();
             return old;
         });
     }
-}
\ No newline at end of file
+
+    /** stale 이 아닌 엔트리만 반환. 없거나 stale 이면 null (재계산하지 않음) */
+    public CacheEntry<T> getIfFresh(String key, LocalDateTime referenceTime, int toleranceMinutes) {
+        if (key == null) return null;
+
+        CacheEntry<T> entry = entries.get(key);
+        if (entry == null || entry.isStale(referenceTime, toleranceMinutes)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /** 백그라운드 재조회 결과 등 외부에서 계산된 엔트리를 반영. entry 가 null 이면 무시 */
+    public void put(String key, CacheEntry<T> entry) {
+        if (key == null || entry == null) return;
+        entries.put(key, entry);
+    }
+
+    /** 키 1건 제거. 제거되었으면 true */
+    public boolean invalidate(String key) {
+        if (key == null) return false;
+        return entries.remove(key) != null;
+    }
+
+    /** condition 을 만족하는 경우에만 키 1건 제거 (판정과 제거는 atomic). 제거되었으면 true */
+    public boolean invalidateIf(String key, Predicate<CacheEntry<T>> condition) {
+        if (key == null || condition == null) return false;
+
+        boolean[] removed = {false};
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (!condition.test(entry)) return entry;
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /** 전체 제거. 제거된 엔트리 수 반환 (집계 카운터는 유지) */
+    public int clear() {
+        int removed = entries.size();
+        entries.clear();
+        return removed;
+    }
+
+    /** 키 -> anchor 스냅샷 (키 정렬) */
+    public Map<String, LocalDateTime> anchors() {
+        Map<String, LocalDateTime> out = new TreeMap<>();
+        entries.forEach((key, entry) -> out.put(key, entry.anchor()));
+        return out;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), staleRefreshes.sum(), entries.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::doubleValue)
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::doubleValue)
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.refresh.stale", staleRefreshes, LongAdder::doubleValue)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .tag("cache", name)
+                .register(registry);
+        loadTimer = Timer.builder("cache.load")
+                .tag("cache", name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private CacheEntry<T> load(UnaryOperator<CacheEntry<T>> reloader, CacheEntry<T> old) {
+        Timer timer = loadTimer;
+        if (timer == null) return reloader.apply(old);
+
+        long startedAt = System.nanoTime();
+        try {
+            return reloader.apply(old);
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 누적 집계 스냅샷 */
+    public record CacheStats(String name, long hits, long misses, long staleRefreshes, int size) {}
+}
@@ -0,0 +1,40 @@
+package com.github.yun531.climate.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 인스턴스의 ManagedCache 에만 반영하는 버스 (단일 인스턴스 / 전파 구현의 로컬 적용부).
+ */
+@Slf4j
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<ManagedCache> caches;
+
+    public LocalCacheInvalidationBus(List<ManagedCache> caches) {
+        this.caches = List.copyOf(caches);
+    }
+
+    @Override
+    public Map<String, Integer> publish(CacheInvalidation invalidation) {
+        return apply(invalidation);
+    }
+
+    /** 캐시 1개의 실패가 나머지 반영을 막지 않도록 개별 처리 */
+    public Map<String, Integer> apply(CacheInvalidation invalidation) {
+        Map<String, Integer> removed = new LinkedHashMap<>();
+        for (ManagedCache cache : caches) {
+            String name = cache.cacheStats().name();
+            try {
+                removed.put(name, cache.invalidate(invalidation));
+            } catch (RuntimeException e) {
+                log.warn("[CACHE-INVALIDATION] apply failed. cache={} invalidation={}", name, invalidation, e);
+                removed.put(name, -1);
+            }
+        }
+        return removed;
+    }
+}
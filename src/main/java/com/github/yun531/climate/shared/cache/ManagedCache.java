@@ -0,0 +1,34 @@
+package com.github.yun531.climate.shared.cache;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 운영 중 조회/무효화/워밍업이 가능한 캐시 소유자 계약.
+ * 지역 단위 조작은 구현체가 자신의 캐시 키 규칙으로 변환한다.
+ */
+public interface ManagedCache {
+
+    KeyCache.CacheStats cacheStats();
+
+    /** 캐시 키 -> anchor */
+    Map<String, LocalDateTime> cacheAnchors();
+
+    /** 지역의 모든 엔트리 제거. 제거된 엔트리 수 반환 */
+    int invalidateRegion(String regionId);
+
+    /**
+     * 무효화 버스로 전달된 요청 반영. 제거된 엔트리 수 반환.
+     * 기본 구현은 kind 미지정 요청만 지역 전체 제거로 처리하며, kind 를 해석하는 캐시는 재정의한다.
+     */
+    default int invalidate(CacheInvalidation invalidation) {
+        return (invalidation.kind() == null) ? invalidateRegion(invalidation.regionId()) : 0;
+    }
+
+    /** 전체 제거. 제거된 엔트리 수 반환 */
+    int flush();
+
+    /** 지역 목록을 미리 적재. 값이 채워진 지역 수 반환 */
+    int warmUp(Collection<String> regionIds);
+}
@@ -0,0 +1,21 @@
+package com.github.yun531.climate.shared.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 공유되는 L2 캐시 계약 (바이트 값).
+ * 직렬화는 호출자가 담당하고, 구현체는 저장/만료만 책임진다.
+ * 원격 저장소 장애가 원천 조회를 막지 않도록, 구현체는 실패 시 예외 대신 miss(null)/무시로 처리한다.
+ */
+public interface RemoteCache {
+
+    /** 없거나 만료되었으면 null */
+    @Nullable
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+}
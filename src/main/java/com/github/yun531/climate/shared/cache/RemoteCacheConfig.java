@@ -0,0 +1,24 @@
+package com.github.yun531.climate.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Slf4j
+@Configuration
+public class RemoteCacheConfig {
+
+    /**
+     * cache.remote.type=memory: 프로세스 내 스텁 (인스턴스 간 공유 안 됨, 로컬 실행/테스트 전용).
+     * 네트워크 저장소 구현은 같은 RemoteCache 계약으로 추가한다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.remote", name = "type", havingValue = "memory")
+    public RemoteCache inMemoryRemoteCache(Clock clock) {
+        log.warn("[REMOTE-CACHE] in-memory stub enabled. entries are not shared across instances");
+        return new InMemoryRemoteCache(clock);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.yun531.climate.shared.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link BinaryWriter} 로 기록한 바이트를 같은 순서로 읽는다.
+ * 잘린/손상된 입력은 IllegalArgumentException.
+ */
+public class BinaryReader {
+
+    private final byte[] buf;
+    private int pos;
+
+    public BinaryReader(byte[] buf) {
+        if (buf == null) throw new IllegalArgumentException("buf must not be null");
+        this.buf = buf;
+    }
+
+    public int readByte() {
+        if (pos >= buf.length) throw new IllegalArgumentException("unexpected end of data at " + pos);
+        return buf[pos++] & 0xFF;
+    }
+
+    public long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("varint too long at " + pos);
+    }
+
+    public long readSignedVarint() {
+        return unzigzag(readVarint());
+    }
+
+    /** varint 를 int 범위 개수(리스트 크기 등)로 읽는다 */
+    public int readCount() {
+        long count = readVarint();
+        if (count > buf.length - pos) throw new IllegalArgumentException("count exceeds remaining data: " + count);
+        return (int) count;
+    }
+
+    public Integer readNullableInt() {
+        long raw = readVarint();
+        return (raw == 0) ? null : Math.toIntExact(unzigzag(raw - 1));
+    }
+
+    public Integer readPop() {
+        int b = readByte();
+        return (b == BinaryWriter.NULL_POP) ? null : b;
+    }
+
+    public String readString() {
+        long raw = readVarint();
+        if (raw == 0) return null;
+
+        int length = (int) (raw - 1);
+        if (length < 0 || length > buf.length - pos) throw new IllegalArgumentException("string exceeds remaining data");
+        String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return value;
+    }
+
+    public LocalDateTime readTime(LocalDateTime base) {
+        long raw = readVarint();
+        if (raw == 0) return null;
+
+        long tagged = raw - 1;
+        long delta = unzigzag(tagged >>> 1);
+        long seconds = ((tagged & 1) == 1) ? delta * 3600 : delta;
+        long baseSeconds = (base == null) ? 0 : BinaryWriter.epochSecond(base);
+        return LocalDateTime.ofEpochSecond(baseSeconds + seconds, 0, ZoneOffset.UTC);
+    }
+
+    public boolean hasRemaining() {
+        return pos < buf.length;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.yun531.climate.shared.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 가변 길이 정수 기반 바이너리 기록기. {@link BinaryReader} 와 짝을 이룬다.
+ * - varint: 7비트 단위 LEB128 (작은 값일수록 적은 바이트)
+ * - signed: zigzag 변환 후 varint (작은 음수도 1바이트)
+ * - nullable 값은 0 을 null 로 예약하고 실제 값은 +1 하여 기록
+ * - 시각: 기준 시각과의 차이를 기록. 정시 차이면 시간 단위, 아니면 초 단위 (최하위 비트로 구분)
+ *   -> 1시간 간격 시계열의 각 시각은 1바이트
+ * - POP: 0~254 를 1바이트로, null 은 0xFF
+ */
+public class BinaryWriter {
+
+    public static final int NULL_POP = 0xFF;
+
+    private byte[] buf;
+    private int size;
+
+    public BinaryWriter() {
+        this(128);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensure(1);
+        buf[size++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeVarint(long value) {
+        if (value < 0) throw new IllegalArgumentException("varint must not be negative: " + value);
+        return writeUnsigned(value);
+    }
+
+    public BinaryWriter writeSignedVarint(long value) {
+        return writeUnsigned(zigzag(value));
+    }
+
+    public BinaryWriter writeNullableInt(Integer value) {
+        return (value == null) ? writeVarint(0) : writeVarint(zigzag(value) + 1);
+    }
+
+    public BinaryWriter writePop(Integer pop) {
+        if (pop == null) return writeByte(NULL_POP);
+        if (pop < 0 || pop >= NULL_POP) throw new IllegalArgumentException("pop out of byte range: " + pop);
+        return writeByte(pop);
+    }
+
+    public BinaryWriter writeString(String value) {
+        if (value == null) return writeVarint(0);
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1L);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    /** base 가 null 이면 epoch 기준 절대 시각 */
+    public BinaryWriter writeTime(LocalDateTime base, LocalDateTime time) {
+        if (time == null) return writeVarint(0);
+
+        long seconds = epochSecond(time) - ((base == null) ? 0 : epochSecond(base));
+        long tagged = (seconds % 3600 == 0)
+                ? (zigzag(seconds / 3600) << 1) | 1
+                : zigzag(seconds) << 1;
+        return writeVarint(tagged + 1);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** value 를 부호 없는 64비트로 보고 기록 */
+    private BinaryWriter writeUnsigned(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[size++] = (byte) value;
+        return this;
+    }
+
+    static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.yun531.climate.shared.codec;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 명시적 필드 인코딩 기반 64비트 FNV-1a 누적 해시.
+ * toString / hashCode 에 기대지 않으므로 JVM·인스턴스가 달라도 같은 내용이면 같은 값이다.
+ * - null 은 값과 구분되는 표지 바이트로 기록
+ * - 시각은 UTC 기준 epoch 초, 문자열은 UTF-16 코드 단위 + 길이
+ */
+public final class ContentHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int NULL_MARK = 0x00;
+    private static final int VALUE_MARK = 0x01;
+
+    private long hash = FNV_OFFSET;
+
+    public static ContentHash start() {
+        return new ContentHash();
+    }
+
+    public ContentHash add(long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            mixByte((int) (value >>> shift));
+        }
+        return this;
+    }
+
+    public ContentHash add(int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            mixByte(value >>> shift);
+        }
+        return this;
+    }
+
+    public ContentHash add(@Nullable Integer value) {
+        if (value == null) return mark(NULL_MARK);
+        return mark(VALUE_MARK).add(value.intValue());
+    }
+
+    public ContentHash add(@Nullable LocalDateTime value) {
+        if (value == null) return mark(NULL_MARK);
+        return mark(VALUE_MARK).add(value.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    public ContentHash add(@Nullable String value) {
+        if (value == null) return mark(NULL_MARK);
+
+        mark(VALUE_MARK).add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            mixByte(c);
+            mixByte(c >>> 8);
+        }
+        return this;
+    }
+
+    public ContentHash add(@Nullable Enum<?> value) {
+        return add((value == null) ? null : value.name());
+    }
+
+    public long value() {
+        return hash;
+    }
+
+    private ContentHash mark(int mark) {
+        mixByte(mark);
+        return this;
+    }
+
+    private void mixByte(int b) {
+        hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.yun531.climate.shared.codec;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * enum <-> 바이너리 코드 고정 매핑.
+ * 코드는 생성 시 넘긴 배열의 위치(1부터, 0 = null)이므로
+ * enum 선언 순서가 바뀌어도 포맷이 유지된다. 새 상수는 배열 끝에만 추가한다.
+ */
+public final class EnumCodes<E extends Enum<E>> {
+
+    private final E[] byCode;
+    private final Map<E, Integer> codes;
+
+    @SafeVarargs
+    public EnumCodes(Class<E> type, E... byCode) {
+        this.byCode = byCode.clone();
+        this.codes = new EnumMap<>(type);
+        for (int i = 0; i < byCode.length; i++) codes.put(byCode[i], i + 1);
+        if (codes.size() != type.getEnumConstants().length) {
+            throw new IllegalArgumentException("all constants of " + type.getSimpleName() + " must be mapped once");
+        }
+    }
+
+    public void write(BinaryWriter out, E value) {
+        out.writeByte((value == null) ? 0 : codes.get(value));
+    }
+
+    public E read(BinaryReader in) {
+        int code = in.readByte();
+        if (code == 0) return null;
+        if (code > byCode.length) throw new IllegalArgumentException("unknown enum code: " + code);
+        return byCode[code - 1];
+    }
+}
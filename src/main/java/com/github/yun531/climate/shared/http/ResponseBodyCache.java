@@ -0,0 +1,178 @@
+package com.github.yun531.climate.shared.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 JSON 응답 바이트 캐시.
+ * - key     : (엔드포인트, 지역, 파라미터)
+ * - version : 응답 내용이 바뀌는 기준(발표시각, 시프트 시각 등). 다르면 재직렬화
+ * - gzip    : gzipMinBytes 이상이면 압축본도 함께 보관, Accept-Encoding 이 gzip 을 허용(q > 0)하면 그대로 사용
+ *             압축본은 표현이 다르므로 ETag 도 별도("...-gz")로 내려준다.
+ * 엔트리 수가 maxEntries 를 넘으면 임의 엔트리 1개를 제거한다.
+ */
+public class ResponseBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int gzipMinBytes;
+
+    private final Map<String, CachedBody> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param gzipMinBytes 0 이하면 gzip 비활성
+     */
+    public ResponseBodyCache(ObjectMapper objectMapper, boolean enabled, int maxEntries, int gzipMinBytes) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * 같은 key/version 의 직렬화 결과가 있으면 재사용, 없으면 viewLoader 결과를 직렬화해 저장.
+     * version 이 null 이거나 캐시 비활성이면 저장하지 않는다. viewLoader 가 null 을 반환하면 null.
+     */
+    @Nullable
+    public CachedBody getOrSerialize(String key, @Nullable String version, Supplier<?> viewLoader) {
+        if (!enabled || key == null || version == null) {
+            return serialize(null, viewLoader.get());
+        }
+
+        CachedBody cached = entries.get(key);
+        if (cached != null && version.equals(cached.version())) return cached;
+
+        CachedBody created = serialize(version, viewLoader.get());
+        if (created == null) {
+            entries.remove(key);
+            return null;
+        }
+
+        if (!entries.containsKey(key)) evictIfFull();
+        entries.put(key, created);
+        return created;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull() {
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    @Nullable
+    private CachedBody serialize(@Nullable String version, @Nullable Object view) {
+        if (view == null) return null;
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(view);
+            byte[] gzip = (gzipMinBytes > 0 && json.length >= gzipMinBytes) ? gzip(json) : null;
+            return new CachedBody(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("response serialization failed", e);
+        }
+    }
+
+    /** 압축 표현용 ETag. 따옴표 안쪽 끝에 -gz 를 붙인다 ("abc" -> "abc-gz") */
+    public static String gzipETag(String etag) {
+        if (etag.length() >= 2 && etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+        return etag + "-gz";
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 판단한다.
+     * gzip(x-gzip) 항목의 q 값을 우선하고, 없으면 * 항목의 q 값을 따른다. q=0 은 거부.
+     */
+    public static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+
+        double gzipQ = -1;
+        double wildcardQ = -1;
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = qValue(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) gzipQ = Math.max(gzipQ, q);
+            else if (coding.equals("*")) wildcardQ = Math.max(wildcardQ, q);
+        }
+        double q = (gzipQ >= 0) ? gzipQ : wildcardQ;
+        return q > 0;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (!param.regionMatches(true, 0, "q=", 0, 2)) continue;
+            try {
+                return Double.parseDouble(param.substring(2).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] src) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, src.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(src);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** 직렬화된 응답. gzip 은 압축 대상이 아니면 null */
+    public record CachedBody(
+            @Nullable String version,
+            byte[] json,
+            @Nullable byte[] gzip
+    ) {
+        /** Accept-Encoding 이 gzip 을 허용하고 압축본이 있으면 압축본을 그대로 내려준다 */
+        public ResponseEntity<byte[]> write(ResponseEntity.BodyBuilder builder, @Nullable String acceptEncoding) {
+            return write(builder, acceptEncoding, null);
+        }
+
+        /** etag 가 있으면 실제로 내려주는 표현에 맞는 ETag(원본 또는 -gz)를 함께 설정한다 */
+        public ResponseEntity<byte[]> write(
+                ResponseEntity.BodyBuilder builder, @Nullable String acceptEncoding, @Nullable String etag
+        ) {
+            builder.contentType(MediaType.APPLICATION_JSON);
+            if (gzip == null) {
+                if (etag != null) builder.eTag(etag);
+                return builder.body(json);
+            }
+
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (!acceptsGzip(acceptEncoding)) {
+                if (etag != null) builder.eTag(etag);
+                return builder.body(json);
+            }
+
+            if (etag != null) builder.eTag(gzipETag(etag));
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+    }
+}
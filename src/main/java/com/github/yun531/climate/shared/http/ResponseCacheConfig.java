@@ -0,0 +1,20 @@
+package com.github.yun531.climate.shared.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseBodyCache responseBodyCache(
+            ObjectMapper objectMapper,
+            @Value("${http.response-cache.enabled:true}") boolean enabled,
+            @Value("${http.response-cache.max-entries:10000}") int maxEntries,
+            @Value("${http.response-cache.gzip-min-bytes:1024}") int gzipMinBytes
+    ) {
+        return new ResponseBodyCache(objectMapper, enabled, maxEntries, gzipMinBytes);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.yun531.climate.shared.resilience;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 호출 스레드를 막지 않는 동시 실행 제한.
+ * - 여유 permit 이 있으면 작업을 호출 스레드에서 바로 시작한다.
+ * - 없으면 대기열에 넣고 즉시 future 를 반환한다. 앞선 작업의 future 가 완료되어 permit 이 반환되면
+ *   대기열의 다음 작업을 dispatcher 에서 시작한다 (완료 스레드에서 연쇄 호출되지 않게).
+ * 작업이 반환한 future 가 완료될 때 permit 을 반환한다.
+ */
+public class AsyncPermits {
+
+    private final Executor dispatcher;
+    private final Deque<Runnable> waiters = new ArrayDeque<>();
+    private int available;
+
+    public AsyncPermits(int permits, Executor dispatcher) {
+        this.available = Math.max(1, permits);
+        this.dispatcher = dispatcher;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> start(task, result);
+
+        boolean acquired;
+        synchronized (this) {
+            acquired = available > 0;
+            if (acquired) available--;
+            else waiters.addLast(start);
+        }
+        if (acquired) start.run();
+        return result;
+    }
+
+    /** 대기 중인 작업 수 */
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+        CompletableFuture<T> running;
+        try {
+            running = task.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+
+        running.whenComplete((value, error) -> {
+            release();
+            if (error == null) result.complete(value);
+            else result.completeExceptionally(error);
+        });
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiters.pollFirst();
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+
+        try {
+            dispatcher.execute(next);
+        } catch (RejectedExecutionException e) {
+            next.run();                         // dispatcher 종료 후에도 대기 작업은 마저 처리
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.yun531.climate.shared.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 응답 지연(ms)을 보관하는 고정 크기 링 버퍼.
+ * 백분위 지연은 hedge 요청 발사 시점 계산에 사용한다.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    public LatencyWindow(int size) {
+        if (size <= 0) throw new IllegalArgumentException("size must be > 0");
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = Math.max(0, latencyMillis);
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * percentile(0 < p <= 1) 지연. 샘플이 minSamples 미만이면 -1.
+     */
+    public long percentile(double p, int minSamples) {
+        long[] copy;
+        synchronized (this) {
+            if (count == 0 || count < minSamples) return -1;
+            copy = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(copy);
+
+        double clamped = Math.min(1.0, Math.max(0.0, p));
+        int idx = (int) Math.ceil(clamped * copy.length) - 1;
+        return copy[Math.max(0, idx)];
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.yun531.climate.shared.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 허용량 기반의 균등 간격 rate limiter.
+ * - 요청마다 permits 만큼의 시간을 예약하고, 예약 시작 시각까지 대기한다.
+ *   (비동기 호출자는 reserve 가 돌려준 시간만큼 지연 실행한다)
+ * - permitsPerSecond 가 0 이하이면 제한 없음
+ */
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+    private final LongSupplier nanoTime;
+
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    RateLimiter(double permitsPerSecond, LongSupplier nanoTime) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.nanoTime = nanoTime;
+        this.nextFreeNanos = nanoTime.getAsLong();
+    }
+
+    public boolean isUnlimited() {
+        return permitsPerSecond <= 0;
+    }
+
+    /** permits 만큼 예약하고, 필요한 만큼 대기한다 */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /** permits 만큼 예약하고, 호출자가 대기해야 할 나노초를 반환 */
+    public synchronized long reserve(int permits) {
+        if (isUnlimited() || permits <= 0) return 0;
+
+        long now = nanoTime.getAsLong();
+        long startAt = Math.max(now, nextFreeNanos);
+        nextFreeNanos = startAt + (long) (permits * 1_000_000_000L / permitsPerSecond);
+        return startAt - now;
+    }
+}
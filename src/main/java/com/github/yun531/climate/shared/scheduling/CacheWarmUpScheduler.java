@@ -0,0 +1,43 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.shared.cache.ManagedCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 발표 직후 캐시 워밍업.
+ * 다중 인스턴스에서는 RegionPartitioner 가 배정한 지역만 적재해 노드 간 중복 조회를 피한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cache.warm-up", name = "enabled", havingValue = "true")
+public class CacheWarmUpScheduler {
+
+    private final List<ManagedCache> caches;
+    private final RegionCatalog regionCatalog;
+    private final RegionPartitioner partitioner;
+
+    @Scheduled(cron = "${cache.warm-up.cron:0 15 2-23/3 * * *}")
+    public void warmUp() {
+        List<String> owned = partitioner.partition(regionCatalog.regionIds());
+        if (owned.isEmpty()) return;
+
+        for (ManagedCache cache : caches) {
+            String name = cache.cacheStats().name();
+            try {
+                int loaded = cache.warmUp(owned);
+                log.info("[CACHE-WARMUP] {} loaded={}/{} node={}/{}",
+                        name, loaded, owned.size(), partitioner.nodeIndex(), partitioner.nodeCount());
+            } catch (Exception e) {
+                log.warn("[CACHE-WARMUP] {} failed. regions={}", name, owned.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * scheduler_lock 테이블 기반 SchedulerLock.
+ * - 만료된(locked_until <= now) 행만 조건부 UPDATE 로 가져가므로 동시에 한 인스턴스만 성공
+ * - 행이 없으면 INSERT, PK 충돌이면 다른 인스턴스가 먼저 획득한 것
+ * - release 는 자신(locked_by)이 잡은 미만료 행의 locked_until 을 현재 시각으로 당긴다
+ */
+@Slf4j
+public class JdbcSchedulerLock implements SchedulerLock {
+
+    private static final String UPDATE_SQL = """
+            UPDATE scheduler_lock
+               SET locked_until = ?, locked_at = ?, locked_by = ?
+             WHERE lock_name = ? AND locked_until <= ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO scheduler_lock (lock_name, locked_until, locked_at, locked_by)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE scheduler_lock
+               SET locked_until = ?
+             WHERE lock_name = ? AND locked_by = ? AND locked_until > ?
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final Clock clock;
+    private final String instanceId;
+
+    public JdbcSchedulerLock(JdbcTemplate jdbc, Clock clock, String instanceId) {
+        this.jdbc = jdbc;
+        this.clock = clock;
+        this.instanceId = instanceId;
+    }
+
+    @Override
+    public boolean tryAcquire(String lockName, Duration holdFor) {
+        if (lockName == null || lockName.isBlank()) throw new IllegalArgumentException("lockName must not be blank");
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.plus(holdFor);
+
+        if (jdbc.update(UPDATE_SQL, until, now, instanceId, lockName, now) > 0) return true;
+
+        try {
+            return jdbc.update(INSERT_SQL, lockName, until, now, instanceId) > 0;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[SCHEDULER] lock held elsewhere. lock={} instance={}", lockName, instanceId);
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String lockName) {
+        if (lockName == null || lockName.isBlank()) return;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbc.update(RELEASE_SQL, now, lockName, instanceId, now);
+    }
+}
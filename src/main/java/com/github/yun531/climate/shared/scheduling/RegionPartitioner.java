@@ -0,0 +1,46 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 지역 해시로 작업을 노드에 나눈다. 노드 i 는 floorMod(regionId.hashCode(), nodeCount) == i 인 지역만 담당.
+ * String.hashCode 는 JVM 간 동일하므로 설정(nodeIndex, nodeCount)만 맞으면 노드 간 중복/누락이 없다.
+ */
+public class RegionPartitioner {
+
+    private final int nodeIndex;
+    private final int nodeCount;
+
+    public RegionPartitioner(int nodeIndex, int nodeCount) {
+        if (nodeCount <= 0) throw new IllegalArgumentException("nodeCount must be > 0");
+        if (nodeIndex < 0 || nodeIndex >= nodeCount) {
+            throw new IllegalArgumentException("nodeIndex must be in [0, nodeCount)");
+        }
+        this.nodeIndex = nodeIndex;
+        this.nodeCount = nodeCount;
+    }
+
+    /** 분할 없음 (단일 노드) */
+    public static RegionPartitioner single() {
+        return new RegionPartitioner(0, 1);
+    }
+
+    public boolean owns(String regionId) {
+        if (regionId == null) return false;
+        return Math.floorMod(regionId.hashCode(), nodeCount) == nodeIndex;
+    }
+
+    public List<String> partition(Collection<String> regionIds) {
+        if (regionIds == null) return List.of();
+        return regionIds.stream().filter(this::owns).toList();
+    }
+
+    public int nodeIndex() {
+        return nodeIndex;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+}
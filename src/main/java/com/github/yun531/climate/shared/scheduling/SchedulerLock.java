@@ -0,0 +1,24 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import java.time.Duration;
+
+/**
+ * 다중 인스턴스에서 같은 스케줄 작업이 한 곳에서만 실행되도록 하는 tick 단위 잠금.
+ * 획득한 잠금은 기본적으로 holdFor 동안 유지되며 해제하지 않는다 (같은 tick 의 늦은 실행도 막기 위함).
+ * holdFor 는 작업 주기보다 짧아야 다음 tick 을 막지 않는다.
+ * 짧은 주기로 반복하는 작업은 holdFor 를 작업 소요 상한으로 잡고, 끝나면 release 로 즉시 돌려준다.
+ */
+public interface SchedulerLock {
+
+    /** 획득하면 true. 다른 인스턴스가 holdFor 안에 이미 획득했으면 false */
+    boolean tryAcquire(String lockName, Duration holdFor);
+
+    /** 이 인스턴스가 잡고 있는 잠금을 만료 전에 돌려준다. 이미 만료되었거나 다른 인스턴스 소유면 무시 */
+    default void release(String lockName) {
+    }
+
+    /** 단일 인스턴스용: 항상 획득 */
+    static SchedulerLock alwaysAcquire() {
+        return (lockName, holdFor) -> true;
+    }
+}
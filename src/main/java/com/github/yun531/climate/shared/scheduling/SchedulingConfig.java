@@ -0,0 +1,35 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+
+@Configuration
+public class SchedulingConfig {
+
+    /** scheduler.lock.enabled=false(기본)면 단일 인스턴스로 보고 항상 획득 */
+    @Bean
+    public SchedulerLock schedulerLock(
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${scheduler.lock.enabled:false}") boolean enabled,
+            @Value("${scheduler.instance-id:}") String instanceId
+    ) {
+        if (!enabled) return SchedulerLock.alwaysAcquire();
+
+        String id = instanceId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : instanceId;
+        return new JdbcSchedulerLock(jdbcTemplate, clock, id);
+    }
+
+    @Bean
+    public RegionPartitioner regionPartitioner(
+            @Value("${scheduler.partition.node-index:0}") int nodeIndex,
+            @Value("${scheduler.partition.node-count:1}") int nodeCount
+    ) {
+        return new RegionPartitioner(nodeIndex, nodeCount);
+    }
+}
@@ -1,10 +1,14 @@
 package com.github.yun531.climate.shared.time;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 
 public final class TimeUtil {
 
+    /** 발표시각/구독자 시간대 등 서비스 기준 시간대 */
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private TimeUtil() { }
 
     public static LocalDateTime nowTruncatedToMinute() {
@@ -14,4 +18,10 @@ public final class TimeUtil {
     public static LocalDateTime truncateToMinutes(LocalDateTime t) {
         return t == null ? null : t.truncatedTo(ChronoUnit.MINUTES);
     }
-}
\ No newline at end of file
+
+    /** zone 기준 t 를 KST 벽시계 시각으로 변환 */
+    public static LocalDateTime toKst(LocalDateTime t, ZoneId zone) {
+        if (t == null) return null;
+        return (zone == null || KST.equals(zone)) ? t : t.atZone(zone).withZoneSameInstant(KST).toLocalDateTime();
+    }
+}
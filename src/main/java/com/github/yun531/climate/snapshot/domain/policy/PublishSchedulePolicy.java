@@ -45,6 +45,14 @@ public class PublishSchedulePolicy {
         };
     }
 
+    /** 다음 발표가 접근 가능해지는 시각. (최신 발표시각 + 3시간 + delay) */
+    public LocalDateTime nextAvailableTime(LocalDateTime now) {
+        LocalDateTime latest = latestAvailableAnnounceTime(now);
+        if (latest == null) return null;
+
+        return latest.plusHours(3).plusMinutes(availableDelayMinutes);
+    }
+
     /** now 기준 접근 가능한 최신 발표시각. cutoff(now - delay) 이하인 후보 중 최대 */
     public LocalDateTime latestAvailableAnnounceTime(LocalDateTime now) {
         if (now == null) return null;
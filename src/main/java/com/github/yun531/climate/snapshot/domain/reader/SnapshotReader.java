@@ -4,6 +4,10 @@ import com.github.yun531.climate.snapshot.domain.model.SnapKind;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
 import org.springframework.lang.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 스냅샷 읽기 계약.
  * - 외부 소비자는 SnapKind를 알 필요 없이 의미 단위 메서드로 호출한다.
@@ -16,4 +20,19 @@ public interface SnapshotReader {
 
     @Nullable
     WeatherSnapshot loadPrevious(String regionId);
+
+    /**
+     * 여러 지역의 현재 스냅샷 일괄 조회. 결과는 regionId -> 스냅샷(입력 순서 유지), 없는 지역은 제외.
+     * 기본 구현은 지역별 loadCurrent 반복이며, 구현체가 일괄 조회 경로로 대체할 수 있다.
+     */
+    default Map<String, WeatherSnapshot> loadCurrentAll(Collection<String> regionIds) {
+        Map<String, WeatherSnapshot> out = new LinkedHashMap<>();
+        if (regionIds == null) return out;
+
+        for (String regionId : regionIds) {
+            WeatherSnapshot snap = loadCurrent(regionId);
+            if (snap != null) out.put(regionId, snap);
+        }
+        return out;
+    }
 }
\ No newline at end of file
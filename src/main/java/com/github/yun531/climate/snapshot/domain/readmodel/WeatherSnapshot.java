@@ -1,5 +1,7 @@
 package com.github.yun531.climate.snapshot.domain.readmodel;
 
+import com.github.yun531.climate.shared.codec.ContentHash;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,4 +15,22 @@ public record WeatherSnapshot(
         hourly = (hourly == null) ? List.of() : List.copyOf(hourly);
         daily  = (daily  == null) ? List.of() : List.copyOf(daily);
     }
-}
\ No newline at end of file
+
+    /**
+     * 내용 revision. 같은 발표시각이라도 값이 정정되면 달라진다.
+     * 인스턴스/노드와 무관하게 같은 내용이면 같은 값 (ETag 등 캐시 검증용)
+     */
+    public long revision() {
+        ContentHash h = ContentHash.start().add(announceTime).add(hourly.size());
+        for (HourlyPoint p : hourly) {
+            if (p == null) continue;
+            h.add(p.effectiveTime()).add(p.temp()).add(p.pop());
+        }
+        h.add(daily.size());
+        for (DailyPoint d : daily) {
+            if (d == null) continue;
+            h.add(d.daysAhead()).add(d.minTemp()).add(d.maxTemp()).add(d.amPop()).add(d.pmPop());
+        }
+        return h.value();
+    }
+}
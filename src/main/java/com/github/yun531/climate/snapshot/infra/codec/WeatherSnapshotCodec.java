@@ -0,0 +1,85 @@
+package com.github.yun531.climate.snapshot.infra.codec;
+
+import com.github.yun531.climate.shared.codec.BinaryReader;
+import com.github.yun531.climate.shared.codec.BinaryWriter;
+import com.github.yun531.climate.snapshot.domain.readmodel.DailyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WeatherSnapshot <-> 바이트 변환 (L2 캐시 / 파일 / 노드 간 전달용).
+ * 정수는 varint, 시각은 직전 시각 대비 delta(정시 간격이면 1바이트), POP 은 1바이트로 기록한다.
+ *
+ * 포맷 (version 2)
+ * - byte version, string regionId, time announceTime(절대)
+ * - varint hourlyCount, [time effectiveTime(직전 시각 또는 announceTime 대비), int temp?, pop]...
+ * - varint dailyCount, [signed daysAhead, int minTemp?, int maxTemp?, pop am, pop pm]...
+ * 버전이 다르면 디코딩하지 않는다 (L2 에서는 miss 로 처리되어 원천 재조회).
+ */
+public class WeatherSnapshotCodec {
+
+    static final byte VERSION = 2;
+
+    public byte[] encode(WeatherSnapshot snapshot) {
+        if (snapshot == null) throw new IllegalArgumentException("snapshot must not be null");
+
+        BinaryWriter out = new BinaryWriter(32 + snapshot.hourly().size() * 4 + snapshot.daily().size() * 6);
+        out.writeByte(VERSION);
+        out.writeString(snapshot.regionId());
+        out.writeTime(null, snapshot.announceTime());
+
+        out.writeVarint(snapshot.hourly().size());
+        LocalDateTime prev = snapshot.announceTime();
+        for (HourlyPoint p : snapshot.hourly()) {
+            out.writeTime(prev, p.effectiveTime());
+            out.writeNullableInt(p.temp());
+            out.writePop(p.pop());
+            if (p.effectiveTime() != null) prev = p.effectiveTime();
+        }
+
+        out.writeVarint(snapshot.daily().size());
+        for (DailyPoint p : snapshot.daily()) {
+            out.writeSignedVarint(p.daysAhead());
+            out.writeNullableInt(p.minTemp());
+            out.writeNullableInt(p.maxTemp());
+            out.writePop(p.amPop());
+            out.writePop(p.pmPop());
+        }
+        return out.toByteArray();
+    }
+
+    /** 손상/미지원 버전이면 IllegalArgumentException */
+    public WeatherSnapshot decode(byte[] data) {
+        if (data == null || data.length == 0) throw new IllegalArgumentException("data must not be empty");
+
+        BinaryReader in = new BinaryReader(data);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("unsupported snapshot codec version: " + version);
+
+        String regionId = in.readString();
+        LocalDateTime announceTime = in.readTime(null);
+
+        int hourlyCount = in.readCount();
+        List<HourlyPoint> hourly = new ArrayList<>(hourlyCount);
+        LocalDateTime prev = announceTime;
+        for (int i = 0; i < hourlyCount; i++) {
+            LocalDateTime effectiveTime = in.readTime(prev);
+            hourly.add(new HourlyPoint(effectiveTime, in.readNullableInt(), in.readPop()));
+            if (effectiveTime != null) prev = effectiveTime;
+        }
+
+        int dailyCount = in.readCount();
+        List<DailyPoint> daily = new ArrayList<>(dailyCount);
+        for (int i = 0; i < dailyCount; i++) {
+            int daysAhead = Math.toIntExact(in.readSignedVarint());
+            daily.add(new DailyPoint(daysAhead,
+                    in.readNullableInt(), in.readNullableInt(), in.readPop(), in.readPop()));
+        }
+
+        return new WeatherSnapshot(regionId, announceTime, hourly, daily);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.yun531.climate.snapshot.infra.config;
+
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api.ResilientSnapshotApiClient;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api.RestSnapshotApiClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+
+@Configuration
+public class SnapshotApiClientConfig {
+
+    /** RestSnapshotApiClient 를 서킷/벌크헤드/hedge 로 감싼 클라이언트를 기본 구현으로 노출 */
+    @Bean
+    @Primary
+    public ResilientSnapshotApiClient resilientSnapshotApiClient(
+            RestSnapshotApiClient restClient,
+            SnapshotApiProperties apiProps,
+            SnapshotApiResilienceProperties resilienceProps,
+            Clock clock
+    ) {
+        long callTimeoutMs = apiProps.connectTimeoutMs() + apiProps.readTimeoutMs();
+        return new ResilientSnapshotApiClient(restClient, resilienceProps, callTimeoutMs, clock);
+    }
+}
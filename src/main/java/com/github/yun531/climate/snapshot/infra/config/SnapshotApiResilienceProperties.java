@@ -0,0 +1,37 @@
+package com.github.yun531.climate.snapshot.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 snapshot API 호출 보호 설정.
+ * - 서킷 브레이커 : failureThreshold 연속 실패 시 openDurationMs 동안 차단
+ * - 벌크헤드      : 동시 호출 maxConcurrentCalls 개, 슬롯 대기 bulkheadWaitMs
+ * - hedge 요청    : 최근 지연의 hedgePercentile 백분위를 넘기면 동일 요청 1건 추가 발사
+ * - 폴백          : 차단/거절 시 fallbackMaxAgeMinutes 이내의 마지막 정상 응답 반환
+ */
+@ConfigurationProperties(prefix = "snapshot.api.resilience")
+public record SnapshotApiResilienceProperties(
+        int failureThreshold,
+        long openDurationMs,
+        int maxConcurrentCalls,
+        long bulkheadWaitMs,
+        Boolean hedgeEnabled,
+        double hedgePercentile,
+        long minHedgeDelayMs,
+        int hedgeMinSamples,
+        int latencyWindowSize,
+        int fallbackMaxAgeMinutes
+) {
+    public SnapshotApiResilienceProperties {
+        if (failureThreshold <= 0) failureThreshold = 5;
+        if (openDurationMs <= 0) openDurationMs = 30_000;
+        if (maxConcurrentCalls <= 0) maxConcurrentCalls = 32;
+        if (bulkheadWaitMs <= 0) bulkheadWaitMs = 50;
+        if (hedgeEnabled == null) hedgeEnabled = true;
+        if (hedgePercentile <= 0 || hedgePercentile >= 1) hedgePercentile = 0.95;
+        if (minHedgeDelayMs <= 0) minHedgeDelayMs = 100;
+        if (hedgeMinSamples <= 0) hedgeMinSamples = 20;
+        if (latencyWindowSize <= 0) latencyWindowSize = 200;
+        if (fallbackMaxAgeMinutes <= 0) fallbackMaxAgeMinutes = 180;
+    }
+}
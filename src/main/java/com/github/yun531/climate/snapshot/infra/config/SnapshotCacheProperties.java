@@ -1,14 +1,36 @@
 package com.github.yun531.climate.snapshot.infra.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
+/**
+ * 스냅샷 캐시 정책.
+ * staleOnMiss 가 켜져 있으면 새 발표시각 데이터가 아직 없을 때
+ * 발표시각 + staleGraceMinutes 까지 직전 스냅샷을 계속 반환하고,
+ * 재조회는 staleRetryInitialSeconds 부터 staleRetryMaxSeconds 까지 지수 백오프로 백그라운드 수행한다.
+ */
 @ConfigurationProperties(prefix = "snapshot.cache")
 public record SnapshotCacheProperties(
         int snapTtlMinutes,
-        int recomputeThresholdMinutes
+        int recomputeThresholdMinutes,
+        boolean staleOnMiss,
+        int staleGraceMinutes,
+        int staleRetryInitialSeconds,
+        int staleRetryMaxSeconds
 ) {
+    @ConstructorBinding
     public SnapshotCacheProperties {
         if (snapTtlMinutes <= 0) snapTtlMinutes = 180;
         if (recomputeThresholdMinutes <= 0) recomputeThresholdMinutes = 165;
+        if (staleGraceMinutes <= 0) staleGraceMinutes = 60;
+        if (staleRetryInitialSeconds <= 0) staleRetryInitialSeconds = 30;
+        if (staleRetryMaxSeconds < staleRetryInitialSeconds) {
+            staleRetryMaxSeconds = Math.max(300, staleRetryInitialSeconds);
+        }
     }
-}
\ No newline at end of file
+
+    /** stale-on-miss 비활성 기본 정책 */
+    public SnapshotCacheProperties(int snapTtlMinutes, int recomputeThresholdMinutes) {
+        this(snapTtlMinutes, recomputeThresholdMinutes, false, 0, 0, 0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.yun531.climate.snapshot.infra.config;
+
+import com.github.yun531.climate.shared.cache.RemoteCache;
+import com.github.yun531.climate.snapshot.infra.codec.WeatherSnapshotCodec;
+import com.github.yun531.climate.snapshot.infra.reader.SnapshotRemoteTier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * snapshot.cache.remote.enabled=true 이면 스냅샷 reader 에 L2(RemoteCache) 계층을 붙인다.
+ * L2 TTL 은 L1 과 같은 snapTtlMinutes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "snapshot.cache.remote", name = "enabled", havingValue = "true")
+public class SnapshotRemoteCacheConfig {
+
+    @Bean
+    public WeatherSnapshotCodec weatherSnapshotCodec() {
+        return new WeatherSnapshotCodec();
+    }
+
+    @Bean
+    public SnapshotRemoteTier snapshotRemoteTier(
+            RemoteCache remoteCache,
+            WeatherSnapshotCodec codec,
+            SnapshotCacheProperties cacheProps
+    ) {
+        return new SnapshotRemoteTier(remoteCache, codec, Duration.ofMinutes(cacheProps.snapTtlMinutes()));
+    }
+}
@@ -4,7 +4,13 @@ import com.github.yun531.climate.snapshot.infra.persistence.entity.SnapshotEntit
 import com.github.yun531.climate.snapshot.infra.persistence.entity.SnapshotEntityId;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface SnapshotRepository extends JpaRepository<SnapshotEntity, SnapshotEntityId> {
     // snap_id + region_id
     SnapshotEntity findBySnapIdAndRegionId(Integer snapId, String regionId);
+
+    // snap_id + region_id IN (...) 일괄 조회
+    List<SnapshotEntity> findBySnapIdAndRegionIdIn(Integer snapId, Collection<String> regionIds);
 }
\ No newline at end of file
@@ -5,9 +5,12 @@ import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
 import com.github.yun531.climate.snapshot.infra.config.SnapshotCacheProperties;
 import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api.SnapshotApiClient;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api.SnapshotApiUnavailableException;
 import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.DailyForecastResponse;
 import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.HourlyForecastResponse;
 import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.mapper.SnapshotApiResponseMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
@@ -16,33 +19,57 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Component
 public class ApiSnapshotReader extends CachingSnapshotReader {
 
     private final SnapshotApiClient client;
     private final SnapshotApiResponseMapper mapper;
 
+    @Autowired
     public ApiSnapshotReader(
             SnapshotCacheProperties cacheProps,
             PublishSchedulePolicy publishSchedule,
             Clock clock,
+            @Nullable SnapshotRemoteTier remoteTier,
             SnapshotApiClient client,
             SnapshotApiResponseMapper mapper
     ) {
-        super(cacheProps, publishSchedule, clock);
+        super(cacheProps, publishSchedule, clock, remoteTier);
         this.client = client;
         this.mapper = mapper;
     }
 
+    /** L2 계층 없이 사용 */
+    public ApiSnapshotReader(
+            SnapshotCacheProperties cacheProps,
+            PublishSchedulePolicy publishSchedule,
+            Clock clock,
+            SnapshotApiClient client,
+            SnapshotApiResponseMapper mapper
+    ) {
+        this(cacheProps, publishSchedule, clock, null, client, mapper);
+    }
+
     /**
      * snapshot 조회(hourly + daily 조합)해 WeatherSnapshot 으로 변환
      * 새 발표시각으로 점프하면 즉시 stale 판정.
+     * 전송 실패(SnapshotApiUnavailableException)도 불완전 스냅샷을 캐싱하지 않도록 null 로 처리한다.
      */
     @Override
     protected CacheEntry<WeatherSnapshot> doFetch(
             SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
     ) {
-        String regionId = key.regionId();
+        try {
+            return fetchSnapshot(key.regionId(), announceTime);
+        } catch (SnapshotApiUnavailableException e) {
+            log.warn("[SNAPSHOT-API] fetch unavailable. region={}", key.regionId(), e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private CacheEntry<WeatherSnapshot> fetchSnapshot(String regionId, LocalDateTime announceTime) {
 
         // 시간별 예보 조회
         HourlyForecastResponse hourlyResponse = client.fetchHourly(regionId, announceTime);
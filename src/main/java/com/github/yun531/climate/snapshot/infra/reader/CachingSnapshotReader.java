@@ -1,38 +1,108 @@
 package com.github.yun531.climate.snapshot.infra.reader;
 
 import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
 import com.github.yun531.climate.shared.cache.KeyCache;
+import com.github.yun531.climate.shared.cache.ManagedCache;
 import com.github.yun531.climate.shared.time.TimeUtil;
 import com.github.yun531.climate.snapshot.domain.model.SnapKind;
 import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
 import com.github.yun531.climate.snapshot.domain.reader.SnapshotReader;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
 import com.github.yun531.climate.snapshot.infra.config.SnapshotCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * SnapshotReader 공통 캐싱 골격.
  * - 캐시 키 생성, 발표시각 resolve, stale 판정, Clock 기반 시간 취득을 한 곳에서 처리
+ * - staleOnMiss: 새 발표시각 데이터가 아직 없으면 grace 구간 동안 직전 스냅샷을 반환하고
+ *   재조회는 지수 백오프로 백그라운드에서 1건씩만 수행한다.
+ *   grace 가 지난 뒤에도 원천 조회는 백오프 시점마다 1건만 하고, 그 사이 요청은 마지막 조회 결과를 받는다.
+ *   반환되는 스냅샷은 원래 announceTime 을 유지하므로, 시프트는 하위 Adjuster(TimeShiftUtil)가 처리한다.
+ * - loadCurrentAll: 캐시 미스 지역만 모아 doFetchAll 로 일괄 조회 후 캐시에 반영
+ * - remoteTier(L2, 선택): L1 미스 시 원천보다 먼저 조회하고, 원천에서 읽은 최신 발표분은 L2 에 적재해
+ *   다른 인스턴스(특히 막 뜬 인스턴스)가 원천 재조회 없이 재사용하게 한다.
+ *   L2 키는 캐시 이름(snapshot.구현체명)으로 구분하므로 원천이 다른 reader 끼리는 엔트리를 공유하지 않는다.
+ * - MeterBinder: 조회 지연(SnapKind 태그), stale 제공 횟수, L2 히트/미스, 캐시 히트/미스 노출
+ * - ManagedCache: 내부 API 에서 캐시 조회/지역 무효화/워밍업
  */
-public abstract class CachingSnapshotReader implements SnapshotReader {
+@Slf4j
+public abstract class CachingSnapshotReader implements SnapshotReader, MeterBinder, ManagedCache {
 
     private final SnapshotCacheProperties cacheProps;
     private final PublishSchedulePolicy publishSchedule;
     private final Clock clock;
+    private final Executor retryExecutor;
+    @Nullable private final SnapshotRemoteTier remoteTier;
 
-    private final KeyCache<WeatherSnapshot> snapshotCache = new KeyCache<>();
+    private final String readerName = getClass().getSimpleName();    // 구현체별 메트릭 구분
+    private final KeyCache<WeatherSnapshot> snapshotCache = new KeyCache<>("snapshot." + readerName);
+    private final Map<String, MissRetry> missRetries = new ConcurrentHashMap<>();
+    private volatile Metrics metrics;           // MeterRegistry 바인딩 전에는 null
 
     protected CachingSnapshotReader(
             SnapshotCacheProperties cacheProps,
             PublishSchedulePolicy publishSchedule,
             Clock clock
+    ) {
+        this(cacheProps, publishSchedule, clock, (SnapshotRemoteTier) null);
+    }
+
+    protected CachingSnapshotReader(
+            SnapshotCacheProperties cacheProps,
+            PublishSchedulePolicy publishSchedule,
+            Clock clock,
+            @Nullable SnapshotRemoteTier remoteTier
+    ) {
+        this(cacheProps, publishSchedule, clock, defaultRetryExecutor(), remoteTier);
+    }
+
+    protected CachingSnapshotReader(
+            SnapshotCacheProperties cacheProps,
+            PublishSchedulePolicy publishSchedule,
+            Clock clock,
+            Executor retryExecutor
+    ) {
+        this(cacheProps, publishSchedule, clock, retryExecutor, null);
+    }
+
+    protected CachingSnapshotReader(
+            SnapshotCacheProperties cacheProps,
+            PublishSchedulePolicy publishSchedule,
+            Clock clock,
+            Executor retryExecutor,
+            @Nullable SnapshotRemoteTier remoteTier
     ) {
         this.cacheProps = cacheProps;
         this.publishSchedule = publishSchedule;
         this.clock = clock;
+        this.retryExecutor = retryExecutor;
+        this.remoteTier = remoteTier;
+    }
+
+    private static Executor defaultRetryExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "snapshot-stale-retry");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     @Override
@@ -47,6 +117,52 @@ public abstract class CachingSnapshotReader implements SnapshotReader {
         return load(regionId, SnapKind.PREVIOUS);
     }
 
+    /**
+     * 캐시 미스 지역만 (L2 조회 후 남은 지역을) doFetchAll 로 일괄 조회해 캐시에 채운 뒤, 지역별 load 로 결과를 모은다.
+     * 일괄 조회에서도 최신 발표가 없던 지역은 load 의 단건 경로(stale-on-miss 포함)를 그대로 탄다.
+     */
+    @Override
+    public Map<String, WeatherSnapshot> loadCurrentAll(Collection<String> regionIds) {
+        if (regionIds == null || regionIds.isEmpty()) return Map.of();
+
+        LocalDateTime now = now();
+        LocalDateTime announceTime = publishSchedule.announceTimeFor(now, SnapKind.CURRENT);
+        if (announceTime == null) return Map.of();
+
+        List<SnapshotKey> misses = new ArrayList<>();
+        for (String regionId : regionIds) {
+            if (regionId == null || regionId.isBlank()) continue;
+
+            SnapshotKey key = SnapshotKey.of(regionId, SnapKind.CURRENT);
+            if (snapshotCache.getIfFresh(key.asCacheKey(), announceTime, cacheProps.recomputeThresholdMinutes()) == null) {
+                misses.add(key);
+            }
+        }
+
+        if (remoteTier != null && !misses.isEmpty()) {
+            misses.removeIf(key -> {
+                CacheEntry<WeatherSnapshot> remote = remoteGet(key, announceTime);
+                if (remote == null) return false;
+                snapshotCache.put(key.asCacheKey(), remote);
+                return true;
+            });
+        }
+
+        if (!misses.isEmpty()) {
+            Timer.Sample sample = (metrics == null) ? null : Timer.start();
+            Map<String, CacheEntry<WeatherSnapshot>> fetched = doFetchAll(misses, now, announceTime);
+            if (sample != null) sample.stop(metrics.batchFetchTimer);
+            for (SnapshotKey key : misses) {
+                CacheEntry<WeatherSnapshot> entry = fetched.get(key.regionId());
+                if (isMissing(entry, announceTime)) continue;
+                snapshotCache.put(key.asCacheKey(), entry);
+                if (remoteTier != null) remoteTier.put(snapshotCache.name(), key, announceTime, entry.value());
+            }
+        }
+
+        return SnapshotReader.super.loadCurrentAll(regionIds);
+    }
+
     private WeatherSnapshot load(String regionId, SnapKind kind) {
         if (regionId == null || regionId.isBlank() || kind == null) return null;
 
@@ -56,11 +172,13 @@ public abstract class CachingSnapshotReader implements SnapshotReader {
 
         SnapshotKey key = SnapshotKey.of(regionId, kind);
 
-        CacheEntry<WeatherSnapshot> entry = snapshotCache.getOrCompute(
+        CacheEntry<WeatherSnapshot> entry = snapshotCache.getOrRecompute(
                 key.asCacheKey(),
                 announceTime,
                 cacheProps.recomputeThresholdMinutes(),
-                () -> doFetch(key, now, announceTime)
+                old -> cacheProps.staleOnMiss()
+                        ? fetchOrServeStale(key, old, now, announceTime)
+                        : tieredFetch(key, now, announceTime)
         );
 
         return (entry == null) ? null : entry.value();
@@ -72,7 +190,349 @@ public abstract class CachingSnapshotReader implements SnapshotReader {
     protected abstract CacheEntry<WeatherSnapshot> doFetch(
             SnapshotKey key, LocalDateTime now, LocalDateTime announceTime);
 
+    /**
+     * 여러 키 일괄 조회. 결과는 regionId -> CacheEntry.
+     * 기본 구현은 doFetch 반복이며, 일괄 조회가 가능한 구현체가 재정의한다.
+     */
+    protected Map<String, CacheEntry<WeatherSnapshot>> doFetchAll(
+            List<SnapshotKey> keys, LocalDateTime now, LocalDateTime announceTime
+    ) {
+        Map<String, CacheEntry<WeatherSnapshot>> out = new HashMap<>();
+        for (SnapshotKey key : keys) {
+            CacheEntry<WeatherSnapshot> entry = doFetch(key, now, announceTime);
+            if (entry != null) out.put(key.regionId(), entry);
+        }
+        return out;
+    }
+
+    // =====================================================================
+    //  stale-on-miss: grace 구간 동안 직전 스냅샷 반환 + 백오프 재조회
+    // =====================================================================
+
+    @Nullable
+    private CacheEntry<WeatherSnapshot> fetchOrServeStale(
+            SnapshotKey key, @Nullable CacheEntry<WeatherSnapshot> old,
+            LocalDateTime now, LocalDateTime announceTime
+    ) {
+        String cacheKey = key.asCacheKey();
+        boolean withinGrace = !now.isAfter(announceTime.plusMinutes(cacheProps.staleGraceMinutes()));
+
+        MissRetry retry = missRetries.get(cacheKey);
+        if (retry != null && !retry.targets(announceTime)) {
+            missRetries.remove(cacheKey, retry);        // 이전 발표시각의 백오프 상태는 버린다
+            retry = null;
+        }
+
+        if (retry != null) {
+            if (withinGrace && hasValue(old)) {
+                if (retry.isDue(now)) scheduleRetry(key, retry, announceTime);
+                countStaleServed(key.kind());
+                return old;
+            }
+            // grace 만료(또는 제공할 값 없음): 백오프 시점 전이거나 재조회 진행 중이면 원천을 치지 않는다.
+            // grace 중에 유지하던 이전 발표분은 더 이상 주지 않는다 (grace 이후 원천 조회 결과면 그대로)
+            if (!retry.tryStartIfDue(now)) {
+                return (retry.fetchedAfterGrace() || !isMissing(old, announceTime)) ? old : null;
+            }
+        }
+
+        CacheEntry<WeatherSnapshot> fresh;
+        try {
+            fresh = tieredFetch(key, now, announceTime);
+        } catch (RuntimeException e) {
+            if (retry != null) retry.backoff(now, cacheProps.staleRetryInitialSeconds(), cacheProps.staleRetryMaxSeconds());
+            throw e;
+        }
+        if (!isMissing(fresh, announceTime)) {
+            missRetries.remove(cacheKey);
+            return fresh;
+        }
+
+        // 새 발표시각 데이터 미도착: 다음 원천 조회는 백오프 뒤로 미룬다
+        if (retry != null) {
+            retry.backoff(now, cacheProps.staleRetryInitialSeconds(), cacheProps.staleRetryMaxSeconds());
+        } else {
+            retry = MissRetry.first(now, announceTime, cacheProps.staleRetryInitialSeconds());
+            missRetries.put(cacheKey, retry);
+        }
+
+        // grace 구간 동안은 가장 최신 후보를 유지, 지나면 조회 결과 그대로
+        if (!withinGrace) {
+            retry.markFetchedAfterGrace();
+            return fresh;
+        }
+        CacheEntry<WeatherSnapshot> candidate = hasValue(fresh) ? fresh : old;
+        if (!hasValue(candidate)) return fresh;
+
+        countStaleServed(key.kind());
+        log.info("[SNAPSHOT] serve stale. key={} announceTime={} servedAnnounceTime={}",
+                cacheKey, announceTime, candidate.value().announceTime());
+        return candidate;
+    }
+
+    /** 중복 재조회 방지: 진행 중인 재조회가 있으면 건너뛴다 */
+    private void scheduleRetry(SnapshotKey key, MissRetry retry, LocalDateTime announceTime) {
+        if (!retry.tryStart()) return;
+
+        retryExecutor.execute(() -> {
+            String cacheKey = key.asCacheKey();
+            LocalDateTime now = now();
+            try {
+                CacheEntry<WeatherSnapshot> fresh = tieredFetch(key, now, announceTime);
+                if (!isMissing(fresh, announceTime)) {
+                    snapshotCache.put(cacheKey, fresh);
+                    missRetries.remove(cacheKey, retry);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("[SNAPSHOT] stale retry failed. key={}", cacheKey, e);
+            }
+            retry.backoff(now, cacheProps.staleRetryInitialSeconds(), cacheProps.staleRetryMaxSeconds());
+        });
+    }
+
+    // =====================================================================
+    //  L2: 원천 조회 전 remoteTier 확인, 원천 결과 중 요청 발표분만 적재
+    // =====================================================================
+
+    private CacheEntry<WeatherSnapshot> tieredFetch(SnapshotKey key, LocalDateTime now, LocalDateTime announceTime) {
+        if (remoteTier == null) return timedFetch(key, now, announceTime);
+
+        CacheEntry<WeatherSnapshot> remote = remoteGet(key, announceTime);
+        if (remote != null) return remote;
+
+        CacheEntry<WeatherSnapshot> fresh = timedFetch(key, now, announceTime);
+        if (!isMissing(fresh, announceTime)) remoteTier.put(snapshotCache.name(), key, announceTime, fresh.value());
+        return fresh;
+    }
+
+    /** L2 에 요청 발표분이 있으면 반환, 없으면 null */
+    @Nullable
+    private CacheEntry<WeatherSnapshot> remoteGet(SnapshotKey key, LocalDateTime announceTime) {
+        CacheEntry<WeatherSnapshot> remote = remoteTier.get(snapshotCache.name(), key, announceTime);
+        boolean hit = !isMissing(remote, announceTime);
+        countRemote(hit);
+        return hit ? remote : null;
+    }
+
+    /** 지정 발표시각(없으면 현재 발표시각)의 L2 엔트리 제거 */
+    private void evictRemote(String regionId, SnapKind kind, @Nullable LocalDateTime announceTime) {
+        if (remoteTier == null) return;
+
+        LocalDateTime target = (announceTime != null) ? announceTime : publishSchedule.announceTimeFor(now(), kind);
+        if (target != null) remoteTier.evict(snapshotCache.name(), SnapshotKey.of(regionId, kind), target);
+    }
+
+    // =====================================================================
+    //  ManagedCache: 운영용 조회/무효화/워밍업
+    // =====================================================================
+
+    @Override
+    public KeyCache.CacheStats cacheStats() {
+        return snapshotCache.stats();
+    }
+
+    @Override
+    public Map<String, LocalDateTime> cacheAnchors() {
+        return snapshotCache.anchors();
+    }
+
+    /** 지역의 CURRENT/PREVIOUS 엔트리(L2 현재 발표분 포함)와 진행 중인 재조회 상태를 함께 제거 */
+    @Override
+    public int invalidateRegion(String regionId) {
+        if (regionId == null || regionId.isBlank()) return 0;
+
+        int removed = 0;
+        for (SnapKind kind : SnapKind.values()) {
+            String cacheKey = SnapshotKey.of(regionId, kind).asCacheKey();
+            missRetries.remove(cacheKey);
+            evictRemote(regionId, kind, null);
+            if (snapshotCache.invalidate(cacheKey)) removed++;
+        }
+        log.info("[SNAPSHOT] invalidate region. cache={} regionId={} removed={}",
+                snapshotCache.name(), regionId, removed);
+        return removed;
+    }
+
+    /**
+     * kind 는 SnapKind 이름으로 해석한다.
+     * announceTime 이 있으면 그 발표시각 이하의 스냅샷을 담은 엔트리만 제거 (정정된 발표만 교체)
+     */
+    @Override
+    public int invalidate(CacheInvalidation invalidation) {
+        LocalDateTime announceTime = invalidation.announceTime();
+
+        int removed = 0;
+        for (SnapKind kind : SnapKind.values()) {
+            if (!invalidation.targets(kind.name())) continue;
+
+            String cacheKey = SnapshotKey.of(invalidation.regionId(), kind).asCacheKey();
+            evictRemote(invalidation.regionId(), kind, announceTime);
+            boolean hit = snapshotCache.invalidateIf(cacheKey, entry -> announceTime == null
+                    || !hasValue(entry)
+                    || !entry.value().announceTime().isAfter(announceTime));
+            if (hit) {
+                missRetries.remove(cacheKey);
+                removed++;
+            }
+        }
+        log.info("[SNAPSHOT] invalidate. cache={} invalidation={} removed={}",
+                snapshotCache.name(), invalidation, removed);
+        return removed;
+    }
+
+    /** 로컬(L1) 전체 제거. 공유 L2 는 다른 인스턴스도 사용하므로 건드리지 않는다 */
+    @Override
+    public int flush() {
+        missRetries.clear();
+        int removed = snapshotCache.clear();
+        log.info("[SNAPSHOT] flush. cache={} removed={}", snapshotCache.name(), removed);
+        return removed;
+    }
+
+    /** CURRENT 는 일괄 조회, PREVIOUS 는 지역별 조회로 적재 */
+    @Override
+    public int warmUp(Collection<String> regionIds) {
+        if (regionIds == null || regionIds.isEmpty()) return 0;
+
+        int loaded = loadCurrentAll(regionIds).size();
+        for (String regionId : regionIds) loadPrevious(regionId);
+        return loaded;
+    }
+
+    // =====================================================================
+    //  메트릭: snapshot.fetch(kind), snapshot.fetch.batch, snapshot.stale.served(kind), snapshot.remote(result) + 캐시 메트릭
+    // =====================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        snapshotCache.bindTo(registry);
+        this.metrics = new Metrics(registry, readerName);
+    }
+
+    private CacheEntry<WeatherSnapshot> timedFetch(SnapshotKey key, LocalDateTime now, LocalDateTime announceTime) {
+        Metrics m = metrics;
+        if (m == null) return doFetch(key, now, announceTime);
+
+        Timer.Sample sample = Timer.start();
+        try {
+            return doFetch(key, now, announceTime);
+        } finally {
+            sample.stop(m.fetchTimers.get(key.kind()));
+        }
+    }
+
+    private void countStaleServed(SnapKind kind) {
+        Metrics m = metrics;
+        if (m != null) m.staleServed.get(kind).increment();
+    }
+
+    private void countRemote(boolean hit) {
+        Metrics m = metrics;
+        if (m != null) (hit ? m.remoteHits : m.remoteMisses).increment();
+    }
+
+    /** 바인딩 시 SnapKind 별로 미리 등록한 미터 */
+    private static final class Metrics {
+        final Map<SnapKind, Timer> fetchTimers = new EnumMap<>(SnapKind.class);
+        final Map<SnapKind, Counter> staleServed = new EnumMap<>(SnapKind.class);
+        final Timer batchFetchTimer;
+        final Counter remoteHits;
+        final Counter remoteMisses;
+
+        Metrics(MeterRegistry registry, String reader) {
+            for (SnapKind kind : SnapKind.values()) {
+                String tag = kind.name().toLowerCase();
+                fetchTimers.put(kind, Timer.builder("snapshot.fetch")
+                        .tag("reader", reader).tag("kind", tag)
+                        .publishPercentileHistogram()
+                        .register(registry));
+                staleServed.put(kind, Counter.builder("snapshot.stale.served")
+                        .tag("reader", reader).tag("kind", tag)
+                        .register(registry));
+            }
+            batchFetchTimer = Timer.builder("snapshot.fetch.batch")
+                    .tag("reader", reader)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            remoteHits = Counter.builder("snapshot.remote")
+                    .tag("reader", reader).tag("result", "hit")
+                    .register(registry);
+            remoteMisses = Counter.builder("snapshot.remote")
+                    .tag("reader", reader).tag("result", "miss")
+                    .register(registry);
+        }
+    }
+
+    /** 조회 결과가 없거나, 여전히 요청 발표시각 기준 stale 이면 미도착으로 본다 */
+    private boolean isMissing(@Nullable CacheEntry<WeatherSnapshot> entry, LocalDateTime announceTime) {
+        return !hasValue(entry) || entry.isStale(announceTime, cacheProps.recomputeThresholdMinutes());
+    }
+
+    private boolean hasValue(@Nullable CacheEntry<WeatherSnapshot> entry) {
+        return entry != null && entry.value() != null;
+    }
+
     private LocalDateTime now() {
         return TimeUtil.truncateToMinutes(LocalDateTime.now(clock));
     }
-}
\ No newline at end of file
+
+    /**
+     * 키별 재조회 백오프 상태.
+     * 재조회 간격은 initialSeconds, 2x, 4x ... maxSeconds 순으로 늘어난다.
+     */
+    private static final class MissRetry {
+        private final LocalDateTime announceTime;
+        private int attempts;
+        private LocalDateTime nextRetryAt;
+        private boolean inFlight;
+        private volatile boolean fetchedAfterGrace;   // 캐시 값이 grace 이후 원천 조회 결과인지
+
+        private MissRetry(LocalDateTime announceTime, LocalDateTime nextRetryAt) {
+            this.announceTime = announceTime;
+            this.attempts = 1;
+            this.nextRetryAt = nextRetryAt;
+        }
+
+        static MissRetry first(LocalDateTime now, LocalDateTime announceTime, int initialSeconds) {
+            return new MissRetry(announceTime, now.plusSeconds(initialSeconds));
+        }
+
+        boolean targets(LocalDateTime announceTime) {
+            return this.announceTime.equals(announceTime);
+        }
+
+        synchronized boolean isDue(LocalDateTime now) {
+            return !inFlight && !now.isBefore(nextRetryAt);
+        }
+
+        synchronized boolean tryStart() {
+            if (inFlight) return false;
+            inFlight = true;
+            return true;
+        }
+
+        /** 재조회 시점이 되었고 진행 중인 재조회가 없으면 시작 처리 후 true */
+        synchronized boolean tryStartIfDue(LocalDateTime now) {
+            if (!isDue(now)) return false;
+            inFlight = true;
+            return true;
+        }
+
+        void markFetchedAfterGrace() {
+            fetchedAfterGrace = true;
+        }
+
+        boolean fetchedAfterGrace() {
+            return fetchedAfterGrace;
+        }
+
+        /** attempts 번째 재조회까지 실패한 뒤의 대기: initialSeconds * 2^(attempts-1) */
+        synchronized void backoff(LocalDateTime now, int initialSeconds, int maxSeconds) {
+            long delay = Math.min((long) maxSeconds, (long) initialSeconds << Math.min(attempts - 1, 20));
+            attempts++;
+            nextRetryAt = now.plusSeconds(delay);
+            inFlight = false;
+        }
+    }
+}
@@ -7,11 +7,17 @@ import com.github.yun531.climate.snapshot.infra.config.SnapshotCacheProperties;
 import com.github.yun531.climate.snapshot.infra.persistence.entity.SnapshotEntity;
 import com.github.yun531.climate.snapshot.infra.persistence.mapper.SnapshotEntityMapper;
 import com.github.yun531.climate.snapshot.infra.persistence.repository.SnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @Primary            //todo  로컬 DB 사용해서 JPA 사용중
@@ -20,18 +26,31 @@ public class JpaSnapshotReader extends CachingSnapshotReader {
     private final SnapshotRepository snapshotRepository;
     private final SnapshotEntityMapper mapper;
 
+    @Autowired
     public JpaSnapshotReader(
             SnapshotCacheProperties cacheProps,
             PublishSchedulePolicy publishSchedule,
             Clock clock,
+            @Nullable SnapshotRemoteTier remoteTier,
             SnapshotRepository snapshotRepository,
             SnapshotEntityMapper mapper
     ) {
-        super(cacheProps, publishSchedule, clock);
+        super(cacheProps, publishSchedule, clock, remoteTier);
         this.snapshotRepository = snapshotRepository;
         this.mapper = mapper;
     }
 
+    /** L2 계층 없이 사용 */
+    public JpaSnapshotReader(
+            SnapshotCacheProperties cacheProps,
+            PublishSchedulePolicy publishSchedule,
+            Clock clock,
+            SnapshotRepository snapshotRepository,
+            SnapshotEntityMapper mapper
+    ) {
+        this(cacheProps, publishSchedule, clock, null, snapshotRepository, mapper);
+    }
+
     /**
      * DB 에서 Entity를 조회해 WeatherSnapshot 으로 변환한다.
      * 새 발표시각으로 점프하면 즉시 stale 판정.
@@ -49,4 +68,24 @@ public class JpaSnapshotReader extends CachingSnapshotReader {
         WeatherSnapshot snapshot = mapper.toSnapshot(entity);
         return new CacheEntry<>(snapshot, snapshot.announceTime());
     }
-}
\ No newline at end of file
+
+    /** 같은 snap_id 의 여러 지역을 IN 쿼리 1회로 조회 */
+    @Override
+    protected Map<String, CacheEntry<WeatherSnapshot>> doFetchAll(
+            List<SnapshotKey> keys, LocalDateTime now, LocalDateTime announceTime
+    ) {
+        Map<Integer, List<String>> regionsBySnapId = new HashMap<>();
+        for (SnapshotKey key : keys) {
+            regionsBySnapId.computeIfAbsent(key.asSnapId(), id -> new ArrayList<>()).add(key.regionId());
+        }
+
+        Map<String, CacheEntry<WeatherSnapshot>> out = new HashMap<>();
+        regionsBySnapId.forEach((snapId, regionIds) -> {
+            for (SnapshotEntity entity : snapshotRepository.findBySnapIdAndRegionIdIn(snapId, regionIds)) {
+                WeatherSnapshot snapshot = mapper.toSnapshot(entity);
+                out.put(snapshot.regionId(), new CacheEntry<>(snapshot, snapshot.announceTime()));
+            }
+        });
+        return out;
+    }
+}
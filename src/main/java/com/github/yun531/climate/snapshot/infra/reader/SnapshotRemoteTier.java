@@ -0,0 +1,75 @@
+package com.github.yun531.climate.snapshot.infra.reader;
+
+import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.RemoteCache;
+import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+import com.github.yun531.climate.snapshot.infra.codec.WeatherSnapshotCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CachingSnapshotReader 의 L2 계층.
+ * 키는 "namespace:regionId:code:yyyyMMddHHmm".
+ * - namespace: 호출한 reader 의 캐시 이름(예: snapshot.JpaSnapshotReader). 원천이 다른 reader 끼리 L2 를 공유해도 섞이지 않는다
+ * - 발표시각을 포함하므로 발표가 바뀌면 자연히 다른 키가 되고,
+ *   같은 reader 를 쓰는 다른 인스턴스가 이미 원천에서 읽어 둔 같은 발표분을 그대로 재사용한다.
+ * 원격 저장소/디코딩 실패는 miss 로 처리해 원천 조회로 넘어간다.
+ */
+@Slf4j
+public class SnapshotRemoteTier {
+
+    private static final DateTimeFormatter KEY_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final RemoteCache remote;
+    private final WeatherSnapshotCodec codec;
+    private final Duration ttl;
+
+    public SnapshotRemoteTier(RemoteCache remote, WeatherSnapshotCodec codec, Duration ttl) {
+        this.remote = remote;
+        this.codec = codec;
+        this.ttl = ttl;
+    }
+
+    /** anchor = 스냅샷 발표시각 (하위 reader 의 doFetch 와 같은 규칙) */
+    @Nullable
+    public CacheEntry<WeatherSnapshot> get(String namespace, SnapshotKey key, LocalDateTime announceTime) {
+        String remoteKey = remoteKey(namespace, key, announceTime);
+        try {
+            byte[] data = remote.get(remoteKey);
+            if (data == null) return null;
+
+            WeatherSnapshot snapshot = codec.decode(data);
+            return new CacheEntry<>(snapshot, snapshot.announceTime());
+        } catch (RuntimeException e) {
+            log.warn("[SNAPSHOT-L2] get failed. key={}", remoteKey, e);
+            evict(namespace, key, announceTime);
+            return null;
+        }
+    }
+
+    public void put(String namespace, SnapshotKey key, LocalDateTime announceTime, WeatherSnapshot snapshot) {
+        String remoteKey = remoteKey(namespace, key, announceTime);
+        try {
+            remote.put(remoteKey, codec.encode(snapshot), ttl);
+        } catch (RuntimeException e) {
+            log.warn("[SNAPSHOT-L2] put failed. key={}", remoteKey, e);
+        }
+    }
+
+    public void evict(String namespace, SnapshotKey key, LocalDateTime announceTime) {
+        String remoteKey = remoteKey(namespace, key, announceTime);
+        try {
+            remote.evict(remoteKey);
+        } catch (RuntimeException e) {
+            log.warn("[SNAPSHOT-L2] evict failed. key={}", remoteKey, e);
+        }
+    }
+
+    static String remoteKey(String namespace, SnapshotKey key, LocalDateTime announceTime) {
+        return namespace + ":" + key.asCacheKey() + ":" + KEY_TIME.format(announceTime);
+    }
+}
@@ -0,0 +1,256 @@
+package com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api;
+
+import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.resilience.CircuitBreaker;
+import com.github.yun531.climate.shared.resilience.LatencyWindow;
+import com.github.yun531.climate.snapshot.infra.config.SnapshotApiResilienceProperties;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.DailyForecastResponse;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.HourlyForecastResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * SnapshotApiClient 보호 데코레이터.
+ * - 벌크헤드  : 진행 중인 delegate 호출 수 제한. 슬롯을 얻지 못하면 즉시 거절
+ *              슬롯은 호출자가 타임아웃으로 떠나도 delegate 가 실제로 반환할 때까지 유지된다.
+ * - 서킷      : 연속 실패 시 upstream 호출 차단
+ * - hedge     : 최근 지연 백분위를 넘기면 동일 요청을 1건 더 보내고 먼저 온 정상 응답 사용
+ *              hedge 호출도 슬롯을 하나 차지하며, 여유 슬롯이 없으면 hedge 를 생략한다.
+ * - 폴백      : 차단/거절 시 같은 (지역, 발표시각)의 마지막 정상 응답(CacheEntry)을 반환
+ *              다른 발표시각을 요청했다면 이전 발표의 예보를 대신 주지 않고 null.
+ * 실행 스레드 수는 벌크헤드 크기로 제한된다.
+ * 서킷은 전송 실패(delegate 예외, 호출 타임아웃)만 실패로 집계한다.
+ * delegate 의 null(4xx / 빈 응답 = 아직 적재 안 된 발표분 등)은 upstream 이 정상 응답한 것이므로 성공으로 본다.
+ */
+@Slf4j
+public class ResilientSnapshotApiClient implements SnapshotApiClient, DisposableBean {
+
+    private final SnapshotApiClient delegate;
+    private final SnapshotApiResilienceProperties props;
+    private final long callTimeoutMs;
+    private final Clock clock;
+
+    private final CircuitBreaker breaker;
+    private final LatencyWindow latencies;
+    private final Semaphore bulkhead;
+    private final ExecutorService executor;
+
+    private final Map<String, CacheEntry<HourlyForecastResponse>> lastGoodHourly = new ConcurrentHashMap<>();
+    private final Map<String, CacheEntry<DailyForecastResponse>> lastGoodDaily = new ConcurrentHashMap<>();
+
+    /** 일별 예보는 발표시각 파라미터가 없어 지역만으로 키를 만든다 */
+    private static final String LATEST = "latest";
+
+    public ResilientSnapshotApiClient(
+            SnapshotApiClient delegate,
+            SnapshotApiResilienceProperties props,
+            long callTimeoutMs,
+            Clock clock
+    ) {
+        this.delegate = delegate;
+        this.props = props;
+        this.callTimeoutMs = Math.max(1, callTimeoutMs);
+        this.clock = clock;
+        this.breaker = new CircuitBreaker(
+                props.failureThreshold(), Duration.ofMillis(props.openDurationMs()), clock);
+        this.latencies = new LatencyWindow(props.latencyWindowSize());
+        int slots = props.maxConcurrentCalls();
+        this.bulkhead = new Semaphore(slots);
+        // 작업은 항상 슬롯을 쥔 채 제출되므로 동시 작업 수는 slots 를 넘지 않는다
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                slots, slots, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(slots), daemonThreads());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    @Override
+    public HourlyForecastResponse fetchHourly(String regionCode, LocalDateTime announceTime) {
+        return execute(regionCode, fallbackKey(regionCode, announceTime), lastGoodHourly,
+                () -> delegate.fetchHourly(regionCode, announceTime));
+    }
+
+    @Override
+    public DailyForecastResponse fetchDaily(String regionCode) {
+        return execute(regionCode, fallbackKey(regionCode, null), lastGoodDaily,
+                () -> delegate.fetchDaily(regionCode));
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // =====================================================================
+    //  벌크헤드 -> 서킷 -> hedge 호출 -> 폴백
+    // =====================================================================
+
+    @Nullable
+    private <T> T execute(
+            String regionCode, @Nullable String fallbackKey,
+            Map<String, CacheEntry<T>> lastGood, Supplier<T> call
+    ) {
+        if (!tryEnterBulkhead()) {
+            log.warn("[SNAPSHOT-API] bulkhead full. region={}", regionCode);
+            return fallback(fallbackKey, lastGood);
+        }
+
+        if (!breaker.tryAcquire()) {
+            bulkhead.release();
+            log.debug("[SNAPSHOT-API] circuit open. region={}", regionCode);
+            return fallback(fallbackKey, lastGood);
+        }
+
+        // 여기서부터 슬롯은 delegate 호출 작업이 반환하면서 놓는다
+        Outcome<T> outcome = callHedged(call);
+        if (outcome.failed()) {
+            breaker.onFailure();
+            return null;
+        }
+
+        breaker.onSuccess();
+        T value = outcome.value();
+        if (value != null && fallbackKey != null) lastGood.put(fallbackKey, new CacheEntry<>(value, now()));
+        return value;
+    }
+
+    @Nullable
+    private static String fallbackKey(@Nullable String regionCode, @Nullable LocalDateTime announceTime) {
+        if (regionCode == null) return null;
+        return regionCode + "|" + (announceTime == null ? LATEST : announceTime.toString());
+    }
+
+    @Nullable
+    private <T> T fallback(@Nullable String fallbackKey, Map<String, CacheEntry<T>> lastGood) {
+        if (fallbackKey == null) return null;
+
+        CacheEntry<T> entry = lastGood.get(fallbackKey);
+        if (entry == null || entry.isStale(now(), props.fallbackMaxAgeMinutes())) return null;
+        return entry.value();
+    }
+
+    private boolean tryEnterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(props.bulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 1차 호출 후 hedgeDelay 안에 결과가 없으면 동일 요청을 1건 더 보낸다.
+     * 먼저 도착한 확정 응답(값 또는 데이터 없음)을 사용하고, 모두 예외/시간초과면 실패.
+     * 호출자가 이미 쥔 슬롯 1개는 1차 호출 작업에 넘기고, hedge 는 여유 슬롯이 있을 때만 보낸다.
+     */
+    private <T> Outcome<T> callHedged(Supplier<T> call) {
+        CompletableFuture<Outcome<T>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        launch(call, result, pending);
+
+        long hedgeDelayMs = hedgeDelayMs();
+        try {
+            if (hedgeDelayMs > 0) {
+                try {
+                    return result.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException slow) {
+                    if (bulkhead.tryAcquire()) {
+                        pending.incrementAndGet();
+                        launch(call, result, pending);
+                        log.debug("[SNAPSHOT-API] hedged request fired after {}ms", hedgeDelayMs);
+                    } else {
+                        log.debug("[SNAPSHOT-API] hedge skipped. no free bulkhead slot");
+                    }
+                }
+            }
+            return result.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return Outcome.failure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.failure();
+        }
+    }
+
+    /** 슬롯 1개를 쥔 상태로 호출되며, 작업이 끝나면(또는 제출 실패 시) 그 슬롯을 반환한다 */
+    private <T> void launch(Supplier<T> call, CompletableFuture<Outcome<T>> result, AtomicInteger pending) {
+        try {
+            executor.execute(() -> {
+                try {
+                    runCall(call, result, pending);
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            log.warn("[SNAPSHOT-API] call rejected by executor: {}", e.toString());
+            if (pending.decrementAndGet() == 0) result.complete(Outcome.failure());
+        }
+    }
+
+    /** 값/데이터 없음은 확정 응답으로 즉시 완료, 예외는 마지막 호출까지 실패하면 실패로 완료 */
+    private <T> void runCall(Supplier<T> call, CompletableFuture<Outcome<T>> result, AtomicInteger pending) {
+        long startedAt = System.nanoTime();
+        T value;
+        try {
+            value = call.get();
+        } catch (RuntimeException e) {
+            log.warn("[SNAPSHOT-API] call failed: {}", e.toString());
+            if (pending.decrementAndGet() == 0) result.complete(Outcome.failure());
+            return;
+        }
+
+        latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        result.complete(Outcome.of(value));
+    }
+
+    /** delegate 호출 결과. failed=false 이고 value=null 이면 "데이터 없음" 확정 응답 */
+    private record Outcome<T>(@Nullable T value, boolean failed) {
+
+        static <T> Outcome<T> of(@Nullable T value) {
+            return new Outcome<>(value, false);
+        }
+
+        static <T> Outcome<T> failure() {
+            return new Outcome<>(null, true);
+        }
+    }
+
+    /** hedge 발사 지연. 비활성/샘플 부족/호출 타임아웃 이상이면 0(hedge 안 함) */
+    private long hedgeDelayMs() {
+        if (!props.hedgeEnabled()) return 0;
+
+        long p = latencies.percentile(props.hedgePercentile(), props.hedgeMinSamples());
+        if (p < 0) return 0;
+
+        long delay = Math.max(props.minHedgeDelayMs(), p);
+        return (delay >= callTimeoutMs) ? 0 : delay;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "snapshot-api-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.github.yun531.climate.shared.http.UrlQueryUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -14,6 +15,10 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 
+/**
+ * 4xx / 빈 본문은 "데이터 없음"(null), 그 외 RestClientException(타임아웃, I/O, 5xx)은
+ * SnapshotApiUnavailableException 으로 구분해 서킷이 전송 실패만 집계하게 한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RestSnapshotApiClient implements SnapshotApiClient {
@@ -48,8 +53,10 @@ public class RestSnapshotApiClient implements SnapshotApiClient {
                     )
             );
             return rest().getForObject(uri, HourlyForecastResponse.class);
-        } catch (RestClientException e) {
+        } catch (HttpClientErrorException e) {
             return null;
+        } catch (RestClientException e) {
+            throw new SnapshotApiUnavailableException("hourly snapshot fetch failed. region=" + regionCode, e);
         }
     }
 
@@ -61,8 +68,10 @@ public class RestSnapshotApiClient implements SnapshotApiClient {
                     Map.of("regionCode", regionCode)
             );
             return rest().getForObject(uri, DailyForecastResponse.class);
-        } catch (RestClientException e) {
+        } catch (HttpClientErrorException e) {
             return null;
+        } catch (RestClientException e) {
+            throw new SnapshotApiUnavailableException("daily forecast fetch failed. region=" + regionCode, e);
         }
     }
 }
\ No newline at end of file
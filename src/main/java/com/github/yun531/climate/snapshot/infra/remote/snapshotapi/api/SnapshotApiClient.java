@@ -5,6 +5,11 @@ import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.HourlyFor
 
 import java.time.LocalDateTime;
 
+/**
+ * snapshot API 포트.
+ * - null: 확정 응답으로 데이터 없음 (4xx, 빈 본문 — 예: 발표분이 아직 적재되지 않음)
+ * - SnapshotApiUnavailableException: 전송 실패 (타임아웃, I/O, 5xx)
+ */
 public interface SnapshotApiClient {
     HourlyForecastResponse fetchHourly(String regionCode, LocalDateTime announceTime);
     DailyForecastResponse fetchDaily(String regionCode);
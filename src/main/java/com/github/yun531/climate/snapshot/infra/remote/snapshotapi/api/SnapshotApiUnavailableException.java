@@ -0,0 +1,12 @@
+package com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api;
+
+/**
+ * snapshot API 전송 실패 (타임아웃, I/O 오류, 5xx).
+ * "아직 적재되지 않음"(4xx, 빈 응답) 같은 확정 응답은 예외 대신 null 로 돌려준다.
+ */
+public class SnapshotApiUnavailableException extends RuntimeException {
+
+    public SnapshotApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
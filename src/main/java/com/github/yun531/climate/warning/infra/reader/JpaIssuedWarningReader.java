@@ -5,27 +5,35 @@ import com.github.yun531.climate.warning.domain.model.WarningKind;
 import com.github.yun531.climate.warning.domain.reader.WarningStateReader;
 import com.github.yun531.climate.warning.domain.readmodel.IssuedWarning;
 import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
 import com.github.yun531.climate.shared.cache.KeyCache;
+import com.github.yun531.climate.shared.cache.ManagedCache;
 import com.github.yun531.climate.warning.infra.persistence.mapper.IssuedWarningMapper;
 import com.github.yun531.climate.warning.infra.persistence.repository.WarningStateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 @Component
 @Primary
-public class JpaIssuedWarningReader implements WarningStateReader {
+public class JpaIssuedWarningReader implements WarningStateReader, MeterBinder, ManagedCache {
 
     private final WarningStateRepository repo;
     private final Clock clock;
     private final int ttlMinutes;
 
-    private final KeyCache<Map<WarningKind, IssuedWarning>> cache = new KeyCache<>();
+    /** 무효화 버스에서 특보 캐시를 지정하는 kind */
+    public static final String INVALIDATION_KIND = "WARNING";
+
+    private final KeyCache<Map<WarningKind, IssuedWarning>> cache = new KeyCache<>("warning");
 
     public JpaIssuedWarningReader(
             WarningStateRepository repo,
@@ -56,4 +64,52 @@ public class JpaIssuedWarningReader implements WarningStateReader {
 
         return (entry == null || entry.value() == null) ? Map.of() : entry.value();
     }
-}
\ No newline at end of file
+
+    // -- ManagedCache: 캐시 키 = regionId --
+
+    @Override
+    public KeyCache.CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    @Override
+    public Map<String, LocalDateTime> cacheAnchors() {
+        return cache.anchors();
+    }
+
+    @Override
+    public int invalidateRegion(String regionId) {
+        return cache.invalidate(regionId) ? 1 : 0;
+    }
+
+    /** kind 가 없거나 WARNING 일 때만 반영. 특보는 발표시각 단위가 아니므로 announceTime 은 무시 */
+    @Override
+    public int invalidate(CacheInvalidation invalidation) {
+        return invalidation.targets(INVALIDATION_KIND) ? invalidateRegion(invalidation.regionId()) : 0;
+    }
+
+    @Override
+    public int flush() {
+        return cache.clear();
+    }
+
+    /** 특보가 없는 지역도 빈 Map 으로 캐싱되므로 요청한 지역 수를 반환 */
+    @Override
+    public int warmUp(Collection<String> regionIds) {
+        if (regionIds == null) return 0;
+
+        int loaded = 0;
+        for (String regionId : regionIds) {
+            if (regionId == null || regionId.isBlank()) continue;
+            loadLatestByKind(regionId);
+            loaded++;
+        }
+        return loaded;
+    }
+
+    /** 특보 캐시 메트릭 */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.yun531.climate.admin.presentation;
+
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
+import com.github.yun531.climate.shared.cache.CacheInvalidationBus;
+import com.github.yun531.climate.shared.cache.KeyCache;
+import com.github.yun531.climate.shared.cache.ManagedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CacheAdminController.class,
+        properties = "notification.internal-api.enabled=true")
+class CacheAdminControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 5, 30);
+
+    @Autowired MockMvc mvc;
+    @MockitoBean ManagedCache cache;
+    @MockitoBean CacheInvalidationBus invalidationBus;
+    @MockitoBean Clock clock;
+
+    private static final String BASE_PATH = "/internal/cache";
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW.atZone(ZoneId.systemDefault()).toInstant());
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(cache.cacheStats()).thenReturn(new KeyCache.CacheStats("snapshot", 3, 1, 0, 2));
+    }
+
+    @Test
+    @DisplayName("GET -> 캐시별 통계")
+    void stats() throws Exception {
+        mvc.perform(get(BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("snapshot"))
+                .andExpect(jsonPath("$[0].hits").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /{name}/entries -> 키별 anchor + 경과 분")
+    void entries() throws Exception {
+        when(cache.cacheAnchors()).thenReturn(Map.of("R1:1", NOW.minusMinutes(30)));
+
+        mvc.perform(get(BASE_PATH + "/snapshot/entries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.entries[0].key").value("R1:1"))
+                .andExpect(jsonPath("$.entries[0].ageMinutes").value(30));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 캐시 이름 -> 404")
+    void unknownCache_notFound() throws Exception {
+        mvc.perform(get(BASE_PATH + "/nope/entries"))
+                .andExpect(status().isNotFound());
+        mvc.perform(delete(BASE_PATH).param("name", "nope"))
+                .andExpect(status().isNotFound());
+        verify(cache, never()).flush();
+    }
+
+    @Test
+    @DisplayName("DELETE /regions/{regionId} -> 무효화 버스로 발행, 로컬 캐시별 제거 수")
+    void invalidateRegion() throws Exception {
+        when(invalidationBus.publish(CacheInvalidation.region("R1"))).thenReturn(Map.of("snapshot", 2));
+
+        mvc.perform(delete(BASE_PATH + "/regions/R1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removed.snapshot").value(2));
+    }
+
+    @Test
+    @DisplayName("DELETE /regions/{regionId}?kind&announceTime -> 해당 발표분만 무효화 요청")
+    void invalidateRegion_withKindAndAnnounceTime() throws Exception {
+        CacheInvalidation expected = new CacheInvalidation("R1", "CURRENT", LocalDateTime.of(2026, 1, 22, 5, 0));
+        when(invalidationBus.publish(expected)).thenReturn(Map.of("snapshot", 1));
+
+        mvc.perform(delete(BASE_PATH + "/regions/R1")
+                        .param("kind", "CURRENT")
+                        .param("announceTime", "2026-01-22T05:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removed.snapshot").value(1));
+    }
+
+    @Test
+    @DisplayName("DELETE -> 전체 flush")
+    void flushAll() throws Exception {
+        when(cache.flush()).thenReturn(5);
+
+        mvc.perform(delete(BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removed.snapshot").value(5));
+    }
+
+    @Test
+    @DisplayName("POST /warm-up -> 지역 목록 위임, 적재 수 반환")
+    void warmUp() throws Exception {
+        when(cache.warmUp(List.of("R1", "R2"))).thenReturn(2);
+
+        mvc.perform(post(BASE_PATH + "/warm-up").param("regionIds", "R1", "R2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loaded.snapshot").value(2));
+    }
+
+    @Test
+    @DisplayName("warm-up 중 예외 -> 해당 캐시는 -1, 응답은 200")
+    void warmUpFails_reportedPerCache() throws Exception {
+        when(cache.warmUp(any())).thenThrow(new IllegalStateException("db down"));
+
+        mvc.perform(post(BASE_PATH + "/warm-up").param("regionIds", "R1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loaded.snapshot").value(-1));
+    }
+}
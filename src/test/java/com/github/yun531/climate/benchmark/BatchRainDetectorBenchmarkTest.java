@@ -0,0 +1,97 @@
+package com.github.yun531.climate.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.yun531.climate.notification.domain.detect.BatchRainDetector;
+import com.github.yun531.climate.notification.domain.detect.PopMatrix;
+import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
+import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지역별 Detector 루프 vs BatchRainDetector (PopMatrix 구성 포함): 지역 5,000개 1회 감지 시간.
+ * 기본 test 에서는 제외되며 `gradle benchmark` 로 실행한다.
+ */
+@Tag("benchmark")
+class BatchRainDetectorBenchmarkTest {
+
+    private static final LocalDateTime ANNOUNCE = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final LocalDateTime NOW = ANNOUNCE.plusMinutes(15);
+    private static final int REGIONS = 5_000;
+    private static final int WARM_UP = 30;
+    private static final int ITERATIONS = 100;
+
+    @Test
+    @DisplayName("RAIN_ONSET + RAIN_FORECAST: 지역별 vs 배치")
+    void perRegionVsBatch() {
+        // RainForecastDetector 의 지역별 INFO 로그 제외
+        ((Logger) LoggerFactory.getLogger(RainForecastDetector.class)).setLevel(Level.WARN);
+
+        RainOnsetDetector onset = new RainOnsetDetector(60, 26);
+        RainForecastDetector forecast = new RainForecastDetector(60, 26);
+        BatchRainDetector batch = new BatchRainDetector(60, 26);
+
+        Random random = new Random(7);
+        List<String> regionIds = new ArrayList<>(REGIONS);
+        List<PopView.Pair> pairs = new ArrayList<>(REGIONS);
+        for (int r = 0; r < REGIONS; r++) {
+            regionIds.add("R" + r);
+            pairs.add(new PopView.Pair(popView(ANNOUNCE, random), popView(ANNOUNCE.minusHours(3), random)));
+        }
+
+        double perRegion = msPerOp(() -> {
+            int events = 0;
+            for (int r = 0; r < REGIONS; r++) {
+                events += onset.detect(regionIds.get(r), pairs.get(r), NOW).size();
+                if (forecast.detect(regionIds.get(r), pairs.get(r).current(), NOW) != null) events++;
+            }
+            return events;
+        });
+        double batched = msPerOp(() -> batch.detect(PopMatrix.of(regionIds, pairs, batch.hours()), NOW).size());
+
+        PopMatrix matrix = PopMatrix.of(regionIds, pairs, batch.hours());
+        double build = msPerOp(() -> PopMatrix.of(regionIds, pairs, batch.hours()).rows());
+        double bitmaps = msPerOp(() -> (int) batch.onsetBits(matrix, batch.rainBits(matrix))[0]);
+
+        assertThat(batch.detect(matrix, NOW)).hasSize(REGIONS);
+        System.out.printf("[BENCH] rain detect x%d regions | per-region %8.2f ms | batch %8.2f ms (%.1fx)"
+                        + " | matrix build %6.2f ms, bitmaps %6.3f ms%n",
+                REGIONS, perRegion, batched, perRegion / batched, build, bitmaps);
+    }
+
+    private static double msPerOp(IntSupplier op) {
+        long sink = 0;
+        for (int i = 0; i < WARM_UP; i++) sink += op.getAsInt();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += op.getAsInt();
+        long elapsed = System.nanoTime() - startedAt;
+
+        if (sink < 0) throw new IllegalStateException();      // 결과 사용 (dead-code 제거 방지)
+        return elapsed / 1_000_000.0 / ITERATIONS;
+    }
+
+    private static PopView popView(LocalDateTime reportTime, Random random) {
+        List<PopView.Hourly.Pop> hourly = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            hourly.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), random.nextInt(11) * 10));
+        }
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) {
+            daily.add(new PopView.Daily.Pop(random.nextInt(101), random.nextInt(101)));
+        }
+        return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), reportTime);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.yun531.climate.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import com.github.yun531.climate.notification.infra.codec.AlertEventCodec;
+import com.github.yun531.climate.notification.infra.codec.PopViewCodec;
+import com.github.yun531.climate.snapshot.domain.readmodel.DailyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+import com.github.yun531.climate.snapshot.infra.codec.WeatherSnapshotCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 바이너리 코덱 vs Jackson JSON: 크기, encode/decode 시간(ns/op).
+ * 기본 test 에서는 제외되며 `gradle benchmark` 로 실행한다.
+ * 단순 반복 측정이라 절대값보다 같은 JVM 안에서의 상대 비교용.
+ */
+@Tag("benchmark")
+class BinaryCodecBenchmarkTest {
+
+    private static final LocalDateTime ANNOUNCE = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper json = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    @DisplayName("WeatherSnapshot: binary vs JSON")
+    void weatherSnapshot() throws Exception {
+        WeatherSnapshotCodec codec = new WeatherSnapshotCodec();
+        compare("WeatherSnapshot", snapshot(), codec::encode, codec::decode, WeatherSnapshot.class);
+    }
+
+    @Test
+    @DisplayName("PopView: binary vs JSON")
+    void popView() throws Exception {
+        PopViewCodec codec = new PopViewCodec();
+        compare("PopView", popViewFixture(), codec::encode, codec::decode, PopView.class);
+    }
+
+    @Test
+    @DisplayName("List<AlertEvent>: binary vs JSON")
+    void alertEvents() throws Exception {
+        AlertEventCodec codec = new AlertEventCodec();
+        List<AlertEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new AlertEvent(AlertTypeEnum.RAIN_ONSET, "11B10101", ANNOUNCE,
+                    new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, ANNOUNCE.plusHours(i + 1), 60 + i)));
+        }
+        compare("List<AlertEvent>(10)", events, codec::encode, codec::decode, new TypeReference<List<AlertEvent>>() {});
+    }
+
+    private <T> void compare(String name, T value, Function<T, byte[]> encode, Function<byte[], T> decode,
+                             Class<T> type) throws Exception {
+        compare(name, value, encode, decode, json.getTypeFactory().constructType(type));
+    }
+
+    private <T> void compare(String name, T value, Function<T, byte[]> encode, Function<byte[], T> decode,
+                             TypeReference<T> type) throws Exception {
+        compare(name, value, encode, decode, json.getTypeFactory().constructType(type));
+    }
+
+    private <T> void compare(String name, T value, Function<T, byte[]> encode, Function<byte[], T> decode,
+                             JavaType type) throws Exception {
+        byte[] binary = encode.apply(value);
+        byte[] jsonBytes = json.writeValueAsBytes(value);
+        assertThat(decode.apply(binary)).isEqualTo(value);
+        assertThat(binary.length).isLessThan(jsonBytes.length);
+
+        double binEnc = nsPerOp(() -> encode.apply(value));
+        double binDec = nsPerOp(() -> decode.apply(binary));
+        double jsonEnc = nsPerOp(() -> json.writeValueAsBytes(value));
+        double jsonDec = nsPerOp(() -> json.readValue(jsonBytes, type));
+
+        System.out.printf("[BENCH] %-22s size %5d B vs %5d B (%.1fx) | encode %8.0f vs %8.0f ns | decode %8.0f vs %8.0f ns%n",
+                name, binary.length, jsonBytes.length, (double) jsonBytes.length / binary.length,
+                binEnc, jsonEnc, binDec, jsonDec);
+    }
+
+    private static double nsPerOp(ThrowingSupplier op) throws Exception {
+        Object sink = null;
+        for (int i = 0; i < WARM_UP; i++) sink = op.get();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink = op.get();
+        long elapsed = System.nanoTime() - startedAt;
+
+        if (sink == null) throw new IllegalStateException();     // 결과 사용 (dead-code 제거 방지)
+        return (double) elapsed / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+
+    private static WeatherSnapshot snapshot() {
+        List<HourlyPoint> hourly = new ArrayList<>();
+        for (int i = 0; i < 26; i++) hourly.add(new HourlyPoint(ANNOUNCE.plusHours(i + 1), -5 + i % 12, (i * 13) % 101));
+        List<DailyPoint> daily = new ArrayList<>();
+        for (int d = 0; d < 7; d++) daily.add(new DailyPoint(d, -8 + d, 3 + d, 20 + d * 5, 30 + d * 5));
+        return new WeatherSnapshot("11B10101", ANNOUNCE, hourly, daily);
+    }
+
+    private static PopView popViewFixture() {
+        List<PopView.Hourly.Pop> hourly = new ArrayList<>();
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) hourly.add(new PopView.Hourly.Pop(ANNOUNCE.plusHours(i + 1), (i * 13) % 101));
+        List<PopView.Daily.Pop> daily = new ArrayList<>();
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(20 + d * 5, 30 + d * 5));
+        return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), ANNOUNCE);
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.yun531.climate.fcm.infra.firebase;
+
+import com.github.yun531.climate.fcm.domain.BatchPushResult;
+import com.github.yun531.climate.fcm.domain.PushFailedException;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.infra.config.FcmBatchProperties;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class FirebaseTopicPushSenderTest {
+
+    private final FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+
+    @Test
+    @DisplayName("chunkSize 단위로 sendEachAsync 를 나눠 호출하고 결과를 합산한다")
+    void chunksAndMergesResults() {
+        when(messaging.sendEachAsync(anyList(), anyBoolean())).thenAnswer(inv -> {
+            List<Message> batch = inv.getArgument(0);
+            return ApiFutures.immediateFuture(batchResponse(batch.size(), -1));
+        });
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(2, 2, 0, 64));
+
+        BatchPushResult result = sender.pushAll(messages(5), false);
+
+        verify(messaging, times(3)).sendEachAsync(anyList(), eq(false));
+        assertThat(result.successCount()).isEqualTo(5);
+        assertThat(result.failureCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메시지별 실패는 해당 토픽으로 집계된다")
+    void perMessageFailure_collectsTopics() {
+        when(messaging.sendEachAsync(anyList(), anyBoolean())).thenAnswer(inv -> {
+            List<Message> batch = inv.getArgument(0);
+            return ApiFutures.immediateFuture(batchResponse(batch.size(), 1));
+        });
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(500, 1, 0, 64));
+
+        BatchPushResult result = sender.pushAll(messages(3), true);
+
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.failedTopics()).containsExactly("region_1");
+    }
+
+    @Test
+    @DisplayName("sendEach 자체가 실패하면 chunk 전체를 실패로 집계한다")
+    void callFailure_wholeChunkFailed() {
+        when(messaging.sendEachAsync(anyList(), anyBoolean()))
+                .thenReturn(ApiFutures.immediateFailedFuture(mock(FirebaseMessagingException.class)));
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(500, 1, 0, 64));
+
+        BatchPushResult result = sender.pushAll(messages(2), false);
+
+        assertThat(result.failureCount()).isEqualTo(2);
+        assertThat(result.failedTopics()).containsExactly("region_0", "region_1");
+    }
+
+    @Test
+    @DisplayName("pushAllAsync 는 응답 전에 반환되고, 응답 도착 시 완료된다")
+    void pushAllAsync_completesOnResponse() {
+        SettableApiFuture<BatchResponse> pending = SettableApiFuture.create();
+        when(messaging.sendEachAsync(anyList(), anyBoolean())).thenReturn(pending);
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(500, 1, 0, 64));
+
+        CompletableFuture<BatchPushResult> future = sender.pushAllAsync(messages(2), false);
+        assertThat(future).isNotDone();
+
+        pending.set(batchResponse(2, -1));
+        assertThat(future).isCompletedWithValueMatching(r -> r.successCount() == 2);
+    }
+
+    @Test
+    @DisplayName("pushAsync: 성공 -> messageId, 실패 -> PushFailedException")
+    void pushAsync_successAndFailure() {
+        when(messaging.sendAsync(any(Message.class), anyBoolean()))
+                .thenReturn(ApiFutures.immediateFuture("msg-1"))
+                .thenReturn(ApiFutures.immediateFailedFuture(mock(FirebaseMessagingException.class)));
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(500, 1, 0, 64));
+
+        assertThat(sender.pushAsync(messages(1).get(0), false).join()).isEqualTo("msg-1");
+        assertThatThrownBy(() -> sender.pushAsync(messages(1).get(0), false).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PushFailedException.class);
+    }
+
+    @Test
+    @DisplayName("maxInFlight 도달 시 pushAsync 는 막지 않고 반환하며, 앞선 응답이 오면 이어서 전송한다")
+    void pushAsync_boundedInFlight_nonBlocking() {
+        SettableApiFuture<String> first = SettableApiFuture.create();
+        when(messaging.sendAsync(any(Message.class), anyBoolean()))
+                .thenReturn(first)
+                .thenReturn(ApiFutures.immediateFuture("msg-2"));
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(500, 1, 0, 1));
+
+        sender.pushAsync(messages(1).get(0), false);
+        CompletableFuture<String> second = sender.pushAsync(messages(1).get(0), false);
+
+        assertThat(second).isNotDone();
+        verify(messaging, times(1)).sendAsync(any(Message.class), anyBoolean());
+
+        first.set("msg-1");
+        assertThat(second.orTimeout(1, TimeUnit.SECONDS).join()).isEqualTo("msg-2");
+    }
+
+    @Test
+    @DisplayName("maxParallelBatches 도달 시 pushAllAsync 는 즉시 반환하고, 다음 chunk 는 앞 chunk 완료 후 전송된다")
+    void pushAllAsync_boundedBatches_nonBlocking() {
+        SettableApiFuture<BatchResponse> first = SettableApiFuture.create();
+        when(messaging.sendEachAsync(anyList(), anyBoolean()))
+                .thenReturn(first)
+                .thenAnswer(inv -> {
+                    List<Message> batch = inv.getArgument(0);
+                    return ApiFutures.immediateFuture(batchResponse(batch.size(), -1));
+                });
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(1, 1, 0, 64));
+
+        CompletableFuture<BatchPushResult> future = sender.pushAllAsync(messages(3), false);
+
+        assertThat(future).isNotDone();
+        verify(messaging, times(1)).sendEachAsync(anyList(), anyBoolean());
+
+        first.set(batchResponse(1, -1));
+        assertThat(future.orTimeout(1, TimeUnit.SECONDS).join().successCount()).isEqualTo(3);
+        verify(messaging, times(3)).sendEachAsync(anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("rate limit 대기는 호출 스레드가 아니라 지연 실행으로 처리한다")
+    void pushAllAsync_rateLimited_returnsImmediately() {
+        when(messaging.sendEachAsync(anyList(), anyBoolean())).thenAnswer(inv -> {
+            List<Message> batch = inv.getArgument(0);
+            return ApiFutures.immediateFuture(batchResponse(batch.size(), -1));
+        });
+        FirebaseTopicPushSender sender = senderWith(new FcmBatchProperties(1, 2, 5, 64));
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<BatchPushResult> future = sender.pushAllAsync(messages(6), false);
+        long returnedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(returnedMs).isLessThan(150);
+        assertThat(future).isNotDone();
+        assertThat(future.orTimeout(3, TimeUnit.SECONDS).join().successCount()).isEqualTo(6);
+    }
+
+    // --- 헬퍼 ---
+
+    private FirebaseTopicPushSender senderWith(FcmBatchProperties props) {
+        return new FirebaseTopicPushSender(messaging, new FirebaseMessageMapper(), props);
+    }
+
+    private static List<TopicPushMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TopicPushMessage("region_" + i, Map.of("k", "v"), 1000))
+                .toList();
+    }
+
+    /** failIndex 위치만 실패, 나머지는 성공인 응답 */
+    private static BatchResponse batchResponse(int size, int failIndex) {
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SendResponse r = mock(SendResponse.class);
+            when(r.isSuccessful()).thenReturn(i != failIndex);
+            responses.add(r);
+        }
+        int failures = (failIndex >= 0 && failIndex < size) ? 1 : 0;
+
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getResponses()).thenReturn(responses);
+        when(response.getSuccessCount()).thenReturn(size - failures);
+        when(response.getFailureCount()).thenReturn(failures);
+        return response;
+    }
+}
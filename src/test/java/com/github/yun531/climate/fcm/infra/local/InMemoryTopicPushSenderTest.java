@@ -0,0 +1,48 @@
+package com.github.yun531.climate.fcm.infra.local;
+
+import com.github.yun531.climate.fcm.domain.BatchPushResult;
+import com.github.yun531.climate.fcm.domain.PushFailedException;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTopicPushSenderTest {
+
+    private final InMemoryTopicPushSender sender = new InMemoryTopicPushSender();
+
+    @Test
+    @DisplayName("push/pushAsync 는 메시지를 기록하고 messageId 를 반환한다")
+    void recordsMessages() {
+        sender.push(message("a"), false);
+        String asyncId = sender.pushAsync(message("b"), true).join();
+
+        assertThat(asyncId).startsWith("local-");
+        assertThat(sender.sent()).extracting(s -> s.message().topic()).containsExactly("a", "b");
+        assertThat(sender.sent().get(1).dryRun()).isTrue();
+    }
+
+    @Test
+    @DisplayName("failTopic 지정 토픽은 실패, pushAll 은 실패 토픽을 집계한다")
+    void failingTopics() {
+        sender.failTopic("bad");
+
+        BatchPushResult result = sender.pushAll(List.of(message("ok"), message("bad")), false);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failedTopics()).containsExactly("bad");
+        assertThatThrownBy(() -> sender.pushAsync(message("bad"), false).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PushFailedException.class);
+    }
+
+    private static TopicPushMessage message(String topic) {
+        return new TopicPushMessage(topic, Map.of(), 1000);
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.yun531.climate.fcm.infra.outbox;
+
+import com.github.yun531.climate.TestFirebaseConfig;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxEntity;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxStatus;
+import com.github.yun531.climate.fcm.infra.persistence.repository.PushOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 적재 -> 디스패처 전송 체인 통합 테스트 (H2).
+ * 스키마 재생성 충돌을 피하려고 별도 in-memory DB 를 사용한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:climate_outbox_test;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "fcm.outbox.enabled=true",
+        "fcm.outbox.poll-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@Import(TestFirebaseConfig.class)
+class JpaPushOutboxIntegrationTest {
+
+    @Autowired JpaPushOutbox outbox;
+    @Autowired PushOutboxDispatcher dispatcher;
+    @Autowired PushOutboxRepository repository;
+    @Autowired TopicPushSender pushSender;
+
+    @Test
+    @DisplayName("같은 idempotencyKey 는 한 번만 적재되고, 디스패처가 전송 후 SENT 로 갱신한다")
+    void enqueueOnce_thenDispatched() {
+        TopicPushMessage message = new TopicPushMessage("hourly", Map.of("type", "HOURLY_TRIGGER"), 600_000);
+        when(pushSender.push(any(), anyBoolean())).thenReturn("msg-1");
+
+        assertThat(outbox.enqueue(message, "HOURLY_TRIGGER:hourly:2026-01-22T08:05:00", false)).isTrue();
+        assertThat(outbox.enqueue(message, "HOURLY_TRIGGER:hourly:2026-01-22T08:05:00", false)).isFalse();
+
+        dispatcher.drain();
+
+        assertThat(repository.findAll())
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+                    assertThat(row.getMessageId()).isEqualTo("msg-1");
+                    assertThat(row.getAttempts()).isEqualTo(1);
+                })
+                .extracting(PushOutboxEntity::getDataJson)
+                .asString()
+                .contains("\"pushId\"");
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.yun531.climate.fcm.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yun531.climate.fcm.domain.PushFailedException;
+import com.github.yun531.climate.fcm.domain.TopicPushMessage;
+import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.fcm.infra.config.PushOutboxProperties;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxEntity;
+import com.github.yun531.climate.fcm.infra.persistence.entity.PushOutboxStatus;
+import com.github.yun531.climate.fcm.infra.persistence.repository.PushOutboxRepository;
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 5);
+
+    @Mock PushOutboxRepository repository;
+    @Mock TopicPushSender pushSender;
+    @Captor ArgumentCaptor<TopicPushMessage> messageCaptor;
+
+    private PushOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        PushOutboxProperties props = new PushOutboxProperties(true, 100, 5_000, 5, 60, 3);
+        dispatcher = new PushOutboxDispatcher(repository, pushSender, props, new ObjectMapper(), clock,
+                SchedulerLock.alwaysAcquire());
+    }
+
+    @Test
+    @DisplayName("전송 성공 -> SENT + messageId, 남은 TTL 로 전송")
+    void success_markedSent() {
+        PushOutboxEntity row = pending(0, NOW.plusMinutes(5));
+        givenDue(row);
+        when(pushSender.push(messageCaptor.capture(), eq(false))).thenReturn("msg-1");
+
+        assertThat(dispatcher.drain()).isEqualTo(1);
+
+        assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+        assertThat(row.getMessageId()).isEqualTo("msg-1");
+        assertThat(messageCaptor.getValue().ttlMillis()).isEqualTo(300_000);
+        assertThat(messageCaptor.getValue().data()).containsEntry("pushId", "k1");
+        verify(repository).save(row);
+    }
+
+    @Test
+    @DisplayName("전송 실패 -> PENDING 유지, 지수 백오프로 nextAttemptAt 갱신")
+    void failure_backoff() {
+        PushOutboxEntity row = pending(1, NOW.plusMinutes(10));
+        givenDue(row);
+        when(pushSender.push(any(), anyBoolean())).thenThrow(new PushFailedException("FCM error"));
+
+        dispatcher.drain();
+
+        assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+        assertThat(row.getAttempts()).isEqualTo(2);
+        assertThat(row.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(10));
+        assertThat(row.getLastError()).isEqualTo("FCM error");
+    }
+
+    @Test
+    @DisplayName("maxAttempts 도달 -> FAILED")
+    void maxAttempts_failed() {
+        PushOutboxEntity row = pending(2, NOW.plusMinutes(10));
+        givenDue(row);
+        when(pushSender.push(any(), anyBoolean())).thenThrow(new PushFailedException("FCM error"));
+
+        dispatcher.drain();
+
+        assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("TTL 경과 -> 전송하지 않고 EXPIRED")
+    void expired_notSent() {
+        PushOutboxEntity row = pending(0, NOW);
+        givenDue(row);
+
+        dispatcher.drain();
+
+        assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.EXPIRED);
+        verify(pushSender, never()).push(any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("남은 TTL 이 1ms 미만(TTL 0) -> TTL 0 메시지로 보내지 않고 EXPIRED")
+    void subMillisecondTtl_expired() {
+        PushOutboxEntity row = pending(0, NOW.plusNanos(500_000));
+        givenDue(row);
+
+        dispatcher.drain();
+
+        assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.EXPIRED);
+        verify(pushSender, never()).push(any(), anyBoolean());
+        verify(repository).save(row);
+    }
+
+    @Test
+    @DisplayName("메시지로 만들 수 없는 행(빈 토픽) -> 시도/오류 기록 후 FAILED, 다음 행은 계속 전송")
+    void invalidPayload_failedAndContinues() {
+        PushOutboxEntity invalid = pending(1L, "k1", " ", 0, NOW.plusMinutes(5));
+        PushOutboxEntity valid = pending(2L, "k2", "hourly", 0, NOW.plusMinutes(5));
+        givenDue(invalid, valid);
+        when(pushSender.push(any(), eq(false))).thenReturn("msg-2");
+
+        assertThat(dispatcher.drain()).isEqualTo(1);
+
+        assertThat(invalid.getStatus()).isEqualTo(PushOutboxStatus.FAILED);
+        assertThat(invalid.getAttempts()).isEqualTo(1);
+        assertThat(invalid.getLastError()).isEqualTo("topic must not be blank");
+        assertThat(valid.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+        verify(pushSender, times(1)).push(any(), anyBoolean());
+        verify(repository).save(invalid);
+        verify(repository).save(valid);
+    }
+
+    @Test
+    @DisplayName("전송 중 예상 밖 런타임 예외 -> 백오프로 재시도 예약, 다음 행은 계속 전송")
+    void unexpectedRuntimeException_backoffAndContinues() {
+        PushOutboxEntity first = pending(1L, "k1", "hourly", 0, NOW.plusMinutes(5));
+        PushOutboxEntity second = pending(2L, "k2", "hourly", 0, NOW.plusMinutes(5));
+        givenDue(first, second);
+        when(pushSender.push(any(), eq(false)))
+                .thenThrow(new IllegalStateException("sdk not initialized"))
+                .thenReturn("msg-2");
+
+        assertThat(dispatcher.drain()).isEqualTo(1);
+
+        assertThat(first.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).isEqualTo("sdk not initialized");
+        assertThat(first.getNextAttemptAt()).isAfter(NOW);
+        assertThat(second.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("저장 실패 행 -> 로그만 남기고 다음 행 계속 처리")
+    void saveFailure_continues() {
+        PushOutboxEntity first = pending(1L, "k1", "hourly", 0, NOW.plusMinutes(5));
+        PushOutboxEntity second = pending(2L, "k2", "hourly", 0, NOW.plusMinutes(5));
+        givenDue(first, second);
+        when(pushSender.push(any(), eq(false))).thenReturn("msg-1", "msg-2");
+        when(repository.save(first)).thenThrow(new IllegalStateException("db down"));
+
+        dispatcher.drain();
+
+        verify(repository).save(second);
+        assertThat(second.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("poll -> drain 소요 상한만큼 잠금을 잡고, drain 이 끝나면(예외 포함) 해제")
+    void poll_holdsLockForDrainAndReleases() {
+        List<String> calls = new ArrayList<>();
+        SchedulerLock recording = new SchedulerLock() {
+            @Override
+            public boolean tryAcquire(String lockName, Duration holdFor) {
+                calls.add("acquire:" + lockName + ":" + holdFor);
+                return true;
+            }
+
+            @Override
+            public void release(String lockName) {
+                calls.add("release:" + lockName);
+            }
+        };
+        PushOutboxDispatcher locked = new PushOutboxDispatcher(repository, pushSender,
+                new PushOutboxProperties(true, 100, 5_000, 5, 60, 3), new ObjectMapper(),
+                Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()), recording);
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByOutboxIdAsc(any(), any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        locked.poll();
+
+        assertThat(calls).containsExactly("acquire:fcm.outbox:PT5M", "release:fcm.outbox");
+    }
+
+    @Test
+    @DisplayName("poll — 잠금 획득 실패 -> drain/해제 없음")
+    void poll_lockHeldElsewhere_skips() {
+        PushOutboxDispatcher locked = new PushOutboxDispatcher(repository, pushSender,
+                new PushOutboxProperties(true, 100, 5_000, 5, 60, 3), new ObjectMapper(),
+                Clock.systemDefaultZone(), (lockName, holdFor) -> false);
+
+        locked.poll();
+
+        verifyNoInteractions(repository, pushSender);
+    }
+
+    // --- 헬퍼 ---
+
+    private void givenDue(PushOutboxEntity... rows) {
+        when(repository.findByStatusAndNextAttemptAtLessThanEqualOrderByOutboxIdAsc(
+                eq(PushOutboxStatus.PENDING), eq(NOW), any())).thenReturn(List.of(rows));
+    }
+
+    private static PushOutboxEntity pending(int attempts, LocalDateTime expiresAt) {
+        return pending(1L, "k1", "hourly", attempts, expiresAt);
+    }
+
+    private static PushOutboxEntity pending(
+            long outboxId, String key, String topic, int attempts, LocalDateTime expiresAt
+    ) {
+        return PushOutboxEntity.builder()
+                .outboxId(outboxId)
+                .idempotencyKey(key)
+                .topic(topic)
+                .dataJson("{\"type\":\"HOURLY_TRIGGER\",\"pushId\":\"" + key + "\"}")
+                .ttlMillis(600_000)
+                .status(PushOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .createdAt(NOW.minusMinutes(1))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -6,6 +6,8 @@ import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastRevision;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.*;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,12 +38,12 @@ class ForecastServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ForecastService(viewReader, windowAdjuster, FIXED_CLOCK);
+        service = new ForecastService(viewReader, windowAdjuster, FIXED_CLOCK, 3);
     }
 
     @Test
-    @DisplayName("getHourlyForecast — reader 로드 -> adjuster 적용")
-    void hourly_readerThenAdjuster() {
+    @DisplayName("getHourlyForecast — 최초 로드 시 시프트별 윈도우 precompute -> 현재 시프트 윈도우 반환")
+    void hourly_precomputesThenSelectsShift() {
         ForecastHourlyView base = new ForecastHourlyView("R1", NOW, List.of(
                 new ForecastHourlyPoint(NOW.plusHours(1), 10, 20),
                 new ForecastHourlyPoint(NOW.plusHours(2), 12, 30)
@@ -50,7 +53,8 @@ class ForecastServiceTest {
         ));
 
         when(viewReader.loadHourly("R1")).thenReturn(base);
-        when(windowAdjuster.adjust(eq(base), any(LocalDateTime.class))).thenReturn(adjusted);
+        when(windowAdjuster.precompute(base))
+                .thenReturn(new ForecastWindowAdjuster.ShiftedWindows(NOW, List.of(adjusted)));
 
         ForecastHourlyView result = service.getHourlyForecast("R1");
 
@@ -59,11 +63,54 @@ class ForecastServiceTest {
     }
 
     @Test
-    @DisplayName("getHourlyForecast — reader가 null 반환 -> null")
+    @DisplayName("getHourlyForecast — 같은 발표시각 + 같은 원본 재요청 -> 재계산 없이 공유 인스턴스 반환")
+    void hourly_sameReportTime_servesCachedWindow() {
+        ForecastHourlyView base = new ForecastHourlyView("R1", NOW, List.of());
+        ForecastHourlyView shift0 = new ForecastHourlyView("R1", NOW, List.of());
+        ForecastHourlyView shift1 = new ForecastHourlyView("R1", NOW.plusHours(1), List.of());
+
+        when(viewReader.loadHourly("R1")).thenReturn(base);
+        when(windowAdjuster.precompute(base))
+                .thenReturn(new ForecastWindowAdjuster.ShiftedWindows(NOW, List.of(shift0, shift1)));
+        when(windowAdjuster.shiftHours(eq(NOW), any(LocalDateTime.class))).thenReturn(0, 1);
+
+        ForecastHourlyView first = service.getHourlyForecast("R1");
+        ForecastHourlyView second = service.getHourlyForecast("R1", NOW.plusHours(1));
+
+        assertThat(first).isSameAs(shift0);
+        assertThat(second).isSameAs(shift1);
+        verify(windowAdjuster, times(1)).precompute(any());
+        verify(windowAdjuster, never()).adjust(any(), any());
+    }
+
+    @Test
+    @DisplayName("getHourlyForecast — 같은 발표시각이지만 원본이 정정됨 -> 윈도우 다시 생성")
+    void hourly_correctedSameReportTime_rebuildsWindow() {
+        ForecastHourlyView base = new ForecastHourlyView("R1", NOW, List.of(
+                new ForecastHourlyPoint(NOW.plusHours(1), 10, 20)));
+        ForecastHourlyView corrected = new ForecastHourlyView("R1", NOW, List.of(
+                new ForecastHourlyPoint(NOW.plusHours(1), 10, 90)));
+        ForecastHourlyView oldWindow = new ForecastHourlyView("R1", NOW, base.hourlyPoints());
+        ForecastHourlyView newWindow = new ForecastHourlyView("R1", NOW, corrected.hourlyPoints());
+
+        when(viewReader.loadHourly("R1")).thenReturn(base, corrected);
+        when(windowAdjuster.precompute(base))
+                .thenReturn(new ForecastWindowAdjuster.ShiftedWindows(NOW, List.of(oldWindow)));
+        when(windowAdjuster.precompute(corrected))
+                .thenReturn(new ForecastWindowAdjuster.ShiftedWindows(NOW, List.of(newWindow)));
+
+        assertThat(service.getHourlyForecast("R1")).isSameAs(oldWindow);
+        assertThat(service.getHourlyForecast("R1")).isSameAs(newWindow);
+        verify(windowAdjuster, times(2)).precompute(any());
+    }
+
+    @Test
+    @DisplayName("getHourlyForecast — 데이터 없음 -> null")
     void hourly_readerReturnsNull() {
         when(viewReader.loadHourly("R1")).thenReturn(null);
 
         assertThat(service.getHourlyForecast("R1")).isNull();
+        verify(windowAdjuster, never()).precompute(any());
         verify(windowAdjuster, never()).adjust(any(), any());
     }
 
@@ -80,4 +127,70 @@ class ForecastServiceTest {
         assertThat(result).isEqualTo(view);
         verify(viewReader).loadDaily("R1");
     }
+
+    @Test
+    @DisplayName("getHourlyVersion — max-age 는 다음 시프트/발표 경계 중 빠른 쪽까지")
+    void hourlyVersion_maxAgeUntilNextBoundary() {
+        LocalDateTime announce = LocalDateTime.of(2026, 1, 22, 5, 0);
+        when(viewReader.loadRevision(eq("R1"), any(LocalDateTime.class)))
+                .thenReturn(new ForecastRevision("R1", announce, announce.plusHours(3).plusMinutes(10), 0xabcL));
+        when(windowAdjuster.shiftHours(announce, NOW)).thenReturn(0);
+        when(windowAdjuster.nextShiftAt(announce, NOW)).thenReturn(announce.plusHours(1));
+
+        ForecastVersion version = service.getHourlyVersion("R1");
+
+        assertThat(version.etag()).isEqualTo("\"R1-202601220500-abc-h0\"");
+        assertThat(version.maxAgeSeconds()).isEqualTo(45 * 60);
+        verify(viewReader, never()).loadHourly(any());
+    }
+
+    @Test
+    @DisplayName("getDailyVersion — revision 없음 -> null")
+    void dailyVersion_noRevision_returnsNull() {
+        when(viewReader.loadRevision(eq("R1"), any(LocalDateTime.class))).thenReturn(null);
+
+        assertThat(service.getDailyVersion("R1")).isNull();
+    }
+
+    @Test
+    @DisplayName("getHourlyForecasts — 중복 제거 + 최대 개수 제한 + 지역별 adjuster 적용, 입력 순서 유지")
+    void hourlyBatch_normalizesAndAdjusts() {
+        ForecastHourlyView r1 = new ForecastHourlyView("R1", NOW, List.of());
+        ForecastHourlyView r3 = new ForecastHourlyView("R3", NOW, List.of());
+        when(viewReader.loadHourlyAll(List.of("R3", "R1", "R2")))
+                .thenReturn(Map.of("R1", r1, "R3", r3));
+        when(windowAdjuster.adjust(any(ForecastHourlyView.class), any(LocalDateTime.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        List<ForecastHourlyView> result =
+                service.getHourlyForecasts(List.of("R3", " R1 ", "R3", "R2", "R4"));
+
+        assertThat(result).containsExactly(r3, r1);
+        verify(windowAdjuster, times(2)).adjust(any(), any());
+    }
+
+    @Test
+    @DisplayName("getDailyForecasts — 빈 입력 -> reader 미호출")
+    void dailyBatch_emptyInput() {
+        assertThat(service.getDailyForecasts(List.of())).isEmpty();
+        verify(viewReader, never()).loadDailyAll(any());
+    }
+
+    @Test
+    @DisplayName("getForecast — reader 1회 로드 -> hourly 만 adjuster 적용, daily 그대로")
+    void forecast_loadsOnceAndAdjustsHourly() {
+        ForecastHourlyView hourly = new ForecastHourlyView("R1", NOW, List.of());
+        ForecastHourlyView adjusted = new ForecastHourlyView("R1", NOW.plusHours(1), List.of());
+        ForecastDailyView daily = new ForecastDailyView("R1", NOW, List.of());
+        when(viewReader.loadForecast("R1")).thenReturn(new ForecastView("R1", NOW, hourly, daily));
+        when(windowAdjuster.adjust(eq(hourly), any(LocalDateTime.class))).thenReturn(adjusted);
+
+        ForecastView result = service.getForecast("R1");
+
+        assertThat(result.hourly()).isSameAs(adjusted);
+        assertThat(result.daily()).isSameAs(daily);
+        verify(viewReader).loadForecast("R1");
+        verify(viewReader, never()).loadHourly(any());
+        verify(viewReader, never()).loadDaily(any());
+    }
 }
@@ -227,6 +227,57 @@ class ForecastWindowAdjusterTest {
         }
     }
 
+    //  --- 시프트별 사전 계산 ---
+
+    @Nested
+    @DisplayName("precompute")
+    class Precompute {
+
+        @Test
+        @DisplayName("시프트 0..maxShiftHours 변형이 adjust 결과와 동일")
+        void variants_matchAdjust() {
+            ForecastHourlyView base = buildView(ANNOUNCE_TIME, 26);
+
+            ForecastWindowAdjuster.ShiftedWindows windows = adjuster.precompute(base);
+
+            assertThat(windows.byShift()).hasSize(3);
+            for (int shift = 0; shift <= 2; shift++) {
+                LocalDateTime now = ANNOUNCE_TIME.plusHours(shift).plusMinutes(20);
+                assertThat(windows.at(adjuster.shiftHours(ANNOUNCE_TIME, now)))
+                        .isEqualTo(adjuster.adjust(base, now));
+            }
+        }
+
+        @Test
+        @DisplayName("범위를 넘는 시프트 -> 마지막 변형")
+        void overShift_clampedToLast() {
+            ForecastWindowAdjuster.ShiftedWindows windows = adjuster.precompute(buildView(ANNOUNCE_TIME, 26));
+
+            assertThat(windows.at(5)).isSameAs(windows.byShift().get(2));
+        }
+    }
+
+    //  --- 다음 시프트 시각 ---
+
+    @Nested
+    @DisplayName("nextShiftAt")
+    class NextShiftAt {
+
+        @Test
+        @DisplayName("시프트 여유가 있으면 다음 정각")
+        void belowMaxShift_returnsNextHour() {
+            assertThat(adjuster.nextShiftAt(ANNOUNCE_TIME, ANNOUNCE_TIME.plusMinutes(15)))
+                    .isEqualTo(ANNOUNCE_TIME.plusHours(1));
+        }
+
+        @Test
+        @DisplayName("이미 maxShiftHours 만큼 시프트 -> null")
+        void atMaxShift_returnsNull() {
+            assertThat(adjuster.nextShiftAt(ANNOUNCE_TIME, ANNOUNCE_TIME.plusHours(2).plusMinutes(30)))
+                    .isNull();
+        }
+    }
+
     //  --- 헬퍼 ---
 
     private ForecastHourlyView buildView(LocalDateTime announceTime, int count) {
@@ -2,6 +2,9 @@ package com.github.yun531.climate.forecast.infra;
 
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastRevision;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
 import com.github.yun531.climate.snapshot.domain.reader.SnapshotReader;
 import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
@@ -24,6 +27,7 @@ class SnapshotForecastViewReaderTest {
 
     @Mock SnapshotReader snapshotReader;
     @Spy  ForecastViewMapper mapper = new ForecastViewMapper();   // SnapshotForecastViewReader의 의존성
+    @Spy  PublishSchedulePolicy publishSchedule = new PublishSchedulePolicy(10);
     @InjectMocks SnapshotForecastViewReader reader;
 
     private static final LocalDateTime ANNOUNCE_TIME = LocalDateTime.of(2026, 1, 22, 5, 0);
@@ -61,4 +65,42 @@ class SnapshotForecastViewReaderTest {
 
         assertThat(reader.loadHourly("R1")).isNull();
     }
+
+    @Test
+    @DisplayName("loadForecast — SnapshotReader.loadCurrent 1회 -> hourly/daily 함께 변환")
+    void loadForecast_singleSnapshotLoad() {
+        WeatherSnapshot snap = new WeatherSnapshot("R1", ANNOUNCE_TIME,
+                List.of(new HourlyPoint(ANNOUNCE_TIME.plusHours(1), 5, 30)), List.of());
+        when(snapshotReader.loadCurrent("R1")).thenReturn(snap);
+
+        ForecastView result = reader.loadForecast("R1");
+
+        assertThat(result.reportTime()).isEqualTo(ANNOUNCE_TIME);
+        assertThat(result.hourly().hourlyPoints()).hasSize(1);
+        assertThat(result.daily()).isNotNull();
+        verify(snapshotReader, times(1)).loadCurrent("R1");
+    }
+
+    @Test
+    @DisplayName("loadRevision — 최신 발표 스냅샷 -> 다음 발표 반영 시각")
+    void loadRevision_latest_nextAnnounce() {
+        WeatherSnapshot snap = new WeatherSnapshot("R1", ANNOUNCE_TIME, List.of(), List.of());
+        when(snapshotReader.loadCurrent("R1")).thenReturn(snap);
+
+        ForecastRevision revision = reader.loadRevision("R1", ANNOUNCE_TIME.plusMinutes(15));
+
+        assertThat(revision.reportTime()).isEqualTo(ANNOUNCE_TIME);
+        assertThat(revision.nextReportAt()).isEqualTo(ANNOUNCE_TIME.plusHours(3).plusMinutes(10));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("loadRevision — 직전 발표 스냅샷(stale) -> nextReportAt = now")
+    void loadRevision_stale_nextIsNow() {
+        WeatherSnapshot snap = new WeatherSnapshot("R1", ANNOUNCE_TIME.minusHours(3), List.of(), List.of());
+        when(snapshotReader.loadCurrent("R1")).thenReturn(snap);
+        LocalDateTime now = ANNOUNCE_TIME.plusMinutes(15);
+
+        assertThat(reader.loadRevision("R1", now).nextReportAt()).isEqualTo(now);
+    }
 }
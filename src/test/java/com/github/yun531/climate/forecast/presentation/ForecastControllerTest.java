@@ -1,26 +1,34 @@
 package com.github.yun531.climate.forecast.presentation;
 
 import com.github.yun531.climate.forecast.application.ForecastService;
+import com.github.yun531.climate.forecast.application.ForecastVersion;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastDailyView;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyPoint;
 import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastView;
+import com.github.yun531.climate.shared.http.ResponseCacheConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ForecastController.class)
+@Import(ResponseCacheConfig.class)
 class ForecastControllerTest {
 
     @Autowired MockMvc mvc;
@@ -69,6 +77,147 @@ class ForecastControllerTest {
         }
     }
 
+    // ======================= hourly + daily =======================
+
+    @Nested
+    @DisplayName("GET /forecast")
+    class Combined {
+
+        @Test
+        @DisplayName("정상 응답 -> hourly/daily 함께 직렬화")
+        void returnsBothViews() throws Exception {
+            when(forecastService.getForecast("R1")).thenReturn(new ForecastView("R1", ANNOUNCE_TIME,
+                    new ForecastHourlyView("R1", ANNOUNCE_TIME, List.of(
+                            new ForecastHourlyPoint(ANNOUNCE_TIME.plusHours(1), 5, 30))),
+                    new ForecastDailyView("R1", ANNOUNCE_TIME, List.of(
+                            new ForecastDailyPoint(0, -5, 5, 30, 60)))));
+
+            mvc.perform(get("/forecast").param("regionId", "R1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.regionId").value("R1"))
+                    .andExpect(jsonPath("$.hourly.hourlyPoints.length()").value(1))
+                    .andExpect(jsonPath("$.daily.dailyPoints[0].minTemp").value(-5));
+        }
+
+        @Test
+        @DisplayName("service null 반환 -> 204 No Content")
+        void serviceReturnsNull_returns204() throws Exception {
+            when(forecastService.getForecast("R1")).thenReturn(null);
+
+            mvc.perform(get("/forecast").param("regionId", "R1"))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    // ======================= batch =======================
+
+    @Nested
+    @DisplayName("GET /forecast/{hourly,daily}:batch")
+    class Batch {
+
+        @Test
+        @DisplayName("hourly:batch -> 지역별 뷰 배열")
+        void hourlyBatch_returnsArray() throws Exception {
+            when(forecastService.getHourlyForecasts(List.of("R1", "R2"))).thenReturn(List.of(
+                    new ForecastHourlyView("R1", ANNOUNCE_TIME, List.of()),
+                    new ForecastHourlyView("R2", ANNOUNCE_TIME, List.of())));
+
+            mvc.perform(get("/forecast/hourly:batch").param("regionIds", "R1", "R2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[1].regionId").value("R2"));
+        }
+
+        @Test
+        @DisplayName("daily:batch regionIds 누락 -> 400")
+        void dailyBatch_missingRegionIds_returns400() throws Exception {
+            mvc.perform(get("/forecast/daily:batch"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    // ======================= 캐시 헤더 / 304 =======================
+
+    @Nested
+    @DisplayName("HTTP 캐시")
+    class HttpCaching {
+
+        private final ForecastVersion version =
+                ForecastVersion.hourly("R1", ANNOUNCE_TIME, 0xabcL, 1, 1800);
+
+        @Test
+        @DisplayName("버전 존재 -> 200 + ETag + Cache-Control max-age")
+        void withVersion_setsHeaders() throws Exception {
+            when(forecastService.getHourlyVersion("R1")).thenReturn(version);
+            when(forecastService.getHourlyForecast("R1"))
+                    .thenReturn(new ForecastHourlyView("R1", ANNOUNCE_TIME, List.of()));
+
+            mvc.perform(get("/forecast/hourly").param("regionId", "R1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"R1-202601220500-abc-h1\""))
+                    .andExpect(header().string("Cache-Control", "max-age=1800, must-revalidate, public"));
+        }
+
+        @Test
+        @DisplayName("If-None-Match 일치 -> 304 + 뷰 미생성")
+        void ifNoneMatch_returns304() throws Exception {
+            when(forecastService.getHourlyVersion("R1")).thenReturn(version);
+
+            mvc.perform(get("/forecast/hourly").param("regionId", "R1")
+                            .header("If-None-Match", "W/" + version.etag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", version.etag()));
+
+            verify(forecastService, never()).getHourlyForecast("R1");
+        }
+
+        @Test
+        @DisplayName("If-None-Match 가 압축 표현 ETag 와 일치 -> 304 + 같은 ETag")
+        void ifNoneMatchGzipETag_returns304() throws Exception {
+            when(forecastService.getHourlyVersion("R1")).thenReturn(version);
+            String gzipETag = "\"R1-202601220500-abc-h1-gz\"";
+
+            mvc.perform(get("/forecast/hourly").param("regionId", "R1")
+                            .header("If-None-Match", gzipETag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", gzipETag))
+                    .andExpect(header().string("Vary", "Accept-Encoding"));
+
+            verify(forecastService, never()).getHourlyForecast("R1");
+        }
+
+        @Test
+        @DisplayName("같은 버전 재요청 -> 직렬화 바이트 재사용, 뷰 1회만 생성")
+        void sameVersion_reusesSerializedBody() throws Exception {
+            when(forecastService.getHourlyVersion("R9"))
+                    .thenReturn(ForecastVersion.hourly("R9", ANNOUNCE_TIME, 0L, 0, 600));
+            when(forecastService.getHourlyForecast("R9"))
+                    .thenReturn(new ForecastHourlyView("R9", ANNOUNCE_TIME, List.of()));
+
+            for (int i = 0; i < 2; i++) {
+                mvc.perform(get("/forecast/hourly").param("regionId", "R9"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.regionId").value("R9"));
+            }
+
+            verify(forecastService, times(1)).getHourlyForecast("R9");
+        }
+
+        @Test
+        @DisplayName("If-None-Match 불일치 -> 200")
+        void ifNoneMatchMismatch_returns200() throws Exception {
+            when(forecastService.getDailyVersion("R1"))
+                    .thenReturn(ForecastVersion.daily("R1", ANNOUNCE_TIME, 0xabcL, 600));
+            when(forecastService.getDailyForecast("R1"))
+                    .thenReturn(new ForecastDailyView("R1", ANNOUNCE_TIME, List.of()));
+
+            mvc.perform(get("/forecast/daily").param("regionId", "R1")
+                            .header("If-None-Match", "\"R1-202601220200-abc-d\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"R1-202601220500-abc-d\""));
+        }
+    }
+
     // ======================= daily =======================
 
     @Nested
@@ -0,0 +1,139 @@
+package com.github.yun531.climate.notification.application.alert;
+
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlertPrecomputeJobTest {
+
+    @Mock GenerateAlertsService service;
+    @Mock RegionCatalog regionCatalog;
+
+    private final PrecomputedAlertTable table = new PrecomputedAlertTable();
+    private AlertPrecomputeJob job;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 5, 15);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @BeforeEach
+    void setUp() {
+        job = new AlertPrecomputeJob(service, regionCatalog, table, new PublishSchedulePolicy(10),
+                null, Clock.system(ZoneId.of("Asia/Seoul")), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.destroy();
+    }
+
+    private static RegionAlerts alerts() {
+        return new RegionAlerts(NOW.withMinute(0), NOW.withMinute(0).minusHours(3), 0, 0, List.of(), List.of());
+    }
+
+    @Test
+    @DisplayName("refresh -> 전 지역 계산 후 테이블 교체")
+    void refresh_publishesAllRegions() {
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1", "R2", "R3"));
+        when(service.precomputeAll(anyList(), eq(NOW))).thenAnswer(inv -> {
+            Map<String, RegionAlerts> out = new HashMap<>();
+            for (String regionId : inv.<List<String>>getArgument(0)) out.put(regionId, alerts());
+            return out;
+        });
+
+        job.refresh(NOW);
+
+        assertThat(table.current().hour()).isEqualTo(NOW.withMinute(0));
+        assertThat(table.current().regions()).containsOnlyKeys("R1", "R2", "R3");
+        assertThat(table.lookup("R2", NOW.plusMinutes(30))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("묶음 실패 -> 지역별 재계산, 실패/null 지역만 제외")
+    void refresh_skipsFailedRegion() {
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1", "R2", "R3"));
+        when(service.precomputeAll(anyList(), eq(NOW))).thenThrow(new IllegalStateException("batch"));
+        when(service.precompute("R1", NOW)).thenReturn(alerts());
+        when(service.precompute("R2", NOW)).thenThrow(new IllegalStateException("boom"));
+        when(service.precompute("R3", NOW)).thenReturn(null);
+
+        job.refresh(NOW);
+
+        assertThat(table.current().regions()).containsOnlyKeys("R1");
+    }
+
+    @Test
+    @DisplayName("nextRunAt -> 다음 정시와 다음 발표 접근 가능 시각 중 빠른 쪽")
+    void nextRunAt_earliestOfHourAndAnnounce() {
+        // 05:05 -> 05시 발표는 05:10 부터 접근 가능
+        assertThat(job.nextRunAt(NOW.withMinute(5))).isEqualTo(NOW.withMinute(10));
+        // 05:15 -> 다음 발표(08:10)보다 다음 정시가 빠름
+        assertThat(job.nextRunAt(NOW)).isEqualTo(NOW.withMinute(0).plusHours(1));
+    }
+
+    @Test
+    @DisplayName("TaskScheduler 없음 -> 기동 시 1회 실행, 이후 @Scheduled tick 이 다음 실행 시각에 다시 실행")
+    void noTaskScheduler_tickRunsWhenDue() {
+        AtomicReference<Instant> instant = new AtomicReference<>(NOW.atZone(KST).toInstant());
+        Clock clock = new Clock() {
+            @Override public ZoneId getZone() { return KST; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return instant.get(); }
+        };
+        AlertPrecomputeJob fallbackJob = new AlertPrecomputeJob(service, regionCatalog, table,
+                new PublishSchedulePolicy(10), null, clock, 1, 2);
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1"));
+        when(service.precomputeAll(anyList(), any())).thenReturn(Map.of("R1", alerts()));
+
+        try {
+            fallbackJob.start();
+            fallbackJob.tick();                                                 // 05:15, 다음 실행(06:00) 전
+            verify(service, times(1)).precomputeAll(anyList(), any());
+
+            instant.set(NOW.withMinute(0).plusHours(1).atZone(KST).toInstant()); // 06:00
+            fallbackJob.tick();
+
+            verify(service).precomputeAll(anyList(), eq(NOW.withMinute(0).plusHours(1)));
+            assertThat(table.current().hour()).isEqualTo(NOW.withMinute(0).plusHours(1));
+        } finally {
+            fallbackJob.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("TaskScheduler 있음 -> tick 은 아무것도 하지 않음")
+    void withTaskScheduler_tickIgnored() {
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        AlertPrecomputeJob scheduled = new AlertPrecomputeJob(service, regionCatalog, table,
+                new PublishSchedulePolicy(10), scheduler, Clock.system(KST), 1, 2);
+        try {
+            scheduled.tick();
+
+            verifyNoInteractions(service, regionCatalog, scheduler);
+        } finally {
+            scheduled.destroy();
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.github.yun531.climate.notification.application.alert;
 
 import com.github.yun531.climate.notification.domain.adjust.RainForecastAdjuster;
 import com.github.yun531.climate.notification.domain.adjust.RainOnsetAdjuster;
+import com.github.yun531.climate.notification.domain.detect.BatchRainDetector;
 import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
 import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.detect.RainTierPolicy;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
 import com.github.yun531.climate.notification.domain.detect.WarningIssuedDetector;
 import com.github.yun531.climate.notification.domain.model.AlertEvent;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
 import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
 import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
 import com.github.yun531.climate.notification.domain.payload.WarningIssuedPayload;
@@ -25,6 +29,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -181,6 +186,24 @@ class GenerateAlertsServiceTest {
             assertThat(service.generate(cmd, NOW)).isEmpty();
             verify(rainForecastDetector, never()).detect(any(), any(), any());
         }
+
+        @Test
+        @DisplayName("unadjusted — 보정된 RAIN_FORECAST 는 현재 발표분으로 다시 감지한 원본, 그 외 종류는 그대로")
+        void unadjusted_redetectsForecastOnly() {
+            PopView view = mock(PopView.class);
+            when(popViewReader.loadCurrent("R1")).thenReturn(view);
+            AlertEvent raw = new AlertEvent(AlertTypeEnum.RAIN_FORECAST, "R1", NOW.minusHours(2),
+                    new RainForecastPayload(AlertTypeEnum.RAIN_FORECAST, List.of(), List.of()));
+            when(rainForecastDetector.detect(eq("R1"), eq(view), any())).thenReturn(raw);
+
+            AlertEvent adjusted = new AlertEvent(AlertTypeEnum.RAIN_FORECAST, "R1", NOW,
+                    new RainForecastPayload(AlertTypeEnum.RAIN_FORECAST, List.of(), List.of()));
+            AlertEvent onset = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW, null);
+
+            assertThat(service.unadjusted(adjusted, NOW)).isSameAs(raw);
+            assertThat(service.unadjusted(onset, NOW)).isSameAs(onset);
+            verify(rainForecastDetector, times(1)).detect(any(), any(), any());
+        }
     }
 
     // ======================= WARNING_ISSUED =======================
@@ -223,4 +246,293 @@ class GenerateAlertsServiceTest {
             verify(warningIssuedDetector, never()).detect(any(), any(), any(), any());
         }
     }
-}
\ No newline at end of file
+
+    // ======================= 응답 버전 =======================
+
+    @Nested
+    @DisplayName("responseVersion")
+    class ResponseVersion {
+
+        @Test
+        @DisplayName("RAIN_ONSET — 지역별 current/previous 발표시각 + 내용 revision 포함")
+        void rainOnset_includesReportTimes() {
+            PopView cur = mock(PopView.class);
+            PopView prv = mock(PopView.class);
+            when(cur.reportTime()).thenReturn(NOW.withMinute(0));
+            when(prv.reportTime()).thenReturn(NOW.withMinute(0).minusHours(3));
+            when(popViewReader.loadCurrent("R1")).thenReturn(cur);
+            when(popViewReader.loadPrevious("R1")).thenReturn(prv);
+
+            var cmd = new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null);
+
+            assertThat(service.responseVersion(cmd))
+                    .contains("R1@" + NOW.withMinute(0) + "#0/" + NOW.withMinute(0).minusHours(3) + "#0");
+            verifyNoInteractions(rainOnsetDetector);
+        }
+
+        @Test
+        @DisplayName("WARNING_ISSUED 포함 -> null (캐시 대상 아님)")
+        void warningIncluded_returnsNull() {
+            var cmd = new GenerateAlertsCommand(
+                    List.of("R1"), null,
+                    EnumSet.of(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.WARNING_ISSUED), null, null);
+
+            assertThat(service.responseVersion(cmd)).isNull();
+            verifyNoInteractions(popViewReader);
+        }
+
+        @Test
+        @DisplayName("응답 키 지역 목록 — trim/중복 제거 후 정렬, 요청 순서와 무관")
+        void responseKeyRegionIds_normalizedAndSorted() {
+            assertThat(service.responseKeyRegionIds(List.of(" R2", "R1", "R2 ")))
+                    .containsExactly("R1", "R2");
+            assertThat(service.responseKeyRegionIds(List.of("R1", "R2")))
+                    .isEqualTo(service.responseKeyRegionIds(List.of("R2", "R1")));
+        }
+    }
+
+    // ======================= 사전 계산 테이블 =======================
+
+    @Nested
+    @DisplayName("precomputed")
+    class Precomputed {
+
+        private final PrecomputedAlertTable table = new PrecomputedAlertTable();
+        private final LocalDateTime cur = NOW.withMinute(0);
+        private final LocalDateTime prv = NOW.withMinute(0).minusHours(3);
+
+        private GenerateAlertsService withTable() {
+            return new GenerateAlertsService(
+                    popViewReader, warningStateReader,
+                    rainOnsetDetector, rainForecastDetector, warningIssuedDetector,
+                    rainOnsetAdjuster, rainForecastAdjuster,
+                    3, 2, table, null, null
+            );
+        }
+
+        private void stubReportTimes(LocalDateTime current, LocalDateTime previous) {
+            stubReportTimes(current, previous, 0);
+        }
+
+        private void stubReportTimes(LocalDateTime current, LocalDateTime previous, long currentRevision) {
+            PopView curView = mock(PopView.class);
+            PopView prvView = mock(PopView.class);
+            when(curView.reportTime()).thenReturn(current);
+            lenient().when(curView.revision()).thenReturn(currentRevision);
+            lenient().when(prvView.reportTime()).thenReturn(previous);
+            when(popViewReader.loadCurrent("R1")).thenReturn(curView);
+            lenient().when(popViewReader.loadPrevious("R1")).thenReturn(prvView);
+        }
+
+        private AlertEvent onsetAt(int plusHours) {
+            return new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW,
+                    new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.withMinute(0).plusHours(plusHours), 80));
+        }
+
+        @Test
+        @DisplayName("같은 시각 + 같은 발표시각 -> 테이블 조회, detect 미호출, withinHours 로 필터")
+        void hit_usesTableAndFiltersWithinHours() {
+            stubReportTimes(cur, prv);
+            table.publish(new PrecomputedAlertTable.Snapshot(NOW.withMinute(0),
+                    Map.of("R1", new RegionAlerts(cur, prv, 0, 0, List.of(onsetAt(1), onsetAt(5)), List.of())),
+                    NOW));
+
+            var cmd = new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, 2);
+
+            List<AlertEvent> result = withTable().generate(cmd, NOW);
+
+            assertThat(result).hasSize(1);
+            assertThat(((RainOnsetPayload) result.get(0).payload()).validAt())
+                    .isEqualTo(NOW.withMinute(0).plusHours(1));
+            verifyNoInteractions(rainOnsetDetector, rainOnsetAdjuster);
+        }
+
+        @Test
+        @DisplayName("발표시각이 바뀐 테이블 -> 직접 감지로 대체")
+        void staleReportTime_fallsBackToDetection() {
+            stubReportTimes(cur, prv);
+            table.publish(new PrecomputedAlertTable.Snapshot(NOW.withMinute(0),
+                    Map.of("R1", new RegionAlerts(cur.minusHours(3), prv.minusHours(3), 0, 0, List.of(onsetAt(1)), List.of())),
+                    NOW));
+            PopView.Pair pair = mock(PopView.Pair.class);
+            when(popViewReader.loadCurrentPreviousPair("R1")).thenReturn(pair);
+            when(rainOnsetDetector.detect(eq("R1"), eq(pair), any())).thenReturn(List.of());
+
+            var cmd = new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null);
+
+            assertThat(withTable().generate(cmd, NOW)).isEmpty();
+            verify(rainOnsetDetector).detect(eq("R1"), eq(pair), any());
+        }
+
+        @Test
+        @DisplayName("같은 발표시각이지만 내용이 정정된 테이블 -> 직접 감지로 대체")
+        void correctedRevision_fallsBackToDetection() {
+            stubReportTimes(cur, prv, 7L);
+            table.publish(new PrecomputedAlertTable.Snapshot(NOW.withMinute(0),
+                    Map.of("R1", new RegionAlerts(cur, prv, 3L, 0, List.of(onsetAt(1)), List.of())),
+                    NOW));
+            PopView.Pair pair = mock(PopView.Pair.class);
+            when(popViewReader.loadCurrentPreviousPair("R1")).thenReturn(pair);
+            when(rainOnsetDetector.detect(eq("R1"), eq(pair), any())).thenReturn(List.of());
+
+            var cmd = new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null);
+
+            assertThat(withTable().generate(cmd, NOW)).isEmpty();
+            verify(rainOnsetDetector).detect(eq("R1"), eq(pair), any());
+        }
+
+        @Test
+        @DisplayName("precomputeAll + BatchRainDetector -> 지역별 Detector 미호출, 보정만 수행")
+        void precomputeAll_usesBatchDetector() {
+            GenerateAlertsService batchService = new GenerateAlertsService(
+                    popViewReader, warningStateReader,
+                    rainOnsetDetector, rainForecastDetector, warningIssuedDetector,
+                    rainOnsetAdjuster, rainForecastAdjuster,
+                    3, 2, table, new BatchRainDetector(60, 26), null);
+            when(popViewReader.loadCurrent("R1")).thenReturn(popView(cur, 80));
+            when(popViewReader.loadPrevious("R1")).thenReturn(popView(prv, 10));
+            when(popViewReader.loadCurrent("R2")).thenReturn(null);
+            when(rainOnsetAdjuster.adjust(anyList(), any(), isNull())).thenAnswer(inv -> inv.getArgument(0));
+            when(rainForecastAdjuster.adjust(any(), any(), any())).thenAnswer(inv -> inv.getArgument(0));
+
+            Map<String, RegionAlerts> result = batchService.precomputeAll(List.of("R1", "R2"), NOW);
+
+            assertThat(result).containsOnlyKeys("R1");
+            assertThat(result.get("R1").currentReportTime()).isEqualTo(cur);
+            assertThat(result.get("R1").rainOnset()).isNotEmpty();
+            assertThat(result.get("R1").rainForecast()).hasSize(1);
+            verifyNoInteractions(rainOnsetDetector, rainForecastDetector);
+        }
+
+        private PopView popView(LocalDateTime reportTime, int pop) {
+            List<PopView.Hourly.Pop> hourly = new ArrayList<>();
+            for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+                hourly.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), pop));
+            }
+            List<PopView.Daily.Pop> daily = new ArrayList<>();
+            for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(pop, pop));
+            return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), reportTime);
+        }
+
+        @Test
+        @DisplayName("다른 시(hour)에 계산된 테이블 -> 조회하지 않음")
+        void otherHour_ignored() {
+            table.publish(new PrecomputedAlertTable.Snapshot(NOW.withMinute(0).minusHours(1),
+                    Map.of("R1", new RegionAlerts(cur, prv, 0, 0, List.of(onsetAt(1)), List.of())),
+                    NOW.minusHours(1)));
+
+            assertThat(table.lookup("R1", NOW)).isNull();
+        }
+    }
+
+    // ======================= 단계(tier) 지정 =======================
+
+    @Nested
+    @DisplayName("tiered")
+    class Tiered {
+
+        private final LocalDateTime cur = NOW.withMinute(0);
+        private final TieredRainDetector tiered = spy(new TieredRainDetector(new RainTierPolicy(40, 60, 80), 26));
+
+        private GenerateAlertsService withTiers() {
+            return new GenerateAlertsService(
+                    popViewReader, warningStateReader,
+                    rainOnsetDetector, rainForecastDetector, warningIssuedDetector,
+                    rainOnsetAdjuster, rainForecastAdjuster,
+                    3, 2, null, null, tiered
+            );
+        }
+
+        @Test
+        @DisplayName("단계가 다른 요청 2회 -> 분류는 1회, 단계별 결과, 기존 Detector 미호출")
+        void classifiesOncePerReportTime() {
+            List<PopView.Hourly.Pop> hourly = new ArrayList<>();
+            List<PopView.Hourly.Pop> dry = new ArrayList<>();
+            for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+                hourly.add(new PopView.Hourly.Pop(cur.plusHours(i + 1), (i == 0) ? 90 : (i == 1) ? 65 : 10));
+                dry.add(new PopView.Hourly.Pop(cur.plusHours(i + 1), 0));
+            }
+            List<PopView.Daily.Pop> daily = new ArrayList<>();
+            for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(0, 0));
+            PopView curView = new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), cur);
+            PopView prvView = new PopView(new PopView.Hourly(dry), new PopView.Daily(daily), cur.minusHours(3));
+
+            when(popViewReader.loadCurrent("R1")).thenReturn(curView);
+            when(popViewReader.loadPrevious("R1")).thenReturn(prvView);
+            when(rainOnsetAdjuster.adjust(anyList(), any(), isNull())).thenAnswer(inv -> inv.getArgument(0));
+
+            GenerateAlertsService tieredService = withTiers();
+            List<AlertEvent> rain = tieredService.generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null, RainTier.RAIN), NOW);
+            List<AlertEvent> heavy = tieredService.generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null, RainTier.HEAVY), NOW);
+
+            assertThat(rain).hasSize(2);
+            assertThat(heavy).hasSize(1);
+            assertThat(((RainOnsetPayload) heavy.get(0).payload()).tier()).isEqualTo(RainTier.HEAVY);
+            verify(tiered, times(1)).classify(any());
+            verifyNoInteractions(rainOnsetDetector);
+        }
+
+        @Test
+        @DisplayName("tier 미지정 -> 기존 Detector 경로")
+        void noTier_usesDefaultDetector() {
+            PopView.Pair pair = mock(PopView.Pair.class);
+            when(popViewReader.loadCurrentPreviousPair("R1")).thenReturn(pair);
+            when(rainOnsetDetector.detect(eq("R1"), eq(pair), any())).thenReturn(List.of());
+
+            withTiers().generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null), NOW);
+
+            verify(rainOnsetDetector).detect(eq("R1"), eq(pair), any());
+            verifyNoInteractions(tiered);
+        }
+    }
+
+    // ======================= 발표 단위 onset 델타 =======================
+
+    @Nested
+    @DisplayName("onset delta")
+    class OnsetDelta {
+
+        private final LocalDateTime cur = NOW.withMinute(0);
+
+        private PopView view(LocalDateTime reportTime) {
+            List<PopView.Hourly.Pop> hourly = new ArrayList<>();
+            for (int i = 0; i < PopView.HOURLY_SIZE; i++) hourly.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), 80));
+            List<PopView.Daily.Pop> daily = new ArrayList<>();
+            for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(0, 0));
+            return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), reportTime);
+        }
+
+        @Test
+        @DisplayName("같은 발표시각 쌍 -> 감지 1회, withinHours 가 달라도 보정만 다시 수행 / 새 발표 -> 재감지")
+        void detectsOncePerAnnounce() {
+            PopView.Pair first = new PopView.Pair(view(cur), view(cur.minusHours(3)));
+            PopView.Pair next = new PopView.Pair(view(cur.plusHours(3)), view(cur));
+            when(popViewReader.loadCurrentPreviousPair("R1")).thenReturn(first, first, next);
+            AlertEvent raw = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", cur,
+                    new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, cur.plusHours(1), 80));
+            when(rainOnsetDetector.detect(eq("R1"), any(), any())).thenReturn(List.of(raw));
+            when(rainOnsetAdjuster.adjust(anyList(), any(), any())).thenAnswer(inv -> inv.getArgument(0));
+
+            service.generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, 2), NOW);
+            List<AlertEvent> second = service.generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, 6), NOW);
+
+            assertThat(second).containsExactly(raw);
+            verify(rainOnsetDetector, times(1)).detect(eq("R1"), eq(first), any());
+            verify(rainOnsetAdjuster).adjust(anyList(), any(), eq(2));
+            verify(rainOnsetAdjuster).adjust(anyList(), any(), eq(6));
+
+            service.generate(new GenerateAlertsCommand(
+                    List.of("R1"), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null), NOW);
+            verify(rainOnsetDetector).detect(eq("R1"), eq(next), any());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.yun531.climate.notification.application.subscription;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.application.trigger.FanOutResult;
+import com.github.yun531.climate.notification.application.trigger.TriggerPushSender;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.subscription.AlertRule;
+import com.github.yun531.climate.notification.domain.subscription.QuietHours;
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.infra.subscription.InMemorySubscriptionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriberAlertEngineTest {
+
+    @Mock GenerateAlertsService alertsService;
+    @Mock TriggerPushSender sender;
+    @Captor ArgumentCaptor<GenerateAlertsCommand> cmdCaptor;
+
+    private final InMemorySubscriptionRegistry registry = new InMemorySubscriptionRegistry();
+    private SubscriberAlertEngine engine;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 5);
+
+    private static final AlertRule ONSET_RAIN = new AlertRule(
+            EnumSet.of(AlertTypeEnum.RAIN_ONSET), RainTier.RAIN, null, null, null);
+    private static final AlertRule ONSET_HEAVY = new AlertRule(
+            EnumSet.of(AlertTypeEnum.RAIN_ONSET), RainTier.HEAVY, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        engine = new SubscriberAlertEngine(registry, alertsService, sender);
+    }
+
+    private static AlertEvent event(String regionId) {
+        return new AlertEvent(AlertTypeEnum.RAIN_ONSET, regionId, NOW, null);
+    }
+
+    @Test
+    @DisplayName("같은 지역 + 같은 감지 규칙의 구독자는 감지 1회를 공유한다 (조용한 시간대는 그룹을 나누지 않음)")
+    void groupsByRegionAndRule() {
+        AlertRule sameWithQuiet = new AlertRule(EnumSet.of(AlertTypeEnum.RAIN_ONSET), RainTier.RAIN, null, null,
+                new QuietHours(LocalTime.of(23, 0), LocalTime.of(6, 0)));
+        registry.replace("u1", List.of(new Subscription("u1", "R1", ONSET_RAIN)));
+        registry.replace("u2", List.of(new Subscription("u2", "R1", sameWithQuiet)));
+        registry.replace("u3", List.of(new Subscription("u3", "R1", ONSET_HEAVY),
+                new Subscription("u3", "R2", ONSET_RAIN)));
+        when(alertsService.generate(cmdCaptor.capture(), eq(NOW))).thenReturn(List.of(event("R1")));
+
+        SubscriberAlertEngine.Evaluation result = engine.evaluate(NOW);
+
+        assertThat(result.subscriptions()).isEqualTo(4);
+        assertThat(result.groups()).isEqualTo(3);
+        assertThat(cmdCaptor.getAllValues()).hasSize(3)
+                .allSatisfy(cmd -> assertThat(cmd.regionIds()).hasSize(1));
+        assertThat(cmdCaptor.getAllValues()).extracting(GenerateAlertsCommand::tier)
+                .containsExactlyInAnyOrder(RainTier.RAIN, RainTier.HEAVY, RainTier.RAIN);
+        assertThat(result.alertsBySubscriber()).containsOnlyKeys("u1", "u2", "u3");
+        assertThat(result.alertsBySubscriber().get("u3")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("조용한 시간대의 구독자는 제외되고 muted 로 집계된다")
+    void quietHours_muted() {
+        AlertRule quiet = new AlertRule(null, null, null, null,
+                new QuietHours(LocalTime.of(7, 0), LocalTime.of(9, 0)));
+        registry.replace("u1", List.of(new Subscription("u1", "R1", quiet)));
+        when(alertsService.generate(any(), eq(NOW))).thenReturn(List.of(event("R1")));
+
+        SubscriberAlertEngine.Evaluation result = engine.evaluate(NOW);
+
+        assertThat(result.muted()).isEqualTo(1);
+        assertThat(result.alertsBySubscriber()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조용한 시간대는 KST 기준 — UTC 시계의 08:05 는 KST 17:05")
+    void quietHours_evaluatedInKst() {
+        Clock utc = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        SubscriberAlertEngine utcEngine = new SubscriberAlertEngine(registry, alertsService, sender, null, utc);
+        AlertRule quietEvening = new AlertRule(null, null, null, null,
+                new QuietHours(LocalTime.of(16, 0), LocalTime.of(18, 0)));
+        AlertRule quietMorning = new AlertRule(EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null, null,
+                new QuietHours(LocalTime.of(7, 0), LocalTime.of(9, 0)));
+        registry.replace("u1", List.of(new Subscription("u1", "R1", quietEvening)));
+        registry.replace("u2", List.of(new Subscription("u2", "R1", quietMorning)));
+        when(alertsService.generate(any(), eq(NOW))).thenReturn(List.of(event("R1")));
+
+        SubscriberAlertEngine.Evaluation result = utcEngine.evaluate(NOW);
+
+        assertThat(result.muted()).isEqualTo(1);
+        assertThat(result.alertsBySubscriber()).containsOnlyKeys("u2");
+    }
+
+    @Test
+    @DisplayName("그룹 감지 실패는 해당 그룹만 건너뛰고, 알림이 있는 구독자에게만 전송한다")
+    void groupFailure_isolated_pushesTargets() {
+        registry.replace("u1", List.of(new Subscription("u1", "R1", ONSET_RAIN)));
+        registry.replace("u2", List.of(new Subscription("u2", "R2", ONSET_RAIN)));
+        when(alertsService.generate(argThat(cmd -> cmd != null && cmd.regionIds().contains("R1")), eq(NOW)))
+                .thenThrow(new IllegalStateException("boom"));
+        when(alertsService.generate(argThat(cmd -> cmd != null && cmd.regionIds().contains("R2")), eq(NOW)))
+                .thenReturn(List.of(event("R2")));
+        when(sender.sendSubscriberAlerts(anyMap(), eq(NOW), eq(false))).thenReturn(new FanOutResult(1, 1, 0));
+
+        FanOutResult result = engine.pushSubscriberAlerts(NOW, false);
+
+        assertThat(result).isEqualTo(new FanOutResult(1, 1, 0));
+        verify(sender).sendSubscriberAlerts(eq(Map.of("u2", List.of(event("R2")))), eq(NOW), eq(false));
+    }
+
+    @Test
+    @DisplayName("전체 구독을 읽지 않고 hot 지역마다 findByRegion 으로 읽는다")
+    void readsByHotRegion_notFindAll() {
+        InMemorySubscriptionRegistry spied = spy(registry);
+        spied.replace("u1", List.of(new Subscription("u1", "R1", ONSET_RAIN), new Subscription("u1", "R2", ONSET_RAIN)));
+        spied.replace("u2", List.of(new Subscription("u2", "R2", ONSET_RAIN)));
+        when(alertsService.generate(any(), eq(NOW))).thenReturn(List.of());
+
+        SubscriberAlertEngine.Evaluation result = new SubscriberAlertEngine(spied, alertsService, sender).evaluate(NOW);
+
+        assertThat(result.subscriptions()).isEqualTo(3);
+        assertThat(result.groups()).isEqualTo(2);
+        verify(spied).findByRegion("R1");
+        verify(spied).findByRegion("R2");
+        verify(spied, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("구독이 없으면 전송하지 않는다")
+    void noSubscriptions_noPush() {
+        assertThat(engine.pushSubscriberAlerts(NOW, false)).isEqualTo(FanOutResult.empty());
+        verifyNoInteractions(alertsService, sender);
+    }
+}
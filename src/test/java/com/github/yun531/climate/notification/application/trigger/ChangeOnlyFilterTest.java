@@ -0,0 +1,155 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.payload.WarningIssuedPayload;
+import com.github.yun531.climate.notification.infra.trigger.InMemoryFingerprintStore;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import com.github.yun531.climate.warning.domain.model.WarningLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeOnlyFilterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 5);
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-22T00:00:00Z"), ZoneOffset.UTC);
+    private final ChangeOnlyFilter filter = new ChangeOnlyFilter(new InMemoryFingerprintStore(clock, Duration.ofHours(24)));
+
+    private static AlertEvent onset(LocalDateTime occurredAt, int plusHours) {
+        return new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", occurredAt,
+                new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.withMinute(0).plusHours(plusHours), 70));
+    }
+
+    private static AlertEvent forecast(LocalDateTime occurredAt, int rainyHours) {
+        return new AlertEvent(AlertTypeEnum.RAIN_FORECAST, "R1", occurredAt,
+                new RainForecastPayload(AlertTypeEnum.RAIN_FORECAST,
+                        List.of(new RainForecastPayload.RainInterval(NOW.withMinute(0), NOW.withMinute(0).plusHours(rainyHours))),
+                        List.of(new RainForecastPayload.DailyRainFlags(true, false))));
+    }
+
+    @Test
+    @DisplayName("지문: 발표시각/순서가 달라도 내용이 같으면 같고, 내용이 다르면 다르다")
+    void fingerprint_ignoresOccurredAtAndOrder() {
+        long a = AlertFingerprint.of(List.of(onset(NOW, 1), onset(NOW, 2)));
+        long b = AlertFingerprint.of(List.of(onset(NOW.plusHours(1), 2), onset(NOW.plusHours(1), 1)));
+
+        assertThat(a).isEqualTo(b);
+        assertThat(AlertFingerprint.of(List.of(onset(NOW, 1), onset(NOW, 3)))).isNotEqualTo(a);
+    }
+
+    @Test
+    @DisplayName("commit 후 같은 내용은 (대상, 종류) 단위로 빠지고, 바뀐 종류만 남는다")
+    void unchanged_suppressedPerType() {
+        ChangeOnlyFilter.Result first = filter.filter("region", Map.of("R1", List.of(onset(NOW, 1), forecast(NOW, 3))));
+        assertThat(first.toSend().get("R1")).hasSize(2);
+        filter.commit(first);
+
+        ChangeOnlyFilter.Result second = filter.filter("region",
+                Map.of("R1", List.of(onset(NOW.plusHours(1), 1), forecast(NOW.plusHours(1), 4))));
+
+        assertThat(second.suppressed()).isEqualTo(1);
+        assertThat(second.toSend().get("R1")).singleElement()
+                .extracting(AlertEvent::type).isEqualTo(AlertTypeEnum.RAIN_FORECAST);
+    }
+
+    @Test
+    @DisplayName("commit 하지 않으면(전송 실패) 다음에도 보낸다, 전부 같으면 대상 자체가 빠진다")
+    void noCommit_resends_allSame_dropsTarget() {
+        Map<String, List<AlertEvent>> alerts = Map.of("R1", List.of(onset(NOW, 1)));
+
+        filter.filter("region", alerts);
+        ChangeOnlyFilter.Result retry = filter.filter("region", alerts);
+        assertThat(retry.toSend()).containsOnlyKeys("R1");
+
+        filter.commit(retry);
+        assertThat(filter.filter("region", alerts).toSend()).isEmpty();
+        assertThat(filter.filter("subscriber", alerts).toSend()).containsOnlyKeys("R1");
+    }
+
+    @Test
+    @DisplayName("지문: 필드를 명시 인코딩 — 단계/강수확률/특보 단계가 다르면 다르다")
+    void fingerprint_explicitFields() {
+        AlertEvent rain = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW,
+                new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.withMinute(0), 70, RainTier.RAIN));
+        AlertEvent heavy = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW,
+                new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.withMinute(0), 70, RainTier.HEAVY));
+        AlertEvent otherPop = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW,
+                new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.withMinute(0), 80, RainTier.RAIN));
+        AlertEvent advisory = new AlertEvent(AlertTypeEnum.WARNING_ISSUED, "R1", NOW,
+                new WarningIssuedPayload(AlertTypeEnum.WARNING_ISSUED, WarningKind.RAIN, WarningLevel.ADVISORY));
+        AlertEvent warning = new AlertEvent(AlertTypeEnum.WARNING_ISSUED, "R1", NOW,
+                new WarningIssuedPayload(AlertTypeEnum.WARNING_ISSUED, WarningKind.RAIN, WarningLevel.WARNING));
+
+        assertThat(AlertFingerprint.of(List.of(rain))).isNotEqualTo(AlertFingerprint.of(List.of(heavy)))
+                .isNotEqualTo(AlertFingerprint.of(List.of(otherPop)));
+        assertThat(AlertFingerprint.of(List.of(advisory))).isNotEqualTo(AlertFingerprint.of(List.of(warning)));
+        assertThat(AlertFingerprint.of(List.of(rain))).isEqualTo(AlertFingerprint.of(List.of(rain)));
+    }
+
+    @Test
+    @DisplayName("보정(윈도우 클리핑)만 달라지고 보정 전 감지가 같으면 -> 억제")
+    void windowAdjustedOnly_suppressedByUnadjustedContent() {
+        AlertEvent raw = forecast(NOW.minusHours(2), 6);
+        UnaryOperator<AlertEvent> unadjusted = e -> raw;
+
+        filter.commit(filter.filter("region", Map.of("R1", List.of(forecast(NOW, 5))), unadjusted));
+        ChangeOnlyFilter.Result nextHour = filter.filter("region",
+                Map.of("R1", List.of(forecast(NOW.plusHours(1), 4))), unadjusted);
+
+        assertThat(nextHour.toSend()).isEmpty();
+        assertThat(nextHour.suppressed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일부 대상만 실패 -> 성공한 대상만 지문 기록, 실패 대상은 다음에 재전송")
+    void partialFailure_commitsSucceededTargetsOnly() {
+        Map<String, List<AlertEvent>> alerts = Map.of("R1", List.of(onset(NOW, 1)), "R2", List.of(onset(NOW, 1)));
+
+        filter.commit(filter.filter("region", alerts), new FanOutResult(2, 1, 1, Set.of("R2")));
+
+        assertThat(filter.filter("region", alerts).toSend()).containsOnlyKeys("R2");
+    }
+
+    @Test
+    @DisplayName("실패가 있는데 실패 대상을 모르면 -> 아무것도 기록하지 않음")
+    void failureWithoutTargets_commitsNothing() {
+        Map<String, List<AlertEvent>> alerts = Map.of("R1", List.of(onset(NOW, 1)), "R2", List.of(onset(NOW, 1)));
+
+        filter.commit(filter.filter("region", alerts), new FanOutResult(2, 1, 1));
+
+        assertThat(filter.filter("region", alerts).toSend()).containsOnlyKeys("R1", "R2");
+    }
+
+    @Test
+    @DisplayName("notification.push.dedup{result=changed|suppressed} 집계")
+    void metrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+        Map<String, List<AlertEvent>> alerts = Map.of("R1", List.of(onset(NOW, 1)));
+
+        filter.commit(filter.filter("region", alerts));
+        filter.filter("region", alerts);
+
+        assertThat(registry.get("notification.push.dedup").tags("kind", "region", "result", "changed").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("notification.push.dedup").tags("kind", "region", "result", "suppressed").counter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.yun531.climate.notification.application.trigger;
+
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.notification.infra.trigger.InMemoryFingerprintStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegionAlertPushServiceTest {
+
+    @Mock GenerateAlertsService alertsService;
+    @Mock RegionCatalog regionCatalog;
+    @Mock TriggerPushSender sender;
+    @Captor ArgumentCaptor<Map<String, List<AlertEvent>>> alertsCaptor;
+    @Captor ArgumentCaptor<GenerateAlertsCommand> cmdCaptor;
+
+    private RegionAlertPushService service;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 5);
+
+    @BeforeEach
+    void setUp() {
+        service = new RegionAlertPushService(
+                alertsService, regionCatalog, sender, EnumSet.of(AlertTypeEnum.RAIN_ONSET));
+    }
+
+    @Test
+    @DisplayName("지역별 1건씩 알림을 계산하고, 알림이 있는 지역만 전송한다")
+    void generatesPerRegion_sendsNonEmpty() {
+        AlertEvent event = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW, null);
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1", "R2"));
+        when(alertsService.generate(cmdCaptor.capture(), eq(NOW)))
+                .thenReturn(List.of(event))
+                .thenReturn(List.of());
+        when(sender.sendRegionAlerts(alertsCaptor.capture(), eq(NOW), eq(false)))
+                .thenReturn(new FanOutResult(1, 1, 0));
+
+        FanOutResult result = service.pushRegionAlerts(NOW, false);
+
+        assertThat(alertsCaptor.getValue()).containsOnlyKeys("R1");
+        assertThat(cmdCaptor.getAllValues()).extracting(GenerateAlertsCommand::regionIds)
+                .containsExactly(List.of("R1"), List.of("R2"));
+        assertThat(cmdCaptor.getValue().enabledTypes()).containsExactly(AlertTypeEnum.RAIN_ONSET);
+        assertThat(result.sent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림이 하나도 없으면 전송하지 않는다")
+    void noAlerts_noSend() {
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1"));
+        when(alertsService.generate(any(), any())).thenReturn(List.of());
+
+        assertThat(service.pushRegionAlerts(NOW, false)).isEqualTo(FanOutResult.empty());
+        verify(sender, never()).sendRegionAlerts(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("한 지역의 계산 실패는 나머지 지역 전송을 막지 않는다")
+    void regionFailure_skipped() {
+        AlertEvent event = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R2", NOW, null);
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1", "R2"));
+        when(alertsService.generate(any(), any()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(List.of(event));
+        when(sender.sendRegionAlerts(alertsCaptor.capture(), any(), anyBoolean()))
+                .thenReturn(new FanOutResult(1, 1, 0));
+
+        service.pushRegionAlerts(NOW, true);
+
+        assertThat(alertsCaptor.getValue()).containsOnlyKeys("R2");
+    }
+
+    @Test
+    @DisplayName("ChangeOnlyFilter: 전송 성공 후 같은 내용은 다시 보내지 않고, 실패하면 다음에 재전송한다")
+    void changeOnly_suppressesAfterSuccessfulSend() {
+        ChangeOnlyFilter changeOnly = new ChangeOnlyFilter(new InMemoryFingerprintStore(
+                Clock.systemUTC(), Duration.ofHours(24)));
+        RegionAlertPushService dedupService = new RegionAlertPushService(
+                alertsService, regionCatalog, sender, EnumSet.of(AlertTypeEnum.RAIN_ONSET), changeOnly);
+        AlertEvent event = new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW, null);
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1"));
+        when(alertsService.generate(any(), any())).thenReturn(List.of(event));
+        when(sender.sendRegionAlerts(any(), any(), anyBoolean()))
+                .thenReturn(new FanOutResult(1, 0, 1))
+                .thenReturn(new FanOutResult(1, 1, 0));
+
+        dedupService.pushRegionAlerts(NOW, false);          // 실패 -> 지문 미기록
+        dedupService.pushRegionAlerts(NOW, false);          // 재전송 성공 -> 기록
+        FanOutResult third = dedupService.pushRegionAlerts(NOW.plusHours(1), false);
+
+        assertThat(third).isEqualTo(FanOutResult.empty());
+        verify(sender, times(2)).sendRegionAlerts(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("ChangeOnlyFilter: 일부 지역만 실패 -> 성공한 지역은 기록, 실패한 지역만 다음에 재전송")
+    void changeOnly_partialFailure_resendsFailedRegionOnly() {
+        ChangeOnlyFilter changeOnly = new ChangeOnlyFilter(new InMemoryFingerprintStore(
+                Clock.systemUTC(), Duration.ofHours(24)));
+        RegionAlertPushService dedupService = new RegionAlertPushService(
+                alertsService, regionCatalog, sender, EnumSet.of(AlertTypeEnum.RAIN_ONSET), changeOnly);
+        when(regionCatalog.regionIds()).thenReturn(List.of("R1", "R2"));
+        when(alertsService.generate(any(), any())).thenAnswer(inv -> {
+            GenerateAlertsCommand cmd = inv.getArgument(0);
+            return List.of(new AlertEvent(AlertTypeEnum.RAIN_ONSET, cmd.regionIds().get(0), NOW, null));
+        });
+        when(sender.sendRegionAlerts(alertsCaptor.capture(), any(), anyBoolean()))
+                .thenReturn(new FanOutResult(2, 1, 1, Set.of("R2")))
+                .thenReturn(new FanOutResult(1, 1, 0));
+
+        dedupService.pushRegionAlerts(NOW, false);
+        dedupService.pushRegionAlerts(NOW.plusHours(1), false);
+
+        assertThat(alertsCaptor.getAllValues().get(1)).containsOnlyKeys("R2");
+    }
+}
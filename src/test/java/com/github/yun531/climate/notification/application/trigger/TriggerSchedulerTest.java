@@ -1,6 +1,8 @@
 package com.github.yun531.climate.notification.application.trigger;
 
 import com.github.yun531.climate.fcm.domain.PushFailedException;
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.*;
@@ -17,8 +20,15 @@ import static org.mockito.Mockito.*;
 class TriggerSchedulerTest {
 
     @Mock TriggerPushSender sender;
+    @Mock ObjectProvider<RegionAlertPushService> regionPush;
+    @Mock SchedulerLock schedulerLock;
     @InjectMocks TriggerScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(schedulerLock.tryAcquire(anyString(), any())).thenReturn(true);
+    }
+
     @Nested
     @DisplayName("triggerHourly")
     class TriggerHourly {
@@ -41,6 +51,45 @@ class TriggerSchedulerTest {
 
             assertThatNoException().isThrownBy(() -> scheduler.triggerHourly());
         }
+
+        @Test
+        @DisplayName("다른 인스턴스가 락을 잡고 있으면 보내지 않는다")
+        void lockHeld_skips() {
+            when(schedulerLock.tryAcquire(eq("trigger.hourly"), any())).thenReturn(false);
+
+            scheduler.triggerHourly();
+
+            verifyNoInteractions(sender, regionPush);
+        }
+    }
+
+    @Nested
+    @DisplayName("triggerHourly - 서버 푸시 모드")
+    class TriggerHourlyRegionMode {
+
+        @Mock RegionAlertPushService regionPushService;
+
+        @Test
+        @DisplayName("RegionAlertPushService 가 있으면 지역 토픽 전송, 범용 트리거는 보내지 않는다")
+        void regionMode_pushesRegionAlerts() {
+            when(regionPush.getIfAvailable()).thenReturn(regionPushService);
+            when(regionPushService.pushRegionAlerts(any(), anyBoolean())).thenReturn(new FanOutResult(2, 3, 0));
+
+            scheduler.triggerHourly();
+
+            verify(regionPushService).pushRegionAlerts(any(), anyBoolean());
+            verify(sender, never()).sendHourly(any(), anyInt(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("지역 전송 예외 시 스케줄러가 죽지 않는다")
+        void regionPushThrows_schedulerSurvives() {
+            when(regionPush.getIfAvailable()).thenReturn(regionPushService);
+            when(regionPushService.pushRegionAlerts(any(), anyBoolean()))
+                    .thenThrow(new PushFailedException("FCM error"));
+
+            assertThatNoException().isThrownBy(() -> scheduler.triggerHourly());
+        }
     }
 
     @Nested
@@ -0,0 +1,119 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchRainDetectorTest {
+
+    private static final int THRESHOLD  = 60;
+    private static final int MAX_POINTS = 26;
+
+    private static final LocalDateTime ANNOUNCE_TIME = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final LocalDateTime NOW           = LocalDateTime.of(2026, 1, 22, 5, 15);
+
+    private final BatchRainDetector batch = new BatchRainDetector(THRESHOLD, MAX_POINTS);
+    private final RainOnsetDetector onsetDetector = new RainOnsetDetector(THRESHOLD, MAX_POINTS);
+    private final RainForecastDetector forecastDetector = new RainForecastDetector(THRESHOLD, MAX_POINTS);
+
+    @Test
+    @DisplayName("무작위 POP 500개 지역 -> 지역별 Detector 결과와 동일")
+    void randomRegions_sameAsPerRegionDetectors() {
+        Random random = new Random(42);
+        List<String> regionIds = new ArrayList<>();
+        List<PopView.Pair> pairs = new ArrayList<>();
+        for (int r = 0; r < 500; r++) {
+            regionIds.add("R" + r);
+            pairs.add(new PopView.Pair(
+                    popView(ANNOUNCE_TIME, randomPops(random)),
+                    (r % 10 == 0) ? null : popView(ANNOUNCE_TIME.minusHours(3), randomPops(random))));
+        }
+
+        Map<String, BatchRainDetector.Detected> detected =
+                batch.detect(PopMatrix.of(regionIds, pairs, batch.hours()), NOW);
+
+        assertThat(detected).hasSize(500);
+        for (int r = 0; r < 500; r++) {
+            String regionId = regionIds.get(r);
+            PopView.Pair pair = pairs.get(r);
+            List<AlertEvent> expectedOnset = (pair.previous() == null)
+                    ? List.of()
+                    : onsetDetector.detect(regionId, pair, NOW);
+
+            assertThat(detected.get(regionId).rainOnset()).as(regionId).isEqualTo(expectedOnset);
+            assertThat(detected.get(regionId).rainForecast()).as(regionId)
+                    .isEqualTo(forecastDetector.detect(regionId, pair.current(), NOW));
+        }
+    }
+
+    @Test
+    @DisplayName("1시간 간격이 아닌 시계열 / current 없음 -> usable=false, 결과 제외")
+    void irregularRow_notUsable() {
+        List<PopView.Hourly.Pop> gapped = new ArrayList<>();
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            gapped.add(new PopView.Hourly.Pop(ANNOUNCE_TIME.plusHours(i + 1 + (i >= 5 ? 1 : 0)), 80));
+        }
+        PopView irregular = new PopView(new PopView.Hourly(gapped), daily(), ANNOUNCE_TIME);
+
+        PopMatrix matrix = PopMatrix.of(
+                List.of("R1", "R2"),
+                Arrays.asList(new PopView.Pair(irregular, null), null),
+                batch.hours());
+
+        assertThat(matrix.usable(0)).isFalse();
+        assertThat(matrix.usable(1)).isFalse();
+        assertThat(batch.detect(matrix, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("previous 의 같은 validAt 칸에 정렬 -> 이미 비였던 시각은 onset 아님")
+    void previousAlignedByValidAt() {
+        Integer[] cur = new Integer[PopView.HOURLY_SIZE];
+        cur[0] = 80;        // 06시: 이전 예보 값 없음 -> onset
+        cur[3] = 80;        // 09시: 이전 예보에서도 비 -> onset 아님
+        Integer[] prv = new Integer[PopView.HOURLY_SIZE];
+        prv[6] = 90;        // 02시 발표의 7번째 = 09시
+        PopView.Pair pair = new PopView.Pair(
+                popView(ANNOUNCE_TIME, cur), popView(ANNOUNCE_TIME.minusHours(3), prv));
+
+        PopMatrix matrix = PopMatrix.of(List.of("R1"), List.of(pair), batch.hours());
+        long[] rain = batch.rainBits(matrix);
+
+        assertThat(rain[0]).isEqualTo(0b1001L);
+        assertThat(batch.onsetBits(matrix, rain)[0]).isEqualTo(0b0001L);
+    }
+
+    // -- fixtures --
+
+    private static Integer[] randomPops(Random random) {
+        Integer[] pops = new Integer[PopView.HOURLY_SIZE];
+        for (int i = 0; i < pops.length; i++) {
+            pops[i] = (random.nextInt(10) == 0) ? null : random.nextInt(11) * 10;
+        }
+        return pops;
+    }
+
+    private static PopView popView(LocalDateTime reportTime, Integer[] pops) {
+        List<PopView.Hourly.Pop> hourly = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            hourly.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), pops[i]));
+        }
+        return new PopView(new PopView.Hourly(hourly), daily(), reportTime);
+    }
+
+    private static PopView.Daily daily() {
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(50 + d * 5, 40 + d * 5));
+        return new PopView.Daily(daily);
+    }
+}
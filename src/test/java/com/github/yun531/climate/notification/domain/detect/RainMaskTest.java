@@ -0,0 +1,138 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload.RainInterval;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RainMaskTest {
+
+    private static final int THRESHOLD  = 60;
+    private static final int MAX_POINTS = 26;
+
+    private static final LocalDateTime ANNOUNCE_TIME = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final LocalDateTime NOW           = LocalDateTime.of(2026, 1, 22, 5, 15);
+
+    //  --- 마스크 연산 ---
+
+    @Nested
+    @DisplayName("마스크 연산")
+    class Operations {
+
+        @Test
+        @DisplayName("of -> bit h = baseTime + h 의 POP >= 임계치, 값 없음은 0")
+        void of_bits() {
+            RainMask mask = RainMask.of(hourly(ANNOUNCE_TIME, 80, null, 59, 60), THRESHOLD, MAX_POINTS);
+
+            assertThat(mask.baseTime()).isEqualTo(ANNOUNCE_TIME.plusHours(1));
+            assertThat(mask.bits() & 0b1111L).isEqualTo(0b1001L);
+        }
+
+        @Test
+        @DisplayName("1시간 간격이 아니면 null")
+        void irregular_null() {
+            List<PopView.Hourly.Pop> pops = new ArrayList<>(hourly(ANNOUNCE_TIME, 80, 80, 80));
+            pops.set(1, new PopView.Hourly.Pop(ANNOUNCE_TIME.plusHours(1).plusMinutes(30), 80));
+
+            assertThat(RainMask.of(pops, THRESHOLD, MAX_POINTS)).isNull();
+            assertThat(RainMask.of(pops, THRESHOLD, 0)).isNull();
+        }
+
+        @Test
+        @DisplayName("onsetOver -> 같은 시각끼리 정렬 후 cur & ~prev")
+        void onsetOver_alignsByTime() {
+            RainMask cur = new RainMask(ANNOUNCE_TIME, 4, 0b1111L);
+            RainMask prev = new RainMask(ANNOUNCE_TIME.minusHours(3), 8, 0b0010_1000L);   // 3h -> 0, 5h -> 2
+
+            assertThat(cur.onsetOver(prev).bits()).isEqualTo(0b1010L);
+            assertThat(cur.onsetOver(null).bits()).isEqualTo(0b1111L);
+            assertThat(cur.alignedBits(new RainMask(ANNOUNCE_TIME.plusHours(2), 4, 0b11L))).isEqualTo(0b1100L);
+        }
+
+        @Test
+        @DisplayName("intervals -> 연속 1 비트 구간, 64비트 전부 1 포함")
+        void intervals_runs() {
+            assertThat(new RainMask(ANNOUNCE_TIME, 8, 0b0111_0011L).intervals()).containsExactly(
+                    new RainInterval(ANNOUNCE_TIME, ANNOUNCE_TIME.plusHours(1)),
+                    new RainInterval(ANNOUNCE_TIME.plusHours(4), ANNOUNCE_TIME.plusHours(6)));
+            assertThat(new RainMask(ANNOUNCE_TIME, 64, -1L).intervals()).containsExactly(
+                    new RainInterval(ANNOUNCE_TIME, ANNOUNCE_TIME.plusHours(63)));
+            assertThat(new RainMask(ANNOUNCE_TIME, 8, 0L).intervals()).isEmpty();
+        }
+    }
+
+    //  --- 기존 순회 방식과 결과 비교 ---
+
+    @Nested
+    @DisplayName("순회 방식과 동일 결과")
+    class Differential {
+
+        private final RainOnsetDetector onsetDetector = new RainOnsetDetector(THRESHOLD, MAX_POINTS);
+        private final RainForecastDetector forecastDetector = new RainForecastDetector(THRESHOLD, MAX_POINTS);
+
+        @Test
+        @DisplayName("무작위 2,000쌍 -> onset: 마스크 == 순회 (불규칙 시계열은 순회로 대체)")
+        void onset_sameAsScan() {
+            Random random = new Random(11);
+            for (int i = 0; i < 2_000; i++) {
+                PopView.Pair pair = new PopView.Pair(
+                        popView(ANNOUNCE_TIME, random), popView(ANNOUNCE_TIME.minusHours(3 * random.nextInt(3)), random));
+
+                List<AlertEvent> expected = onsetDetector.detectByScan("R1", pair, ANNOUNCE_TIME);
+                List<AlertEvent> byMask = onsetDetector.detectByMask("R1", pair, ANNOUNCE_TIME);
+
+                if (byMask != null) assertThat(byMask).as("case %d", i).isEqualTo(expected);
+                assertThat(onsetDetector.detect("R1", pair, NOW)).as("case %d", i).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("무작위 2,000개 -> 비 구간: 마스크 == RainForecastDetector")
+        void intervals_sameAsScan() {
+            Random random = new Random(12);
+            for (int i = 0; i < 2_000; i++) {
+                PopView view = popView(ANNOUNCE_TIME, random);
+                RainMask mask = RainMask.of(view.hourly().pops(), THRESHOLD, MAX_POINTS);
+
+                if (mask != null) {
+                    RainForecastPayload payload = (RainForecastPayload) forecastDetector.detect("R1", view, NOW).payload();
+                    assertThat(mask.intervals()).as("case %d", i).isEqualTo(payload.hourlyParts());
+                }
+            }
+        }
+    }
+
+    // -- fixtures --
+
+    private static List<PopView.Hourly.Pop> hourly(LocalDateTime reportTime, Integer... head) {
+        List<PopView.Hourly.Pop> pops = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            pops.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), i < head.length ? head[i] : null));
+        }
+        return pops;
+    }
+
+    /** POP 은 null 10%, validAt 누락(불규칙 시계열)은 약 5% 의 케이스에서 발생 */
+    private static PopView popView(LocalDateTime reportTime, Random random) {
+        boolean irregular = random.nextInt(20) == 0;
+        List<PopView.Hourly.Pop> pops = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            LocalDateTime validAt = (irregular && random.nextInt(5) == 0) ? null : reportTime.plusHours(i + 1);
+            Integer pop = (random.nextInt(10) == 0) ? null : random.nextInt(11) * 10;
+            pops.add(new PopView.Hourly.Pop(validAt, pop));
+        }
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(null, null));
+        return new PopView(new PopView.Hourly(pops), new PopView.Daily(daily), reportTime);
+    }
+}
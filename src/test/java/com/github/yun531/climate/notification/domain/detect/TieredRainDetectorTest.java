@@ -0,0 +1,137 @@
+package com.github.yun531.climate.notification.domain.detect;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.AlertPayload;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TieredRainDetectorTest {
+
+    private static final int MAX_POINTS = 26;
+    private static final RainTierPolicy POLICY = new RainTierPolicy(40, 60, 80);
+
+    private static final LocalDateTime ANNOUNCE_TIME = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final LocalDateTime NOW           = LocalDateTime.of(2026, 1, 22, 5, 15);
+
+    private final TieredRainDetector detector = new TieredRainDetector(POLICY, MAX_POINTS);
+
+    @Test
+    @DisplayName("정책: 임계치는 오름차순이어야 하고, level 은 만족하는 가장 높은 단계")
+    void policy_levels() {
+        assertThat(POLICY.level(39)).isZero();
+        assertThat(POLICY.level(40)).isEqualTo(RainTier.LIKELY.level());
+        assertThat(POLICY.level(79)).isEqualTo(RainTier.RAIN.level());
+        assertThat(POLICY.level(100)).isEqualTo(RainTier.HEAVY.level());
+        assertThat(POLICY.threshold(RainTier.RAIN)).isEqualTo(60);
+
+        assertThatThrownBy(() -> new RainTierPolicy(60, 60, 80)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("무작위 1,000쌍 -> 단계별 결과 == 해당 임계치의 RainOnsetDetector / RainForecastDetector")
+    void sameAsSingleThresholdDetectors() {
+        Random random = new Random(21);
+        for (int i = 0; i < 1_000; i++) {
+            PopView.Pair pair = new PopView.Pair(
+                    popView(ANNOUNCE_TIME, random), popView(ANNOUNCE_TIME.minusHours(3 * random.nextInt(3)), random));
+            TieredRainDetector.Classified classified = detector.classify(pair);
+
+            for (RainTier tier : RainTier.values()) {
+                int threshold = POLICY.threshold(tier);
+                List<AlertEvent> expectedOnset = new RainOnsetDetector(threshold, MAX_POINTS).detect("R1", pair, NOW);
+                AlertEvent expectedForecast = new RainForecastDetector(threshold, MAX_POINTS).detect("R1", pair.current(), NOW);
+
+                assertThat(withoutTier(detector.detectOnset("R1", classified, tier, NOW)))
+                        .as("case %d, %s", i, tier).isEqualTo(expectedOnset);
+                assertThat(withoutTier(detector.detectForecast("R1", classified, tier, NOW)))
+                        .as("case %d, %s", i, tier).isEqualTo(expectedForecast);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("단계가 payload 에 담기고, HEAVY 결과는 RAIN 결과의 부분집합")
+    void tierCarriedAndNested() {
+        PopView cur = popView(ANNOUNCE_TIME, 50, 70, 90, 90, 30);
+        PopView prv = popView(ANNOUNCE_TIME.minusHours(3), 0, 0, 0, 0, 0, 0, 0, 0);
+        TieredRainDetector.Classified classified = detector.classify(new PopView.Pair(cur, prv));
+
+        List<AlertEvent> rain = detector.detectOnset("R1", classified, RainTier.RAIN, NOW);
+        List<AlertEvent> heavy = detector.detectOnset("R1", classified, RainTier.HEAVY, NOW);
+
+        assertThat(rain).hasSize(3);
+        assertThat(heavy).hasSize(2);
+        assertThat(heavy).allSatisfy(e -> assertThat(((RainOnsetPayload) e.payload()).tier()).isEqualTo(RainTier.HEAVY));
+        assertThat(withoutTier(heavy)).isSubsetOf(withoutTier(rain));
+    }
+
+    @Test
+    @DisplayName("matches: 현재/이전 발표시각이 같을 때만 true, 이전 없음도 구분")
+    void matches_byReportTimes() {
+        PopView cur = popView(ANNOUNCE_TIME, 70);
+        PopView prv = popView(ANNOUNCE_TIME.minusHours(3), 10);
+        TieredRainDetector.Classified classified = detector.classify(new PopView.Pair(cur, prv));
+
+        assertThat(classified.matches(cur, prv)).isTrue();
+        assertThat(classified.matches(popView(ANNOUNCE_TIME.plusHours(3), 70), prv)).isFalse();
+        assertThat(classified.matches(cur, popView(ANNOUNCE_TIME.minusHours(6), 10))).isFalse();
+        assertThat(classified.matches(cur, null)).isFalse();
+        assertThat(detector.classify(new PopView.Pair(null, prv))).isNull();
+    }
+
+    // -- fixtures --
+
+    private static List<AlertEvent> withoutTier(List<AlertEvent> events) {
+        return events.stream().map(TieredRainDetectorTest::withoutTier).toList();
+    }
+
+    private static AlertEvent withoutTier(AlertEvent event) {
+        if (event == null) return null;
+        AlertPayload payload = event.payload();
+        if (payload instanceof RainOnsetPayload p) {
+            payload = new RainOnsetPayload(p.type(), p.validAt(), p.pop());
+        } else if (payload instanceof RainForecastPayload p) {
+            payload = new RainForecastPayload(p.type(), p.hourlyParts(), p.dayParts());
+        }
+        return new AlertEvent(event.type(), event.regionId(), event.occurredAt(), payload);
+    }
+
+    private static PopView popView(LocalDateTime reportTime, Integer... head) {
+        List<PopView.Hourly.Pop> pops = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            pops.add(new PopView.Hourly.Pop(reportTime.plusHours(i + 1), i < head.length ? head[i] : null));
+        }
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) daily.add(new PopView.Daily.Pop(null, null));
+        return new PopView(new PopView.Hourly(pops), new PopView.Daily(daily), reportTime);
+    }
+
+    /** POP 은 null 10%, validAt 누락(불규칙 시계열)은 약 5% 의 케이스에서 발생. 일별 POP 도 무작위 */
+    private static PopView popView(LocalDateTime reportTime, Random random) {
+        boolean irregular = random.nextInt(20) == 0;
+        List<PopView.Hourly.Pop> pops = new ArrayList<>(PopView.HOURLY_SIZE);
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            LocalDateTime validAt = (irregular && random.nextInt(5) == 0) ? null : reportTime.plusHours(i + 1);
+            Integer pop = (random.nextInt(10) == 0) ? null : random.nextInt(11) * 10;
+            pops.add(new PopView.Hourly.Pop(validAt, pop));
+        }
+        List<PopView.Daily.Pop> daily = new ArrayList<>(PopView.DAILY_SIZE);
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) {
+            daily.add(new PopView.Daily.Pop(random.nextInt(11) * 10, (random.nextInt(10) == 0) ? null : random.nextInt(11) * 10));
+        }
+        return new PopView(new PopView.Hourly(pops), new PopView.Daily(daily), reportTime);
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.yun531.climate.notification.domain.subscription;
+
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertRuleTest {
+
+    @Test
+    @DisplayName("기본값: 종류 미지정 -> RAIN_ONSET, RAIN_FORECAST / 빈 특보 종류 -> null / withinHours 범위 밖 -> 24")
+    void defaults() {
+        AlertRule rule = new AlertRule(null, null, Set.of(), 48, null);
+
+        assertThat(rule.types()).containsExactlyInAnyOrder(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.RAIN_FORECAST);
+        assertThat(rule.warningKinds()).isNull();
+        assertThat(rule.withinHours()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("detectionKey: 조용한 시간대만 다른 규칙은 같은 키")
+    void detectionKey_ignoresQuietHours() {
+        AlertRule a = new AlertRule(EnumSet.of(AlertTypeEnum.RAIN_ONSET), RainTier.HEAVY, null, 6, null);
+        AlertRule b = new AlertRule(EnumSet.of(AlertTypeEnum.RAIN_ONSET), RainTier.HEAVY, null, 6,
+                new QuietHours(LocalTime.of(22, 0), LocalTime.of(7, 0)));
+
+        assertThat(b.detectionKey()).isEqualTo(a.detectionKey());
+        assertThat(new AlertRule(null, RainTier.RAIN, null, 6, null).detectionKey()).isNotEqualTo(a.detectionKey());
+    }
+
+    @Test
+    @DisplayName("QuietHours: [start, end), 자정을 넘기는 구간, start == end 는 빈 구간")
+    void quietHours_contains() {
+        QuietHours day = new QuietHours(LocalTime.of(9, 0), LocalTime.of(18, 0));
+        QuietHours night = new QuietHours(LocalTime.of(22, 0), LocalTime.of(7, 0));
+
+        assertThat(day.contains(LocalTime.of(9, 0))).isTrue();
+        assertThat(day.contains(LocalTime.of(18, 0))).isFalse();
+        assertThat(night.contains(LocalTime.of(23, 30))).isTrue();
+        assertThat(night.contains(LocalTime.of(6, 59))).isTrue();
+        assertThat(night.contains(LocalTime.of(12, 0))).isFalse();
+        assertThat(new QuietHours(LocalTime.NOON, LocalTime.NOON).contains(LocalTime.NOON)).isFalse();
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.yun531.climate.notification.infra.alert;
+
+import com.github.yun531.climate.TestFirebaseConfig;
+import com.github.yun531.climate.notification.domain.detect.RainTierPolicy;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * threshold-pop 이 기본 tiers(40/80) 범위를 벗어나도 컨텍스트가 기동되는지 확인.
+ * 스키마 재생성 충돌을 피하려고 별도 in-memory DB 를 사용한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:climate_alert_config_test;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "notification.threshold-pop=80"
+})
+@ActiveProfiles("test")
+@Import(TestFirebaseConfig.class)
+class AlertInfraConfigContextTest {
+
+    @Autowired TieredRainDetector tieredRainDetector;
+
+    @Test
+    @DisplayName("threshold-pop=80 이어도 기동되고 heavy 임계치만 보정된다")
+    void thresholdPop80_contextStarts() {
+        assertThat(tieredRainDetector.policy()).isEqualTo(new RainTierPolicy(40, 80, 100));
+    }
+}
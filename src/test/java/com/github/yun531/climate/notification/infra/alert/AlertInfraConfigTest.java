@@ -0,0 +1,30 @@
+package com.github.yun531.climate.notification.infra.alert;
+
+import com.github.yun531.climate.notification.domain.detect.RainTierPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertInfraConfigTest {
+
+    @Test
+    @DisplayName("기본 단계 임계치가 threshold-pop 과 오름차순이면 그대로 사용한다")
+    void ascendingTiers_keptAsIs() {
+        assertThat(AlertInfraConfig.tierPolicy(40, 60, 80)).isEqualTo(new RainTierPolicy(40, 60, 80));
+    }
+
+    @Test
+    @DisplayName("threshold-pop 이 heavy 이상이면 heavy 를 threshold-pop 위로 보정한다")
+    void highThreshold_heavyRaised() {
+        assertThat(AlertInfraConfig.tierPolicy(40, 80, 80)).isEqualTo(new RainTierPolicy(40, 80, 100));
+        assertThat(AlertInfraConfig.tierPolicy(40, 100, 80)).isEqualTo(new RainTierPolicy(40, 100, 101));
+    }
+
+    @Test
+    @DisplayName("threshold-pop 이 likely 이하이면 likely 를 threshold-pop 아래로 보정한다")
+    void lowThreshold_likelyLowered() {
+        assertThat(AlertInfraConfig.tierPolicy(40, 30, 80)).isEqualTo(new RainTierPolicy(10, 30, 80));
+        assertThat(AlertInfraConfig.tierPolicy(40, 0, 80)).isEqualTo(new RainTierPolicy(-1, 0, 80));
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.yun531.climate.notification.infra.codec;
+
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.payload.RainForecastPayload;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
+import com.github.yun531.climate.notification.domain.payload.WarningIssuedPayload;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import com.github.yun531.climate.warning.domain.model.WarningLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AlertEventCodecTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 0);
+
+    private final AlertEventCodec codec = new AlertEventCodec();
+
+    @Test
+    @DisplayName("모든 payload 타입 + null payload 왕복")
+    void roundTrip_allPayloadTypes() {
+        List<AlertEvent> events = events();
+
+        assertThat(codec.decode(codec.encode(events))).isEqualTo(events);
+    }
+
+    @Test
+    @DisplayName("tier 가 있는 RAIN_ONSET / RAIN_FORECAST 왕복")
+    void roundTrip_tiered() {
+        List<AlertEvent> events = List.of(
+                new AlertEvent(AlertTypeEnum.RAIN_ONSET, "11B10101", NOW,
+                        new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.plusHours(3), 85, RainTier.HEAVY)),
+                new AlertEvent(AlertTypeEnum.RAIN_FORECAST, "11B10101", NOW,
+                        new RainForecastPayload(AlertTypeEnum.RAIN_FORECAST,
+                                List.of(new RainForecastPayload.RainInterval(NOW.plusHours(1), NOW.plusHours(4))),
+                                List.of(new RainForecastPayload.DailyRainFlags(true, true)),
+                                RainTier.LIKELY))
+        );
+
+        assertThat(codec.decode(codec.encode(events))).isEqualTo(events);
+    }
+
+    @Test
+    @DisplayName("빈 목록 / null -> 빈 목록")
+    void emptyList() {
+        assertThat(codec.decode(codec.encode(List.of()))).isEmpty();
+        assertThat(codec.decode(codec.encode(null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 payload tag -> IllegalArgumentException")
+    void unknownTag_throws() {
+        byte[] encoded = codec.encode(List.of(new AlertEvent(AlertTypeEnum.RAIN_ONSET, "R1", NOW, null)));
+        encoded[encoded.length - 1] = 42;
+
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static List<AlertEvent> events() {
+        return List.of(
+                new AlertEvent(AlertTypeEnum.RAIN_ONSET, "11B10101", NOW,
+                        new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, NOW.plusHours(3), 70)),
+                new AlertEvent(AlertTypeEnum.RAIN_FORECAST, "11B10101", NOW,
+                        new RainForecastPayload(AlertTypeEnum.RAIN_FORECAST,
+                                List.of(new RainForecastPayload.RainInterval(NOW.plusHours(2), NOW.plusHours(5)),
+                                        new RainForecastPayload.RainInterval(NOW.plusHours(9), NOW.plusHours(10))),
+                                List.of(new RainForecastPayload.DailyRainFlags(true, false),
+                                        new RainForecastPayload.DailyRainFlags(false, true)))),
+                new AlertEvent(AlertTypeEnum.WARNING_ISSUED, "11B20201", NOW.plusMinutes(5),
+                        new WarningIssuedPayload(AlertTypeEnum.WARNING_ISSUED, WarningKind.RAIN, WarningLevel.WARNING)),
+                new AlertEvent(AlertTypeEnum.RAIN_ONSET, "11B20201", NOW.plusMinutes(5), null)
+        );
+    }
+}
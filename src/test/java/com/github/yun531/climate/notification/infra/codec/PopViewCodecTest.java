@@ -0,0 +1,51 @@
+package com.github.yun531.climate.notification.infra.codec;
+
+import com.github.yun531.climate.notification.domain.readmodel.PopView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PopViewCodecTest {
+
+    private static final LocalDateTime REPORT = LocalDateTime.of(2026, 1, 22, 5, 0);
+
+    private final PopViewCodec codec = new PopViewCodec();
+
+    @Test
+    @DisplayName("encode -> decode 왕복 (null POP 포함), 정시 시계열은 70바이트 이하")
+    void roundTrip() {
+        PopView view = popView();
+
+        byte[] encoded = codec.encode(view);
+
+        assertThat(codec.decode(encoded)).isEqualTo(view);
+        assertThat(encoded.length).isLessThanOrEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("미지원 버전 -> IllegalArgumentException")
+    void wrongVersion_throws() {
+        byte[] encoded = codec.encode(popView());
+        encoded[0] = 9;
+
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static PopView popView() {
+        List<PopView.Hourly.Pop> hourly = new ArrayList<>();
+        for (int i = 0; i < PopView.HOURLY_SIZE; i++) {
+            hourly.add(new PopView.Hourly.Pop(REPORT.plusHours(i + 1), (i == 3) ? null : (i * 7) % 101));
+        }
+        List<PopView.Daily.Pop> daily = new ArrayList<>();
+        for (int d = 0; d < PopView.DAILY_SIZE; d++) {
+            daily.add(new PopView.Daily.Pop(d * 10, (d == 6) ? null : 100 - d * 10));
+        }
+        return new PopView(new PopView.Hourly(hourly), new PopView.Daily(daily), REPORT);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.TestFirebaseConfig;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.domain.readmodel.RegionCatalog;
+import com.github.yun531.climate.notification.domain.subscription.AlertRule;
+import com.github.yun531.climate.notification.domain.subscription.QuietHours;
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import com.github.yun531.climate.warning.domain.model.WarningKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 구독 저장소 + 역색인 + hot 지역 RegionCatalog 통합 테스트 (H2).
+ * 스키마 재생성 충돌을 피하려고 별도 in-memory DB 를 사용한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:climate_subscription_test;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "notification.subscriptions.enabled=true",
+        "notification.subscriptions.store=jpa",
+        "notification.subscriptions.hot-regions-only=true",
+        "notification.subscriptions.index-refresh-ms=3600000",
+        "notification.fanout.region-ids=R1,R2,R3"
+})
+@ActiveProfiles("test")
+@Import(TestFirebaseConfig.class)
+class JpaSubscriptionRegistryIntegrationTest {
+
+    @Autowired SubscriptionRegistry registry;
+    @Autowired RegionCatalog regionCatalog;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("교체/삭제가 테이블과 역색인에 반영되고, RegionCatalog 는 구독자가 있는 지역만 반환한다")
+    void replaceRemove_updatesIndexAndCatalog() {
+        AlertRule rule = new AlertRule(EnumSet.of(AlertTypeEnum.RAIN_ONSET, AlertTypeEnum.WARNING_ISSUED),
+                RainTier.HEAVY, EnumSet.of(WarningKind.RAIN), 6,
+                new QuietHours(LocalTime.of(23, 0), LocalTime.of(7, 0)));
+
+        registry.replace("u1", List.of(new Subscription("u1", "R1", rule), new Subscription("u1", "R2", null)));
+        registry.replace("u2", List.of(new Subscription("u2", "R2", null)));
+
+        assertThat(registry.findBySubscriber("u1")).contains(new Subscription("u1", "R1", rule));
+        assertThat(registry.findAll()).hasSize(3);
+        assertThat(registry.hotRegions()).containsExactlyInAnyOrder("R1", "R2");
+        assertThat(registry.subscribersIn("R2")).containsExactlyInAnyOrder("u1", "u2");
+        assertThat(regionCatalog.regionIds()).containsExactly("R1", "R2");
+
+        registry.replace("u1", List.of(new Subscription("u1", "R3", null)));
+        assertThat(registry.remove("u2")).isEqualTo(1);
+
+        assertThat(registry.hotRegions()).containsExactly("R3");
+        assertThat(regionCatalog.regionIds()).containsExactly("R3");
+
+        ((JpaSubscriptionRegistry) registry).reload();
+        assertThat(registry.hotRegions()).containsExactly("R3");
+        assertThat(registry.subscribersIn("R3")).containsExactly("u1");
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션이 롤백되면 역색인에도 반영하지 않고, 커밋되면 커밋 후 반영한다")
+    void rolledBack_notIndexed_committed_indexedAfterCommit() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            registry.replace("rollback-user", List.of(new Subscription("rollback-user", "R9", null)));
+            status.setRollbackOnly();
+        });
+        assertThat(registry.hotRegions()).doesNotContain("R9");
+        assertThat(registry.findBySubscriber("rollback-user")).isEmpty();
+
+        tx.executeWithoutResult(status -> {
+            registry.replace("commit-user", List.of(new Subscription("commit-user", "R8", null)));
+            assertThat(registry.hotRegions()).doesNotContain("R8");     // 커밋 전
+        });
+        assertThat(registry.hotRegions()).contains("R8");
+        assertThat(registry.findByRegion("R8")).containsExactly(new Subscription("commit-user", "R8", null));
+
+        registry.remove("commit-user");
+        assertThat(registry.findByRegion("R8")).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriberEntity;
+import com.github.yun531.climate.notification.infra.persistence.entity.SubscriptionEntity;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriberRepository;
+import com.github.yun531.climate.notification.infra.persistence.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/** 트랜잭션 없이 호출되는 경로(즉시 반영)와 재적재 중 변경의 재적용 */
+@ExtendWith(MockitoExtension.class)
+class JpaSubscriptionRegistryTest {
+
+    @Mock SubscriberRepository subscriberRepository;
+    @Mock SubscriptionRepository subscriptionRepository;
+
+    private JpaSubscriptionRegistry registry;
+
+    private static final SubscriberEntity U1 = SubscriberEntity.builder().subscriberId(1).subscriberKey("u1").build();
+
+    @BeforeEach
+    void setUp() {
+        registry = new JpaSubscriptionRegistry(subscriberRepository, subscriptionRepository, Clock.systemDefaultZone());
+    }
+
+    @Test
+    @DisplayName("재적재가 DB 를 읽는 동안 커밋된 변경 -> 새 색인에 다시 적용되어 사라지지 않음")
+    void changeDuringReload_replayedOntoFreshIndex() {
+        when(subscriberRepository.findAll()).thenReturn(List.of(U1));
+        when(subscriberRepository.findBySubscriberKey("u1")).thenReturn(Optional.of(U1));
+        when(subscriptionRepository.findBySubscriberId(1)).thenReturn(List.of(row(1, "R1")));
+        when(subscriptionRepository.findAll())
+                .thenReturn(List.of(row(1, "R1")))                   // 첫 적재
+                .thenAnswer(inv -> {                                  // 재적재: 읽은 뒤 R1 -> R2 변경이 커밋됨
+                    registry.replace("u1", List.of(new Subscription("u1", "R2", null)));
+                    return List.of(row(1, "R1"));
+                });
+        when(subscriptionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        assertThat(registry.hotRegions()).containsExactly("R1");
+
+        registry.reload();
+
+        assertThat(registry.hotRegions()).containsExactly("R2");
+        assertThat(registry.subscribersIn("R2")).containsExactly("u1");
+    }
+
+    @Test
+    @DisplayName("적재 전 변경 -> 색인을 만들지 않고 첫 적재가 DB 상태를 읽음")
+    void changeBeforeFirstLoad_readByFirstLoad() {
+        when(subscriberRepository.findBySubscriberKey("u1")).thenReturn(Optional.of(U1));
+        when(subscriptionRepository.findBySubscriberId(1)).thenReturn(List.of());
+        when(subscriptionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(subscriberRepository.findAll()).thenReturn(List.of(U1));
+        when(subscriptionRepository.findAll()).thenReturn(List.of(row(1, "R1")));
+
+        registry.replace("u1", List.of(new Subscription("u1", "R1", null)));
+
+        assertThat(registry.hotRegions()).containsExactly("R1");
+        assertThat(registry.subscribersIn("R1")).containsExactly("u1");
+    }
+
+    private static SubscriptionEntity row(int subscriberId, String regionId) {
+        return SubscriptionEntity.builder().subscriberId(subscriberId).regionId(regionId).alertTypes("RAIN_ONSET").build();
+    }
+}
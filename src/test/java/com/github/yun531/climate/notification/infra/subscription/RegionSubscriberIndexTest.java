@@ -0,0 +1,55 @@
+package com.github.yun531.climate.notification.infra.subscription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionSubscriberIndexTest {
+
+    private final RegionSubscriberIndex index = new RegionSubscriberIndex();
+
+    @Test
+    @DisplayName("지역별 구독자 id 는 정렬/중복 제거, 마지막 구독자가 빠지면 hot 지역에서 제외")
+    void addRemove_hotRegions() {
+        index.add("R1", 7, "u7");
+        index.add("R1", 3, "u3");
+        index.add("R1", 7, "u7");
+        index.add("R2", 3, "u3");
+
+        assertThat(index.subscriberIds("R1")).containsExactly(3, 7);
+        assertThat(index.subscriberKeys("R1")).containsExactly("u3", "u7");
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.hotRegions()).containsExactlyInAnyOrder("R1", "R2");
+
+        index.remove("R2", 3);
+        index.remove("R2", 3);
+
+        assertThat(index.hotRegions()).containsExactly("R1");
+        assertThat(index.isHot("R2")).isFalse();
+        assertThat(index.subscriberIds("R2")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("regionId 는 같은 인스턴스로 intern 된다")
+    void intern_sharesInstance() {
+        String a = new String("11B10101");
+        String b = new String("11B10101");
+
+        assertThat(index.intern(b)).isSameAs(index.intern(a));
+    }
+
+    @Test
+    @DisplayName("대량 추가/삭제 후에도 정렬 상태 유지, 변경 없으면 hotRegions 스냅샷 재사용")
+    void bulk_keepsSorted() {
+        for (int id = 10_000; id > 0; id--) index.add("R" + (id % 50), id, "u" + id);
+        for (int id = 1; id <= 10_000; id += 2) index.remove("R" + (id % 50), id);
+
+        int[] ids = index.subscriberIds("R0");
+        for (int i = 1; i < ids.length; i++) assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        assertThat(index.size()).isEqualTo(5_000);
+        assertThat(index.hotRegions()).isSameAs(index.hotRegions());
+        assertThat(index.subscriberKey(10_000)).isEqualTo("u10000");
+    }
+}
@@ -1,7 +1,13 @@
 package com.github.yun531.climate.notification.infra.trigger;
 
+import com.github.yun531.climate.fcm.domain.BatchPushResult;
+import com.github.yun531.climate.fcm.domain.PushOutbox;
 import com.github.yun531.climate.fcm.domain.TopicPushMessage;
 import com.github.yun531.climate.fcm.domain.TopicPushSender;
+import com.github.yun531.climate.notification.application.trigger.FanOutResult;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,13 +17,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +41,7 @@ class FcmTriggerPushSenderTest {
     @Mock TopicPushSender pushSender;
     // pushSender.push()에 넘겨진 실제 TopicPushMessage 인자를 캡처해 검증에 재사용
     @Captor ArgumentCaptor<TopicPushMessage> messageCaptor;
+    @Captor ArgumentCaptor<List<TopicPushMessage>> messagesCaptor;
 
     private FcmTriggerPushSender sender;
 
@@ -110,6 +125,95 @@ class FcmTriggerPushSenderTest {
         }
     }
 
+    @Nested
+    @DisplayName("sendHourly - 단계 전송 모드")
+    class SendHourlyStaged {
+
+        @Mock TaskScheduler taskScheduler;
+        @Captor ArgumentCaptor<Runnable> taskCaptor;
+        @Captor ArgumentCaptor<Instant> startAtCaptor;
+
+        private final TriggerProperties staged =
+                new TriggerProperties("hourly", "daily_", 600, null, 4, 600, 0);
+
+        @Test
+        @DisplayName("0번 샤드는 즉시, 나머지는 spread 구간에 균등 간격으로 예약된다")
+        void firstShardNow_restScheduled() {
+            FcmTriggerPushSender stagedSender = new FcmTriggerPushSender(pushSender, staged, taskScheduler);
+            when(pushSender.push(messageCaptor.capture(), anyBoolean())).thenReturn("msg-0");
+
+            String result = stagedSender.sendHourly(TRIGGER_TIME, 8, false);
+
+            assertThat(result).isEqualTo("msg-0");
+            assertThat(messageCaptor.getValue().topic()).isEqualTo("hourly-0");
+            assertThat(messageCaptor.getValue().data())
+                    .containsEntry("shard", "0")
+                    .containsEntry("jitterSeconds", "150");
+
+            verify(taskScheduler, times(3)).schedule(taskCaptor.capture(), startAtCaptor.capture());
+            List<Instant> startAts = startAtCaptor.getAllValues();
+            assertThat(startAts.get(1).toEpochMilli() - startAts.get(0).toEpochMilli()).isEqualTo(150_000);
+            assertThat(startAts.get(2).toEpochMilli() - startAts.get(1).toEpochMilli()).isEqualTo(150_000);
+        }
+
+        @Test
+        @DisplayName("예약된 작업은 해당 샤드 토픽으로 전송한다")
+        void scheduledTask_sendsShardTopic() {
+            FcmTriggerPushSender stagedSender = new FcmTriggerPushSender(pushSender, staged, taskScheduler);
+            when(pushSender.push(messageCaptor.capture(), anyBoolean())).thenReturn("msg");
+
+            stagedSender.sendHourly(TRIGGER_TIME, 8, false);
+            verify(taskScheduler, times(3)).schedule(taskCaptor.capture(), any(Instant.class));
+            taskCaptor.getAllValues().get(2).run();
+
+            assertThat(messageCaptor.getValue().topic()).isEqualTo("hourly-3");
+        }
+
+        @Test
+        @DisplayName("TaskScheduler 가 없으면 모든 샤드를 즉시 전송한다")
+        void noScheduler_sendsAllNow() {
+            FcmTriggerPushSender stagedSender = new FcmTriggerPushSender(pushSender, staged);
+            when(pushSender.push(messageCaptor.capture(), anyBoolean())).thenReturn("msg");
+
+            stagedSender.sendHourly(TRIGGER_TIME, 8, false);
+
+            assertThat(messageCaptor.getAllValues()).extracting(TopicPushMessage::topic)
+                    .containsExactly("hourly-0", "hourly-1", "hourly-2", "hourly-3");
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 모드")
+    class OutboxMode {
+
+        @Mock PushOutbox outbox;
+
+        @Test
+        @DisplayName("직접 전송하지 않고 (type, topic, firedAt) 키로 적재한다")
+        void enqueuesWithIdempotencyKey() {
+            FcmTriggerPushSender outboxSender = new FcmTriggerPushSender(
+                    pushSender, new TriggerProperties("hourly", "daily_", 600), null, outbox);
+            when(outbox.enqueue(messageCaptor.capture(), eq("HOURLY_TRIGGER:hourly:2026-01-22T08:05:00"), eq(false)))
+                    .thenReturn(true);
+
+            String result = outboxSender.sendHourly(TRIGGER_TIME, 8, false);
+
+            assertThat(result).isEqualTo("queued:HOURLY_TRIGGER:hourly:2026-01-22T08:05:00");
+            assertThat(messageCaptor.getValue().topic()).isEqualTo("hourly");
+            verify(pushSender, never()).push(any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("이미 적재된 키 -> duplicate")
+        void duplicate() {
+            FcmTriggerPushSender outboxSender = new FcmTriggerPushSender(
+                    pushSender, new TriggerProperties("hourly", "daily_", 600), null, outbox);
+            when(outbox.enqueue(any(), any(), anyBoolean())).thenReturn(false);
+
+            assertThat(outboxSender.sendDaily(TRIGGER_TIME, 8, false)).startsWith("duplicate:DAILY_TRIGGER:daily_08:");
+        }
+    }
+
     @Nested
     @DisplayName("sendDaily")
     class SendDaily {
@@ -149,4 +253,64 @@ class FcmTriggerPushSenderTest {
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("sendRegionAlerts")
+    class SendRegionAlerts {
+
+        private final AlertEvent onset = new AlertEvent(
+                AlertTypeEnum.RAIN_ONSET, "R1", TRIGGER_TIME,
+                new RainOnsetPayload(AlertTypeEnum.RAIN_ONSET, TRIGGER_TIME.plusHours(3), 80));
+
+        @Test
+        @DisplayName("이벤트 1건 = 지역 토픽 메시지 1건, payload.toFcmData() + 공통 키")
+        void messagePerEvent_regionTopic() {
+            when(pushSender.pushAll(messagesCaptor.capture(), eq(false)))
+                    .thenReturn(new BatchPushResult(1, 0, List.of()));
+
+            FanOutResult result = sender.sendRegionAlerts(Map.of("R1", List.of(onset)), TRIGGER_TIME, false);
+
+            TopicPushMessage msg = messagesCaptor.getValue().get(0);
+            assertThat(msg.topic()).isEqualTo("region_R1");
+            assertThat(msg.data())
+                    .containsEntry("type", "RAIN_ONSET")
+                    .containsEntry("regionId", "R1")
+                    .containsEntry("pop", "80")
+                    .containsEntry("triggerAtLocal", "2026-01-22T08:05:00");
+            assertThat(result).isEqualTo(new FanOutResult(1, 1, 0));
+        }
+
+        @Test
+        @DisplayName("일부 실패는 결과의 failed 로 집계되고, 실패한 토픽은 대상 키로 돌려준다")
+        void partialFailure_counted() {
+            when(pushSender.pushAll(any(), anyBoolean()))
+                    .thenReturn(new BatchPushResult(1, 1, List.of("region_R2")));
+
+            FanOutResult result = sender.sendRegionAlerts(
+                    Map.of("R1", List.of(onset), "R2", List.of(onset)), TRIGGER_TIME, true);
+
+            assertThat(result).isEqualTo(new FanOutResult(2, 1, 1, Set.of("R2")));
+        }
+
+        @Test
+        @DisplayName("빈 입력 -> 전송하지 않음")
+        void empty_noPush() {
+            assertThat(sender.sendRegionAlerts(Map.of(), TRIGGER_TIME, false)).isEqualTo(FanOutResult.empty());
+            verify(pushSender, never()).pushAll(any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("구독자 알림 -> 구독자 토픽, 같은 data 형식")
+        void subscriberAlerts_subscriberTopic() {
+            when(pushSender.pushAll(messagesCaptor.capture(), eq(false)))
+                    .thenReturn(new BatchPushResult(1, 0, List.of()));
+
+            FanOutResult result = sender.sendSubscriberAlerts(Map.of("u1", List.of(onset)), TRIGGER_TIME, false);
+
+            TopicPushMessage msg = messagesCaptor.getValue().get(0);
+            assertThat(msg.topic()).isEqualTo("user_u1");
+            assertThat(msg.data()).containsEntry("regionId", "R1").containsEntry("pop", "80");
+            assertThat(result).isEqualTo(new FanOutResult(1, 1, 0));
+        }
+    }
+}
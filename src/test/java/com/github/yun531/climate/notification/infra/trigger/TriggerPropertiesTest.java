@@ -33,4 +33,23 @@ class TriggerPropertiesTest {
         TriggerProperties negative = new TriggerProperties("h", "d_", -1);
         assertThat(negative.ttlSeconds()).isEqualTo(600);
     }
+
+    @Test
+    @DisplayName("기본 정책 -> 단계 전송 비활성")
+    void defaultPolicy_notStaged() {
+        assertThat(props.isStaged()).isFalse();
+        assertThat(props.hourlyShards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계 전송 -> 샤드 토픽/지연은 spread 균등 분할, jitter 기본값은 샤드 간격")
+    void staged_shardTopicAndDelay() {
+        TriggerProperties staged = new TriggerProperties("hourly", "daily_", 600, null, 16, 480, 0);
+
+        assertThat(staged.isStaged()).isTrue();
+        assertThat(staged.hourlyShardTopic(15)).isEqualTo("hourly-15");
+        assertThat(staged.shardDelayMillis(0)).isZero();
+        assertThat(staged.shardDelayMillis(8)).isEqualTo(240_000);
+        assertThat(staged.jitterHintSeconds()).isEqualTo(30);
+    }
 }
@@ -6,12 +6,14 @@ import com.github.yun531.climate.notification.domain.model.AlertEvent;
 import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
 import com.github.yun531.climate.notification.domain.payload.RainOnsetPayload;
 import com.github.yun531.climate.warning.domain.model.WarningKind;
+import com.github.yun531.climate.shared.http.ResponseCacheConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -20,11 +22,16 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AlertController.class)
+@Import(ResponseCacheConfig.class)
 class AlertControllerTest {
 
     @Autowired MockMvc mvc;
@@ -57,6 +64,21 @@ class AlertControllerTest {
         assertThat(cmd.withinHours()).isNull();
     }
 
+    @Test
+    @DisplayName("GET /rain-onset 지역 순서만 다른 요청 -> 정규화된 키로 같은 캐시 엔트리 재사용")
+    void rainOnset_cacheKeyUsesNormalizedRegionIds() throws Exception {
+        when(service.responseKeyRegionIds(anyList())).thenReturn(List.of("R1", "R2"));
+        when(service.responseVersion(any())).thenReturn("v1");
+        when(service.generate(any(GenerateAlertsCommand.class))).thenReturn(List.of());
+
+        mvc.perform(get(BASE_PATH + "/rain-onset").param("regionIds", "R2", "R1"))
+                .andExpect(status().isOk());
+        mvc.perform(get(BASE_PATH + "/rain-onset").param("regionIds", "R1", " R2"))
+                .andExpect(status().isOk());
+
+        verify(service, times(1)).generate(any(GenerateAlertsCommand.class));
+    }
+
     @Test
     @DisplayName("GET /rain-onset withinHours 범위 초과 -> 24로 보정")
     void rainOnset_invalidWithinHours_clampedTo24() throws Exception {
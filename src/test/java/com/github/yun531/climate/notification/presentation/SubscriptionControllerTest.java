@@ -0,0 +1,90 @@
+package com.github.yun531.climate.notification.presentation;
+
+import com.github.yun531.climate.notification.domain.subscription.Subscription;
+import com.github.yun531.climate.notification.domain.subscription.SubscriptionRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SubscriptionController.class, properties = "notification.subscriptions.enabled=true")
+class SubscriptionControllerTest {
+
+    @Autowired MockMvc mvc;
+    @MockitoBean SubscriptionRegistry registry;
+
+    private static final String BASE_PATH = "/notification/subscriptions";
+
+    @Test
+    @DisplayName("PUT -> 구독자 단위 교체, 등록된 구독 반환")
+    void replace_valid() throws Exception {
+        mvc.perform(put(BASE_PATH + "/user-1.a_b~c")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"regionId":"R1","types":["RAIN_ONSET"],"tier":"RAIN"},
+                                 {"regionId":"R2"}]"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].regionId").value("R1"));
+
+        verify(registry).replace(eq("user-1.a_b~c"), argThat((List<Subscription> subs) -> subs.size() == 2));
+    }
+
+    @Test
+    @DisplayName("PUT 같은 지역 중복 -> 400, 등록하지 않음")
+    void replace_duplicateRegion_badRequest() throws Exception {
+        mvc.perform(put(BASE_PATH + "/u1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"regionId":"R1","tier":"RAIN"},{"regionId":"R1","tier":"HEAVY"}]"""))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    @DisplayName("PUT null 항목 -> 400")
+    void replace_nullElement_badRequest() throws Exception {
+        mvc.perform(put(BASE_PATH + "/u1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    @DisplayName("토픽 이름에 쓸 수 없는 subscriberId -> GET/PUT/DELETE 모두 400")
+    void invalidSubscriberId_badRequest() throws Exception {
+        String invalid = BASE_PATH + "/u1:admin";
+
+        mvc.perform(get(invalid)).andExpect(status().isBadRequest());
+        mvc.perform(put(invalid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"regionId\":\"R1\"}]"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(delete(invalid)).andExpect(status().isBadRequest());
+
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    @DisplayName("DELETE -> 삭제 건수 있으면 204, 없으면 404")
+    void remove() throws Exception {
+        when(registry.remove("u1")).thenReturn(1);
+
+        mvc.perform(delete(BASE_PATH + "/u1")).andExpect(status().isNoContent());
+        mvc.perform(delete(BASE_PATH + "/u2")).andExpect(status().isNotFound());
+    }
+}
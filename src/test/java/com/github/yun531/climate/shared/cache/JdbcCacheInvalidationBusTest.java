@@ -0,0 +1,158 @@
+package com.github.yun531.climate.shared.cache;
+
+import com.github.yun531.climate.shared.scheduling.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JdbcCacheInvalidationBusTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 8, 5);
+    private static final Duration LOOKBACK = Duration.ofSeconds(60);
+    private static final Duration RETENTION = Duration.ofHours(24);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>();
+    private final Clock clock = new Clock() {
+        @Override public ZoneId getZone() { return ZONE; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now.get(); }
+    };
+
+    private JdbcTemplate jdbc;
+    private ManagedCache cacheA;
+    private ManagedCache cacheB;
+    private JdbcCacheInvalidationBus nodeA;
+    private JdbcCacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        now.set(NOW.atZone(ZONE).toInstant());
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:cache_invalidation_test;DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", ""));
+        jdbc.execute("DROP TABLE IF EXISTS cache_invalidation");
+        jdbc.execute("""
+                CREATE TABLE cache_invalidation (
+                    invalidation_id  BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    region_id        VARCHAR(32)   NOT NULL,
+                    kind             VARCHAR(32),
+                    announce_time    TIMESTAMP,
+                    created_at       TIMESTAMP     NOT NULL
+                )""");
+
+        cacheA = cache("snapshot");
+        cacheB = cache("snapshot");
+        nodeA = bus(cacheA, SchedulerLock.alwaysAcquire());
+        nodeB = bus(cacheB, SchedulerLock.alwaysAcquire());
+    }
+
+    @Test
+    @DisplayName("publish -> 발행 노드는 즉시, 다른 노드는 poll 시 반영")
+    void publish_propagatesToOtherNode() {
+        CacheInvalidation invalidation = new CacheInvalidation("R1", "CURRENT", NOW.minusHours(3));
+
+        nodeA.publish(invalidation);
+        verify(cacheA).invalidate(invalidation);
+        verify(cacheB, never()).invalidate(any());
+
+        assertThat(nodeB.drain()).isEqualTo(1);
+        verify(cacheB).invalidate(invalidation);
+        assertThat(nodeB.drain()).isZero();     // 같은 행은 다시 반영하지 않음
+    }
+
+    @Test
+    @DisplayName("큰 id 를 먼저 본 뒤 늦게 커밋된 작은 id -> 다음 poll 에서 반영")
+    void outOfOrderCommit_appliedOnNextDrain() {
+        insert(2, "R2", NOW);
+        assertThat(nodeB.drain()).isEqualTo(1);
+
+        insert(1, "R1", NOW.minusSeconds(5));   // 먼저 id 를 받았지만 늦게 커밋된 행
+
+        assertThat(nodeB.drain()).isEqualTo(1);
+        verify(cacheB).invalidate(CacheInvalidation.region("R1"));
+        verify(cacheB).invalidate(CacheInvalidation.region("R2"));
+    }
+
+    @Test
+    @DisplayName("첫 poll -> lookback 창 안의 기동 이전 행도 반영")
+    void firstDrain_appliesRowsInLookbackWindow() {
+        nodeA.publish(CacheInvalidation.region("R1"));
+
+        ManagedCache lateCache = cache("snapshot");
+        JdbcCacheInvalidationBus lateNode = bus(lateCache, SchedulerLock.alwaysAcquire());
+
+        assertThat(lateNode.drain()).isEqualTo(1);
+        verify(lateCache).invalidate(CacheInvalidation.region("R1"));
+    }
+
+    @Test
+    @DisplayName("lookback 창 밖의 행은 반영하지 않음, 창이 지나면 추적 id 도 정리")
+    void rowsOutsideWindow_ignored() {
+        insert(1, "R1", NOW.minus(LOOKBACK).minusSeconds(1));
+        nodeA.publish(CacheInvalidation.region("R2"));
+
+        assertThat(nodeB.drain()).isEqualTo(1);
+        verify(cacheB, never()).invalidate(CacheInvalidation.region("R1"));
+
+        now.set(now.get().plus(LOOKBACK).plusSeconds(1));
+        assertThat(nodeB.drain()).isZero();
+        verify(cacheB, times(1)).invalidate(CacheInvalidation.region("R2"));
+    }
+
+    @Test
+    @DisplayName("drain 은 정리하지 않음, purge 가 retention 지난 행만 정리")
+    void purge_removesOnlyExpiredRows() {
+        insert(1, "R1", NOW.minusDays(2));
+        insert(2, "R2", NOW);
+
+        nodeB.drain();
+        assertThat(count()).isEqualTo(2);
+
+        assertThat(nodeB.purge()).isEqualTo(1);
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("purge 잠금을 다른 노드가 잡고 있으면 정리하지 않음")
+    void purge_lockHeldElsewhere_skips() {
+        insert(1, "R1", NOW.minusDays(2));
+        JdbcCacheInvalidationBus locked = bus(cache("snapshot"), (lockName, holdFor) -> false);
+
+        assertThat(locked.purge()).isZero();
+        assertThat(count()).isEqualTo(1);
+    }
+
+    private JdbcCacheInvalidationBus bus(ManagedCache cache, SchedulerLock schedulerLock) {
+        return new JdbcCacheInvalidationBus(jdbc, new LocalCacheInvalidationBus(List.of(cache)), clock, 2,
+                LOOKBACK, RETENTION, schedulerLock);
+    }
+
+    private void insert(long id, String regionId, LocalDateTime createdAt) {
+        jdbc.update("INSERT INTO cache_invalidation (invalidation_id, region_id, created_at) VALUES (?, ?, ?)",
+                id, regionId, createdAt);
+    }
+
+    private int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM cache_invalidation", Integer.class);
+    }
+
+    private static ManagedCache cache(String name) {
+        ManagedCache cache = mock(ManagedCache.class);
+        when(cache.cacheStats()).thenReturn(new KeyCache.CacheStats(name, 0, 0, 0, 0));
+        return cache;
+    }
+}
@@ -1,9 +1,11 @@
 package com.github.yun531.climate.shared.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,4 +98,67 @@ class KeyCacheTest {
         assertThatThrownBy(() -> cache.getOrCompute("k", T0, 60, null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("hit/miss/stale 재계산 횟수가 stats 에 집계된다")
+    void stats_countsHitMissStale() {
+        KeyCache<String> cache = new KeyCache<>("test");
+
+        cache.getOrCompute("k", T0, 60, () -> new CacheEntry<>("v1", T0));                       // miss
+        cache.getOrCompute("k", T0.plusMinutes(10), 60, () -> new CacheEntry<>("v1", T0));       // hit
+        cache.getOrCompute("k", T0.plusMinutes(61), 60, () -> new CacheEntry<>("v2", T0.plusMinutes(61))); // stale
+        cache.getIfFresh("none", T0, 60);                                                         // miss
+
+        KeyCache.CacheStats stats = cache.stats();
+        assertThat(stats.name()).isEqualTo("test");
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.staleRefreshes()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("MeterRegistry 바인딩 시 cache 태그로 gets/size/load 메트릭을 노출한다")
+    void bindTo_exposesMeters() {
+        KeyCache<String> cache = new KeyCache<>("test");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.getOrCompute("k", T0, 60, () -> new CacheEntry<>("v", T0));
+        cache.getOrCompute("k", T0, 60, () -> new CacheEntry<>("v", T0));
+
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("cache.size").tag("cache", "test").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("cache.load").tag("cache", "test").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate/clear 로 엔트리 제거, anchors 는 키별 anchor 를 반환한다")
+    void invalidateClearAnchors() {
+        KeyCache<String> cache = new KeyCache<>();
+        cache.put("a", new CacheEntry<>("v", T0));
+        cache.put("b", new CacheEntry<>("v", T0.plusHours(1)));
+
+        assertThat(cache.anchors()).containsExactly(
+                Map.entry("a", T0), Map.entry("b", T0.plusHours(1)));
+        assertThat(cache.invalidate("a")).isTrue();
+        assertThat(cache.invalidate("a")).isFalse();
+        assertThat(cache.clear()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidateIf 는 조건을 만족할 때만 제거한다")
+    void invalidateIf_onlyWhenConditionHolds() {
+        KeyCache<String> cache = new KeyCache<>();
+        cache.put("a", new CacheEntry<>("v", T0));
+
+        assertThat(cache.invalidateIf("a", e -> e.anchor().isAfter(T0))).isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.invalidateIf("a", e -> !e.anchor().isAfter(T0))).isTrue();
+        assertThat(cache.size()).isZero();
+    }
 }
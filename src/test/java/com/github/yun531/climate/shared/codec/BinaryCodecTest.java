@@ -0,0 +1,85 @@
+package com.github.yun531.climate.shared.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryCodecTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 22, 5, 0);
+
+    @Test
+    @DisplayName("varint / signed / nullable / string 왕복")
+    void primitives_roundTrip() {
+        BinaryWriter out = new BinaryWriter(4);
+        out.writeVarint(0).writeVarint(127).writeVarint(128).writeVarint(Long.MAX_VALUE);
+        out.writeSignedVarint(-1).writeSignedVarint(Long.MIN_VALUE);
+        out.writeNullableInt(null).writeNullableInt(-40).writeNullableInt(Integer.MAX_VALUE);
+        out.writeString(null).writeString("").writeString("서울 11B10101");
+
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertThat(in.readVarint()).isZero();
+        assertThat(in.readVarint()).isEqualTo(127);
+        assertThat(in.readVarint()).isEqualTo(128);
+        assertThat(in.readVarint()).isEqualTo(Long.MAX_VALUE);
+        assertThat(in.readSignedVarint()).isEqualTo(-1);
+        assertThat(in.readSignedVarint()).isEqualTo(Long.MIN_VALUE);
+        assertThat(in.readNullableInt()).isNull();
+        assertThat(in.readNullableInt()).isEqualTo(-40);
+        assertThat(in.readNullableInt()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(in.readString()).isNull();
+        assertThat(in.readString()).isEmpty();
+        assertThat(in.readString()).isEqualTo("서울 11B10101");
+        assertThat(in.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시각 delta: 정시 간격은 1바이트, 초 단위/음수/null 도 왕복")
+    void time_deltaRoundTrip() {
+        BinaryWriter hourly = new BinaryWriter();
+        hourly.writeTime(T0, T0.plusHours(1));
+        assertThat(hourly.size()).isEqualTo(1);
+
+        BinaryWriter out = new BinaryWriter();
+        out.writeTime(null, T0);
+        out.writeTime(T0, T0.minusHours(3));
+        out.writeTime(T0, T0.plusSeconds(90));
+        out.writeTime(T0, null);
+
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertThat(in.readTime(null)).isEqualTo(T0);
+        assertThat(in.readTime(T0)).isEqualTo(T0.minusHours(3));
+        assertThat(in.readTime(T0)).isEqualTo(T0.plusSeconds(90));
+        assertThat(in.readTime(T0)).isNull();
+    }
+
+    @Test
+    @DisplayName("POP 은 1바이트, null 은 0xFF, 범위 밖은 예외")
+    void pop_singleByte() {
+        BinaryWriter out = new BinaryWriter().writePop(0).writePop(100).writePop(null);
+
+        assertThat(out.size()).isEqualTo(3);
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertThat(in.readPop()).isZero();
+        assertThat(in.readPop()).isEqualTo(100);
+        assertThat(in.readPop()).isNull();
+        assertThatThrownBy(() -> new BinaryWriter().writePop(255)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BinaryWriter().writePop(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 입력 -> IllegalArgumentException")
+    void truncated_throws() {
+        byte[] data = new BinaryWriter().writeString("abcdef").toByteArray();
+        byte[] truncated = Arrays.copyOf(data, 3);
+
+        assertThatThrownBy(() -> new BinaryReader(truncated).readString()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BinaryReader(new byte[]{(byte) 0x80}).readVarint())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
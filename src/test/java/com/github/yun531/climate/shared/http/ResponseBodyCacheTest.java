@@ -0,0 +1,135 @@
+package com.github.yun531.climate.shared.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("같은 key/version -> 직렬화 1회, 같은 바이트 재사용")
+    void sameVersion_serializesOnce() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseBodyCache.CachedBody first = cache.getOrSerialize("k", "v1", () -> {
+            loads.incrementAndGet();
+            return Map.of("a", 1);
+        });
+        ResponseBodyCache.CachedBody second = cache.getOrSerialize("k", "v1", () -> {
+            loads.incrementAndGet();
+            return Map.of("a", 1);
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("version 변경 -> 재직렬화")
+    void versionChanged_reserializes() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 0);
+
+        cache.getOrSerialize("k", "v1", () -> List.of(1));
+        ResponseBodyCache.CachedBody body = cache.getOrSerialize("k", "v2", () -> List.of(2));
+
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).isEqualTo("[2]");
+        assertThat(body.version()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("version null 또는 비활성 -> 저장하지 않음")
+    void nullVersionOrDisabled_notStored() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 0);
+        ResponseBodyCache disabled = new ResponseBodyCache(objectMapper, false, 100, 0);
+
+        cache.getOrSerialize("k", null, () -> List.of(1));
+        disabled.getOrSerialize("k", "v1", () -> List.of(1));
+
+        assertThat(cache.size()).isZero();
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("viewLoader null -> null, 엔트리 없음")
+    void nullView_returnsNull() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 0);
+
+        assertThat(cache.getOrSerialize("k", "v1", () -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxEntries 초과 -> 엔트리 수 유지")
+    void overMaxEntries_evicts() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 2, 0);
+
+        for (int i = 0; i < 5; i++) cache.getOrSerialize("k" + i, "v", () -> List.of(1));
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzipMinBytes 이상 + Accept-Encoding gzip -> 압축본 + Content-Encoding")
+    void gzip_servedWhenAccepted() throws IOException {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 16);
+        ResponseBodyCache.CachedBody body = cache.getOrSerialize("k", "v", () -> "x".repeat(200));
+
+        ResponseEntity<byte[]> gzipped = body.write(ResponseEntity.ok(), "gzip, deflate");
+        ResponseEntity<byte[]> plain = body.write(ResponseEntity.ok(), null);
+
+        assertThat(gzipped.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(gzipped.getBody())).isEqualTo(body.json());
+        assertThat(plain.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(plain.getBody()).isEqualTo(body.json());
+    }
+
+    @Test
+    @DisplayName("gzip;q=0 -> 압축 거부로 보고 원본 전송")
+    void gzip_qZero_notServed() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 16);
+        ResponseBodyCache.CachedBody body = cache.getOrSerialize("k", "v", () -> "x".repeat(200));
+
+        ResponseEntity<byte[]> refused = body.write(ResponseEntity.ok(), "gzip;q=0, identity");
+        ResponseEntity<byte[]> wildcard = body.write(ResponseEntity.ok(), "*;q=0.5");
+
+        assertThat(refused.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(refused.getBody()).isEqualTo(body.json());
+        assertThat(wildcard.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("압축본과 원본은 서로 다른 ETag + Vary: Accept-Encoding")
+    void gzip_distinctETagPerEncoding() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper, true, 100, 16);
+        ResponseBodyCache.CachedBody body = cache.getOrSerialize("k", "v", () -> "x".repeat(200));
+
+        ResponseEntity<byte[]> gzipped = body.write(ResponseEntity.ok(), "gzip", "\"v1\"");
+        ResponseEntity<byte[]> plain = body.write(ResponseEntity.ok(), "identity", "\"v1\"");
+
+        assertThat(gzipped.getHeaders().getETag()).isEqualTo("\"v1-gz\"");
+        assertThat(plain.getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(gzipped.getHeaders().getVary()).containsExactly("Accept-Encoding");
+        assertThat(plain.getHeaders().getVary()).containsExactly("Accept-Encoding");
+    }
+
+    private static byte[] gunzip(byte[] src) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(src))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.yun531.climate.shared.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncPermitsTest {
+
+    @Test
+    @DisplayName("permit 이 없으면 대기열에 넣고 즉시 반환, 앞선 작업 완료 시 순서대로 시작한다")
+    void queuesWithoutBlocking_startsInOrder() {
+        AsyncPermits permits = new AsyncPermits(1, Runnable::run);
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        List<String> started = new ArrayList<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (String name : List.of("a", "b", "c")) {
+            results.add(permits.submit(() -> {
+                started.add(name);
+                CompletableFuture<String> f = new CompletableFuture<>();
+                running.add(f);
+                return f;
+            }));
+        }
+
+        assertThat(started).containsExactly("a");
+        assertThat(permits.queued()).isEqualTo(2);
+
+        running.get(0).complete("A");
+        assertThat(results.get(0)).isCompletedWithValue("A");
+        assertThat(started).containsExactly("a", "b");
+
+        running.get(1).completeExceptionally(new IllegalStateException("boom"));
+        assertThat(results.get(1)).isCompletedExceptionally();
+        assertThat(started).containsExactly("a", "b", "c");
+        assertThat(permits.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 예외를 던져도 permit 을 반환한다")
+    void taskThrows_releasesPermit() {
+        AsyncPermits permits = new AsyncPermits(1, Runnable::run);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> failed = permits.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = permits.submit(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue("ok");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.yun531.climate.shared.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-22T05:00:00Z");
+
+    private MutableClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(T0);
+        breaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 threshold 미만이면 CLOSED 유지")
+    void belowThreshold_staysClosed() {
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공이 끼면 연속 실패 카운트가 초기화된다")
+    void successResetsFailures() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("threshold 도달 시 OPEN -> 호출 차단")
+    void reachThreshold_opens() {
+        tripOpen();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("openDuration 경과 후 시험 호출 1건만 허용 (HALF_OPEN)")
+    void afterOpenDuration_singleTrial() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 성공 -> CLOSED")
+    void halfOpenSuccess_closes() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(31));
+        breaker.tryAcquire();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 실패 -> 즉시 OPEN")
+    void halfOpenFailure_reopens() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(31));
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("failureThreshold <= 0 이면 IllegalArgumentException")
+    void invalidThreshold_throws() {
+        assertThatThrownBy(() -> new CircuitBreaker(0, Duration.ofSeconds(1), clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void tripOpen() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) { this.instant = instant; }
+
+        void advance(Duration d) { instant = instant.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneId.of("UTC"); }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return instant; }
+    }
+}
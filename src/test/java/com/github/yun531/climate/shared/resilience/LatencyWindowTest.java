@@ -0,0 +1,41 @@
+package com.github.yun531.climate.shared.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyWindowTest {
+
+    @Test
+    @DisplayName("샘플이 minSamples 미만이면 -1")
+    void insufficientSamples() {
+        LatencyWindow window = new LatencyWindow(10);
+        window.record(100);
+
+        assertThat(window.percentile(0.95, 2)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("1..100ms 샘플의 p95 = 95ms, p50 = 50ms")
+    void percentile() {
+        LatencyWindow window = new LatencyWindow(100);
+        for (int i = 1; i <= 100; i++) window.record(i);
+
+        assertThat(window.percentile(0.95, 1)).isEqualTo(95);
+        assertThat(window.percentile(0.50, 1)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 오래된 샘플부터 덮어쓴다")
+    void ringBufferOverwritesOldest() {
+        LatencyWindow window = new LatencyWindow(3);
+        window.record(1000);
+        window.record(1);
+        window.record(2);
+        window.record(3);   // 1000 덮어씀
+
+        assertThat(window.count()).isEqualTo(3);
+        assertThat(window.percentile(1.0, 1)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.yun531.climate.shared.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("초당 100건 -> 100건 예약 후 다음 예약은 1초 대기")
+    void reservesEvenlySpaced() {
+        AtomicLong now = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(100, now::get);
+
+        assertThat(limiter.reserve(100)).isZero();
+        assertThat(limiter.reserve(50)).isEqualTo(SECOND);
+        assertThat(limiter.reserve(1)).isEqualTo(SECOND + SECOND / 2);
+    }
+
+    @Test
+    @DisplayName("시간이 지나 예약이 비면 대기 없음")
+    void idle_noWait() {
+        AtomicLong now = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(10, now::get);
+
+        limiter.reserve(10);
+        now.addAndGet(5 * SECOND);
+
+        assertThat(limiter.reserve(10)).isZero();
+    }
+
+    @Test
+    @DisplayName("0 이하 -> 제한 없음")
+    void unlimited() {
+        RateLimiter limiter = new RateLimiter(0);
+
+        assertThat(limiter.isUnlimited()).isTrue();
+        assertThat(limiter.reserve(1_000_000)).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcSchedulerLockTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-22T08:05:00Z");
+    private static final Duration HOLD = Duration.ofMinutes(30);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(T0);
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:scheduler_lock_test;DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", ""));
+        jdbc.execute("DROP TABLE IF EXISTS scheduler_lock");
+        jdbc.execute("""
+                CREATE TABLE scheduler_lock (
+                    lock_name     VARCHAR(64)   NOT NULL PRIMARY KEY,
+                    locked_until  TIMESTAMP     NOT NULL,
+                    locked_at     TIMESTAMP     NOT NULL,
+                    locked_by     VARCHAR(255)  NOT NULL
+                )""");
+        now.set(T0);
+    }
+
+    @Test
+    @DisplayName("첫 획득 성공, 유지 시간 안에서는 다른 인스턴스 획득 실패")
+    void heldLock_blocksOtherInstance() {
+        assertThat(lock("node-a").tryAcquire("trigger.hourly", HOLD)).isTrue();
+        assertThat(lock("node-b").tryAcquire("trigger.hourly", HOLD)).isFalse();
+        assertThat(lockedBy("trigger.hourly")).isEqualTo("node-a");
+    }
+
+    @Test
+    @DisplayName("유지 시간 경과 -> 다른 인스턴스가 가져감")
+    void expiredLock_canBeTakenOver() {
+        lock("node-a").tryAcquire("trigger.hourly", HOLD);
+
+        now.set(T0.plus(HOLD));
+
+        assertThat(lock("node-b").tryAcquire("trigger.hourly", HOLD)).isTrue();
+        assertThat(lockedBy("trigger.hourly")).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("락 이름이 다르면 독립")
+    void differentNames_independent() {
+        assertThat(lock("node-a").tryAcquire("trigger.hourly", HOLD)).isTrue();
+        assertThat(lock("node-b").tryAcquire("trigger.daily", HOLD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("release -> 유지 시간 전이라도 다른 인스턴스가 바로 획득")
+    void release_letsOtherInstanceAcquire() {
+        lock("node-a").tryAcquire("fcm.outbox", HOLD);
+
+        lock("node-a").release("fcm.outbox");
+
+        assertThat(lock("node-b").tryAcquire("fcm.outbox", HOLD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 release -> 소유자 잠금 유지")
+    void releaseByOtherInstance_ignored() {
+        lock("node-a").tryAcquire("fcm.outbox", HOLD);
+
+        lock("node-b").release("fcm.outbox");
+
+        assertThat(lock("node-b").tryAcquire("fcm.outbox", HOLD)).isFalse();
+        assertThat(lockedBy("fcm.outbox")).isEqualTo("node-a");
+    }
+
+    private JdbcSchedulerLock lock(String instanceId) {
+        Clock clock = new Clock() {
+            @Override public ZoneId getZone() { return ZoneId.of("UTC"); }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return now.get(); }
+        };
+        return new JdbcSchedulerLock(jdbc, clock, instanceId);
+    }
+
+    private String lockedBy(String name) {
+        return jdbc.queryForObject("SELECT locked_by FROM scheduler_lock WHERE lock_name = ?", String.class, name);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.yun531.climate.shared.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegionPartitionerTest {
+
+    private static final List<String> REGIONS =
+            IntStream.range(0, 200).mapToObj(i -> "R" + i).toList();
+
+    @Test
+    @DisplayName("노드별 분할의 합집합 = 전체, 서로 겹치지 않음")
+    void partitions_coverAllWithoutOverlap() {
+        List<String> merged = new ArrayList<>();
+        for (int i = 0; i < 3; i++) merged.addAll(new RegionPartitioner(i, 3).partition(REGIONS));
+
+        assertThat(merged).hasSize(REGIONS.size()).containsExactlyInAnyOrderElementsOf(REGIONS);
+    }
+
+    @Test
+    @DisplayName("단일 노드 -> 전체 담당")
+    void single_ownsAll() {
+        assertThat(RegionPartitioner.single().partition(REGIONS)).isEqualTo(REGIONS);
+    }
+
+    @Test
+    @DisplayName("nodeIndex 범위 밖 -> 예외")
+    void invalidIndex_throws() {
+        assertThatThrownBy(() -> new RegionPartitioner(3, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RegionPartitioner(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
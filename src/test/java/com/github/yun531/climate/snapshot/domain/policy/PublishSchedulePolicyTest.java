@@ -81,6 +81,29 @@ class PublishSchedulePolicyTest {
         }
     }
 
+    @Nested
+    @DisplayName("nextAvailableTime")
+    class NextAvailableTime {
+
+        @Test
+        @DisplayName("05:15 -> 다음 발표 08:00 + 10분")
+        void after0510_returns0810() {
+            LocalDateTime now = LocalDateTime.of(2026, 1, 22, 5, 15);
+
+            assertThat(policy.nextAvailableTime(now))
+                    .isEqualTo(LocalDateTime.of(2026, 1, 22, 8, 10));
+        }
+
+        @Test
+        @DisplayName("23:30 -> 다음날 02:10")
+        void at2330_returnsNextDay0210() {
+            LocalDateTime now = LocalDateTime.of(2026, 1, 22, 23, 30);
+
+            assertThat(policy.nextAvailableTime(now))
+                    .isEqualTo(LocalDateTime.of(2026, 1, 23, 2, 10));
+        }
+    }
+
     @Nested
     @DisplayName("isAccessible")
     class IsAccessible {
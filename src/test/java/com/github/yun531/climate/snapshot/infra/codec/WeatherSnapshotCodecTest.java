@@ -0,0 +1,55 @@
+package com.github.yun531.climate.snapshot.infra.codec;
+
+import com.github.yun531.climate.snapshot.domain.readmodel.DailyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherSnapshotCodecTest {
+
+    private static final LocalDateTime ANNOUNCE = LocalDateTime.of(2026, 1, 22, 5, 0);
+
+    private final WeatherSnapshotCodec codec = new WeatherSnapshotCodec();
+
+    @Test
+    @DisplayName("encode -> decode 왕복 시 동일 스냅샷 (null 필드 포함)")
+    void roundTrip() {
+        WeatherSnapshot snapshot = new WeatherSnapshot("11B10101", ANNOUNCE,
+                List.of(new HourlyPoint(ANNOUNCE.plusHours(1), -3, 60),
+                        new HourlyPoint(ANNOUNCE.plusHours(2), null, 0)),
+                List.of(new DailyPoint(0, -5, 2, 30, null),
+                        new DailyPoint(1, null, null, null, null)));
+
+        assertThat(codec.decode(codec.encode(snapshot))).isEqualTo(snapshot);
+    }
+
+    @Test
+    @DisplayName("빈 시계열 / announceTime null 도 왕복")
+    void roundTrip_emptyAndNullTime() {
+        WeatherSnapshot snapshot = new WeatherSnapshot("R1", null, List.of(), List.of());
+
+        assertThat(codec.decode(codec.encode(snapshot))).isEqualTo(snapshot);
+    }
+
+    @Test
+    @DisplayName("미지원 버전 / 잘린 데이터 -> IllegalArgumentException")
+    void corruptedData_throws() {
+        byte[] encoded = codec.encode(new WeatherSnapshot("R1", ANNOUNCE,
+                List.of(new HourlyPoint(ANNOUNCE, 1, 2)), List.of()));
+
+        byte[] wrongVersion = encoded.clone();
+        wrongVersion[0] = 99;
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+        assertThatThrownBy(() -> codec.decode(wrongVersion)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
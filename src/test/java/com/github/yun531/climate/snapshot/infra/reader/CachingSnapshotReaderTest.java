@@ -1,17 +1,28 @@
 package com.github.yun531.climate.snapshot.infra.reader;
 
 import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
+import com.github.yun531.climate.shared.cache.InMemoryRemoteCache;
+import com.github.yun531.climate.snapshot.domain.model.SnapKind;
 import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
 import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+import com.github.yun531.climate.snapshot.infra.codec.WeatherSnapshotCodec;
 import com.github.yun531.climate.snapshot.infra.config.SnapshotCacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +35,8 @@ class CachingSnapshotReaderTest {
 
     private static final SnapshotCacheProperties CACHE_PROPS =
             new SnapshotCacheProperties(180, 165);
+    private static final SnapshotCacheProperties STALE_PROPS =
+            new SnapshotCacheProperties(180, 165, true, 60, 30, 300);
     private static final PublishSchedulePolicy PUBLISH_SCHEDULE =
             new PublishSchedulePolicy(10);
 
@@ -118,8 +131,286 @@ class CachingSnapshotReaderTest {
         assertThat(fetchCount.get()).isEqualTo(1);
     }
 
+    // --- 일괄 조회 ---
+
+    @Test
+    @DisplayName("loadCurrentAll — 캐시 미스 지역만 doFetchAll 1회로 조회, 히트 지역은 재조회 없음")
+    void loadCurrentAll_fetchesMissesInOneBatch() {
+        AtomicInteger batchCalls = new AtomicInteger();
+        List<String> batchRegions = new ArrayList<>();
+        CachingSnapshotReader batchReader = new CachingSnapshotReader(CACHE_PROPS, PUBLISH_SCHEDULE, FIXED_CLOCK) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                return new CacheEntry<>(
+                        new WeatherSnapshot(key.regionId(), announceTime, List.of(), List.of()), announceTime);
+            }
+
+            @Override
+            protected Map<String, CacheEntry<WeatherSnapshot>> doFetchAll(
+                    List<SnapshotKey> keys, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                batchCalls.incrementAndGet();
+                keys.forEach(k -> batchRegions.add(k.regionId()));
+                return Map.of("R2", new CacheEntry<>(
+                        new WeatherSnapshot("R2", announceTime, List.of(), List.of()), announceTime));
+            }
+        };
+        batchReader.loadCurrent("R1");                             // 캐시 적재 (doFetch 1회)
+
+        Map<String, WeatherSnapshot> result = batchReader.loadCurrentAll(List.of("R1", "R2", "R3"));
+
+        assertThat(batchCalls.get()).isEqualTo(1);
+        assertThat(batchRegions).containsExactly("R2", "R3");
+        assertThat(result).containsOnlyKeys("R1", "R2", "R3");        // R3 는 단건 경로로 조회
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    // --- stale-on-miss ---
+
+    @Test
+    @DisplayName("staleOnMiss: 새 발표시각 미도착 -> 직전 스냅샷 반환, 백오프 구간 내 재조회 없음")
+    void staleOnMiss_servesPreviousSnapshotWithinBackoff() {
+        LocalDateTime prevAnnounce = LocalDateTime.of(2026, 1, 22, 2, 0);
+        QueuedExecutor executor = new QueuedExecutor();
+        CachingSnapshotReader staleReader = staleReaderWith(executor, (key, now, announceTime) ->
+                new CacheEntry<>(new WeatherSnapshot(key.regionId(), prevAnnounce, List.of(), List.of()), prevAnnounce));
+
+        WeatherSnapshot first = staleReader.loadCurrent("11B10101");
+        WeatherSnapshot second = staleReader.loadCurrent("11B10101");
+
+        assertThat(first).isNotNull();
+        assertThat(first.announceTime()).isEqualTo(prevAnnounce);
+        assertThat(second).isSameAs(first);
+        assertThat(fetchCount.get()).isEqualTo(1);
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("staleOnMiss: 백오프 경과 후 백그라운드 재조회 1건 -> 성공 시 새 스냅샷으로 교체")
+    void staleOnMiss_backgroundRetryReplacesSnapshot() {
+        LocalDateTime prevAnnounce = LocalDateTime.of(2026, 1, 22, 2, 0);
+        AtomicInteger call = new AtomicInteger();
+        QueuedExecutor executor = new QueuedExecutor();
+        MutableClock clock = new MutableClock(NOW);
+        CachingSnapshotReader staleReader = new CachingSnapshotReader(STALE_PROPS, PUBLISH_SCHEDULE, clock, executor) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                LocalDateTime t = (call.incrementAndGet() == 1) ? prevAnnounce : announceTime;
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), t, List.of(), List.of()), t);
+            }
+        };
+
+        staleReader.loadCurrent("11B10101");                 // 미도착 -> stale 반환
+        clock.plusSeconds(60);
+        WeatherSnapshot during = staleReader.loadCurrent("11B10101");   // 재조회 예약, 응답은 stale
+        staleReader.loadCurrent("11B10101");                 // 진행 중 -> 중복 예약 없음
+
+        assertThat(during.announceTime()).isEqualTo(prevAnnounce);
+        assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+        WeatherSnapshot after = staleReader.loadCurrent("11B10101");
+
+        assertThat(after.announceTime()).isEqualTo(LocalDateTime.of(2026, 1, 22, 5, 0));
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("staleOnMiss: grace 구간이 지나면 stale 대신 조회 결과 그대로 반환")
+    void staleOnMiss_afterGrace_returnsFetchResult() {
+        MutableClock clock = new MutableClock(NOW);
+        AtomicInteger call = new AtomicInteger();
+        CachingSnapshotReader staleReader = new CachingSnapshotReader(
+                new SnapshotCacheProperties(180, 165, true, 30, 1, 60), PUBLISH_SCHEDULE, clock, new QueuedExecutor()) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                if (call.incrementAndGet() > 1) return null;
+                LocalDateTime prev = announceTime.minusHours(3);
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), prev, List.of(), List.of()), prev);
+            }
+        };
+
+        assertThat(staleReader.loadCurrent("11B10101")).isNotNull();
+        clock.plusSeconds(30 * 60);                           // 05:45 > 05:00 + 30분
+
+        assertThat(staleReader.loadCurrent("11B10101")).isNull();
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("staleOnMiss: grace 가 지나도 백오프 시점 전에는 원천을 다시 조회하지 않는다")
+    void staleOnMiss_afterGrace_keepsSingleFlight() {
+        MutableClock clock = new MutableClock(NOW);
+        CachingSnapshotReader staleReader = new CachingSnapshotReader(
+                new SnapshotCacheProperties(180, 165, true, 30, 60, 600), PUBLISH_SCHEDULE, clock, new QueuedExecutor()) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                LocalDateTime prev = announceTime.minusHours(3);
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), prev, List.of(), List.of()), prev);
+            }
+        };
+        staleReader.loadCurrent("11B10101");                 // 미도착 -> 첫 재조회는 60초 뒤
+        clock.plusSeconds(30 * 60);                           // grace 만료, 재조회 시점 경과
+
+        staleReader.loadCurrent("11B10101");                 // 원천 1건 -> 다음 재조회는 60초 뒤
+        for (int i = 0; i < 5; i++) staleReader.loadCurrent("11B10101");
+        assertThat(fetchCount.get()).isEqualTo(2);
+
+        clock.plusSeconds(60);                                // 첫 백오프 간격은 initial 그대로
+        staleReader.loadCurrent("11B10101");
+        clock.plusSeconds(60);                                // 두 번째 간격은 2배 -> 아직 대기
+        staleReader.loadCurrent("11B10101");
+
+        assertThat(fetchCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("staleOnMiss: grace 직후 백오프 시점 전이면 grace 중 유지하던 스냅샷 대신 null, 원천도 조회하지 않는다")
+    void staleOnMiss_justAfterGrace_betweenRetries_returnsNull() {
+        MutableClock clock = new MutableClock(NOW);
+        CachingSnapshotReader staleReader = new CachingSnapshotReader(
+                new SnapshotCacheProperties(180, 165, true, 15, 1200, 3600), PUBLISH_SCHEDULE, clock, new QueuedExecutor()) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                LocalDateTime prev = announceTime.minusHours(3);
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), prev, List.of(), List.of()), prev);
+            }
+        };
+
+        assertThat(staleReader.loadCurrent("11B10101")).isNotNull();     // 05:15 grace 내 stale, 재조회는 05:35
+        clock.plusSeconds(60);                                           // 05:16 > 05:00 + 15분
+
+        assertThat(staleReader.loadCurrent("11B10101")).isNull();
+        assertThat(staleReader.loadCurrent("11B10101")).isNull();
+        assertThat(fetchCount.get()).isEqualTo(1);
+
+        clock.plusSeconds(19 * 60);                                      // 05:35 재조회 시점
+        WeatherSnapshot fetched = staleReader.loadCurrent("11B10101");  // grace 이후 원천 결과 그대로
+        assertThat(fetchCount.get()).isEqualTo(2);
+
+        assertThat(staleReader.loadCurrent("11B10101")).isSameAs(fetched);
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    // --- 무효화 버스 ---
+
+    @Test
+    @DisplayName("invalidate(kind, announceTime) -> 해당 발표분 엔트리만 제거, 다른 kind 유지")
+    void invalidate_matchingKindAndAnnounceTime_removesOnlyThatEntry() {
+        LocalDateTime announceTime = reader.loadCurrent("11B10101").announceTime();
+        reader.loadPrevious("11B10101");
+
+        int removed = reader.invalidate(new CacheInvalidation("11B10101", "CURRENT", announceTime));
+        reader.loadCurrent("11B10101");
+        reader.loadPrevious("11B10101");
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(fetchCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("invalidate — 캐시된 스냅샷이 지정 발표시각보다 최신이면 유지")
+    void invalidate_newerCachedSnapshot_kept() {
+        LocalDateTime announceTime = reader.loadCurrent("11B10101").announceTime();
+
+        int removed = reader.invalidate(new CacheInvalidation("11B10101", null, announceTime.minusHours(3)));
+        reader.loadCurrent("11B10101");
+
+        assertThat(removed).isZero();
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    // --- L2 (RemoteCache) ---
+
+    @Test
+    @DisplayName("L2 공유 시 두 번째 인스턴스는 원천 조회 없이 L2 에서 적재")
+    void remoteTier_secondReplicaWarmsFromPeer() {
+        SnapshotRemoteTier tier = new SnapshotRemoteTier(
+                new InMemoryRemoteCache(FIXED_CLOCK), new WeatherSnapshotCodec(), Duration.ofHours(3));
+        CachingSnapshotReader first = remoteReaderWith(tier);
+        CachingSnapshotReader second = remoteReaderWith(tier);
+
+        WeatherSnapshot fetched = first.loadCurrent("11B10101");
+        WeatherSnapshot fromPeer = second.loadCurrent("11B10101");
+        Map<String, WeatherSnapshot> batch = second.loadCurrentAll(List.of("11B10101"));
+
+        assertThat(fromPeer).isEqualTo(fetched);
+        assertThat(batch).containsEntry("11B10101", fetched);
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidateRegion -> L2 현재 발표분도 제거되어 다음 인스턴스는 원천 재조회")
+    void remoteTier_invalidateEvictsRemote() {
+        SnapshotRemoteTier tier = new SnapshotRemoteTier(
+                new InMemoryRemoteCache(FIXED_CLOCK), new WeatherSnapshotCodec(), Duration.ofHours(3));
+        CachingSnapshotReader first = remoteReaderWith(tier);
+
+        first.loadCurrent("11B10101");
+        first.invalidateRegion("11B10101");
+        remoteReaderWith(tier).loadCurrent("11B10101");
+
+        assertThat(fetchCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L2 를 공유해도 캐시 이름(reader 구현체)이 다르면 엔트리를 재사용하지 않음")
+    void remoteTier_namespacedByCacheName() {
+        InMemoryRemoteCache remote = new InMemoryRemoteCache(FIXED_CLOCK);
+        SnapshotRemoteTier tier = new SnapshotRemoteTier(remote, new WeatherSnapshotCodec(), Duration.ofHours(3));
+
+        class DbReader extends CachingSnapshotReader {
+            DbReader() { super(CACHE_PROPS, PUBLISH_SCHEDULE, FIXED_CLOCK, tier); }
+
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), announceTime, List.of(), List.of()), announceTime);
+            }
+        }
+        class ApiReader extends DbReader {}
+
+        new DbReader().loadCurrent("11B10101");
+        new ApiReader().loadCurrent("11B10101");
+
+        assertThat(fetchCount.get()).isEqualTo(2);
+        assertThat(remote.size()).isEqualTo(2);
+        assertThat(SnapshotRemoteTier.remoteKey("snapshot.DbReader", SnapshotKey.of("11B10101", SnapKind.CURRENT),
+                LocalDateTime.of(2026, 1, 22, 5, 0)))
+                .startsWith("snapshot.DbReader:11B10101:");
+    }
+
     // --- 헬퍼 ---
 
+    private CachingSnapshotReader remoteReaderWith(SnapshotRemoteTier tier) {
+        return new CachingSnapshotReader(CACHE_PROPS, PUBLISH_SCHEDULE, FIXED_CLOCK, tier) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                return new CacheEntry<>(new WeatherSnapshot(key.regionId(), announceTime, List.of(), List.of()), announceTime);
+            }
+        };
+    }
+
     private CachingSnapshotReader readerWith(DoFetchLambda doFetch) {
         return new CachingSnapshotReader(CACHE_PROPS, PUBLISH_SCHEDULE, FIXED_CLOCK) {
             @Override
@@ -132,6 +423,59 @@ class CachingSnapshotReaderTest {
         };
     }
 
+    private CachingSnapshotReader staleReaderWith(Executor executor, DoFetchLambda doFetch) {
+        return new CachingSnapshotReader(STALE_PROPS, PUBLISH_SCHEDULE, FIXED_CLOCK, executor) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                fetchCount.incrementAndGet();
+                return doFetch.fetch(key, now, announceTime);
+            }
+        };
+    }
+
+    /** 제출된 작업을 runAll 호출 시점까지 보관하는 Executor */
+    private static final class QueuedExecutor implements Executor {
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) tasks.poll().run();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime at) {
+            this.instant = at.atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        void plusSeconds(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
     @FunctionalInterface
     private interface DoFetchLambda {
         CacheEntry<WeatherSnapshot> fetch(
@@ -9,6 +9,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -82,4 +85,15 @@ class JpaSnapshotReaderIntegrationTest {
         assertThat(snap.hourly().get(0).pop()).isEqualTo(40);
         assertThat(snap.hourly().get(3).pop()).isEqualTo(80);
     }
+
+    @Test
+    @DisplayName("loadCurrentAll -> IN 쿼리 일괄 조회, 없는 지역 제외 + 입력 순서 유지")
+    void loadCurrentAll_batch() {
+        Map<String, WeatherSnapshot> result =
+                reader.loadCurrentAll(List.of("11B20201", "99999999", "11B10101"));
+
+        assertThat(result).containsOnlyKeys("11B20201", "11B10101");
+        assertThat(result.keySet()).containsExactly("11B20201", "11B10101");
+        assertThat(result.get("11B10101").hourly()).hasSize(26);
+    }
 }
@@ -0,0 +1,150 @@
+package com.github.yun531.climate.snapshot.infra.reader;
+
+import com.github.yun531.climate.forecast.application.ForecastService;
+import com.github.yun531.climate.forecast.domain.adjust.ForecastWindowAdjuster;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyPoint;
+import com.github.yun531.climate.forecast.domain.readmodel.ForecastHourlyView;
+import com.github.yun531.climate.forecast.infra.ForecastViewMapper;
+import com.github.yun531.climate.forecast.infra.SnapshotForecastViewReader;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsCommand;
+import com.github.yun531.climate.notification.application.alert.GenerateAlertsService;
+import com.github.yun531.climate.notification.application.alert.PrecomputedAlertTable;
+import com.github.yun531.climate.notification.domain.adjust.RainForecastAdjuster;
+import com.github.yun531.climate.notification.domain.adjust.RainOnsetAdjuster;
+import com.github.yun531.climate.notification.domain.detect.RainForecastDetector;
+import com.github.yun531.climate.notification.domain.detect.RainOnsetDetector;
+import com.github.yun531.climate.notification.domain.detect.RainTierPolicy;
+import com.github.yun531.climate.notification.domain.detect.TieredRainDetector;
+import com.github.yun531.climate.notification.domain.detect.WarningIssuedDetector;
+import com.github.yun531.climate.notification.domain.model.AlertEvent;
+import com.github.yun531.climate.notification.domain.model.AlertTypeEnum;
+import com.github.yun531.climate.notification.domain.model.RainTier;
+import com.github.yun531.climate.notification.infra.alert.PopViewMapper;
+import com.github.yun531.climate.notification.infra.alert.SnapshotPopViewReader;
+import com.github.yun531.climate.shared.cache.CacheEntry;
+import com.github.yun531.climate.shared.cache.CacheInvalidation;
+import com.github.yun531.climate.shared.cache.LocalCacheInvalidationBus;
+import com.github.yun531.climate.snapshot.domain.model.SnapKind;
+import com.github.yun531.climate.snapshot.domain.policy.PublishSchedulePolicy;
+import com.github.yun531.climate.snapshot.domain.readmodel.DailyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.HourlyPoint;
+import com.github.yun531.climate.snapshot.domain.readmodel.WeatherSnapshot;
+import com.github.yun531.climate.snapshot.infra.config.SnapshotCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 발표시각의 스냅샷이 정정된 뒤 무효화되면, 스냅샷 위의 파생 캐시(시프트 윈도우, ETag,
+ * 사전 계산 테이블, 단계 분류, onset 델타)도 정정된 내용을 반영하는지 확인한다.
+ */
+class SnapshotCorrectionInvalidationTest {
+
+    private static final String REGION = "11B10101";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 22, 5, 15);
+    private static final LocalDateTime CURRENT_AT = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final LocalDateTime PREVIOUS_AT = LocalDateTime.of(2026, 1, 22, 2, 0);
+    private static final Clock FIXED_CLOCK = Clock.fixed(
+            NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    private static final PublishSchedulePolicy PUBLISH_SCHEDULE = new PublishSchedulePolicy(10);
+
+    private volatile WeatherSnapshot current;
+    private WeatherSnapshot previous;
+
+    private LocalCacheInvalidationBus bus;
+    private ForecastService forecastService;
+    private GenerateAlertsService alertsService;
+    private PrecomputedAlertTable table;
+
+    @BeforeEach
+    void setUp() {
+        current = snapshot(CURRENT_AT, 10);
+        previous = snapshot(PREVIOUS_AT, 10);
+
+        CachingSnapshotReader reader = new CachingSnapshotReader(
+                new SnapshotCacheProperties(180, 165), PUBLISH_SCHEDULE, FIXED_CLOCK) {
+            @Override
+            protected CacheEntry<WeatherSnapshot> doFetch(
+                    SnapshotKey key, LocalDateTime now, LocalDateTime announceTime
+            ) {
+                WeatherSnapshot snap = (key.kind() == SnapKind.CURRENT) ? current : previous;
+                return new CacheEntry<>(snap, snap.announceTime());
+            }
+        };
+        bus = new LocalCacheInvalidationBus(List.of(reader));
+
+        forecastService = new ForecastService(
+                new SnapshotForecastViewReader(reader, new ForecastViewMapper(), PUBLISH_SCHEDULE),
+                new ForecastWindowAdjuster(2, 24), FIXED_CLOCK, 3);
+
+        table = new PrecomputedAlertTable();
+        alertsService = new GenerateAlertsService(
+                new SnapshotPopViewReader(reader, new PopViewMapper()),
+                regionId -> Map.of(),
+                new RainOnsetDetector(60, 26), new RainForecastDetector(60, 26), new WarningIssuedDetector(),
+                new RainOnsetAdjuster(24, 1), new RainForecastAdjuster(2, 24, 1),
+                3, 2, table, null, new TieredRainDetector(new RainTierPolicy(40, 60, 80), 26));
+    }
+
+    @Test
+    @DisplayName("같은 발표시각 정정 + 무효화 -> 예보 윈도우와 ETag 가 정정 내용으로 바뀜")
+    void correctedSnapshot_refreshesForecastAndETag() {
+        ForecastHourlyView before = forecastService.getHourlyForecast(REGION);
+        String etagBefore = forecastService.getHourlyVersion(REGION).etag();
+        assertThat(before.hourlyPoints()).extracting(ForecastHourlyPoint::pop).containsOnly(10);
+
+        correctCurrent(80);
+
+        ForecastHourlyView after = forecastService.getHourlyForecast(REGION);
+        assertThat(after.reportTime()).isEqualTo(before.reportTime());
+        assertThat(after.hourlyPoints()).extracting(ForecastHourlyPoint::pop).containsOnly(80);
+        assertThat(forecastService.getHourlyVersion(REGION).etag()).isNotEqualTo(etagBefore);
+    }
+
+    @Test
+    @DisplayName("같은 발표시각 정정 + 무효화 -> 사전 계산/단계 분류/onset 델타 대신 정정 내용으로 감지")
+    void correctedSnapshot_refreshesAlerts() {
+        var onset = new GenerateAlertsCommand(
+                List.of(REGION), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null);
+        var tieredOnset = new GenerateAlertsCommand(
+                List.of(REGION), null, EnumSet.of(AlertTypeEnum.RAIN_ONSET), null, null, RainTier.RAIN);
+
+        table.publish(new PrecomputedAlertTable.Snapshot(
+                NOW.withMinute(0), alertsService.precomputeAll(List.of(REGION), NOW), NOW));
+        String versionBefore = alertsService.responseVersion(onset);
+        assertThat(alertsService.generate(onset, NOW)).isEmpty();
+        assertThat(alertsService.generate(tieredOnset, NOW)).isEmpty();
+
+        correctCurrent(80);
+
+        List<AlertEvent> after = alertsService.generate(onset, NOW);
+        assertThat(after).isNotEmpty();
+        assertThat(after).allMatch(e -> e.type() == AlertTypeEnum.RAIN_ONSET);
+        assertThat(alertsService.generate(tieredOnset, NOW)).isNotEmpty();
+        assertThat(alertsService.responseVersion(onset)).isNotEqualTo(versionBefore);
+    }
+
+    /** 현재 발표분을 같은 발표시각으로 정정하고 무효화를 전파 */
+    private void correctCurrent(int pop) {
+        current = snapshot(CURRENT_AT, pop);
+        bus.publish(new CacheInvalidation(REGION, SnapKind.CURRENT.name(), CURRENT_AT));
+    }
+
+    private static WeatherSnapshot snapshot(LocalDateTime announceTime, int pop) {
+        List<HourlyPoint> hourly = new ArrayList<>();
+        for (int i = 1; i <= 26; i++) hourly.add(new HourlyPoint(announceTime.plusHours(i), 0, pop));
+        List<DailyPoint> daily = new ArrayList<>();
+        for (int d = 0; d < 7; d++) daily.add(new DailyPoint(d, -5, 5, pop, pop));
+        return new WeatherSnapshot(REGION, announceTime, hourly, daily);
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.yun531.climate.snapshot.infra.remote.snapshotapi.api;
+
+import com.github.yun531.climate.shared.resilience.CircuitBreaker;
+import com.github.yun531.climate.snapshot.infra.config.SnapshotApiResilienceProperties;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.DailyForecastResponse;
+import com.github.yun531.climate.snapshot.infra.remote.snapshotapi.dto.HourlyForecastResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResilientSnapshotApiClientTest {
+
+    private static final LocalDateTime ANNOUNCE = LocalDateTime.of(2026, 1, 22, 5, 0);
+    private static final Clock FIXED_CLOCK = Clock.fixed(
+            ANNOUNCE.plusMinutes(15).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private static final HourlyForecastResponse HOURLY =
+            new HourlyForecastResponse(ANNOUNCE, 60, 127, List.of());
+
+    private ResilientSnapshotApiClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) client.destroy();
+    }
+
+    @Test
+    @DisplayName("정상 응답은 그대로 전달된다")
+    void success_passesThrough() {
+        FakeDelegate delegate = new FakeDelegate(n -> HOURLY);
+        client = clientWith(delegate, props(3, 32, false, 20));
+
+        assertThat(client.fetchHourly("R1", ANNOUNCE)).isSameAs(HOURLY);
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷 OPEN -> upstream 미호출 + 마지막 정상 응답 반환")
+    void circuitOpen_servesLastGood() {
+        FakeDelegate delegate = new FakeDelegate(n -> (n == 1) ? HOURLY : unavailable());
+        client = clientWith(delegate, props(2, 32, false, 20));
+
+        client.fetchHourly("R1", ANNOUNCE);                 // 성공 -> lastGood 저장
+        client.fetchHourly("R1", ANNOUNCE);                 // 실패 1
+        client.fetchHourly("R1", ANNOUNCE);                 // 실패 2 -> OPEN
+        int callsWhenOpened = delegate.calls.get();
+
+        HourlyForecastResponse result = client.fetchHourly("R1", ANNOUNCE);
+
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result).isSameAs(HOURLY);
+        assertThat(delegate.calls.get()).isEqualTo(callsWhenOpened);
+    }
+
+    @Test
+    @DisplayName("서킷 OPEN + 다른 발표시각 요청 -> 이전 발표 응답으로 폴백하지 않는다")
+    void circuitOpen_otherAnnounce_noFallback() {
+        FakeDelegate delegate = new FakeDelegate(n -> (n == 1) ? HOURLY : unavailable());
+        client = clientWith(delegate, props(1, 32, false, 20));
+
+        client.fetchHourly("R1", ANNOUNCE);                 // 성공 -> (R1, ANNOUNCE) 저장
+        client.fetchHourly("R1", ANNOUNCE);                 // 실패 -> OPEN
+
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(client.fetchHourly("R1", ANNOUNCE.plusHours(3))).isNull();
+        assertThat(client.fetchHourly("R1", ANNOUNCE)).isSameAs(HOURLY);
+    }
+
+    @Test
+    @DisplayName("같은 발표시각의 '데이터 없음' 응답은 반복돼도 서킷을 열지 않는다")
+    void repeatedMisses_keepCircuitClosed() {
+        FakeDelegate delegate = new FakeDelegate(n -> null);
+        client = clientWith(delegate, props(2, 32, false, 20));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.fetchHourly("R1", ANNOUNCE)).isNull();
+        }
+
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(delegate.calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("호출자가 타임아웃으로 떠나도 delegate 가 반환할 때까지 슬롯을 유지한다")
+    void timedOutCall_keepsSlotUntilDelegateReturns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch returned = new CountDownLatch(1);
+        FakeDelegate delegate = new FakeDelegate(n -> {
+            if (n == 1) {
+                await(release);
+                returned.countDown();
+            }
+            return HOURLY;
+        });
+        client = new ResilientSnapshotApiClient(delegate, props(3, 1, false, 20), 100, FIXED_CLOCK);
+
+        assertThat(client.fetchHourly("R1", ANNOUNCE)).isNull();       // 타임아웃, delegate 는 계속 실행 중
+        assertThat(client.fetchHourly("R2", ANNOUNCE)).isNull();       // 슬롯 없음 -> 거절
+        assertThat(delegate.calls.get()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(returned.await(1, TimeUnit.SECONDS)).isTrue();
+        sleep(50);
+
+        assertThat(client.fetchHourly("R2", ANNOUNCE)).isSameAs(HOURLY);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서킷 OPEN + 마지막 정상 응답 없음 -> null")
+    void circuitOpen_noLastGood_returnsNull() {
+        FakeDelegate delegate = new FakeDelegate(n -> unavailable());
+        client = clientWith(delegate, props(1, 32, false, 20));
+
+        client.fetchHourly("R1", ANNOUNCE);
+
+        assertThat(client.fetchHourly("R1", ANNOUNCE)).isNull();
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("1차 호출이 백분위 지연을 넘기면 hedge 요청의 응답을 사용한다")
+    void slowPrimary_hedgedRequestWins() {
+        // 1~3번 호출: 빠른 응답(지연 샘플 축적), 4번: 느린 1차 호출, 5번: hedge
+        FakeDelegate delegate = new FakeDelegate(n -> {
+            if (n == 4) sleep(2_000);
+            return HOURLY;
+        });
+        client = clientWith(delegate, props(3, 32, true, 3));
+        for (int i = 0; i < 3; i++) client.fetchHourly("R1", ANNOUNCE);
+
+        long startedAt = System.nanoTime();
+        HourlyForecastResponse result = client.fetchHourly("R1", ANNOUNCE);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(result).isSameAs(HOURLY);
+        assertThat(delegate.calls.get()).isEqualTo(5);
+        assertThat(elapsedMs).isLessThan(1_500);
+    }
+
+    @Test
+    @DisplayName("벌크헤드 슬롯이 없으면 upstream 미호출 + 폴백")
+    void bulkheadFull_rejected() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeDelegate delegate = new FakeDelegate(n -> {
+            entered.countDown();
+            await(release);
+            return HOURLY;
+        });
+        client = clientWith(delegate, props(3, 1, false, 20));
+
+        CompletableFuture<HourlyForecastResponse> holder =
+                CompletableFuture.supplyAsync(() -> client.fetchHourly("R1", ANNOUNCE));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        HourlyForecastResponse rejected = client.fetchHourly("R2", ANNOUNCE);
+        release.countDown();
+
+        assertThat(rejected).isNull();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isSameAs(HOURLY);
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    // --- 헬퍼 ---
+
+    private ResilientSnapshotApiClient clientWith(SnapshotApiClient delegate, SnapshotApiResilienceProperties props) {
+        return new ResilientSnapshotApiClient(delegate, props, 5_000, FIXED_CLOCK);
+    }
+
+    private static SnapshotApiResilienceProperties props(
+            int failureThreshold, int maxConcurrentCalls, boolean hedgeEnabled, int hedgeMinSamples
+    ) {
+        return new SnapshotApiResilienceProperties(
+                failureThreshold, 30_000, maxConcurrentCalls, 10,
+                hedgeEnabled, 0.95, 50, hedgeMinSamples, 100, 180);
+    }
+
+    /** 전송 실패(타임아웃/5xx/I/O)를 흉내 낸다 */
+    private static HourlyForecastResponse unavailable() {
+        throw new SnapshotApiUnavailableException("upstream down", new RuntimeException("5xx"));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** n번째(1부터) 호출마다 behavior 결과를 반환하는 delegate */
+    private static final class FakeDelegate implements SnapshotApiClient {
+        final AtomicInteger calls = new AtomicInteger();
+        private final IntFunction<HourlyForecastResponse> behavior;
+
+        FakeDelegate(IntFunction<HourlyForecastResponse> behavior) {
+            this.behavior = behavior;
+        }
+
+        @Override
+        public HourlyForecastResponse fetchHourly(String regionCode, LocalDateTime announceTime) {
+            return behavior.apply(calls.incrementAndGet());
+        }
+
+        @Override
+        public DailyForecastResponse fetchDaily(String regionCode) {
+            calls.incrementAndGet();
+            return null;
+        }
+    }
+}
@@ -57,3 +57,76 @@ CREATE TABLE warning_state (
     level        VARCHAR(16),
     updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
+
+
+-- =========================================================
+-- push_outbox
+-- =========================================================
+CREATE TABLE push_outbox (
+    outbox_id        BIGINT        AUTO_INCREMENT PRIMARY KEY,
+    idempotency_key  VARCHAR(128)  NOT NULL,
+    topic            VARCHAR(128)  NOT NULL,
+    data_json        VARCHAR(4000) NOT NULL,
+    ttl_millis       BIGINT        NOT NULL,
+    dry_run          BOOLEAN       NOT NULL,
+    status           VARCHAR(16)   NOT NULL,
+    attempts         INT           NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP     NOT NULL,
+    created_at       TIMESTAMP     NOT NULL,
+    expires_at       TIMESTAMP     NOT NULL,
+    message_id       VARCHAR(256),
+    last_error       VARCHAR(512),
+    CONSTRAINT uk_push_outbox_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_push_outbox_due ON push_outbox (status, next_attempt_at);
+
+
+-- =========================================================
+-- subscriber / subscription
+-- =========================================================
+CREATE TABLE subscriber (
+    subscriber_id   INT           AUTO_INCREMENT PRIMARY KEY,
+    subscriber_key  VARCHAR(128)  NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    CONSTRAINT uk_subscriber_key UNIQUE (subscriber_key)
+);
+
+CREATE TABLE subscription (
+    subscription_id  BIGINT        AUTO_INCREMENT PRIMARY KEY,
+    subscriber_id    INT           NOT NULL,
+    region_id        VARCHAR(32)   NOT NULL,
+    alert_types      VARCHAR(128)  NOT NULL,
+    rain_tier        VARCHAR(16),
+    warning_kinds    VARCHAR(256),
+    within_hours     INT,
+    quiet_start      TIME,
+    quiet_end        TIME,
+    CONSTRAINT uk_subscription UNIQUE (subscriber_id, region_id)
+);
+
+CREATE INDEX idx_subscription_region ON subscription (region_id);
+
+
+-- =========================================================
+-- scheduler_lock
+-- =========================================================
+CREATE TABLE scheduler_lock (
+    lock_name     VARCHAR(64)   NOT NULL PRIMARY KEY,
+    locked_until  TIMESTAMP     NOT NULL,
+    locked_at     TIMESTAMP     NOT NULL,
+    locked_by     VARCHAR(255)  NOT NULL
+);
+
+
+-- =========================================================
+-- cache_invalidation
+-- =========================================================
+CREATE TABLE cache_invalidation (
+    invalidation_id  BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    region_id        VARCHAR(32)   NOT NULL,
+    kind             VARCHAR(32),
+    announce_time    TIMESTAMP,
+    created_at       TIMESTAMP     NOT NULL
+);
+CREATE INDEX idx_cache_invalidation_created_at ON cache_invalidation (created_at);